@@ -0,0 +1,111 @@
+package com.connectinghands.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+/**
+ * Enables asynchronous processing and defines the executors background work runs on.
+ * Each kind of work gets its own pool so it never delays request threads or other work.
+ *
+ * @author Ragul Venkatesan
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfig {
+    /**
+     * Executor that runs payment gateway calls. The payment pipeline never submits more calls
+     * than it has threads, so the queue only absorbs hand-off jitter.
+     */
+    public static final String PAYMENT_EXECUTOR = "paymentExecutor";
+
+    /**
+     * Executor that renders donation receipts. Workers submit at most one batch at a time,
+     * so the queue is sized to hold a full batch.
+     */
+    public static final String RECEIPT_EXECUTOR = "receiptExecutor";
+
+    /**
+     * Executor that renders tax statements. The batch bounds the statements in flight, and the
+     * queue is sized to hold all of them.
+     */
+    public static final String TAX_STATEMENT_EXECUTOR = "taxStatementExecutor";
+
+    /**
+     * Executor that drives tax statement runs. One thread, so a long run never occupies a
+     * scheduler thread; the scheduler only hands it work while it is idle.
+     */
+    public static final String TAX_STATEMENT_RUN_EXECUTOR = "taxStatementRunExecutor";
+
+    /**
+     * Executor that applies changes to the matching index. A single thread applies them in
+     * commit order; the queue is unbounded because a dropped change would leave the index
+     * wrong until the next rebuild, and each change is small.
+     */
+    public static final String MATCHING_EXECUTOR = "matchingExecutor";
+
+    @Bean(name = PAYMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor paymentExecutor(
+            @Value("${connectinghands.payments.max-concurrency:16}") int maxConcurrency) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(maxConcurrency);
+        executor.setMaxPoolSize(maxConcurrency);
+        executor.setQueueCapacity(maxConcurrency);
+        executor.setThreadNamePrefix("payment-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = RECEIPT_EXECUTOR)
+    public ThreadPoolTaskExecutor receiptExecutor(
+            @Value("${connectinghands.receipts.pool-size:4}") int poolSize,
+            @Value("${connectinghands.receipts.batch-size:200}") int batchSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(batchSize);
+        executor.setThreadNamePrefix("receipt-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = TAX_STATEMENT_EXECUTOR)
+    public ThreadPoolTaskExecutor taxStatementExecutor(
+            @Value("${connectinghands.tax-statements.pool-size:4}") int poolSize) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setQueueCapacity(poolSize * 4);
+        executor.setThreadNamePrefix("tax-statement-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = TAX_STATEMENT_RUN_EXECUTOR)
+    public ThreadPoolTaskExecutor taxStatementRunExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("tax-statement-run-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    @Bean(name = MATCHING_EXECUTOR)
+    public ThreadPoolTaskExecutor matchingExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setThreadNamePrefix("matching-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+}
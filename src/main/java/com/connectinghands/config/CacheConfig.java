@@ -0,0 +1,37 @@
+package com.connectinghands.config;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.cache.transaction.TransactionAwareCacheManagerProxy;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Cache configuration.
+ * Evictions and puts are deferred until the surrounding transaction commits. Deferring the
+ * eviction alone is not enough: a read that loaded the pre-write state before the writer
+ * committed can still put it after the eviction. Each cache therefore checks the eviction
+ * generation on put and drops values loaded before the latest eviction.
+ *
+ * @author Ragul Venkatesan
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+    /**
+     * Network-wide inventory totals grouped by category and region.
+     */
+    public static final String INVENTORY_SUMMARY = "inventorySummary";
+
+    @Bean
+    public CacheManager cacheManager() {
+        return new TransactionAwareCacheManagerProxy(new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return new GenerationCheckedCache(super.createConcurrentMapCache(name));
+            }
+        });
+    }
+}
@@ -0,0 +1,99 @@
+package com.connectinghands.config;
+
+import org.springframework.cache.Cache;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Cache that drops puts computed before the latest eviction.
+ * <p>
+ * Every eviction or clear bumps a generation counter. A miss remembers the generation it saw
+ * on the calling thread, and the put that follows it is only stored if no eviction happened in
+ * between. A reader that loaded pre-write totals and only gets to put them after the writer's
+ * deferred eviction therefore leaves the cache empty instead of re-caching stale data.
+ *
+ * @author Ragul Venkatesan
+ */
+class GenerationCheckedCache implements Cache {
+    private final Cache delegate;
+    private final AtomicLong generation = new AtomicLong();
+    private final ThreadLocal<Map<Object, Long>> missedAt = ThreadLocal.withInitial(HashMap::new);
+
+    GenerationCheckedCache(Cache delegate) {
+        this.delegate = delegate;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        long seen = generation.get();
+        ValueWrapper value = delegate.get(key);
+        if (value == null) {
+            missedAt.get().put(key, seen);
+        }
+        return value;
+    }
+
+    @Override
+    public <T> T get(Object key, Class<T> type) {
+        return delegate.get(key, type);
+    }
+
+    @Override
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        return delegate.get(key, valueLoader);
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        Long seen = missedAt.get().remove(key);
+        if (seen == null || seen == generation.get()) {
+            delegate.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        Long seen = missedAt.get().remove(key);
+        if (seen == null || seen == generation.get()) {
+            return delegate.putIfAbsent(key, value);
+        }
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        generation.incrementAndGet();
+        delegate.evict(key);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        generation.incrementAndGet();
+        return delegate.evictIfPresent(key);
+    }
+
+    @Override
+    public void clear() {
+        generation.incrementAndGet();
+        delegate.clear();
+    }
+
+    @Override
+    public boolean invalidate() {
+        generation.incrementAndGet();
+        return delegate.invalidate();
+    }
+}
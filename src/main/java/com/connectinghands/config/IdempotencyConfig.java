@@ -0,0 +1,30 @@
+package com.connectinghands.config;
+
+import com.connectinghands.filter.IdempotencyFilter;
+import com.connectinghands.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.security.SecurityProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Registers the Idempotency-Key filter for every endpoint.
+ * It is ordered after the Spring Security chain so stored responses are scoped to the
+ * authenticated caller and unauthenticated requests are rejected before a key is claimed.
+ *
+ * @author Ragul Venkatesan
+ */
+@Configuration
+public class IdempotencyConfig {
+
+    @Bean
+    public FilterRegistrationBean<IdempotencyFilter> idempotencyFilter(IdempotencyService idempotencyService,
+            ObjectMapper objectMapper) {
+        FilterRegistrationBean<IdempotencyFilter> registration =
+                new FilterRegistrationBean<>(new IdempotencyFilter(idempotencyService, objectMapper));
+        registration.addUrlPatterns("/*");
+        registration.setOrder(SecurityProperties.DEFAULT_FILTER_ORDER + 1);
+        return registration;
+    }
+}
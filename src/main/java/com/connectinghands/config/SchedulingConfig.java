@@ -0,0 +1,17 @@
+package com.connectinghands.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables scheduled background jobs.
+ * Job schedules and batch sizes are configured under the connectinghands prefix in application.yml,
+ * and the size of the scheduler pool the jobs share under spring.task.scheduling.
+ *
+ * @author Ragul Venkatesan
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+    // Configuration is handled by application.yml
+}
@@ -2,6 +2,7 @@ package com.connectinghands.config;
 
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpMethod;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
@@ -19,6 +20,8 @@ public class SecurityConfig {
             .csrf(csrf -> csrf.disable())
             .authorizeHttpRequests(auth -> auth
                 .requestMatchers("/actuator/**").permitAll()
+                // Authenticated by the provider's HMAC signature instead of a user token.
+                .requestMatchers(HttpMethod.POST, "/payments/webhook").permitAll()
                 .anyRequest().authenticated()
             )
             .sessionManagement(session -> session
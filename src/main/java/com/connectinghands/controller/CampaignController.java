@@ -0,0 +1,77 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.CampaignDto;
+import com.connectinghands.dto.CampaignProgressDto;
+import com.connectinghands.dto.CreateCampaignRequest;
+import com.connectinghands.service.CampaignService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for fundraising campaigns.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/campaigns")
+@RequiredArgsConstructor
+public class CampaignController {
+    private final CampaignService campaignService;
+
+    /**
+     * Creates a campaign.
+     * Requires ADMIN role.
+     *
+     * @param request The campaign details
+     * @return The created campaign
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CampaignDto> createCampaign(@Valid @RequestBody CreateCampaignRequest request) {
+        return ResponseEntity.status(HttpStatus.CREATED).body(campaignService.createCampaign(request));
+    }
+
+    /**
+     * Lists running and upcoming campaigns.
+     * Any authenticated user can access this endpoint.
+     *
+     * @return Campaigns that have not ended, soonest ending first
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<List<CampaignDto>> getCurrentCampaigns() {
+        return ResponseEntity.ok(campaignService.getCurrentCampaigns());
+    }
+
+    /**
+     * Retrieves a campaign.
+     * Any authenticated user can access this endpoint.
+     *
+     * @param id The ID of the campaign
+     * @return The campaign
+     */
+    @GetMapping("/{id}")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CampaignDto> getCampaign(@PathVariable Long id) {
+        return ResponseEntity.ok(campaignService.getCampaign(id));
+    }
+
+    /**
+     * Reads the live progress of a campaign. Served from memory, so it is safe to poll.
+     * Any authenticated user can access this endpoint.
+     *
+     * @param id The ID of the campaign
+     * @return Amount raised and donations counted so far
+     */
+    @GetMapping("/{id}/progress")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CampaignProgressDto> getProgress(@PathVariable Long id) {
+        return ResponseEntity.ok(campaignService.getProgress(id));
+    }
+}
@@ -1,6 +1,7 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateDonationRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.DonationDto;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.DonationStatus;
@@ -11,8 +12,6 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 /**
  * REST controller for managing donations.
  * Provides endpoints for CRUD operations on donations with proper security constraints.
@@ -52,54 +51,73 @@ public class DonationController {
     }
 
     /**
-     * Retrieves all donations.
+     * Retrieves a page of all donations, newest first.
      * Requires ADMIN role.
      *
-     * @return A list of donation DTOs
+     * @param cursor Cursor returned with the previous page; omit for the newest donations
+     * @param size Maximum number of donations to return (1-100)
+     * @return A page of donation DTOs
      */
     @GetMapping
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDto>> getAllDonations() {
-        return ResponseEntity.ok(donationService.getAllDonations());
+    public ResponseEntity<CursorPage<DonationDto>> getAllDonations(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getAllDonations(cursor, size));
     }
 
     /**
-     * Retrieves all donations made by a specific donor.
+     * Retrieves a page of the donations made by a specific donor, newest first.
      * Accessible to the donor and ADMIN role.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param cursor Cursor returned with the previous page; omit for the newest donations
+     * @param size Maximum number of donations to return (1-100)
+     * @return A page of donation DTOs made by the donor
      */
     @GetMapping("/donor/{donorId}")
     @PreAuthorize("hasRole('ADMIN') or @securityService.isCurrentUser(#donorId)")
-    public ResponseEntity<List<DonationDto>> getDonationsByDonor(@PathVariable Long donorId) {
-        return ResponseEntity.ok(donationService.getDonationsByDonor(donorId));
+    public ResponseEntity<CursorPage<DonationDto>> getDonationsByDonor(
+            @PathVariable Long donorId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getDonationsByDonor(donorId, cursor, size));
     }
 
     /**
-     * Retrieves all donations received by a specific orphanage.
+     * Retrieves a page of the donations received by a specific orphanage, newest first.
      * Accessible to the orphanage and ADMIN role.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param cursor Cursor returned with the previous page; omit for the newest donations
+     * @param size Maximum number of donations to return (1-100)
+     * @return A page of donation DTOs received by the orphanage
      */
     @GetMapping("/orphanage/{orphanageId}")
     @PreAuthorize("hasRole('ADMIN') or @securityService.isOrphanageUser(#orphanageId)")
-    public ResponseEntity<List<DonationDto>> getDonationsByOrphanage(@PathVariable Long orphanageId) {
-        return ResponseEntity.ok(donationService.getDonationsByOrphanage(orphanageId));
+    public ResponseEntity<CursorPage<DonationDto>> getDonationsByOrphanage(
+            @PathVariable Long orphanageId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getDonationsByOrphanage(orphanageId, cursor, size));
     }
 
     /**
-     * Retrieves all donations with a specific status.
+     * Retrieves a page of the donations with a specific status, newest first.
      * Requires ADMIN role.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param cursor Cursor returned with the previous page; omit for the newest donations
+     * @param size Maximum number of donations to return (1-100)
+     * @return A page of donation DTOs with the specified status
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<DonationDto>> getDonationsByStatus(@PathVariable DonationStatus status) {
-        return ResponseEntity.ok(donationService.getDonationsByStatus(status));
+    public ResponseEntity<CursorPage<DonationDto>> getDonationsByStatus(
+            @PathVariable DonationStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(donationService.getDonationsByStatus(status, cursor, size));
     }
 
     /**
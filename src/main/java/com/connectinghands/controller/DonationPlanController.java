@@ -0,0 +1,88 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.CreateDonationPlanRequest;
+import com.connectinghands.dto.DonationPlanDto;
+import com.connectinghands.service.DonationPlanService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for recurring donation plans.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/donation-plans")
+@RequiredArgsConstructor
+public class DonationPlanController {
+    private final DonationPlanService donationPlanService;
+
+    /**
+     * Creates a recurring donation plan for the current donor.
+     * Requires DONOR role.
+     *
+     * @param request The plan details
+     * @return The created plan
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<DonationPlanDto> createPlan(@Valid @RequestBody CreateDonationPlanRequest request) {
+        return ResponseEntity.ok(donationPlanService.createPlan(request));
+    }
+
+    /**
+     * Lists the current donor's plans.
+     * Requires DONOR role.
+     *
+     * @return List of plans
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<List<DonationPlanDto>> getMyPlans() {
+        return ResponseEntity.ok(donationPlanService.getMyPlans());
+    }
+
+    /**
+     * Pauses one of the current donor's plans.
+     * Requires DONOR role.
+     *
+     * @param id The ID of the plan
+     * @return The updated plan
+     */
+    @PostMapping("/{id}/pause")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<DonationPlanDto> pausePlan(@PathVariable Long id) {
+        return ResponseEntity.ok(donationPlanService.pausePlan(id));
+    }
+
+    /**
+     * Resumes one of the current donor's paused plans.
+     * Requires DONOR role.
+     *
+     * @param id The ID of the plan
+     * @return The updated plan
+     */
+    @PostMapping("/{id}/resume")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<DonationPlanDto> resumePlan(@PathVariable Long id) {
+        return ResponseEntity.ok(donationPlanService.resumePlan(id));
+    }
+
+    /**
+     * Cancels one of the current donor's plans.
+     * Requires DONOR role.
+     *
+     * @param id The ID of the plan
+     * @return The cancelled plan
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<DonationPlanDto> cancelPlan(@PathVariable Long id) {
+        return ResponseEntity.ok(donationPlanService.cancelPlan(id));
+    }
+}
@@ -0,0 +1,65 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.DonationReceiptFile;
+import com.connectinghands.service.DonationReceiptService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.nio.file.Files;
+
+/**
+ * REST controller for downloading donation receipts.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/donations")
+@RequiredArgsConstructor
+public class DonationReceiptController {
+    static final String SENDFILE_SUPPORT = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_START = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_END = "org.apache.tomcat.sendfile.end";
+
+    private final DonationReceiptService donationReceiptService;
+
+    /**
+     * Downloads the receipt of a completed donation.
+     * Accessible to the donor of the donation and ADMIN role.
+     * <p>
+     * When the connector supports it, the file is handed to Tomcat's sendfile so the kernel
+     * copies it straight from the page cache to the socket; otherwise it is streamed.
+     *
+     * @param id The ID of the donation
+     * @param request The servlet request
+     * @param response The servlet response
+     * @throws IOException if the file cannot be sent
+     */
+    @GetMapping("/{id}/receipt")
+    @PreAuthorize("hasRole('ADMIN') or hasRole('DONOR')")
+    public void getReceipt(@PathVariable Long id, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        DonationReceiptFile receipt = donationReceiptService.getReceiptFile(id);
+        response.setContentType("text/html;charset=UTF-8");
+        response.setContentLengthLong(receipt.getSizeBytes());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.inline()
+                .filename(receipt.getReceiptNumber() + ".html").build().toString());
+
+        if (Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORT))) {
+            request.setAttribute(SENDFILE_FILENAME, receipt.getPath().toString());
+            request.setAttribute(SENDFILE_START, 0L);
+            request.setAttribute(SENDFILE_END, receipt.getSizeBytes());
+            return;
+        }
+        Files.copy(receipt.getPath(), response.getOutputStream());
+    }
+}
@@ -0,0 +1,63 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.CreateSubscriptionRequest;
+import com.connectinghands.dto.DonorSubscriptionDto;
+import com.connectinghands.service.DonorSubscriptionService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for donor subscriptions to new resource requests.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/subscriptions")
+@RequiredArgsConstructor
+public class DonorSubscriptionController {
+    private final DonorSubscriptionService donorSubscriptionService;
+
+    /**
+     * Subscribes the current donor to new requests of a category within a region.
+     * Requires DONOR role.
+     *
+     * @param request The subscription details
+     * @return The created subscription
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<DonorSubscriptionDto> subscribe(@Valid @RequestBody CreateSubscriptionRequest request) {
+        return ResponseEntity.ok(donorSubscriptionService.subscribe(request));
+    }
+
+    /**
+     * Lists the current donor's subscriptions.
+     * Requires DONOR role.
+     *
+     * @return List of subscriptions
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<List<DonorSubscriptionDto>> getMySubscriptions() {
+        return ResponseEntity.ok(donorSubscriptionService.getMySubscriptions());
+    }
+
+    /**
+     * Removes one of the current donor's subscriptions.
+     * Requires DONOR role.
+     *
+     * @param id The ID of the subscription
+     * @return No content
+     */
+    @DeleteMapping("/{id}")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<Void> unsubscribe(@PathVariable Long id) {
+        donorSubscriptionService.unsubscribe(id);
+        return ResponseEntity.noContent().build();
+    }
+}
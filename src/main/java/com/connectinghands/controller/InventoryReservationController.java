@@ -0,0 +1,80 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateReservationRequest;
+import com.connectinghands.dto.InventoryReservationDto;
+import com.connectinghands.service.InventoryReservationService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for time-limited holds on resource stock.
+ * Provides endpoints for reserving, releasing and consuming held stock.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/resources")
+@RequiredArgsConstructor
+public class InventoryReservationController {
+    private final InventoryReservationService inventoryReservationService;
+
+    /**
+     * Holds part of a resource's stock while logistics are arranged.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @param request The reservation details
+     * @return The created reservation
+     */
+    @PostMapping("/{resourceId}/reservations")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<InventoryReservationDto> reserve(@PathVariable Long resourceId,
+                                                           @Valid @RequestBody CreateReservationRequest request) {
+        return ResponseEntity.ok(inventoryReservationService.reserve(resourceId, request));
+    }
+
+    /**
+     * Lists the active reservations of a resource.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @return List of active reservations, soonest expiry first
+     */
+    @GetMapping("/{resourceId}/reservations")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<List<InventoryReservationDto>> getActiveReservations(@PathVariable Long resourceId) {
+        return ResponseEntity.ok(inventoryReservationService.getActiveReservations(resourceId));
+    }
+
+    /**
+     * Cancels a reservation and returns its stock.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param reservationId The ID of the reservation
+     * @return The released reservation
+     */
+    @PostMapping("/reservations/{reservationId}/release")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<InventoryReservationDto> release(@PathVariable Long reservationId) {
+        return ResponseEntity.ok(inventoryReservationService.release(reservationId));
+    }
+
+    /**
+     * Allocates the stock held by a reservation.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param reservationId The ID of the reservation
+     * @return A description of which lots served the allocation
+     */
+    @PostMapping("/reservations/{reservationId}/consume")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<AllocationDto> consume(@PathVariable Long reservationId) {
+        return ResponseEntity.ok(inventoryReservationService.consume(reservationId));
+    }
+}
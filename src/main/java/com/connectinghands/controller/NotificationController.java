@@ -0,0 +1,60 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.NotificationDto;
+import com.connectinghands.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for the current user's in-app notifications.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/notifications")
+@RequiredArgsConstructor
+public class NotificationController {
+    private final NotificationService notificationService;
+
+    /**
+     * Lists the current user's notifications.
+     * Accessible to all authenticated users.
+     *
+     * @param pageable Pagination information
+     * @return A page of notifications, newest first
+     */
+    @GetMapping
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<NotificationDto>> getMyNotifications(Pageable pageable) {
+        return ResponseEntity.ok(notificationService.getMyNotifications(pageable));
+    }
+
+    /**
+     * Counts the current user's unread notifications.
+     * Accessible to all authenticated users.
+     *
+     * @return The number of unread notifications
+     */
+    @GetMapping("/unread-count")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Long> countUnread() {
+        return ResponseEntity.ok(notificationService.countMyUnread());
+    }
+
+    /**
+     * Marks a notification as read.
+     * Accessible to all authenticated users, for their own notifications only.
+     *
+     * @param id The ID of the notification
+     * @return The updated notification
+     */
+    @PostMapping("/{id}/read")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<NotificationDto> markRead(@PathVariable Long id) {
+        return ResponseEntity.ok(notificationService.markRead(id));
+    }
+}
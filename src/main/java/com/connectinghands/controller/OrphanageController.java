@@ -1,10 +1,15 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.dto.OrphanageNeedDto;
+import com.connectinghands.dto.OrphanageTotalsDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.service.NeedScoreService;
 import com.connectinghands.service.OrphanageService;
+import com.connectinghands.service.OrphanageTotalsService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -24,6 +29,8 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class OrphanageController {
     private final OrphanageService orphanageService;
+    private final NeedScoreService needScoreService;
+    private final OrphanageTotalsService orphanageTotalsService;
 
     /**
      * Create a new orphanage.
@@ -51,6 +58,19 @@ public class OrphanageController {
         return ResponseEntity.ok(orphanageService.getOrphanage(id));
     }
 
+    /**
+     * Get the donation totals of an orphanage: total raised per currency and donor count.
+     * Any authenticated user can access this endpoint.
+     *
+     * @param id the orphanage ID
+     * @return the totals
+     */
+    @GetMapping("/{id}/totals")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<OrphanageTotalsDto> getTotals(@PathVariable Long id) {
+        return ResponseEntity.ok(orphanageTotalsService.getTotals(id));
+    }
+
     /**
      * Get all orphanages with pagination.
      * Only users with ADMIN role can access this endpoint.
@@ -167,6 +187,23 @@ public class OrphanageController {
         return ResponseEntity.ok(orphanageService.getOrphanagesWithAvailableCapacity(pageable));
     }
 
+    /**
+     * Get active orphanages ranked by need, most in need first.
+     * The ranking is read from precomputed scores that combine pending requests,
+     * occupancy and recent donations. Any authenticated user can access this endpoint.
+     *
+     * @param cursor cursor returned with the previous page; omit for the first page
+     * @param size maximum number of orphanages to return (1-100)
+     * @return a page of ranked orphanages
+     */
+    @GetMapping("/need-ranking")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<OrphanageNeedDto>> getNeedRanking(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(needScoreService.getRanking(cursor, size));
+    }
+
     /**
      * Update an existing orphanage.
      * Only the orphanage admin or users with ADMIN role can update an orphanage.
@@ -0,0 +1,76 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.PaymentWebhookRequest;
+import com.connectinghands.entity.PaymentOutcome;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.payment.WebhookSignatureVerifier;
+import com.connectinghands.service.PaymentWebhookService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Endpoint for payment provider status callbacks.
+ * Callbacks are authenticated by their HMAC signature rather than a user token, so the
+ * signature is checked against the raw body before anything is parsed.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/payments")
+@RequiredArgsConstructor
+public class PaymentWebhookController {
+    private final PaymentWebhookService paymentWebhookService;
+    private final WebhookSignatureVerifier signatureVerifier;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    /**
+     * Receives a payment status callback.
+     * Redelivered callbacks are acknowledged without being applied again.
+     *
+     * @param timestamp Signing time in epoch seconds
+     * @param signature HMAC-SHA256 signature of the timestamp and body
+     * @param body Raw callback body
+     * @return 200 once the callback is recorded, 401 if the signature is invalid
+     */
+    @PostMapping("/webhook")
+    public ResponseEntity<Map<String, Object>> receive(
+            @RequestHeader(value = WebhookSignatureVerifier.TIMESTAMP_HEADER, required = false) String timestamp,
+            @RequestHeader(value = WebhookSignatureVerifier.SIGNATURE_HEADER, required = false) String signature,
+            @RequestBody byte[] body) {
+        if (!signatureVerifier.isValid(timestamp, signature, body)) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        PaymentWebhookRequest event = parse(body);
+        boolean applied = paymentWebhookService.receive(event);
+        return ResponseEntity.ok(Map.of("eventId", event.getEventId(), "duplicate", !applied));
+    }
+
+    private PaymentWebhookRequest parse(byte[] body) {
+        PaymentWebhookRequest event;
+        try {
+            event = objectMapper.readValue(body, PaymentWebhookRequest.class);
+        } catch (IOException e) {
+            throw new ValidationException("Malformed payment callback");
+        }
+        Set<ConstraintViolation<PaymentWebhookRequest>> violations = validator.validate(event);
+        if (!violations.isEmpty()) {
+            throw new ValidationException(violations.iterator().next().getMessage());
+        }
+        if (event.getOutcome() == PaymentOutcome.APPROVED
+                && (event.getTransactionId() == null || event.getTransactionId().isBlank())) {
+            throw new ValidationException("Transaction ID is required for approved payments");
+        }
+        return event;
+    }
+}
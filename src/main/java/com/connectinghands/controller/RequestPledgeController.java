@@ -0,0 +1,110 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.CreatePledgeRequest;
+import com.connectinghands.dto.RecordDeliveryRequest;
+import com.connectinghands.dto.RequestPledgeDto;
+import com.connectinghands.dto.RequestProgressDto;
+import com.connectinghands.service.RequestPledgeService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * REST controller for partial pledges against resource requests.
+ * Provides endpoints for pledging, recording deliveries and reading request progress.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/resource-requests")
+@RequiredArgsConstructor
+public class RequestPledgeController {
+    private final RequestPledgeService requestPledgeService;
+
+    /**
+     * Pledges part of a resource request.
+     * Requires DONOR role.
+     *
+     * @param requestId The ID of the resource request
+     * @param request The pledge details
+     * @return The created pledge
+     */
+    @PostMapping("/{requestId}/pledges")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<RequestPledgeDto> pledge(@PathVariable Long requestId,
+                                                   @Valid @RequestBody CreatePledgeRequest request) {
+        return ResponseEntity.ok(requestPledgeService.pledge(requestId, request));
+    }
+
+    /**
+     * Lists the pledges made against a resource request.
+     * Accessible to all authenticated users.
+     *
+     * @param requestId The ID of the resource request
+     * @param pageable Pagination information
+     * @return A page of pledges, oldest first
+     */
+    @GetMapping("/{requestId}/pledges")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<Page<RequestPledgeDto>> getPledges(@PathVariable Long requestId, Pageable pageable) {
+        return ResponseEntity.ok(requestPledgeService.getPledges(requestId, pageable));
+    }
+
+    /**
+     * Reads the pledged and delivered totals of a resource request.
+     * Accessible to all authenticated users.
+     *
+     * @param requestId The ID of the resource request
+     * @return The progress of the request
+     */
+    @GetMapping("/{requestId}/progress")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<RequestProgressDto> getProgress(@PathVariable Long requestId) {
+        return ResponseEntity.ok(requestPledgeService.getProgress(requestId));
+    }
+
+    /**
+     * Lists the current donor's pledges.
+     * Requires DONOR role.
+     *
+     * @param pageable Pagination information
+     * @return A page of pledges, newest first
+     */
+    @GetMapping("/pledges/mine")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<Page<RequestPledgeDto>> getMyPledges(Pageable pageable) {
+        return ResponseEntity.ok(requestPledgeService.getMyPledges(pageable));
+    }
+
+    /**
+     * Records goods received against a pledge.
+     * Requires ADMIN role, or ORPHANAGE role for the orphanage that made the request.
+     *
+     * @param pledgeId The ID of the pledge
+     * @param request The delivery details
+     * @return The updated pledge
+     */
+    @PostMapping("/pledges/{pledgeId}/deliveries")
+    @PreAuthorize("hasAnyRole('ORPHANAGE', 'ADMIN')")
+    public ResponseEntity<RequestPledgeDto> recordDelivery(@PathVariable Long pledgeId,
+                                                           @Valid @RequestBody RecordDeliveryRequest request) {
+        return ResponseEntity.ok(requestPledgeService.recordDelivery(pledgeId, request));
+    }
+
+    /**
+     * Cancels the undelivered remainder of a pledge.
+     * Requires DONOR role; only the pledging donor may cancel.
+     *
+     * @param pledgeId The ID of the pledge
+     * @return The cancelled pledge
+     */
+    @PostMapping("/pledges/{pledgeId}/cancel")
+    @PreAuthorize("hasRole('DONOR')")
+    public ResponseEntity<RequestPledgeDto> cancelPledge(@PathVariable Long pledgeId) {
+        return ResponseEntity.ok(requestPledgeService.cancelPledge(pledgeId));
+    }
+}
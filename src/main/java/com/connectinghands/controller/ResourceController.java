@@ -1,11 +1,18 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.InventorySummaryDto;
 import com.connectinghands.dto.ResourceDto;
+import com.connectinghands.dto.StockAlertDto;
 import com.connectinghands.dto.UpdateResourceRequest;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.StockAlertStatus;
 import com.connectinghands.service.ResourceService;
+import com.connectinghands.service.StockAlertService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
@@ -23,6 +30,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ResourceController {
     private final ResourceService resourceService;
+    private final StockAlertService stockAlertService;
 
     /**
      * Creates a new resource.
@@ -60,6 +68,53 @@ public class ResourceController {
         return ResponseEntity.ok(resourceService.getAllResources());
     }
 
+    /**
+     * Retrieves network-wide available stock grouped by category and region.
+     * Requires ADMIN role.
+     *
+     * @param category Optional category to restrict the summary to
+     * @return A list of inventory totals
+     */
+    @GetMapping("/summary")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<InventorySummaryDto>> getInventorySummary(
+            @RequestParam(required = false) ResourceCategory category) {
+        return ResponseEntity.ok(resourceService.getInventorySummary(category));
+    }
+
+    /**
+     * Retrieves resources whose stock is below their minimum threshold.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param orphanageId Optional orphanage to restrict the results to
+     * @param pageable Pagination information
+     * @return A page of resource DTOs below their threshold
+     */
+    @GetMapping("/low-stock")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<Page<ResourceDto>> getLowStockResources(
+            @RequestParam(required = false) Long orphanageId, Pageable pageable) {
+        return ResponseEntity.ok(resourceService.getLowStockResources(orphanageId, pageable));
+    }
+
+    /**
+     * Retrieves low-stock alerts.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param orphanageId Optional orphanage to restrict the results to
+     * @param status The alert status to filter by
+     * @param pageable Pagination information
+     * @return A page of alert DTOs
+     */
+    @GetMapping("/alerts")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<Page<StockAlertDto>> getStockAlerts(
+            @RequestParam(required = false) Long orphanageId,
+            @RequestParam(defaultValue = "OPEN") StockAlertStatus status,
+            Pageable pageable) {
+        return ResponseEntity.ok(stockAlertService.getAlerts(orphanageId, status, pageable));
+    }
+
     /**
      * Updates an existing resource.
      * Requires ADMIN role.
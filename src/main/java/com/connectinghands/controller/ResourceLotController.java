@@ -0,0 +1,87 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.AllocateResourceRequest;
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateResourceLotRequest;
+import com.connectinghands.dto.ResourceLotDto;
+import com.connectinghands.service.ResourceLotService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for managing expiry-dated resource lots.
+ * Provides endpoints for receiving lots, allocating stock and reviewing upcoming expiries.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/resources")
+@RequiredArgsConstructor
+public class ResourceLotController {
+    private final ResourceLotService resourceLotService;
+
+    /**
+     * Receives a new lot of a resource.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @param request The request containing lot details
+     * @return The created lot DTO
+     */
+    @PostMapping("/{resourceId}/lots")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<ResourceLotDto> addLot(@PathVariable Long resourceId,
+            @Valid @RequestBody CreateResourceLotRequest request) {
+        return ResponseEntity.ok(resourceLotService.addLot(resourceId, request));
+    }
+
+    /**
+     * Retrieves all lots of a resource ordered by expiry date.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @return A list of lot DTOs
+     */
+    @GetMapping("/{resourceId}/lots")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<List<ResourceLotDto>> getLots(@PathVariable Long resourceId) {
+        return ResponseEntity.ok(resourceLotService.getLots(resourceId));
+    }
+
+    /**
+     * Allocates stock of a resource, consuming the earliest-expiring lots first.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @param request The request containing the quantity to allocate
+     * @return A description of which lots served the allocation
+     */
+    @PostMapping("/{resourceId}/allocate")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<AllocationDto> allocate(@PathVariable Long resourceId,
+            @Valid @RequestBody AllocateResourceRequest request) {
+        return ResponseEntity.ok(resourceLotService.allocate(resourceId, request.getQuantity()));
+    }
+
+    /**
+     * Retrieves active lots expiring within the given number of days.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param withinDays The look-ahead window in days
+     * @param pageable Pagination information
+     * @return A page of lot DTOs, soonest expiry first
+     */
+    @GetMapping("/lots/expiring")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<Page<ResourceLotDto>> getExpiringLots(
+            @RequestParam(defaultValue = "7") int withinDays, Pageable pageable) {
+        return ResponseEntity.ok(resourceLotService.getExpiringLots(withinDays, pageable));
+    }
+}
@@ -1,9 +1,12 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.MatchProposalDto;
 import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.service.MatchingService;
 import com.connectinghands.service.ResourceRequestService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -24,6 +27,7 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ResourceRequestController {
     private final ResourceRequestService resourceRequestService;
+    private final MatchingService matchingService;
 
     /**
      * Create a new resource request.
@@ -77,16 +81,62 @@ public class ResourceRequestController {
     }
 
     /**
-     * Get all resource requests with a specific status.
+     * Get a page of the resource requests with a specific status, in queue order.
      * Requires ADMIN role.
      *
      * @param status The status to filter by
-     * @return List of resource request DTOs with the specified status
+     * @param cursor Cursor returned with the previous page; omit for the first page
+     * @param size Maximum number of requests to return (1-100)
+     * @return A page of resource request DTOs with the specified status
      */
     @GetMapping("/status/{status}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<ResourceRequestDto>> getResourceRequestsByStatus(@PathVariable ResourceRequestStatus status) {
-        return ResponseEntity.ok(resourceRequestService.getResourceRequestsByStatus(status));
+    public ResponseEntity<CursorPage<ResourceRequestDto>> getResourceRequestsByStatus(
+            @PathVariable ResourceRequestStatus status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(resourceRequestService.getResourceRequestsByStatus(status, cursor, size));
+    }
+
+    /**
+     * Get a page of the pending request queue, most urgent first.
+     * Accessible to all authenticated users.
+     *
+     * @param cursor Cursor returned with the previous page; omit for the head of the queue
+     * @param size Maximum number of requests to return (1-100)
+     * @return A page of pending resource request DTOs
+     */
+    @GetMapping("/queue")
+    @PreAuthorize("isAuthenticated()")
+    public ResponseEntity<CursorPage<ResourceRequestDto>> getPendingQueue(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(resourceRequestService.getPendingQueue(cursor, size));
+    }
+
+    /**
+     * Get ranked proposals for serving a pending request from other orphanages' stock.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param id The ID of the resource request
+     * @return List of match proposals, best first
+     */
+    @GetMapping("/{id}/matches")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<List<MatchProposalDto>> getMatches(@PathVariable Long id) {
+        return ResponseEntity.ok(matchingService.getMatches(id));
+    }
+
+    /**
+     * Rebuild the matching indexes and rematch every pending request.
+     * Requires ADMIN role.
+     *
+     * @return The number of pending requests matched
+     */
+    @PostMapping("/matches/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Integer> rebuildMatches() {
+        return ResponseEntity.ok(matchingService.rebuild());
     }
 
     /**
@@ -105,6 +155,19 @@ public class ResourceRequestController {
         return ResponseEntity.ok(resourceRequestService.updateResourceRequest(id, request));
     }
 
+    /**
+     * Fulfill a pending resource request.
+     * Requires DONOR or ADMIN role. Returns 409 if the request is no longer pending.
+     *
+     * @param id The ID of the resource request
+     * @return The fulfilled resource request DTO
+     */
+    @PostMapping("/{id}/fulfill")
+    @PreAuthorize("hasAnyRole('DONOR', 'ADMIN')")
+    public ResponseEntity<ResourceRequestDto> fulfillResourceRequest(@PathVariable Long id) {
+        return ResponseEntity.ok(resourceRequestService.fulfillResourceRequest(id));
+    }
+
     /**
      * Delete a resource request.
      * Requires ADMIN role.
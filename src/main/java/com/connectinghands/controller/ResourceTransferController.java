@@ -0,0 +1,69 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.BatchTransferRequest;
+import com.connectinghands.dto.InventoryLedgerEntryDto;
+import com.connectinghands.dto.TransferDto;
+import com.connectinghands.dto.TransferResourceRequest;
+import com.connectinghands.service.ResourceTransferService;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for moving stock between orphanages.
+ * Provides endpoints for single and batched transfers and for reading a resource's ledger.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/resources")
+@RequiredArgsConstructor
+public class ResourceTransferController {
+    private final ResourceTransferService resourceTransferService;
+
+    /**
+     * Moves stock from one resource to another.
+     * Requires ADMIN role.
+     *
+     * @param request The transfer details
+     * @return The completed transfer
+     */
+    @PostMapping("/transfers")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TransferDto> transfer(@Valid @RequestBody TransferResourceRequest request) {
+        return ResponseEntity.ok(resourceTransferService.transfer(request));
+    }
+
+    /**
+     * Applies several transfers atomically.
+     * Requires ADMIN role.
+     *
+     * @param request The transfers to apply
+     * @return The completed transfers, in request order
+     */
+    @PostMapping("/transfers/batch")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<TransferDto>> transferBatch(@Valid @RequestBody BatchTransferRequest request) {
+        return ResponseEntity.ok(resourceTransferService.transferBatch(request));
+    }
+
+    /**
+     * Retrieves the stock movement ledger of a resource.
+     * Requires ADMIN or ORPHANAGE role.
+     *
+     * @param resourceId The ID of the resource
+     * @param pageable Pagination information
+     * @return A page of ledger entries, newest first
+     */
+    @GetMapping("/{resourceId}/ledger")
+    @PreAuthorize("hasAnyRole('ADMIN', 'ORPHANAGE')")
+    public ResponseEntity<Page<InventoryLedgerEntryDto>> getLedger(@PathVariable Long resourceId, Pageable pageable) {
+        return ResponseEntity.ok(resourceTransferService.getLedger(resourceId, pageable));
+    }
+}
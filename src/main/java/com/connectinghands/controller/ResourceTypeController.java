@@ -0,0 +1,38 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.ResourceTypeDto;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.service.ResourceTypeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * REST controller for the shared resource catalog.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/resource-types")
+@RequiredArgsConstructor
+public class ResourceTypeController {
+    private final ResourceTypeService resourceTypeService;
+
+    /**
+     * Retrieves catalog entries, optionally restricted to a category.
+     * Accessible to all authenticated users.
+     *
+     * @param category Optional category filter
+     * @return The catalog entries ordered by name
+     */
+    @GetMapping
+    public ResponseEntity<List<ResourceTypeDto>> getResourceTypes(
+            @RequestParam(required = false) ResourceCategory category) {
+        return ResponseEntity.ok(resourceTypeService.getResourceTypes(category));
+    }
+}
@@ -0,0 +1,54 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.SettlementDiscrepancyDto;
+import com.connectinghands.dto.SettlementRunDto;
+import com.connectinghands.service.SettlementReconciliationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for settlement reconciliation reports.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/settlements")
+@RequiredArgsConstructor
+public class SettlementController {
+    private final SettlementReconciliationService reconciliationService;
+
+    /**
+     * Lists the most recent settlement file reconciliations with their progress and totals.
+     * Requires ADMIN role.
+     *
+     * @return Recent runs, newest first
+     */
+    @GetMapping("/runs")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<SettlementRunDto>> getRecentRuns() {
+        return ResponseEntity.ok(reconciliationService.getRecentRuns());
+    }
+
+    /**
+     * Returns the discrepancy report of a run, in file order.
+     * Requires ADMIN role.
+     *
+     * @param id The ID of the run
+     * @param cursor cursor returned with the previous page; omit for the first page
+     * @param size maximum number of discrepancies to return (1-500)
+     * @return A page of discrepancies
+     */
+    @GetMapping("/runs/{id}/discrepancies")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<SettlementDiscrepancyDto>> getDiscrepancies(
+            @PathVariable Long id,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "100") int size) {
+        return ResponseEntity.ok(reconciliationService.getDiscrepancies(id, cursor, size));
+    }
+}
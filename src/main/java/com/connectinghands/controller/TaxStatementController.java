@@ -0,0 +1,48 @@
+package com.connectinghands.controller;
+
+import com.connectinghands.dto.TaxStatementRunDto;
+import com.connectinghands.service.TaxStatementService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * REST controller for the annual tax statement batch.
+ *
+ * @author Ragul Venkatesan
+ */
+@RestController
+@RequestMapping("/tax-statements/runs")
+@RequiredArgsConstructor
+public class TaxStatementController {
+    private final TaxStatementService taxStatementService;
+
+    /**
+     * Queues a tax statement run for a year. The run is picked up by the next poll.
+     * Requires ADMIN role.
+     *
+     * @param year The tax year
+     * @return The queued run
+     */
+    @PostMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<TaxStatementRunDto> requestRun(@RequestParam int year) {
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(taxStatementService.requestRun(year));
+    }
+
+    /**
+     * Lists the most recent tax statement runs.
+     * Requires ADMIN role.
+     *
+     * @return Recent runs, newest first
+     */
+    @GetMapping
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<TaxStatementRunDto>> getRecentRuns() {
+        return ResponseEntity.ok(taxStatementService.getRecentRuns());
+    }
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for allocating (consuming) stock of a resource.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class AllocateResourceRequest {
+    /**
+     * Quantity to allocate.
+     * Must be at least 1.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+}
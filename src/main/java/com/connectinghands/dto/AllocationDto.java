@@ -0,0 +1,34 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Data Transfer Object describing how an allocation was served.
+ * Lots are listed in the order they were consumed (earliest expiry first);
+ * any remainder came from stock that is not tracked in lots.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class AllocationDto {
+    private Long resourceId;
+    private Integer allocatedQuantity;
+    private Integer remainingQuantity;
+    private Integer untrackedQuantity = 0;
+    private List<LotConsumption> lots = new ArrayList<>();
+
+    /**
+     * Quantity taken from a single lot.
+     */
+    @Data
+    public static class LotConsumption {
+        private Long lotId;
+        private Integer quantity;
+        private LocalDate expiresOn;
+        private String batchNumber;
+    }
+}
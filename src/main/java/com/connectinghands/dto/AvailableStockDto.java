@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a resource's available stock as held by the matching index.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class AvailableStockDto {
+    private Long resourceId;
+    private Integer resourceTypeId;
+    private Long orphanageId;
+    private String unit;
+    private Integer quantity;
+}
@@ -0,0 +1,24 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for redistributing stock across several orphanages at once.
+ * All transfers are applied in one transaction; if any of them fails, none is applied.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class BatchTransferRequest {
+    /**
+     * Transfers to apply, in order.
+     */
+    @NotEmpty(message = "At least one transfer is required")
+    @Size(max = 100, message = "A batch may contain at most 100 transfers")
+    private List<@Valid TransferResourceRequest> transfers;
+}
@@ -0,0 +1,24 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a fundraising campaign.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CampaignDto {
+    private Long id;
+    private String name;
+    private String description;
+    private BigDecimal goalAmount;
+    private String currency;
+    private LocalDateTime startsAt;
+    private LocalDateTime endsAt;
+    private Long orphanageId;
+    private LocalDateTime createdAt;
+}
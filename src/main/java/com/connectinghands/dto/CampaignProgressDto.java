@@ -0,0 +1,33 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the live progress of a campaign towards its goal.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CampaignProgressDto {
+    private Long campaignId;
+    private BigDecimal goalAmount;
+    private String currency;
+    private BigDecimal raisedAmount;
+    private Long donationCount;
+
+    /**
+     * Share of the goal raised so far, in percent; may exceed 100.
+     */
+    private Integer percentComplete;
+
+    private boolean active;
+    private LocalDateTime endsAt;
+
+    /**
+     * When the figures were last reconciled with the database.
+     */
+    private LocalDateTime reconciledAt;
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the completed donations of a campaign in its goal currency.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CampaignTotalDto {
+    private Long campaignId;
+    private BigDecimal raisedAmount;
+    private Long donationCount;
+}
@@ -0,0 +1,51 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for creating a fundraising campaign.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreateCampaignRequest {
+    @NotBlank(message = "Name is required")
+    @Size(max = 255, message = "Name must not exceed 255 characters")
+    private String name;
+
+    @Size(max = 1000, message = "Description must not exceed 1000 characters")
+    private String description;
+
+    /**
+     * Amount the campaign aims to raise.
+     */
+    @NotNull(message = "Goal amount is required")
+    @DecimalMin(value = "0.01", message = "Goal amount must be greater than 0")
+    private BigDecimal goalAmount;
+
+    /**
+     * Currency of the goal; only donations in this currency count towards it.
+     */
+    @NotNull(message = "Currency is required")
+    @Size(min = 3, max = 3, message = "Currency must be 3 characters")
+    private String currency;
+
+    @NotNull(message = "Start is required")
+    private LocalDateTime startsAt;
+
+    @NotNull(message = "End is required")
+    private LocalDateTime endsAt;
+
+    /**
+     * Orphanage the campaign raises money for.
+     */
+    @NotNull(message = "Orphanage is required")
+    private Long orphanageId;
+}
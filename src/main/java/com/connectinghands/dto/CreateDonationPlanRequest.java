@@ -0,0 +1,56 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.DonationFrequency;
+import com.connectinghands.entity.PaymentMethod;
+import jakarta.validation.constraints.DecimalMin;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for creating a recurring donation plan.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreateDonationPlanRequest {
+    /**
+     * ID of the orphanage receiving the donations.
+     */
+    @NotNull(message = "Orphanage ID is required")
+    private Long orphanageId;
+
+    /**
+     * Amount given every cycle.
+     */
+    @NotNull(message = "Amount is required")
+    @DecimalMin(value = "0.01", message = "Amount must be greater than 0")
+    private BigDecimal amount;
+
+    /**
+     * Currency of the donations.
+     */
+    @NotNull(message = "Currency is required")
+    @Size(min = 3, max = 3, message = "Currency must be 3 characters")
+    private String currency;
+
+    /**
+     * Method used for every payment.
+     */
+    @NotNull(message = "Payment method is required")
+    private PaymentMethod paymentMethod;
+
+    /**
+     * How often to give.
+     */
+    @NotNull(message = "Frequency is required")
+    private DonationFrequency frequency;
+
+    /**
+     * When the first donation is due; defaults to now.
+     */
+    private LocalDateTime startAt;
+}
@@ -43,6 +43,12 @@ public class CreateDonationRequest {
      */
     private PaymentMethod paymentMethod;
 
+    /**
+     * Campaign to attribute the donation to.
+     * Optional; the campaign must be running and cover the orphanage and currency.
+     */
+    private Long campaignId;
+
     /**
      * Additional notes about the donation.
      * Maximum 1000 characters.
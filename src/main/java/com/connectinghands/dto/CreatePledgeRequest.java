@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for pledging part of a resource request.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreatePledgeRequest {
+    /**
+     * Quantity the donor commits to deliver, in the request's unit.
+     * Must be at least 1 and cannot exceed the unpledged remainder of the request.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+}
@@ -0,0 +1,35 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for holding part of a resource's stock.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreateReservationRequest {
+    /**
+     * Quantity to hold.
+     * Must be at least 1 and cannot exceed the resource's unreserved stock.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    /**
+     * ID of the resource request the stock is held for, if any.
+     */
+    private Long requestId;
+
+    /**
+     * How long to hold the stock, in minutes.
+     * Defaults to the configured reservation TTL; at most one week.
+     */
+    @Min(value = 1, message = "TTL must be at least 1 minute")
+    @Max(value = 10080, message = "TTL cannot exceed one week")
+    private Integer ttlMinutes;
+}
@@ -0,0 +1,36 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for receiving a new expiry-dated lot of a resource.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreateResourceLotRequest {
+    /**
+     * Quantity received in the lot.
+     * Must be at least 1.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    /**
+     * Date after which the lot can no longer be used.
+     */
+    @NotNull(message = "Expiry date is required")
+    private LocalDate expiresOn;
+
+    /**
+     * Supplier batch or lot number, if known.
+     */
+    @Size(max = 100, message = "Batch number must not exceed 100 characters")
+    private String batchNumber;
+}
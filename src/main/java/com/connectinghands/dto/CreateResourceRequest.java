@@ -1,5 +1,7 @@
 package com.connectinghands.dto;
 
+import com.connectinghands.entity.RequestPriority;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -54,10 +56,38 @@ public class CreateResourceRequest {
     @NotNull(message = "Orphanage ID is required")
     private Long orphanageId;
 
+    /**
+     * Minimum stock threshold that triggers a low-stock alert.
+     * Zero or absent disables monitoring.
+     */
+    @Min(value = 0, message = "Minimum quantity cannot be negative")
+    private Integer minimumQuantity;
+
+    /**
+     * Whether a resource request is drafted automatically when stock drops below the threshold.
+     */
+    private Boolean autoRequest;
+
+    /**
+     * Priority of the request (resource requests only). Defaults to MEDIUM.
+     */
+    private RequestPriority priority;
+
+    /**
+     * Urgency score from 0 to 100 used to order requests of equal priority (resource requests only).
+     */
+    @Min(value = 0, message = "Urgency score cannot be negative")
+    @Max(value = 100, message = "Urgency score cannot exceed 100")
+    private Integer urgencyScore;
+
     public Long getOrphanageId() { return orphanageId; }
     public String getName() { return name; }
     public String getDescription() { return description; }
     public String getCategory() { return category; }
     public Integer getQuantity() { return quantity; }
     public String getUnit() { return unit; }
+    public Integer getMinimumQuantity() { return minimumQuantity; }
+    public Boolean getAutoRequest() { return autoRequest; }
+    public RequestPriority getPriority() { return priority; }
+    public Integer getUrgencyScore() { return urgencyScore; }
 } 
\ No newline at end of file
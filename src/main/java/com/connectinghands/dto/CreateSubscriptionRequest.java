@@ -0,0 +1,34 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceCategory;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for subscribing to new requests of a category within a region.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class CreateSubscriptionRequest {
+    /**
+     * Category of requests to be notified about.
+     */
+    @NotNull(message = "Category is required")
+    private ResourceCategory category;
+
+    /**
+     * Country of the requesting orphanages.
+     */
+    @NotBlank(message = "Country is required")
+    @Size(max = 100, message = "Country must not exceed 100 characters")
+    private String country;
+
+    /**
+     * State of the requesting orphanages; leave empty to cover the whole country.
+     */
+    @Size(max = 100, message = "State must not exceed 100 characters")
+    private String state;
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for an orphanage's completed donations in one currency.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CurrencyTotalDto {
+    private String currency;
+    private BigDecimal totalAmount;
+    private Long donationCount;
+}
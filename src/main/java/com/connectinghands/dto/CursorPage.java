@@ -0,0 +1,23 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * A page of results fetched with keyset pagination.
+ * Pass {@code nextCursor} back to fetch the following page; it is null on the last page.
+ *
+ * @param <T> the item type
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasMore;
+}
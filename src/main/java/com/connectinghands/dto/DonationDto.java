@@ -59,6 +59,16 @@ public class DonationDto {
      */
     private String transactionId;
 
+    /**
+     * Recurring plan that generated the donation; null for one-off donations.
+     */
+    private Long planId;
+
+    /**
+     * Campaign the donation is attributed to; null for donations outside any campaign.
+     */
+    private Long campaignId;
+
     /**
      * Additional notes about the donation.
      */
@@ -0,0 +1,29 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.DonationFrequency;
+import com.connectinghands.entity.DonationPlanStatus;
+import com.connectinghands.entity.PaymentMethod;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for a recurring donation plan.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class DonationPlanDto {
+    private Long id;
+    private Long donorId;
+    private Long orphanageId;
+    private BigDecimal amount;
+    private String currency;
+    private PaymentMethod paymentMethod;
+    private DonationFrequency frequency;
+    private DonationPlanStatus status;
+    private LocalDateTime startAt;
+    private LocalDateTime nextRunAt;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,19 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+import java.nio.file.Path;
+
+/**
+ * A stored receipt, ready to be sent to the client.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@AllArgsConstructor
+public class DonationReceiptFile {
+    private String receiptNumber;
+    private Path path;
+    private long sizeBytes;
+}
@@ -0,0 +1,30 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * The columns of a completed donation, its donor and its orphanage that appear on a receipt.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationReceiptView {
+    private Long donationId;
+    private BigDecimal amount;
+    private String currency;
+    private PaymentMethod paymentMethod;
+    private String transactionId;
+    private LocalDateTime completedAt;
+    private String donorFirstName;
+    private String donorLastName;
+    private String donorEmail;
+    private String orphanageName;
+}
@@ -0,0 +1,24 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.DonationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * The columns of a donation that settlement reconciliation compares against the provider's file.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationSettlementView {
+    private Long id;
+    private String transactionId;
+    private DonationStatus status;
+    private BigDecimal amount;
+    private String currency;
+}
@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.DonationStatus;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A status change to apply to a donation, provided it still has the status it was read with.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class DonationStatusCorrection {
+    private Long donationId;
+    private DonationStatus expectedStatus;
+    private DonationStatus newStatus;
+}
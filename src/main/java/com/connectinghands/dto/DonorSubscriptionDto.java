@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceCategory;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for returning donor subscription data.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class DonorSubscriptionDto {
+    private Long id;
+    private ResourceCategory category;
+    private String country;
+    private String state;
+    private LocalDateTime createdAt;
+}
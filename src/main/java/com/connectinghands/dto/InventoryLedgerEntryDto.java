@@ -0,0 +1,25 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.LedgerEntryType;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for inventory ledger entries.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class InventoryLedgerEntryDto {
+    private Long id;
+    private Long resourceId;
+    private Long orphanageId;
+    private LedgerEntryType entryType;
+    private Integer quantityChange;
+    private Integer balanceAfter;
+    private Long counterpartResourceId;
+    private String transferReference;
+    private String note;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,23 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ReservationStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for returning inventory reservation data.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class InventoryReservationDto {
+    private Long id;
+    private Long resourceId;
+    private Long requestId;
+    private Integer quantity;
+    private ReservationStatus status;
+    private LocalDateTime expiresAt;
+    private Long reservedBy;
+    private LocalDateTime createdAt;
+}
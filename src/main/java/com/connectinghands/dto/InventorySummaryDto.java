@@ -0,0 +1,26 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceCategory;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for network-wide inventory totals.
+ * One row per resource category, region and unit of measurement.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class InventorySummaryDto {
+    private ResourceCategory category;
+    private String country;
+    private String state;
+    private String unit;
+    private Long totalQuantity;
+    private Long availableQuantity;
+    private Long resourceCount;
+    private Long orphanageCount;
+}
@@ -0,0 +1,32 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object for a ranked proposal to serve a resource request from another orphanage's stock.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class MatchProposalDto {
+    private Long requestId;
+    private Integer rank;
+    private Long resourceId;
+    private Long orphanageId;
+    private String orphanageName;
+    private String country;
+    private String state;
+    private Integer availableQuantity;
+    private String unit;
+    private boolean coversRequest;
+    private RegionMatch regionMatch;
+
+    /**
+     * How close the offering orphanage is to the requesting one.
+     */
+    public enum RegionMatch {
+        SAME_STATE,
+        SAME_COUNTRY,
+        OTHER
+    }
+}
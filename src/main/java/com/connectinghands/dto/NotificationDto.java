@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for returning notification data.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class NotificationDto {
+    private Long id;
+    private String type;
+    private Long referenceId;
+    private String message;
+    private boolean read;
+    private LocalDateTime createdAt;
+}
@@ -34,4 +34,5 @@ public class OrphanageDto {
     private Long verifiedBy;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 } 
\ No newline at end of file
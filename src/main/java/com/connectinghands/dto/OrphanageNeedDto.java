@@ -0,0 +1,27 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one entry of the "most in need" orphanage ranking.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrphanageNeedDto {
+    private Long orphanageId;
+    private String name;
+    private String city;
+    private String state;
+    private String country;
+    private BigDecimal score;
+    private Integer pendingRequests;
+    private BigDecimal occupancy;
+    private BigDecimal recentDonations;
+}
@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the location of an orphanage, used to rank matches by proximity.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrphanageRegionDto {
+    private Long orphanageId;
+    private String name;
+    private String country;
+    private String state;
+}
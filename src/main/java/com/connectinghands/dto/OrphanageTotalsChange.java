@@ -0,0 +1,24 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * A completed donation entering (direction 1) or leaving (direction -1) an orphanage's totals.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class OrphanageTotalsChange {
+    private Long donationId;
+    private Long orphanageId;
+    private Long donorId;
+    private String currency;
+    private BigDecimal amount;
+    private int direction;
+}
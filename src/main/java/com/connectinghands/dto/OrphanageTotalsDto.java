@@ -0,0 +1,19 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the donation totals shown on an orphanage's profile.
+ * Amounts are kept per currency because they cannot be summed across currencies.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class OrphanageTotalsDto {
+    private Long orphanageId;
+    private List<CurrencyTotalDto> totals;
+    private Long donationCount;
+    private Long donorCount;
+}
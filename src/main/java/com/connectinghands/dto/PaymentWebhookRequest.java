@@ -0,0 +1,46 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.PaymentOutcome;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for a payment status callback sent by the payment provider.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class PaymentWebhookRequest {
+    /**
+     * Provider-assigned ID of the event, the same on every redelivery.
+     */
+    @NotBlank(message = "Event ID is required")
+    @Size(max = 255, message = "Event ID must not exceed 255 characters")
+    private String eventId;
+
+    /**
+     * ID of the donation the payment belongs to.
+     */
+    @NotNull(message = "Donation ID is required")
+    private Long donationId;
+
+    /**
+     * Final outcome of the payment.
+     */
+    @NotNull(message = "Outcome is required")
+    private PaymentOutcome outcome;
+
+    /**
+     * Provider transaction ID. Required for approved payments.
+     */
+    @Size(max = 255, message = "Transaction ID must not exceed 255 characters")
+    private String transactionId;
+
+    /**
+     * Reason given by the provider for a declined payment.
+     */
+    @Size(max = 500, message = "Message must not exceed 500 characters")
+    private String message;
+}
@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the fields of a pending resource request needed by the matching index.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PendingRequestDto {
+    private Long requestId;
+    private Integer resourceTypeId;
+    private Long orphanageId;
+    private String unit;
+    private Integer quantity;
+}
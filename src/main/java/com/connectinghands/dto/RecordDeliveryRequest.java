@@ -0,0 +1,21 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for recording goods received against a pledge.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class RecordDeliveryRequest {
+    /**
+     * Quantity received.
+     * Must be at least 1 and cannot exceed the undelivered remainder of the pledge.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+}
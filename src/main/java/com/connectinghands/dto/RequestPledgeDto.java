@@ -0,0 +1,23 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.PledgeStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for returning pledge data.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class RequestPledgeDto {
+    private Long id;
+    private Long requestId;
+    private Long donorId;
+    private Integer quantity;
+    private Integer deliveredQuantity;
+    private PledgeStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,36 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceRequestStatus;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the pledge and delivery progress of a resource request.
+ * Built straight from the running totals stored on the request row.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+public class RequestProgressDto {
+    private Long requestId;
+    private Integer quantity;
+    private Integer pledgedQuantity;
+    private Integer deliveredQuantity;
+    private Integer unpledgedQuantity;
+    private Integer pledgedPercent;
+    private Integer deliveredPercent;
+    private ResourceRequestStatus status;
+
+    public RequestProgressDto(Long requestId, Integer quantity, Integer pledgedQuantity,
+                              Integer deliveredQuantity, ResourceRequestStatus status) {
+        this.requestId = requestId;
+        this.quantity = quantity;
+        this.pledgedQuantity = pledgedQuantity;
+        this.deliveredQuantity = deliveredQuantity;
+        this.unpledgedQuantity = Math.max(0, quantity - pledgedQuantity);
+        this.pledgedPercent = (int) Math.min(100, pledgedQuantity * 100L / quantity);
+        this.deliveredPercent = (int) Math.min(100, deliveredQuantity * 100L / quantity);
+        this.status = status;
+    }
+}
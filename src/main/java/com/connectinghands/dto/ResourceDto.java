@@ -36,11 +36,31 @@ public class ResourceDto {
      */
     private Integer quantity;
 
+    /**
+     * Quantity held by active reservations.
+     */
+    private Integer reservedQuantity;
+
+    /**
+     * Quantity neither allocated nor reserved.
+     */
+    private Integer availableQuantity;
+
     /**
      * Unit of measurement for the resource.
      */
     private String unit;
 
+    /**
+     * Minimum stock threshold of the resource.
+     */
+    private Integer minimumQuantity;
+
+    /**
+     * ID of the catalog entry the resource resolves to.
+     */
+    private Integer resourceTypeId;
+
     /**
      * ID of the orphanage that owns this resource.
      */
@@ -51,6 +71,11 @@ public class ResourceDto {
      */
     private ResourceStatus status;
 
+    /**
+     * Optimistic locking version, to be sent back with updates.
+     */
+    private Long version;
+
     /**
      * Creation date of the resource.
      */
@@ -67,9 +92,14 @@ public class ResourceDto {
     public String getDescription() { return description; }
     public ResourceCategory getCategory() { return category; }
     public Integer getQuantity() { return quantity; }
+    public Integer getReservedQuantity() { return reservedQuantity; }
+    public Integer getAvailableQuantity() { return availableQuantity; }
     public String getUnit() { return unit; }
+    public Integer getMinimumQuantity() { return minimumQuantity; }
+    public Integer getResourceTypeId() { return resourceTypeId; }
     public String getOrphanageName() { return orphanageName; }
     public ResourceStatus getStatus() { return status; }
+    public Long getVersion() { return version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
@@ -79,9 +109,14 @@ public class ResourceDto {
     public void setDescription(String description) { this.description = description; }
     public void setCategory(ResourceCategory category) { this.category = category; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public void setReservedQuantity(Integer reservedQuantity) { this.reservedQuantity = reservedQuantity; }
+    public void setAvailableQuantity(Integer availableQuantity) { this.availableQuantity = availableQuantity; }
     public void setUnit(String unit) { this.unit = unit; }
+    public void setMinimumQuantity(Integer minimumQuantity) { this.minimumQuantity = minimumQuantity; }
+    public void setResourceTypeId(Integer resourceTypeId) { this.resourceTypeId = resourceTypeId; }
     public void setOrphanageName(String orphanageName) { this.orphanageName = orphanageName; }
     public void setStatus(ResourceStatus status) { this.status = status; }
+    public void setVersion(Long version) { this.version = version; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 } 
\ No newline at end of file
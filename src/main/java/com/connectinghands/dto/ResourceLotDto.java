@@ -0,0 +1,24 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceLotStatus;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for resource lots.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class ResourceLotDto {
+    private Long id;
+    private Long resourceId;
+    private Integer quantity;
+    private Integer initialQuantity;
+    private LocalDate expiresOn;
+    private String batchNumber;
+    private ResourceLotStatus status;
+    private LocalDateTime receivedAt;
+}
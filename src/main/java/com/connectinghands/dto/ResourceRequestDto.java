@@ -1,5 +1,6 @@
 package com.connectinghands.dto;
 
+import com.connectinghands.entity.RequestPriority;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceRequestStatus;
 import lombok.Data;
@@ -19,11 +20,18 @@ public class ResourceRequestDto {
     private String description;
     private ResourceCategory category;
     private Integer quantity;
+    private Integer pledgedQuantity;
+    private Integer deliveredQuantity;
     private String unit;
+    private Integer resourceTypeId;
     private String orphanageName;
+    private Long orphanageId;
+    private RequestPriority priority;
+    private Integer urgencyScore;
     private ResourceRequestStatus status;
     private Long fulfilledBy;
     private LocalDateTime fulfilledAt;
+    private Long version;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
@@ -32,9 +40,16 @@ public class ResourceRequestDto {
     public String getDescription() { return description; }
     public ResourceCategory getCategory() { return category; }
     public Integer getQuantity() { return quantity; }
+    public Integer getPledgedQuantity() { return pledgedQuantity; }
+    public Integer getDeliveredQuantity() { return deliveredQuantity; }
     public String getUnit() { return unit; }
+    public Integer getResourceTypeId() { return resourceTypeId; }
     public String getOrphanageName() { return orphanageName; }
+    public Long getOrphanageId() { return orphanageId; }
+    public RequestPriority getPriority() { return priority; }
+    public Integer getUrgencyScore() { return urgencyScore; }
     public ResourceRequestStatus getStatus() { return status; }
+    public Long getVersion() { return version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
 
@@ -43,11 +58,18 @@ public class ResourceRequestDto {
     public void setDescription(String description) { this.description = description; }
     public void setCategory(ResourceCategory category) { this.category = category; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public void setPledgedQuantity(Integer pledgedQuantity) { this.pledgedQuantity = pledgedQuantity; }
+    public void setDeliveredQuantity(Integer deliveredQuantity) { this.deliveredQuantity = deliveredQuantity; }
     public void setUnit(String unit) { this.unit = unit; }
+    public void setResourceTypeId(Integer resourceTypeId) { this.resourceTypeId = resourceTypeId; }
     public void setOrphanageName(String orphanageName) { this.orphanageName = orphanageName; }
+    public void setOrphanageId(Long orphanageId) { this.orphanageId = orphanageId; }
+    public void setPriority(RequestPriority priority) { this.priority = priority; }
+    public void setUrgencyScore(Integer urgencyScore) { this.urgencyScore = urgencyScore; }
     public void setStatus(ResourceRequestStatus status) { this.status = status; }
     public void setFulfilledBy(Long fulfilledBy) { this.fulfilledBy = fulfilledBy; }
     public void setFulfilledAt(java.time.LocalDateTime fulfilledAt) { this.fulfilledAt = fulfilledAt; }
+    public void setVersion(Long version) { this.version = version; }
     public void setCreatedAt(java.time.LocalDateTime createdAt) { this.createdAt = createdAt; }
     public void setUpdatedAt(java.time.LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 } 
\ No newline at end of file
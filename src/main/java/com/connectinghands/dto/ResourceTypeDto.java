@@ -0,0 +1,18 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.ResourceCategory;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for resource catalog entries.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class ResourceTypeDto {
+    private Integer id;
+    private String name;
+    private String normalizedName;
+    private ResourceCategory category;
+    private String defaultUnit;
+}
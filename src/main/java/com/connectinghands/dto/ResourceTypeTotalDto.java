@@ -0,0 +1,18 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for a total aggregated per resource catalog entry.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResourceTypeTotalDto {
+    private Integer resourceTypeId;
+    private Long total;
+}
@@ -0,0 +1,27 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.DiscrepancyType;
+import com.connectinghands.entity.DonationStatus;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for one entry of a settlement discrepancy report.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class SettlementDiscrepancyDto {
+    private Long id;
+    private Long lineNumber;
+    private DiscrepancyType type;
+    private String transactionId;
+    private Long donationId;
+    private DonationStatus recordedStatus;
+    private DonationStatus settledStatus;
+    private BigDecimal recordedAmount;
+    private BigDecimal settledAmount;
+    private boolean corrected;
+    private String detail;
+}
@@ -0,0 +1,28 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.SettlementRunStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the progress and totals of a settlement file reconciliation.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class SettlementRunDto {
+    private Long id;
+    private String fileName;
+    private SettlementRunStatus status;
+    private Long fileSize;
+    private Long bytesProcessed;
+    private Long linesProcessed;
+    private Long matchedCount;
+    private Long correctedCount;
+    private Long discrepancyCount;
+    private String lastError;
+    private LocalDateTime startedAt;
+    private LocalDateTime checkpointedAt;
+    private LocalDateTime completedAt;
+}
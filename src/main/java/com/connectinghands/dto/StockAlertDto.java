@@ -0,0 +1,25 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.StockAlertStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for low-stock alerts.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class StockAlertDto {
+    private Long id;
+    private Long resourceId;
+    private String resourceName;
+    private Long orphanageId;
+    private Integer quantity;
+    private Integer threshold;
+    private Long resourceRequestId;
+    private StockAlertStatus status;
+    private LocalDateTime createdAt;
+    private LocalDateTime resolvedAt;
+}
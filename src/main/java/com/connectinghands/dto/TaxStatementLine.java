@@ -0,0 +1,29 @@
+package com.connectinghands.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * One completed donation as read by the tax statement batch, with the donor columns the
+ * statement header needs repeated on every line so no per-donor lookup is required.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class TaxStatementLine {
+    private Long donorId;
+    private String donorFirstName;
+    private String donorLastName;
+    private String donorEmail;
+    private Long donationId;
+    private LocalDateTime completedAt;
+    private BigDecimal amount;
+    private String currency;
+    private String orphanageName;
+}
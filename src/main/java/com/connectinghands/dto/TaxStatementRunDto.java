@@ -0,0 +1,25 @@
+package com.connectinghands.dto;
+
+import com.connectinghands.entity.TaxStatementRunStatus;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for the state and totals of a tax statement batch run.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class TaxStatementRunDto {
+    private Long id;
+    private Integer taxYear;
+    private TaxStatementRunStatus status;
+    private Long statementCount;
+    private Long donationCount;
+    private String outputDir;
+    private String lastError;
+    private LocalDateTime requestedAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+}
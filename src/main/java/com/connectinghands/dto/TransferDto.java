@@ -0,0 +1,20 @@
+package com.connectinghands.dto;
+
+import lombok.Data;
+
+/**
+ * Data Transfer Object describing a completed transfer.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class TransferDto {
+    private String transferReference;
+    private Long sourceResourceId;
+    private Long sourceOrphanageId;
+    private Integer sourceQuantity;
+    private Long targetResourceId;
+    private Long targetOrphanageId;
+    private Integer targetQuantity;
+    private Integer quantity;
+}
@@ -0,0 +1,40 @@
+package com.connectinghands.dto;
+
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+/**
+ * Data Transfer Object for moving stock from one orphanage's resource to another's.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+public class TransferResourceRequest {
+    /**
+     * ID of the resource the stock is taken from.
+     */
+    @NotNull(message = "Source resource ID is required")
+    private Long sourceResourceId;
+
+    /**
+     * ID of the resource the stock is added to.
+     */
+    @NotNull(message = "Target resource ID is required")
+    private Long targetResourceId;
+
+    /**
+     * Quantity to move.
+     * Must be at least 1.
+     */
+    @NotNull(message = "Quantity is required")
+    @Min(value = 1, message = "Quantity must be at least 1")
+    private Integer quantity;
+
+    /**
+     * Optional note recorded on both ledger entries.
+     */
+    @Size(max = 500, message = "Note must not exceed 500 characters")
+    private String note;
+}
@@ -68,6 +68,12 @@ public class UpdateOrphanageRequest {
 
     private String verificationNotes;
 
+    /**
+     * Version the client last read; when present, the update is rejected if the orphanage changed since.
+     */
+    private Long version;
+
+    public Long getVersion() { return version; }
     public String getName() { return name; }
     public String getDescription() { return description; }
     public String getAddress() { return address; }
@@ -1,6 +1,8 @@
 package com.connectinghands.dto;
 
+import com.connectinghands.entity.RequestPriority;
 import com.connectinghands.entity.ResourceRequestStatus;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import lombok.Data;
@@ -40,15 +42,42 @@ public class UpdateResourceRequest {
      */
     private String unit;
 
+    /**
+     * Updated minimum stock threshold (resources only).
+     */
+    @Min(value = 0, message = "Minimum quantity cannot be negative")
+    private Integer minimumQuantity;
+
+    /**
+     * Updated priority of the resource request.
+     */
+    private RequestPriority priority;
+
+    /**
+     * Updated urgency score of the resource request.
+     */
+    @Min(value = 0, message = "Urgency score cannot be negative")
+    @Max(value = 100, message = "Urgency score cannot exceed 100")
+    private Integer urgencyScore;
+
+    /**
+     * Version the client last read; when present, the update is rejected if the record changed since.
+     */
+    private Long version;
+
     /**
      * Updated status of the resource request.
      */
     private ResourceRequestStatus status;
 
+    public Long getVersion() { return version; }
     public String getName() { return name; }
     public String getDescription() { return description; }
     public String getCategory() { return category; }
     public Integer getQuantity() { return quantity; }
     public String getUnit() { return unit; }
-    public String getStatus() { return status.toString(); }
+    public Integer getMinimumQuantity() { return minimumQuantity; }
+    public RequestPriority getPriority() { return priority; }
+    public Integer getUrgencyScore() { return urgencyScore; }
+    public String getStatus() { return status != null ? status.name() : null; }
 } 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a fundraising campaign.
+ * A campaign raises money for one orphanage; donations to that orphanage made during its
+ * window can be attributed to it, and its progress counts the completed ones.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "campaigns")
+public class Campaign {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(length = 1000)
+    private String description;
+
+    @Column(name = "goal_amount", nullable = false, precision = 12, scale = 2)
+    private BigDecimal goalAmount;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(name = "starts_at", nullable = false)
+    private LocalDateTime startsAt;
+
+    @Column(name = "ends_at", nullable = false)
+    private LocalDateTime endsAt;
+
+    /**
+     * Orphanage the campaign raises money for.
+     */
+    @Column(name = "orphanage_id", nullable = false)
+    private Long orphanageId;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,28 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the kinds of disagreement between a settlement file and the donations table.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum DiscrepancyType {
+    /**
+     * The settled transaction ID matches no donation.
+     */
+    UNKNOWN_TRANSACTION,
+
+    /**
+     * The donation's status differs from the settled status.
+     */
+    STATUS_MISMATCH,
+
+    /**
+     * The donation's amount or currency differs from the settled amount.
+     */
+    AMOUNT_MISMATCH,
+
+    /**
+     * The line could not be parsed.
+     */
+    MALFORMED_LINE
+}
@@ -76,12 +76,56 @@ public class Donation {
     @Column(unique = true)
     private String transactionId;
 
+    /**
+     * Number of failed payment attempts.
+     * Only changed by the payment pipeline's conditional updates, never written back from the entity.
+     */
+    @Column(name = "payment_attempts", nullable = false, insertable = false, updatable = false)
+    private Integer paymentAttempts = 0;
+
+    /**
+     * Earliest time the payment pipeline may pick this donation up; null once it is no longer pending.
+     */
+    @Column(name = "next_payment_attempt_at", updatable = false)
+    private LocalDateTime nextPaymentAttemptAt;
+
+    /**
+     * Reason of the last failed payment attempt.
+     */
+    @Column(name = "payment_error", length = 500, insertable = false, updatable = false)
+    private String paymentError;
+
+    /**
+     * Recurring plan that generated the donation; null for one-off donations.
+     */
+    @Column(name = "plan_id", updatable = false)
+    private Long planId;
+
+    /**
+     * Campaign the donation is attributed to; null for donations outside any campaign.
+     */
+    @Column(name = "campaign_id", updatable = false)
+    private Long campaignId;
+
+    /**
+     * Occurrence of the plan this donation pays for.
+     */
+    @Column(name = "plan_cycle", updatable = false)
+    private Integer planCycle;
+
     /**
      * Additional notes about the donation.
      */
     @Column(length = 1000)
     private String notes;
 
+    /**
+     * Timestamp when the donation was completed; null while it is not COMPLETED.
+     * Set on the transition only, so later edits leave it alone.
+     */
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
     /**
      * Timestamp when the donation was created.
      */
@@ -95,4 +139,12 @@ public class Donation {
     @LastModifiedDate
     @Column(nullable = false)
     private LocalDateTime updatedAt;
+
+    /**
+     * Optimistic lock version. The payment pipeline's conditional status updates increment it
+     * too, so an edit read before a payment settled fails instead of overwriting the result.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
 } 
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing how often a recurring donation plan gives.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum DonationFrequency {
+    /**
+     * Every week.
+     */
+    WEEKLY,
+
+    /**
+     * Every month, on the start date's day of month or the month's last day if shorter.
+     */
+    MONTHLY,
+
+    /**
+     * Every year.
+     */
+    YEARLY
+}
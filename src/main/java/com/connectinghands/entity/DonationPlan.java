@@ -0,0 +1,84 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a donor's recurring donation plan.
+ * The scheduler advances next_cycle and next_run_at with a set-based statement in
+ * DonationPlanRepository, which also bumps the version, so a concurrent edit through the
+ * entity fails its optimistic lock rather than rolling the schedule back.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "donation_plans")
+public class DonationPlan {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "donor_id", nullable = false, updatable = false)
+    private Long donorId;
+
+    @Column(name = "orphanage_id", nullable = false, updatable = false)
+    private Long orphanageId;
+
+    @Column(nullable = false, precision = 10, scale = 2)
+    private BigDecimal amount;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "payment_method", nullable = false)
+    private PaymentMethod paymentMethod;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private DonationFrequency frequency;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DonationPlanStatus status = DonationPlanStatus.ACTIVE;
+
+    /**
+     * Due time of the first occurrence; later occurrences are counted from it so monthly plans do not drift.
+     */
+    @Column(name = "start_at", nullable = false, updatable = false)
+    private LocalDateTime startAt;
+
+    /**
+     * Index of the next occurrence to generate, starting at 0.
+     */
+    @Column(name = "next_cycle", nullable = false)
+    private Integer nextCycle = 0;
+
+    @Column(name = "next_run_at", nullable = false)
+    private LocalDateTime nextRunAt;
+
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = createdAt;
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,23 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the possible statuses of a recurring donation plan.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum DonationPlanStatus {
+    /**
+     * The plan generates a donation every cycle.
+     */
+    ACTIVE,
+
+    /**
+     * The plan is suspended; cycles that fall due while paused are skipped.
+     */
+    PAUSED,
+
+    /**
+     * The plan has ended and cannot be resumed.
+     */
+    CANCELLED
+}
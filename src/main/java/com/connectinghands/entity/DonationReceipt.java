@@ -0,0 +1,59 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the receipt of a completed donation.
+ * Rows are only written by the set-based statements in DonationReceiptRepository; the entity
+ * is used to read them back when a receipt is downloaded.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "donation_receipts")
+public class DonationReceipt {
+    @Id
+    @Column(name = "donation_id")
+    private Long donationId;
+
+    /**
+     * Donor of the donation, copied when the receipt is queued so downloads need no join.
+     */
+    @Column(name = "donor_id", nullable = false)
+    private Long donorId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DonationReceiptStatus status;
+
+    @Column(name = "receipt_number", unique = true, length = 32)
+    private String receiptNumber;
+
+    /**
+     * Path of the rendered receipt, relative to the receipt directory.
+     */
+    @Column(name = "file_name")
+    private String fileName;
+
+    @Column(name = "size_bytes")
+    private Long sizeBytes;
+
+    @Column(nullable = false)
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "generated_at")
+    private LocalDateTime generatedAt;
+}
@@ -0,0 +1,23 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the generation state of a donation receipt.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum DonationReceiptStatus {
+    /**
+     * Queued for generation, or waiting for a retry.
+     */
+    PENDING,
+
+    /**
+     * Rendered and stored on disk.
+     */
+    GENERATED,
+
+    /**
+     * Generation failed too many times.
+     */
+    FAILED
+}
@@ -0,0 +1,60 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a donor's interest in new requests of one category within a region.
+ * A subscription without a state covers the whole country.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "donor_subscriptions")
+public class DonorSubscription {
+    /**
+     * Unique identifier for the subscription.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the subscribed donor.
+     */
+    @Column(name = "donor_id", nullable = false, updatable = false)
+    private Long donorId;
+
+    /**
+     * Category of requests the donor wants to hear about.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, updatable = false)
+    private ResourceCategory category;
+
+    /**
+     * Country of the requesting orphanages.
+     */
+    @Column(nullable = false, updatable = false)
+    private String country;
+
+    /**
+     * State of the requesting orphanages, or null for the whole country.
+     */
+    @Column(updatable = false)
+    private String state;
+
+    /**
+     * Timestamp when the subscription was created.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
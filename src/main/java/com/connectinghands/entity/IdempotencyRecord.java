@@ -0,0 +1,68 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a client-supplied Idempotency-Key and the response it produced.
+ * Rows are keyed by a fixed-length hash of the caller, method, path and key, and are
+ * written only through the conditional statements in IdempotencyRecordRepository.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "idempotency_keys")
+public class IdempotencyRecord {
+    /**
+     * SHA-256 of the caller, HTTP method, request path and Idempotency-Key header, hex encoded.
+     */
+    @Id
+    @Column(name = "scope_key", length = 64)
+    private String scopeKey;
+
+    /**
+     * SHA-256 of the request body, used to reject a key reused for a different request.
+     */
+    @Column(name = "request_hash", nullable = false, length = 64)
+    private String requestHash;
+
+    /**
+     * Whether the original request is still running or has a stored response.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private IdempotencyStatus status;
+
+    /**
+     * HTTP status of the stored response.
+     */
+    @Column(name = "response_status")
+    private Integer responseStatus;
+
+    /**
+     * Content type of the stored response.
+     */
+    @Column(name = "content_type")
+    private String contentType;
+
+    /**
+     * Body of the stored response.
+     */
+    @Column(name = "response_body")
+    private byte[] responseBody;
+
+    /**
+     * Timestamp when the key was first claimed.
+     */
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp after which the key may be purged or claimed again.
+     */
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+}
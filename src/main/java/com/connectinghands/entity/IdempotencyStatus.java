@@ -0,0 +1,11 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the state of a stored idempotency key.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum IdempotencyStatus {
+    IN_PROGRESS,
+    COMPLETED
+}
@@ -0,0 +1,85 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a single stock movement on a resource.
+ * A transfer writes two entries sharing the same transfer reference:
+ * a TRANSFER_OUT on the source and a TRANSFER_IN on the target.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "inventory_ledger")
+public class InventoryLedgerEntry {
+    /**
+     * Unique identifier for the entry.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the resource whose quantity changed.
+     */
+    @Column(name = "resource_id", nullable = false)
+    private Long resourceId;
+
+    /**
+     * ID of the orphanage owning the resource.
+     */
+    @Column(name = "orphanage_id", nullable = false)
+    private Long orphanageId;
+
+    /**
+     * Kind of movement.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entry_type", nullable = false)
+    private LedgerEntryType entryType;
+
+    /**
+     * Signed quantity change: negative for stock leaving, positive for stock arriving.
+     */
+    @Column(name = "quantity_change", nullable = false)
+    private Integer quantityChange;
+
+    /**
+     * Resource quantity after the movement was applied.
+     */
+    @Column(name = "balance_after", nullable = false)
+    private Integer balanceAfter;
+
+    /**
+     * ID of the resource on the other side of the transfer.
+     */
+    @Column(name = "counterpart_resource_id")
+    private Long counterpartResourceId;
+
+    /**
+     * Reference shared by both entries of one transfer.
+     */
+    @Column(name = "transfer_reference", nullable = false, length = 36)
+    private String transferReference;
+
+    /**
+     * Optional free-text note supplied with the transfer.
+     */
+    @Column(length = 500)
+    private String note;
+
+    /**
+     * Timestamp when the movement was recorded.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,86 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a time-limited hold on part of a resource's stock.
+ * Held stock is excluded from allocation and matching while logistics are arranged,
+ * and returns to the resource when the reservation expires or is released.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "inventory_reservations")
+public class InventoryReservation {
+    /**
+     * Unique identifier for the reservation.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The resource whose stock is held.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_id", nullable = false, updatable = false)
+    private Resource resource;
+
+    /**
+     * ID of the resource request the stock is held for, if any.
+     */
+    @Column(name = "request_id", updatable = false)
+    private Long requestId;
+
+    /**
+     * Quantity held.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer quantity;
+
+    /**
+     * Current status of the reservation.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ReservationStatus status = ReservationStatus.ACTIVE;
+
+    /**
+     * Time after which the held stock is released automatically.
+     */
+    @Column(name = "expires_at", nullable = false, updatable = false)
+    private LocalDateTime expiresAt;
+
+    /**
+     * ID of the user who made the reservation.
+     */
+    @Column(name = "reserved_by", updatable = false)
+    private Long reservedBy;
+
+    /**
+     * Timestamp when the reservation was made.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the reservation was last updated.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
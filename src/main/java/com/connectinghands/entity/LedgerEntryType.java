@@ -0,0 +1,11 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the kind of stock movement recorded in the inventory ledger.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum LedgerEntryType {
+    TRANSFER_OUT,
+    TRANSFER_IN
+}
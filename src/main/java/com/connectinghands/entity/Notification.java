@@ -0,0 +1,65 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an in-app notification for a user.
+ * Rows are written in bulk by the notification fan-out and read through JPA.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "notifications")
+public class Notification {
+    /**
+     * Unique identifier for the notification.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * ID of the recipient.
+     */
+    @Column(name = "user_id", nullable = false, updatable = false)
+    private Long userId;
+
+    /**
+     * Kind of event the notification is about, e.g. RESOURCE_REQUEST_CREATED.
+     */
+    @Column(nullable = false, updatable = false)
+    private String type;
+
+    /**
+     * ID of the entity the notification refers to.
+     */
+    @Column(name = "reference_id", updatable = false)
+    private Long referenceId;
+
+    /**
+     * Text shown to the recipient.
+     */
+    @Column(nullable = false, length = 500, updatable = false)
+    private String message;
+
+    /**
+     * Whether the recipient has read the notification.
+     */
+    @Column(name = "is_read", nullable = false)
+    private boolean read = false;
+
+    /**
+     * Timestamp when the notification was created.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
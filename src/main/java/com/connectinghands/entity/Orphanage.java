@@ -83,6 +83,10 @@ public class Orphanage {
     @Column(name = "verified_by")
     private Long verifiedBy;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -131,6 +135,8 @@ public class Orphanage {
     public void setAdmin(User admin) { this.admin = admin; }
     public String getVerificationDocuments() { return verificationDocuments; }
     public void setVerificationDocuments(String verificationDocuments) { this.verificationDocuments = verificationDocuments; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public java.time.LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(java.time.LocalDateTime createdAt) { this.createdAt = createdAt; }
     public java.time.LocalDateTime getUpdatedAt() { return updatedAt; }
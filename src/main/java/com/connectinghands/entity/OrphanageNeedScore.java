@@ -0,0 +1,59 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of the precomputed need score of an orphanage.
+ * The components are refreshed per orphanage by NeedScoreService whenever its requests,
+ * donations or occupancy change; the score itself is a stored generated column, so it is
+ * always consistent with the components and can be indexed for ranking.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Immutable
+@Table(name = "orphanage_need_scores")
+public class OrphanageNeedScore {
+    /**
+     * ID of the orphanage the score belongs to.
+     */
+    @Id
+    @Column(name = "orphanage_id")
+    private Long orphanageId;
+
+    /**
+     * Number of pending resource requests.
+     */
+    @Column(name = "pending_requests", nullable = false)
+    private Integer pendingRequests;
+
+    /**
+     * Ratio of current children to capacity.
+     */
+    @Column(nullable = false, precision = 6, scale = 4)
+    private BigDecimal occupancy;
+
+    /**
+     * Total of completed donations received within the recent-donation window.
+     */
+    @Column(name = "recent_donations", nullable = false, precision = 14, scale = 2)
+    private BigDecimal recentDonations;
+
+    /**
+     * Combined need score from 0 to 100; higher means more in need.
+     */
+    @Column(nullable = false, precision = 7, scale = 3)
+    private BigDecimal score;
+
+    /**
+     * Timestamp when the components were last recomputed.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,40 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Entity representing one stripe of an orphanage's running donation totals in one currency.
+ * Rows are only changed by the set-based increment in OrphanageTotalStripeRepository; the
+ * totals of an orphanage are the sums over all of its stripes.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "orphanage_total_stripes")
+public class OrphanageTotalStripe {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "orphanage_id", nullable = false)
+    private Long orphanageId;
+
+    @Column(nullable = false, length = 3)
+    private String currency;
+
+    @Column(nullable = false)
+    private Integer stripe;
+
+    @Column(name = "total_amount", nullable = false, precision = 16, scale = 2)
+    private BigDecimal totalAmount = BigDecimal.ZERO;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount = 0L;
+
+    @Column(name = "donor_count", nullable = false)
+    private Long donorCount = 0L;
+}
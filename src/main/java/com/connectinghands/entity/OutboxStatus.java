@@ -0,0 +1,12 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the delivery state of an outbox event.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum OutboxStatus {
+    PENDING,
+    PUBLISHED,
+    FAILED
+}
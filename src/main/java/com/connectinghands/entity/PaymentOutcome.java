@@ -0,0 +1,18 @@
+package com.connectinghands.entity;
+
+/**
+ * Final outcome of a payment as reported by the payment provider.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum PaymentOutcome {
+    /**
+     * The payment went through.
+     */
+    APPROVED,
+
+    /**
+     * The payment was refused.
+     */
+    DECLINED
+}
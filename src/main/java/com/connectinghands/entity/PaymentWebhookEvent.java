@@ -0,0 +1,50 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing a payment provider webhook event that has been applied.
+ * Rows are only inserted, in batches, through PaymentWebhookEventRepository; the primary key
+ * on the provider's event ID is what makes redelivered callbacks a no-op.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "payment_webhook_events")
+public class PaymentWebhookEvent {
+    /**
+     * Event ID assigned by the payment provider.
+     */
+    @Id
+    @Column(name = "event_id")
+    private String eventId;
+
+    /**
+     * Donation the event reports on.
+     */
+    @Column(name = "donation_id", nullable = false)
+    private Long donationId;
+
+    /**
+     * Reported outcome of the payment.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private PaymentOutcome outcome;
+
+    /**
+     * Provider transaction ID of an approved payment.
+     */
+    @Column(name = "transaction_id")
+    private String transactionId;
+
+    /**
+     * Timestamp when the event was applied.
+     */
+    @Column(name = "received_at", nullable = false)
+    private LocalDateTime receivedAt;
+}
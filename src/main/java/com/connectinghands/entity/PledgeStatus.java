@@ -0,0 +1,26 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the possible states of a pledge against a resource request.
+ * OPEN: Donor has committed a quantity that is not yet fully delivered
+ * DELIVERED: The full pledged quantity has been received
+ * CANCELLED: Donor withdrew the undelivered remainder of the pledge
+ *
+ * @author Ragul Venkatesan
+ */
+public enum PledgeStatus {
+    /**
+     * Donor has committed a quantity that is not yet fully delivered.
+     */
+    OPEN,
+
+    /**
+     * The full pledged quantity has been received.
+     */
+    DELIVERED,
+
+    /**
+     * Donor withdrew the undelivered remainder of the pledge.
+     */
+    CANCELLED
+}
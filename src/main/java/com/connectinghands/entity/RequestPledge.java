@@ -0,0 +1,89 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a donor's commitment to cover part of a resource request.
+ * A large request is usually covered by many pledges; their totals are kept on the
+ * request itself so that progress can be read without summing pledges.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "request_pledges")
+public class RequestPledge {
+    /**
+     * Unique identifier for the pledge.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The request this pledge contributes to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "request_id", nullable = false, updatable = false)
+    private ResourceRequest request;
+
+    /**
+     * ID of the pledging donor.
+     */
+    @Column(name = "donor_id", nullable = false, updatable = false)
+    private Long donorId;
+
+    /**
+     * Quantity the donor committed to.
+     */
+    @Column(nullable = false, updatable = false)
+    private Integer quantity;
+
+    /**
+     * Quantity received so far against this pledge.
+     */
+    @Column(name = "delivered_quantity", nullable = false)
+    private Integer deliveredQuantity = 0;
+
+    /**
+     * Current status of the pledge.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private PledgeStatus status = PledgeStatus.OPEN;
+
+    /**
+     * Timestamp when the pledge was made.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the pledge was last updated.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    /**
+     * Returns the quantity still to be delivered.
+     *
+     * @return The undelivered remainder of the pledge
+     */
+    public int getOutstandingQuantity() {
+        return quantity - deliveredQuantity;
+    }
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
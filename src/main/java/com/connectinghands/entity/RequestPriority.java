@@ -0,0 +1,15 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing how urgently a resource request must be served.
+ * Persisted by ordinal, so the declaration order is also the queue order (most urgent first)
+ * and must not be changed without a data migration.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum RequestPriority {
+    CRITICAL,
+    HIGH,
+    MEDIUM,
+    LOW
+}
@@ -0,0 +1,32 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the possible states of an inventory reservation.
+ * ACTIVE: Stock is held until the reservation expires
+ * CONSUMED: The held stock was allocated
+ * RELEASED: The reservation was cancelled before it expired
+ * EXPIRED: The reservation timed out and its stock was returned
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ReservationStatus {
+    /**
+     * Stock is held until the reservation expires.
+     */
+    ACTIVE,
+
+    /**
+     * The held stock was allocated.
+     */
+    CONSUMED,
+
+    /**
+     * The reservation was cancelled before it expired.
+     */
+    RELEASED,
+
+    /**
+     * The reservation timed out and its stock was returned.
+     */
+    EXPIRED
+}
@@ -51,12 +51,39 @@ public class Resource {
     @Column(nullable = false)
     private Integer quantity;
 
+    /**
+     * Quantity held by active reservations and not available for allocation or matching.
+     * Only changed by single-statement updates in ResourceRepository, never written from the entity.
+     */
+    @Column(name = "reserved_quantity", nullable = false, insertable = false, updatable = false)
+    private Integer reservedQuantity = 0;
+
     /**
      * Unit of measurement for the resource (e.g., pieces, kg, liters).
      */
     @Column(nullable = false)
     private String unit;
 
+    /**
+     * Stock level below which a low-stock alert is raised.
+     * Zero disables threshold monitoring for the resource.
+     */
+    @Column(name = "minimum_quantity", nullable = false)
+    private Integer minimumQuantity = 0;
+
+    /**
+     * Whether a resource request is drafted automatically when stock drops below the threshold.
+     */
+    @Column(name = "auto_request", nullable = false)
+    private boolean autoRequest = false;
+
+    /**
+     * Catalog entry this resource resolves to, used as the integer key for aggregation and matching.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_type_id", nullable = false)
+    private ResourceType resourceType;
+
     /**
      * The orphanage that owns or manages this resource.
      */
@@ -71,6 +98,13 @@ public class Resource {
     @Column(nullable = false)
     private ResourceStatus status;
 
+    /**
+     * Optimistic locking version, incremented on every update.
+     */
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     /**
      * Timestamp when the resource was created.
      */
@@ -96,6 +130,25 @@ public class Resource {
         updatedAt = LocalDateTime.now();
     }
 
+    /**
+     * Checks whether the current quantity is below the configured minimum threshold.
+     *
+     * @return true if threshold monitoring is enabled and stock is below it
+     */
+    public boolean isBelowThreshold() {
+        return minimumQuantity != null && minimumQuantity > 0
+                && quantity != null && quantity < minimumQuantity;
+    }
+
+    /**
+     * Returns the quantity that is neither allocated nor held by a reservation.
+     *
+     * @return The unreserved quantity, never negative
+     */
+    public int getAvailableQuantity() {
+        return Math.max(0, quantity - reservedQuantity);
+    }
+
     public Long getId() { return id; }
     public void setId(Long id) { this.id = id; }
     public String getName() { return name; }
@@ -106,12 +159,22 @@ public class Resource {
     public void setCategory(ResourceCategory category) { this.category = category; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
+    public Integer getReservedQuantity() { return reservedQuantity; }
+    public void setReservedQuantity(Integer reservedQuantity) { this.reservedQuantity = reservedQuantity; }
     public String getUnit() { return unit; }
     public void setUnit(String unit) { this.unit = unit; }
+    public Integer getMinimumQuantity() { return minimumQuantity; }
+    public void setMinimumQuantity(Integer minimumQuantity) { this.minimumQuantity = minimumQuantity; }
+    public boolean isAutoRequest() { return autoRequest; }
+    public void setAutoRequest(boolean autoRequest) { this.autoRequest = autoRequest; }
+    public ResourceType getResourceType() { return resourceType; }
+    public void setResourceType(ResourceType resourceType) { this.resourceType = resourceType; }
     public Orphanage getOrphanage() { return orphanage; }
     public void setOrphanage(Orphanage orphanage) { this.orphanage = orphanage; }
     public ResourceStatus getStatus() { return status; }
     public void setStatus(ResourceStatus status) { this.status = status; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(LocalDateTime createdAt) { this.createdAt = createdAt; }
     public LocalDateTime getUpdatedAt() { return updatedAt; }
@@ -0,0 +1,87 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an expiry-dated lot of a resource.
+ * Perishable stock (e.g. food, medicine) is received in lots so that allocation
+ * can consume the earliest-expiring stock first.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "resource_lots")
+public class ResourceLot {
+    /**
+     * Unique identifier for the lot.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The resource this lot belongs to.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_id", nullable = false)
+    private Resource resource;
+
+    /**
+     * Quantity still remaining in the lot.
+     */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /**
+     * Quantity the lot was received with.
+     */
+    @Column(name = "initial_quantity", nullable = false, updatable = false)
+    private Integer initialQuantity;
+
+    /**
+     * Date after which the lot can no longer be used.
+     */
+    @Column(name = "expires_on", nullable = false)
+    private LocalDate expiresOn;
+
+    /**
+     * Supplier batch or lot number, if known.
+     */
+    @Column(name = "batch_number")
+    private String batchNumber;
+
+    /**
+     * Current status of the lot.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResourceLotStatus status = ResourceLotStatus.ACTIVE;
+
+    /**
+     * Timestamp when the lot was received.
+     */
+    @Column(name = "received_at", nullable = false, updatable = false)
+    private LocalDateTime receivedAt;
+
+    /**
+     * Timestamp when the lot was last updated.
+     */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        receivedAt = LocalDateTime.now();
+        updatedAt = LocalDateTime.now();
+    }
+
+    @PreUpdate
+    protected void onUpdate() {
+        updatedAt = LocalDateTime.now();
+    }
+}
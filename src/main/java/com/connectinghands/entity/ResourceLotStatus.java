@@ -0,0 +1,26 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the possible states of a resource lot.
+ * ACTIVE: Lot still has stock that can be allocated
+ * DEPLETED: Lot has been fully consumed
+ * EXPIRED: Lot passed its expiry date and was written off
+ *
+ * @author Ragul Venkatesan
+ */
+public enum ResourceLotStatus {
+    /**
+     * Lot still has stock that can be allocated.
+     */
+    ACTIVE,
+
+    /**
+     * Lot has been fully consumed.
+     */
+    DEPLETED,
+
+    /**
+     * Lot passed its expiry date and was written off.
+     */
+    EXPIRED
+}
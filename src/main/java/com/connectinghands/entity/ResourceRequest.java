@@ -1,6 +1,7 @@
 package com.connectinghands.entity;
 
 import jakarta.persistence.*;
+import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.NotNull;
@@ -35,9 +36,10 @@ public class ResourceRequest {
     @Column(length = 1000)
     private String description;
 
-    @NotBlank(message = "Category is required")
+    @NotNull(message = "Category is required")
+    @Enumerated(EnumType.STRING)
     @Column(nullable = false)
-    private String category;
+    private ResourceCategory category;
 
     @NotNull(message = "Quantity is required")
     @Min(value = 1, message = "Quantity must be at least 1")
@@ -48,11 +50,36 @@ public class ResourceRequest {
     @Column(nullable = false)
     private String unit;
 
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_type_id", nullable = false)
+    private ResourceType resourceType;
+
+    /**
+     * Running totals of open pledges and of goods received against them.
+     * Only ever changed by single-statement increments in ResourceRequestRepository,
+     * never written back from the entity, so a concurrent edit cannot overwrite them.
+     */
+    @Column(name = "pledged_quantity", nullable = false, insertable = false, updatable = false)
+    private Integer pledgedQuantity = 0;
+
+    @Column(name = "delivered_quantity", nullable = false, insertable = false, updatable = false)
+    private Integer deliveredQuantity = 0;
+
     @NotNull(message = "Orphanage is required")
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "orphanage_id", nullable = false)
     private Orphanage orphanage;
 
+    @NotNull(message = "Priority is required")
+    @Enumerated(EnumType.ORDINAL)
+    @Column(nullable = false)
+    private RequestPriority priority = RequestPriority.MEDIUM;
+
+    @Min(value = 0, message = "Urgency score cannot be negative")
+    @Max(value = 100, message = "Urgency score cannot exceed 100")
+    @Column(name = "urgency_score", nullable = false)
+    private Integer urgencyScore = 0;
+
     @NotNull(message = "Status is required")
     @Enumerated(EnumType.STRING)
     @Column(nullable = false)
@@ -64,6 +91,10 @@ public class ResourceRequest {
     @Column(name = "fulfilled_at")
     private LocalDateTime fulfilledAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -86,20 +117,32 @@ public class ResourceRequest {
     public void setName(String name) { this.name = name; }
     public String getDescription() { return description; }
     public void setDescription(String description) { this.description = description; }
-    public String getCategory() { return category; }
-    public void setCategory(String category) { this.category = category; }
+    public ResourceCategory getCategory() { return category; }
+    public void setCategory(ResourceCategory category) { this.category = category; }
     public Integer getQuantity() { return quantity; }
     public void setQuantity(Integer quantity) { this.quantity = quantity; }
     public String getUnit() { return unit; }
     public void setUnit(String unit) { this.unit = unit; }
+    public ResourceType getResourceType() { return resourceType; }
+    public void setResourceType(ResourceType resourceType) { this.resourceType = resourceType; }
+    public Integer getPledgedQuantity() { return pledgedQuantity; }
+    public void setPledgedQuantity(Integer pledgedQuantity) { this.pledgedQuantity = pledgedQuantity; }
+    public Integer getDeliveredQuantity() { return deliveredQuantity; }
+    public void setDeliveredQuantity(Integer deliveredQuantity) { this.deliveredQuantity = deliveredQuantity; }
     public Orphanage getOrphanage() { return orphanage; }
     public void setOrphanage(Orphanage orphanage) { this.orphanage = orphanage; }
+    public RequestPriority getPriority() { return priority; }
+    public void setPriority(RequestPriority priority) { this.priority = priority; }
+    public Integer getUrgencyScore() { return urgencyScore; }
+    public void setUrgencyScore(Integer urgencyScore) { this.urgencyScore = urgencyScore; }
     public ResourceRequestStatus getStatus() { return status; }
     public void setStatus(ResourceRequestStatus status) { this.status = status; }
     public Long getFulfilledBy() { return fulfilledBy; }
     public void setFulfilledBy(Long fulfilledBy) { this.fulfilledBy = fulfilledBy; }
     public java.time.LocalDateTime getFulfilledAt() { return fulfilledAt; }
     public void setFulfilledAt(java.time.LocalDateTime fulfilledAt) { this.fulfilledAt = fulfilledAt; }
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
     public java.time.LocalDateTime getCreatedAt() { return createdAt; }
     public void setCreatedAt(java.time.LocalDateTime createdAt) { this.createdAt = createdAt; }
     public java.time.LocalDateTime getUpdatedAt() { return updatedAt; }
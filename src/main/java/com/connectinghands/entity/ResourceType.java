@@ -0,0 +1,61 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing an entry in the shared resource catalog.
+ * Resources and requests that describe the same item ("Rice", "rice", "Rice 5kg") in the same
+ * category resolve to the same catalog entry, so aggregation and matching can key on its integer ID.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "resource_types")
+public class ResourceType {
+    /**
+     * Unique identifier for the catalog entry.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    /**
+     * Display name, taken from the first resource that introduced the type.
+     */
+    @Column(nullable = false)
+    private String name;
+
+    /**
+     * Normalized name used to deduplicate catalog entries; unique together with the category.
+     */
+    @Column(name = "normalized_name", nullable = false)
+    private String normalizedName;
+
+    /**
+     * Category of the resource type.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ResourceCategory category;
+
+    /**
+     * Unit most commonly used for the type.
+     */
+    @Column(name = "default_unit", nullable = false)
+    private String defaultUnit;
+
+    /**
+     * Timestamp when the catalog entry was created.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,60 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.math.BigDecimal;
+
+/**
+ * Entity representing one line of a settlement file that disagreed with the donations table.
+ * Rows are written in bulk through SettlementDiscrepancyRepository.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "settlement_discrepancies")
+public class SettlementDiscrepancy {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 30)
+    private DiscrepancyType type;
+
+    @Column(name = "transaction_id")
+    private String transactionId;
+
+    @Column(name = "donation_id")
+    private Long donationId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "recorded_status", length = 20)
+    private DonationStatus recordedStatus;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "settled_status", length = 20)
+    private DonationStatus settledStatus;
+
+    @Column(name = "recorded_amount", precision = 10, scale = 2)
+    private BigDecimal recordedAmount;
+
+    @Column(name = "settled_amount", precision = 10, scale = 2)
+    private BigDecimal settledAmount;
+
+    /**
+     * Whether the donation's status was changed to the settled status.
+     */
+    @Column(nullable = false)
+    private boolean corrected;
+
+    @Column(length = 500)
+    private String detail;
+}
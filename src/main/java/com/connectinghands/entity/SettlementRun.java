@@ -0,0 +1,77 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing the reconciliation of one settlement file.
+ * The byte offset and line number are advanced in the same transaction as each reconciled
+ * chunk, so a run that stops for any reason resumes exactly after the last committed chunk.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "settlement_runs")
+public class SettlementRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * Name of the settlement file, unique per provider file.
+     */
+    @Column(name = "file_name", nullable = false, unique = true)
+    private String fileName;
+
+    /**
+     * Size of the file when the run started.
+     */
+    @Column(name = "file_size", nullable = false)
+    private Long fileSize;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private SettlementRunStatus status;
+
+    /**
+     * Offset of the first byte not yet reconciled.
+     */
+    @Column(name = "byte_offset", nullable = false)
+    private Long byteOffset = 0L;
+
+    /**
+     * Number of the last line reconciled.
+     */
+    @Column(name = "line_number", nullable = false)
+    private Long lineNumber = 0L;
+
+    /**
+     * Lines whose transaction ID matched a donation.
+     */
+    @Column(name = "matched_count", nullable = false)
+    private Long matchedCount = 0L;
+
+    /**
+     * Donations whose status was corrected to the settled status.
+     */
+    @Column(name = "corrected_count", nullable = false)
+    private Long correctedCount = 0L;
+
+    @Column(name = "discrepancy_count", nullable = false)
+    private Long discrepancyCount = 0L;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "started_at", nullable = false)
+    private LocalDateTime startedAt;
+
+    @Column(name = "checkpointed_at")
+    private LocalDateTime checkpointedAt;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,23 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the state of a settlement file reconciliation.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum SettlementRunStatus {
+    /**
+     * The file is being reconciled.
+     */
+    RUNNING,
+
+    /**
+     * Reconciliation stopped on an error; the next run resumes from the last checkpoint.
+     */
+    FAILED,
+
+    /**
+     * Every line of the file has been reconciled.
+     */
+    COMPLETED
+}
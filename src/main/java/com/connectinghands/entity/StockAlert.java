@@ -0,0 +1,80 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity class representing a low-stock alert raised for a resource.
+ * An alert is opened when a quantity change takes the resource below its
+ * minimum threshold and resolved when stock is replenished.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "stock_alerts")
+public class StockAlert {
+    /**
+     * Unique identifier for the alert.
+     */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    /**
+     * The resource whose stock fell below its threshold.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "resource_id", nullable = false)
+    private Resource resource;
+
+    /**
+     * ID of the orphanage owning the resource, kept for dashboard filtering.
+     */
+    @Column(name = "orphanage_id", nullable = false)
+    private Long orphanageId;
+
+    /**
+     * Quantity of the resource when the alert was raised.
+     */
+    @Column(nullable = false)
+    private Integer quantity;
+
+    /**
+     * Minimum threshold in effect when the alert was raised.
+     */
+    @Column(nullable = false)
+    private Integer threshold;
+
+    /**
+     * ID of the resource request drafted for this alert, if any.
+     */
+    @Column(name = "resource_request_id")
+    private Long resourceRequestId;
+
+    /**
+     * Current status of the alert.
+     */
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private StockAlertStatus status = StockAlertStatus.OPEN;
+
+    /**
+     * Timestamp when the alert was raised.
+     */
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * Timestamp when the alert was resolved.
+     */
+    @Column(name = "resolved_at")
+    private LocalDateTime resolvedAt;
+
+    @PrePersist
+    protected void onCreate() {
+        createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,20 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the possible states of a low-stock alert.
+ * OPEN: Stock is currently below the resource's minimum threshold
+ * RESOLVED: Stock has been replenished back to or above the threshold
+ *
+ * @author Ragul Venkatesan
+ */
+public enum StockAlertStatus {
+    /**
+     * Stock is currently below the resource's minimum threshold.
+     */
+    OPEN,
+
+    /**
+     * Stock has been replenished back to or above the threshold.
+     */
+    RESOLVED
+}
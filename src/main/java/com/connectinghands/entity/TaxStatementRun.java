@@ -0,0 +1,55 @@
+package com.connectinghands.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Entity representing one run of the annual tax statement batch.
+ *
+ * @author Ragul Venkatesan
+ */
+@Data
+@Entity
+@Table(name = "tax_statement_runs")
+public class TaxStatementRun {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "tax_year", nullable = false)
+    private Integer taxYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TaxStatementRunStatus status;
+
+    @Column(name = "statement_count", nullable = false)
+    private Long statementCount = 0L;
+
+    @Column(name = "donation_count", nullable = false)
+    private Long donationCount = 0L;
+
+    /**
+     * Directory holding the statements and manifest.csv of the run.
+     */
+    @Column(name = "output_dir", length = 500)
+    private String outputDir;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    @Column(name = "requested_at", nullable = false)
+    private LocalDateTime requestedAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    // Only changed by the claim and heartbeat updates, never written back from the entity.
+    @Column(name = "heartbeat_at", insertable = false, updatable = false)
+    private LocalDateTime heartbeatAt;
+}
@@ -0,0 +1,28 @@
+package com.connectinghands.entity;
+
+/**
+ * Enum representing the state of a tax statement batch run.
+ *
+ * @author Ragul Venkatesan
+ */
+public enum TaxStatementRunStatus {
+    /**
+     * Waiting for an instance to pick the run up.
+     */
+    QUEUED,
+
+    /**
+     * Statements are being written.
+     */
+    RUNNING,
+
+    /**
+     * Every statement and the manifest were written.
+     */
+    COMPLETED,
+
+    /**
+     * The run stopped on an error; a new run has to be queued.
+     */
+    FAILED
+}
@@ -0,0 +1,28 @@
+package com.connectinghands.event;
+
+import com.connectinghands.entity.OutboxEvent;
+
+import java.util.Set;
+
+/**
+ * In-process consumer of outbox events.
+ * Delivery is at least once: an event is redelivered if any of its consumers fails or the
+ * relaying instance stops before recording the delivery, so implementations must be idempotent.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OutboxEventConsumer {
+    /**
+     * The event types this consumer handles; see OutboxEventTypes.
+     *
+     * @return The event types
+     */
+    Set<String> eventTypes();
+
+    /**
+     * Handles one event. Throwing schedules the event for another attempt with backoff.
+     *
+     * @param event The event
+     */
+    void consume(OutboxEvent event);
+}
@@ -0,0 +1,25 @@
+package com.connectinghands.event;
+
+/**
+ * Aggregate and event type names written to the outbox.
+ * Consumers subscribe by event type, so these names are part of the contract and must not change.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class OutboxEventTypes {
+    public static final String DONATION = "DONATION";
+    public static final String RESOURCE_REQUEST = "RESOURCE_REQUEST";
+
+    public static final String DONATION_CREATED = "DONATION_CREATED";
+    public static final String DONATION_UPDATED = "DONATION_UPDATED";
+    public static final String DONATION_STATUS_CHANGED = "DONATION_STATUS_CHANGED";
+    public static final String DONATION_DELETED = "DONATION_DELETED";
+
+    public static final String RESOURCE_REQUEST_CREATED = "RESOURCE_REQUEST_CREATED";
+    public static final String RESOURCE_REQUEST_UPDATED = "RESOURCE_REQUEST_UPDATED";
+    public static final String RESOURCE_REQUEST_FULFILLED = "RESOURCE_REQUEST_FULFILLED";
+    public static final String RESOURCE_REQUEST_DELETED = "RESOURCE_REQUEST_DELETED";
+
+    private OutboxEventTypes() {
+    }
+}
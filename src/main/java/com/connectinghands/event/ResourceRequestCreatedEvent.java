@@ -0,0 +1,25 @@
+package com.connectinghands.event;
+
+import com.connectinghands.entity.ResourceCategory;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Published when an orphanage creates a resource request.
+ * Carries everything listeners need so they do not have to reload the request.
+ *
+ * @author Ragul Venkatesan
+ */
+@Getter
+@AllArgsConstructor
+public class ResourceRequestCreatedEvent {
+    private final Long requestId;
+    private final String name;
+    private final ResourceCategory category;
+    private final Integer quantity;
+    private final String unit;
+    private final Long orphanageId;
+    private final String orphanageName;
+    private final String country;
+    private final String state;
+}
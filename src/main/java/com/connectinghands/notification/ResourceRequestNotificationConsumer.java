@@ -0,0 +1,62 @@
+package com.connectinghands.notification;
+
+import com.connectinghands.dto.OrphanageRegionDto;
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.event.OutboxEventConsumer;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.event.ResourceRequestCreatedEvent;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.NotificationService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * Notifies subscribed donors when a resource request is created.
+ * Driven by the outbox rather than an in-memory event, so a fan-out is never lost to a full
+ * executor queue or a restart; a failed fan-out is redelivered, and the notifications table
+ * ignores donors who were already notified.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ResourceRequestNotificationConsumer implements OutboxEventConsumer {
+    private final NotificationService notificationService;
+    private final OrphanageRepository orphanageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(OutboxEventTypes.RESOURCE_REQUEST_CREATED);
+    }
+
+    @Override
+    public void consume(OutboxEvent event) {
+        JsonNode request;
+        try {
+            request = objectMapper.readTree(event.getPayload());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed payload in outbox event " + event.getId(), e);
+        }
+        long orphanageId = request.path("orphanageId").asLong();
+        Optional<OrphanageRegionDto> region = orphanageRepository.findRegionById(orphanageId);
+        if (region.isEmpty()) {
+            log.debug("Orphanage {} of resource request {} no longer exists; nobody to notify",
+                    orphanageId, event.getAggregateId());
+            return;
+        }
+        notificationService.notifySubscribers(new ResourceRequestCreatedEvent(request.path("id").asLong(),
+                request.path("name").asText(), ResourceCategory.valueOf(request.path("category").asText()),
+                request.path("quantity").asInt(), request.path("unit").asText(), orphanageId,
+                region.get().getName(), region.get().getCountry(), region.get().getState()));
+    }
+}
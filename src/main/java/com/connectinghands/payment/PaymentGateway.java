@@ -0,0 +1,20 @@
+package com.connectinghands.payment;
+
+/**
+ * Charges donations through a payment provider.
+ * Implementations must be idempotent on {@link PaymentRequest#getIdempotencyKey()}: the pipeline
+ * retries timed-out and failed calls with the same key and must never charge a donor twice.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface PaymentGateway {
+    /**
+     * Charges a donation.
+     *
+     * @param request The payment to make
+     * @return APPROVED with the provider's transaction ID, or DECLINED with the provider's reason
+     * @throws PaymentGatewayException if the provider could not be reached or answered with a
+     *         transient error; the pipeline retries the payment with backoff
+     */
+    PaymentResult charge(PaymentRequest request);
+}
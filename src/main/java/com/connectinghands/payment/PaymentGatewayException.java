@@ -0,0 +1,17 @@
+package com.connectinghands.payment;
+
+/**
+ * Thrown by a payment gateway when a payment could not be made for a transient reason.
+ * The payment pipeline retries such payments with backoff.
+ *
+ * @author Ragul Venkatesan
+ */
+public class PaymentGatewayException extends RuntimeException {
+    public PaymentGatewayException(String message) {
+        super(message);
+    }
+
+    public PaymentGatewayException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
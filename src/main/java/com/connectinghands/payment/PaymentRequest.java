@@ -0,0 +1,23 @@
+package com.connectinghands.payment;
+
+import com.connectinghands.entity.PaymentMethod;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.math.BigDecimal;
+
+/**
+ * A payment the pipeline asks the gateway to make for one donation.
+ *
+ * @author Ragul Venkatesan
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentRequest {
+    private final Long donationId;
+    private final String idempotencyKey;
+    private final Long donorId;
+    private final BigDecimal amount;
+    private final String currency;
+    private final PaymentMethod paymentMethod;
+}
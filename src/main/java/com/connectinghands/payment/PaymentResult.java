@@ -0,0 +1,25 @@
+package com.connectinghands.payment;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Final answer of a payment gateway for one payment.
+ *
+ * @author Ragul Venkatesan
+ */
+@Getter
+@AllArgsConstructor
+public class PaymentResult {
+    private final boolean approved;
+    private final String transactionId;
+    private final String message;
+
+    public static PaymentResult approved(String transactionId) {
+        return new PaymentResult(true, transactionId, null);
+    }
+
+    public static PaymentResult declined(String message) {
+        return new PaymentResult(false, null, message);
+    }
+}
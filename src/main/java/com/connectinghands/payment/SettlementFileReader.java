@@ -0,0 +1,130 @@
+package com.connectinghands.payment;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Reads a settlement file line by line through a fixed-size buffer, so memory use does not
+ * depend on the file size. Every line carries the byte offset just past it, which is what a
+ * caller checkpoints; a reader opened at that offset continues with the next line.
+ * <p>
+ * Lines longer than {@value #MAX_LINE_BYTES} bytes are skipped to their end and returned
+ * without text, so one corrupt line cannot exhaust memory.
+ *
+ * @author Ragul Venkatesan
+ */
+public class SettlementFileReader implements Closeable {
+    static final int MAX_LINE_BYTES = 4096;
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final FileChannel channel;
+    private final ByteBuffer buffer = ByteBuffer.allocate(BUFFER_SIZE);
+    private byte[] line = new byte[256];
+    private long position;
+    private long lineNumber;
+
+    /**
+     * Opens a file for reading from a checkpoint.
+     *
+     * @param file The settlement file
+     * @param offset Byte offset to start at, 0 or the end offset of a previously read line
+     * @param lineNumber Number of the line ending at that offset, 0 at the start of the file
+     * @throws IOException if the file cannot be opened
+     */
+    public SettlementFileReader(Path file, long offset, long lineNumber) throws IOException {
+        this.channel = FileChannel.open(file, StandardOpenOption.READ);
+        this.channel.position(offset);
+        this.position = offset;
+        this.lineNumber = lineNumber;
+        this.buffer.limit(0);
+    }
+
+    /**
+     * Reads the next line.
+     *
+     * @return The line, or null at the end of the file
+     * @throws IOException if the file cannot be read
+     */
+    public Line next() throws IOException {
+        int length = 0;
+        boolean tooLong = false;
+        boolean readAny = false;
+        while (true) {
+            if (!buffer.hasRemaining()) {
+                buffer.clear();
+                int read = channel.read(buffer);
+                buffer.flip();
+                if (read <= 0) {
+                    if (!readAny) {
+                        return null;
+                    }
+                    // Last line without a trailing newline.
+                    break;
+                }
+            }
+            readAny = true;
+
+            byte[] data = buffer.array();
+            int start = buffer.position();
+            int limit = buffer.limit();
+            int end = start;
+            while (end < limit && data[end] != '\n') {
+                end++;
+            }
+
+            int count = end - start;
+            if (!tooLong && length + count > MAX_LINE_BYTES) {
+                tooLong = true;
+            }
+            if (!tooLong) {
+                ensureCapacity(length + count);
+                System.arraycopy(data, start, line, length, count);
+                length += count;
+            }
+            position += count;
+
+            if (end < limit) {
+                buffer.position(end + 1);
+                position++;
+                break;
+            }
+            buffer.position(limit);
+        }
+
+        lineNumber++;
+        if (tooLong) {
+            return new Line(lineNumber, position, null);
+        }
+        if (length > 0 && line[length - 1] == '\r') {
+            length--;
+        }
+        return new Line(lineNumber, position, new String(line, 0, length, StandardCharsets.UTF_8));
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > line.length) {
+            line = Arrays.copyOf(line, Math.max(capacity, line.length * 2));
+        }
+    }
+
+    /**
+     * One line of a settlement file.
+     *
+     * @param number 1-based line number
+     * @param endOffset Byte offset just past the line and its newline
+     * @param text The line without its line terminator, or null if it was too long to read
+     */
+    public record Line(long number, long endOffset, String text) {
+    }
+}
@@ -0,0 +1,89 @@
+package com.connectinghands.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-process payment gateway for development and load tests. It never calls out, and its answer
+ * depends only on the request, so a load test sees the same outcomes on every run:
+ * <ul>
+ *   <li>amounts ending in .13 are declined;</li>
+ *   <li>amounts ending in .42 fail with a transient error on the first attempt and are approved on retry;</li>
+ *   <li>everything else is approved, with a transaction ID derived from the idempotency key.</li>
+ * </ul>
+ * Every call takes the configured latency. Answers are remembered per idempotency key, up to a
+ * bound, so retries behave like a real idempotent provider.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+@ConditionalOnProperty(prefix = "connectinghands.payments", name = "gateway", havingValue = "stub", matchIfMissing = true)
+public class StubPaymentGateway implements PaymentGateway {
+    private static final int MAX_REMEMBERED_KEYS = 100_000;
+    private static final int DECLINED_CENTS = 13;
+    private static final int TRANSIENT_FAILURE_CENTS = 42;
+
+    private final long latencyMillis;
+    private final Map<String, PaymentResult> answers = boundedMap();
+    private final Map<String, Boolean> failedOnce = boundedMap();
+
+    public StubPaymentGateway(@Value("${connectinghands.payments.stub.latency-ms:50}") long latencyMillis) {
+        this.latencyMillis = latencyMillis;
+    }
+
+    @Override
+    public PaymentResult charge(PaymentRequest request) {
+        String key = request.getIdempotencyKey();
+        PaymentResult previous = answers.get(key);
+        if (previous != null) {
+            return previous;
+        }
+
+        simulateLatency();
+        int cents = cents(request.getAmount());
+        if (cents == TRANSIENT_FAILURE_CENTS && failedOnce.putIfAbsent(key, Boolean.TRUE) == null) {
+            throw new PaymentGatewayException("Stub gateway is temporarily unavailable");
+        }
+        PaymentResult result = cents == DECLINED_CENTS
+                ? PaymentResult.declined("Card declined")
+                : PaymentResult.approved("stub_" + UUID.nameUUIDFromBytes(key.getBytes(StandardCharsets.UTF_8)));
+        answers.put(key, result);
+        return result;
+    }
+
+    private void simulateLatency() {
+        if (latencyMillis <= 0) {
+            return;
+        }
+        try {
+            Thread.sleep(latencyMillis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PaymentGatewayException("Interrupted while waiting for the stub gateway", e);
+        }
+    }
+
+    private static int cents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.remainder(BigDecimal.ONE).movePointRight(2).intValue();
+    }
+
+    private static <V> Map<String, V> boundedMap() {
+        return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, V> eldest) {
+                return size() > MAX_REMEMBERED_KEYS;
+            }
+        });
+    }
+}
@@ -0,0 +1,106 @@
+package com.connectinghands.payment;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Set;
+
+/**
+ * Checks that a webhook callback was sent by the payment provider. The provider signs
+ * {@code <timestamp>.<raw body>} with HMAC-SHA256 under the shared secret; callbacks whose
+ * timestamp is outside the tolerance window are rejected so a captured callback cannot be replayed later.
+ * <p>
+ * The secret has no default: startup fails if it is missing, a known placeholder or too short
+ * to resist guessing, since anyone who knows it can complete donations.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+public class WebhookSignatureVerifier {
+    public static final String SIGNATURE_HEADER = "X-Payment-Signature";
+    public static final String TIMESTAMP_HEADER = "X-Payment-Timestamp";
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_LENGTH = 16;
+    private static final Set<String> PLACEHOLDERS = Set.of("change-me", "changeme", "secret", "your-secret");
+
+    private final SecretKeySpec key;
+    private final long toleranceSeconds;
+    // Mac instances are not thread-safe; one per request thread avoids re-initialising the key per call.
+    private final ThreadLocal<Mac> macs;
+
+    public WebhookSignatureVerifier(
+            @Value("${connectinghands.payments.webhook.secret}") String secret,
+            @Value("${connectinghands.payments.webhook.tolerance-seconds:300}") long toleranceSeconds) {
+        if (secret == null || secret.isBlank() || PLACEHOLDERS.contains(secret.trim().toLowerCase())
+                || secret.length() < MIN_SECRET_LENGTH) {
+            throw new IllegalStateException("connectinghands.payments.webhook.secret must be set to the secret "
+                    + "shared with the payment provider (at least " + MIN_SECRET_LENGTH + " characters)");
+        }
+        this.key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), ALGORITHM);
+        this.toleranceSeconds = toleranceSeconds;
+        this.macs = ThreadLocal.withInitial(this::newMac);
+    }
+
+    /**
+     * Verifies the signature of a callback.
+     *
+     * @param timestamp Value of the timestamp header, in epoch seconds
+     * @param signature Value of the signature header, hex encoded
+     * @param body Raw request body
+     * @return true if the signature matches and the timestamp is recent
+     */
+    public boolean isValid(String timestamp, String signature, byte[] body) {
+        if (timestamp == null || signature == null) {
+            return false;
+        }
+        long sentAt;
+        try {
+            sentAt = Long.parseLong(timestamp.trim());
+        } catch (NumberFormatException e) {
+            return false;
+        }
+        if (Math.abs(Instant.now().getEpochSecond() - sentAt) > toleranceSeconds) {
+            return false;
+        }
+        byte[] expected = sign(timestamp.trim(), body);
+        byte[] actual;
+        try {
+            actual = HexFormat.of().parseHex(signature.trim().toLowerCase());
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+        return MessageDigest.isEqual(expected, actual);
+    }
+
+    /**
+     * Computes the signature the provider sends for a callback.
+     *
+     * @param timestamp The timestamp header value
+     * @param body Raw request body
+     * @return The HMAC-SHA256 signature
+     */
+    public byte[] sign(String timestamp, byte[] body) {
+        Mac mac = macs.get();
+        mac.update(timestamp.getBytes(StandardCharsets.UTF_8));
+        mac.update((byte) '.');
+        return mac.doFinal(body);
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(ALGORITHM);
+            mac.init(key);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(ALGORITHM + " is not available", e);
+        }
+    }
+}
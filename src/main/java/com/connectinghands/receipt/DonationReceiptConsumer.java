@@ -0,0 +1,46 @@
+package com.connectinghands.receipt;
+
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.event.OutboxEventConsumer;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.service.DonationReceiptService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Set;
+
+/**
+ * Queues a receipt whenever a donation moves to COMPLETED.
+ * Only a row is inserted here, so the outbox relay is never held up by rendering; the receipt
+ * workers pick the row up on their next poll.
+ *
+ * @author Ragul Venkatesan
+ */
+@Component
+@RequiredArgsConstructor
+public class DonationReceiptConsumer implements OutboxEventConsumer {
+    private final DonationReceiptService donationReceiptService;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public Set<String> eventTypes() {
+        return Set.of(OutboxEventTypes.DONATION_STATUS_CHANGED);
+    }
+
+    @Override
+    public void consume(OutboxEvent event) {
+        JsonNode donation;
+        try {
+            donation = objectMapper.readTree(event.getPayload()).path("donation");
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Malformed payload in outbox event " + event.getId(), e);
+        }
+        if (DonationStatus.COMPLETED.name().equals(donation.path("status").asText())) {
+            donationReceiptService.enqueue(donation.path("id").asLong());
+        }
+    }
+}
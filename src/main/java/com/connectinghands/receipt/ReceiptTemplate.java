@@ -0,0 +1,135 @@
+package com.connectinghands.receipt;
+
+import org.springframework.core.io.ClassPathResource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * An HTML template with {@code {{name}}} placeholders, parsed once into literal and placeholder
+ * segments. Values are HTML-escaped, except in {@code {{&name}}} placeholders, which take
+ * fragments the caller has already rendered, such as table rows. Rendering is then a single
+ * pass that appends literals and values to a builder sized from the previous render, with no
+ * parsing or regex work per receipt. Instances are immutable and safe to share between threads.
+ *
+ * @author Ragul Venkatesan
+ */
+public final class ReceiptTemplate {
+    private static final String OPEN = "{{";
+    private static final String CLOSE = "}}";
+    private static final char RAW = '&';
+
+    private final String[] literals;
+    private final String[] fields;
+    private final boolean[] raw;
+    private final int literalLength;
+
+    private ReceiptTemplate(String[] literals, String[] fields, boolean[] raw) {
+        this.literals = literals;
+        this.fields = fields;
+        this.raw = raw;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.literalLength = length;
+    }
+
+    /**
+     * Loads and parses a template from the classpath.
+     *
+     * @param location the classpath location of the template
+     * @return the compiled template
+     * @throws IllegalStateException if the template cannot be read
+     */
+    public static ReceiptTemplate load(String location) {
+        try (InputStream input = new ClassPathResource(location).getInputStream()) {
+            return compile(new String(input.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new IllegalStateException("Could not load template " + location, e);
+        }
+    }
+
+    /**
+     * Parses a template.
+     *
+     * @param source the template text
+     * @return the compiled template
+     * @throws IllegalArgumentException if a placeholder is not closed or has no name
+     */
+    public static ReceiptTemplate compile(String source) {
+        List<String> literals = new ArrayList<>();
+        List<String> fields = new ArrayList<>();
+        List<Boolean> raw = new ArrayList<>();
+        int position = 0;
+        int open;
+        while ((open = source.indexOf(OPEN, position)) >= 0) {
+            int close = source.indexOf(CLOSE, open + OPEN.length());
+            if (close < 0) {
+                throw new IllegalArgumentException("Unclosed placeholder at offset " + open);
+            }
+            String name = source.substring(open + OPEN.length(), close).trim();
+            boolean unescaped = !name.isEmpty() && name.charAt(0) == RAW;
+            if (unescaped) {
+                name = name.substring(1).trim();
+            }
+            if (name.isEmpty()) {
+                throw new IllegalArgumentException("Empty placeholder at offset " + open);
+            }
+            literals.add(source.substring(position, open));
+            fields.add(name);
+            raw.add(unescaped);
+            position = close + CLOSE.length();
+        }
+        literals.add(source.substring(position));
+        boolean[] rawFlags = new boolean[raw.size()];
+        for (int i = 0; i < rawFlags.length; i++) {
+            rawFlags[i] = raw.get(i);
+        }
+        return new ReceiptTemplate(literals.toArray(String[]::new), fields.toArray(String[]::new), rawFlags);
+    }
+
+    /**
+     * Renders the template. Placeholders without a value render empty.
+     *
+     * @param values the placeholder values by name
+     * @return the rendered document
+     */
+    public String render(Map<String, String> values) {
+        StringBuilder out = new StringBuilder(literalLength + fields.length * 32);
+        for (int i = 0; i < fields.length; i++) {
+            out.append(literals[i]);
+            String value = values.get(fields[i]);
+            if (raw[i]) {
+                if (value != null) {
+                    out.append(value);
+                }
+            } else {
+                appendEscaped(out, value);
+            }
+        }
+        out.append(literals[fields.length]);
+        return out.toString();
+    }
+
+    private static void appendEscaped(StringBuilder out, String value) {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&' -> out.append("&amp;");
+                case '<' -> out.append("&lt;");
+                case '>' -> out.append("&gt;");
+                case '"' -> out.append("&quot;");
+                case '\'' -> out.append("&#39;");
+                default -> out.append(c);
+            }
+        }
+    }
+}
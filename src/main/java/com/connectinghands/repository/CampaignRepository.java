@@ -0,0 +1,43 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.dto.CampaignTotalDto;
+import com.connectinghands.entity.Campaign;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing Campaign entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface CampaignRepository extends JpaRepository<Campaign, Long> {
+    /**
+     * Finds campaigns that have not ended yet, soonest ending first.
+     *
+     * @param now The current time
+     * @return Running and upcoming campaigns
+     */
+    List<Campaign> findByEndsAtAfterOrderByEndsAtAsc(LocalDateTime now);
+
+    /**
+     * Sums the completed donations of several campaigns in their goal currency. Campaign
+     * currencies are stored upper case; donation currencies are compared case-insensitively,
+     * the same way attribution checks them. Campaigns without completed donations have no row.
+     *
+     * @param campaignIds The IDs of the campaigns
+     * @return One total per campaign with donations
+     */
+    @Query("SELECT new com.connectinghands.dto.CampaignTotalDto(c.id, SUM(d.amount), COUNT(d)) " +
+           "FROM Donation d, Campaign c " +
+           "WHERE d.campaignId = c.id AND UPPER(d.currency) = c.currency " +
+           "AND d.status = com.connectinghands.entity.DonationStatus.COMPLETED AND c.id IN :campaignIds " +
+           "GROUP BY c.id")
+    List<CampaignTotalDto> sumCompleted(@Param("campaignIds") Collection<Long> campaignIds);
+}
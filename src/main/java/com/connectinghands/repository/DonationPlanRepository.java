@@ -0,0 +1,53 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.DonationPlan;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing DonationPlan entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface DonationPlanRepository extends JpaRepository<DonationPlan, Long> {
+    List<DonationPlan> findByDonorIdOrderByIdAsc(Long donorId);
+
+    /**
+     * Generates the next donation of a batch of due plans in one statement.
+     * Due plans are claimed with FOR UPDATE SKIP LOCKED, so schedulers on several instances
+     * take disjoint batches; each claimed plan is advanced by one occurrence and gets a pending
+     * donation for it, which the payment pipeline then charges. The unique (plan_id, plan_cycle)
+     * constraint guarantees an occurrence is never generated twice.
+     *
+     * @param now The generation time
+     * @param limit Maximum number of plans to claim
+     * @return The IDs of the donations created
+     */
+    // Not @Modifying: INSERT ... RETURNING yields rows and is executed as a query.
+    @Query(value = "WITH due AS (" +
+                   "SELECT id FROM donation_plans WHERE status = 'ACTIVE' AND next_run_at <= :now " +
+                   "ORDER BY next_run_at, id LIMIT :limit FOR UPDATE SKIP LOCKED), " +
+                   "advanced AS (" +
+                   "UPDATE donation_plans p SET next_cycle = p.next_cycle + 1, " +
+                   "next_run_at = p.start_at + CASE p.frequency " +
+                   "WHEN 'WEEKLY' THEN make_interval(weeks => p.next_cycle + 1) " +
+                   "WHEN 'MONTHLY' THEN make_interval(months => p.next_cycle + 1) " +
+                   "ELSE make_interval(years => p.next_cycle + 1) END, " +
+                   "version = p.version + 1, updated_at = :now " +
+                   "FROM due WHERE p.id = due.id " +
+                   "RETURNING p.id, p.donor_id, p.orphanage_id, p.amount, p.currency, p.payment_method, " +
+                   "p.next_cycle - 1 AS cycle) " +
+                   "INSERT INTO donations (donor_id, orphanage_id, amount, currency, status, payment_method, " +
+                   "plan_id, plan_cycle, next_payment_attempt_at, created_at, updated_at) " +
+                   "SELECT donor_id, orphanage_id, amount, currency, 'PENDING', payment_method, id, cycle, " +
+                   ":now, :now, :now FROM advanced " +
+                   "ON CONFLICT (plan_id, plan_cycle) DO NOTHING RETURNING id",
+           nativeQuery = true)
+    List<Long> generateDueCycles(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,125 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.dto.DonationReceiptView;
+import com.connectinghands.entity.DonationReceipt;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing DonationReceipt entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface DonationReceiptRepository extends JpaRepository<DonationReceipt, Long> {
+    /**
+     * Queues the receipt of a donation, provided the donation is completed and has no receipt yet.
+     * Redelivered events therefore never queue a receipt twice.
+     *
+     * @param donationId The ID of the donation
+     * @param now The queue time
+     * @return 1 if a receipt was queued, otherwise 0
+     */
+    @Modifying
+    @Query(value = "INSERT INTO donation_receipts (donation_id, donor_id, status, attempts, next_attempt_at, created_at) " +
+                   "SELECT id, donor_id, 'PENDING', 0, :now, :now FROM donations " +
+                   "WHERE id = :donationId AND status = 'COMPLETED' " +
+                   "ON CONFLICT (donation_id) DO NOTHING",
+           nativeQuery = true)
+    int enqueue(@Param("donationId") Long donationId, @Param("now") LocalDateTime now);
+
+    /**
+     * Leases a batch of queued receipts. Rows another worker is claiming are skipped, and the
+     * lease moves the next attempt time forward, so a receipt that was claimed by a worker
+     * that died becomes due again once the lease runs out.
+     *
+     * @param now The claim time
+     * @param leaseUntil End of the lease
+     * @param limit Maximum number of receipts to claim
+     * @return The donation IDs of the claimed receipts
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE donation_receipts SET next_attempt_at = :leaseUntil WHERE donation_id IN (" +
+                   "SELECT donation_id FROM donation_receipts WHERE status = 'PENDING' AND next_attempt_at <= :now " +
+                   "ORDER BY next_attempt_at, donation_id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING donation_id",
+           nativeQuery = true)
+    List<Long> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                        @Param("limit") int limit);
+
+    /**
+     * Loads everything a batch of receipts shows, in one query.
+     * Donations corrected away from COMPLETED since they were queued have no view.
+     *
+     * @param donationIds The IDs of the donations
+     * @return The receipt data of the donations that still exist and are completed
+     */
+    @Query("SELECT new com.connectinghands.dto.DonationReceiptView(d.id, d.amount, d.currency, d.paymentMethod, " +
+           "d.transactionId, d.completedAt, u.firstName, u.lastName, u.email, o.name) " +
+           "FROM Donation d JOIN d.donor u JOIN d.orphanage o WHERE d.id IN :donationIds " +
+           "AND d.status = com.connectinghands.entity.DonationStatus.COMPLETED")
+    List<DonationReceiptView> findReceiptViews(@Param("donationIds") Collection<Long> donationIds);
+
+    /**
+     * Finds the receipt of a donation, provided the donation is still completed.
+     *
+     * @param donationId The ID of the donation
+     * @return An Optional containing the receipt if the donation is completed
+     */
+    @Query("SELECT r FROM DonationReceipt r, Donation d WHERE r.donationId = :donationId AND d.id = r.donationId " +
+           "AND d.status = com.connectinghands.entity.DonationStatus.COMPLETED")
+    Optional<DonationReceipt> findForCompletedDonation(@Param("donationId") Long donationId);
+
+    /**
+     * Drops queued receipts of donations that are no longer completed. If such a donation
+     * completes again, enqueue queues a fresh receipt.
+     *
+     * @param donationIds The IDs of the donations
+     * @return The number of receipts removed
+     */
+    @Modifying
+    @Query(value = "DELETE FROM donation_receipts WHERE donation_id IN (:donationIds) AND status <> 'GENERATED'",
+           nativeQuery = true)
+    int deleteQueued(@Param("donationIds") Collection<Long> donationIds);
+
+    /**
+     * Records a batch of stored receipts in one statement.
+     *
+     * @param receipts JSON array of objects with id, number, file and size keys
+     * @param now The generation time
+     * @return The number of receipts updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE donation_receipts r SET status = 'GENERATED', receipt_number = v.number, " +
+                   "file_name = v.file, size_bytes = v.size, last_error = NULL, generated_at = :now " +
+                   "FROM jsonb_to_recordset(CAST(:receipts AS jsonb)) AS v(id bigint, number varchar, file varchar, size bigint) " +
+                   "WHERE r.donation_id = v.id",
+           nativeQuery = true)
+    int markAllGenerated(@Param("receipts") String receipts, @Param("now") LocalDateTime now);
+
+    /**
+     * Records a failed generation attempt and schedules the next one, or gives up after the last attempt.
+     *
+     * @param donationId The ID of the donation
+     * @param error Reason of the failure
+     * @param retryAt When the receipt becomes due again
+     * @param maxAttempts Attempts after which the receipt is marked FAILED
+     * @return The number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE donation_receipts SET attempts = attempts + 1, last_error = :error, " +
+                   "next_attempt_at = :retryAt, " +
+                   "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE status END " +
+                   "WHERE donation_id = :donationId",
+           nativeQuery = true)
+    int markAttemptFailed(@Param("donationId") Long donationId, @Param("error") String error,
+                          @Param("retryAt") LocalDateTime retryAt, @Param("maxAttempts") int maxAttempts);
+}
@@ -1,12 +1,20 @@
 package com.connectinghands.repository;
 
+import com.connectinghands.dto.DonationSettlementView;
+import com.connectinghands.dto.TaxStatementLine;
 import com.connectinghands.entity.Donation;
-import com.connectinghands.entity.DonationStatus;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Stream;
 
 /**
  * Repository interface for managing Donation entities.
@@ -17,28 +25,112 @@ import java.util.List;
 @Repository
 public interface DonationRepository extends JpaRepository<Donation, Long> {
     /**
-     * Finds all donations made by a specific donor.
+     * Reads the newest donations.
+     * Donation history is read newest first; every history query orders by (created_at, id)
+     * descending and is served by a backward scan of a matching index, without a sort.
+     *
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
+     */
+    @Query(value = "SELECT * FROM donations ORDER BY created_at DESC, id DESC LIMIT :limit", nativeQuery = true)
+    List<Donation> findHistoryHead(@Param("limit") int limit);
+
+    /**
+     * Reads the donations older than a keyset position.
+     *
+     * @param createdAt Creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
+     */
+    @Query(value = "SELECT * FROM donations WHERE (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findHistoryAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") long id,
+                                    @Param("limit") int limit);
+
+    /**
+     * Reads the newest donations made by a donor. Served by idx_donations_donor_history.
      *
      * @param donorId The ID of the donor
-     * @return List of donations made by the donor
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
      */
-    List<Donation> findByDonorId(Long donorId);
+    @Query(value = "SELECT * FROM donations WHERE donor_id = :donorId " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findDonorHistoryHead(@Param("donorId") Long donorId, @Param("limit") int limit);
 
     /**
-     * Finds all donations received by a specific orphanage.
+     * Reads the donations made by a donor that are older than a keyset position.
+     *
+     * @param donorId The ID of the donor
+     * @param createdAt Creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
+     */
+    @Query(value = "SELECT * FROM donations WHERE donor_id = :donorId AND (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findDonorHistoryAfter(@Param("donorId") Long donorId, @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") long id, @Param("limit") int limit);
+
+    /**
+     * Reads the newest donations received by an orphanage. Served by idx_donations_orphanage_history.
      *
      * @param orphanageId The ID of the orphanage
-     * @return List of donations received by the orphanage
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
      */
-    List<Donation> findByOrphanageId(Long orphanageId);
+    @Query(value = "SELECT * FROM donations WHERE orphanage_id = :orphanageId " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findOrphanageHistoryHead(@Param("orphanageId") Long orphanageId, @Param("limit") int limit);
 
     /**
-     * Finds all donations with a specific status.
+     * Reads the donations received by an orphanage that are older than a keyset position.
      *
-     * @param status The status to search for
-     * @return List of donations with the specified status
+     * @param orphanageId The ID of the orphanage
+     * @param createdAt Creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
      */
-    List<Donation> findByStatus(DonationStatus status);
+    @Query(value = "SELECT * FROM donations WHERE orphanage_id = :orphanageId " +
+                   "AND (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findOrphanageHistoryAfter(@Param("orphanageId") Long orphanageId,
+                                             @Param("createdAt") LocalDateTime createdAt,
+                                             @Param("id") long id, @Param("limit") int limit);
+
+    /**
+     * Reads the newest donations with a status. Served by idx_donations_status_history.
+     *
+     * @param status The status name
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
+     */
+    @Query(value = "SELECT * FROM donations WHERE status = :status " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findStatusHistoryHead(@Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * Reads the donations with a status that are older than a keyset position.
+     *
+     * @param status The status name
+     * @param createdAt Creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit Maximum number of rows to return
+     * @return Donations, newest first
+     */
+    @Query(value = "SELECT * FROM donations WHERE status = :status AND (created_at, id) < (:createdAt, :id) " +
+                   "ORDER BY created_at DESC, id DESC LIMIT :limit",
+           nativeQuery = true)
+    List<Donation> findStatusHistoryAfter(@Param("status") String status, @Param("createdAt") LocalDateTime createdAt,
+                                          @Param("id") long id, @Param("limit") int limit);
 
     /**
      * Finds all donations received by a specific orphanage within a date range.
@@ -49,4 +141,146 @@ public interface DonationRepository extends JpaRepository<Donation, Long> {
      * @return List of donations received by the orphanage within the date range
      */
     List<Donation> findByOrphanageIdAndCreatedAtBetween(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate);
-} 
\ No newline at end of file
+
+    /**
+     * Leases a batch of pending donations that are due for a payment attempt.
+     * Rows another instance is claiming are skipped, and the lease moves the next attempt time
+     * forward so a donation is never charged by two workers at once; if the worker dies the
+     * donation becomes due again when the lease runs out.
+     *
+     * @param now The claim time
+     * @param leaseUntil End of the lease
+     * @param limit Maximum number of donations to claim
+     * @return The claimed donations
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE donations SET next_payment_attempt_at = :leaseUntil WHERE id IN (" +
+                   "SELECT id FROM donations WHERE status = 'PENDING' AND next_payment_attempt_at <= :now " +
+                   "ORDER BY next_payment_attempt_at, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<Donation> claimDueForPayment(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                                      @Param("limit") int limit);
+
+    /**
+     * Records a failed payment attempt and schedules the next one.
+     *
+     * @param id The ID of the donation
+     * @param error Reason of the failure
+     * @param retryAt When the donation becomes due again
+     * @return 1 if the donation was still pending, otherwise 0
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE donations SET payment_attempts = payment_attempts + 1, payment_error = :error, " +
+                   "next_payment_attempt_at = :retryAt WHERE id = :id AND status = 'PENDING'",
+           nativeQuery = true)
+    int schedulePaymentRetry(@Param("id") Long id, @Param("error") String error, @Param("retryAt") LocalDateTime retryAt);
+
+    /**
+     * Marks a pending donation completed. The status predicate makes repeated or concurrent
+     * completions, e.g. a late gateway reply racing a webhook, take effect only once; the
+     * version bump makes a concurrent entity edit of the same donation fail on save.
+     *
+     * @param id The ID of the donation
+     * @param transactionId The gateway transaction ID
+     * @param now The completion time
+     * @return 1 if the donation was completed, 0 if it was missing or no longer pending
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE donations SET status = 'COMPLETED', transaction_id = :transactionId, " +
+                   "next_payment_attempt_at = NULL, completed_at = :now, updated_at = :now, version = version + 1 " +
+                   "WHERE id = :id AND status = 'PENDING'",
+           nativeQuery = true)
+    int completeIfPending(@Param("id") Long id, @Param("transactionId") String transactionId,
+                          @Param("now") LocalDateTime now);
+
+    /**
+     * Marks a pending donation failed.
+     *
+     * @param id The ID of the donation
+     * @param error Reason of the failure
+     * @param now The failure time
+     * @return 1 if the donation was failed, 0 if it was missing or no longer pending
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE donations SET status = 'FAILED', payment_error = :error, " +
+                   "next_payment_attempt_at = NULL, updated_at = :now, version = version + 1 " +
+                   "WHERE id = :id AND status = 'PENDING'",
+           nativeQuery = true)
+    int failIfPending(@Param("id") Long id, @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * Completes every listed donation that is still pending, in one statement.
+     *
+     * @param transactionIds JSON array of objects with id and value keys, value being the transaction ID
+     * @param now The completion time
+     * @return The IDs of the donations that were completed
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE donations d SET status = 'COMPLETED', transaction_id = v.value, " +
+                   "next_payment_attempt_at = NULL, completed_at = :now, updated_at = :now, version = d.version + 1 " +
+                   "FROM jsonb_to_recordset(CAST(:transactionIds AS jsonb)) AS v(id bigint, value varchar) " +
+                   "WHERE d.id = v.id AND d.status = 'PENDING' RETURNING d.id",
+           nativeQuery = true)
+    List<Long> completeAllIfPending(@Param("transactionIds") String transactionIds, @Param("now") LocalDateTime now);
+
+    /**
+     * Fails every listed donation that is still pending, in one statement.
+     *
+     * @param errors JSON array of objects with id and value keys, value being the failure reason
+     * @param now The failure time
+     * @return The IDs of the donations that were failed
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE donations d SET status = 'FAILED', payment_error = v.value, " +
+                   "next_payment_attempt_at = NULL, updated_at = :now, version = d.version + 1 " +
+                   "FROM jsonb_to_recordset(CAST(:errors AS jsonb)) AS v(id bigint, value varchar) " +
+                   "WHERE d.id = v.id AND d.status = 'PENDING' RETURNING d.id",
+           nativeQuery = true)
+    List<Long> failAllIfPending(@Param("errors") String errors, @Param("now") LocalDateTime now);
+
+    /**
+     * Loads the settlement-relevant columns of the donations with the given transaction IDs.
+     * Served by the unique index on transaction_id.
+     *
+     * @param transactionIds Payment transaction IDs
+     * @return The matching donations
+     */
+    @Query("SELECT new com.connectinghands.dto.DonationSettlementView(d.id, d.transactionId, d.status, d.amount, " +
+           "d.currency) FROM Donation d WHERE d.transactionId IN :transactionIds")
+    List<DonationSettlementView> findSettlementViews(@Param("transactionIds") Collection<String> transactionIds);
+
+    /**
+     * Changes the status of every listed donation that still has its expected status, in one statement.
+     *
+     * @param corrections JSON array of objects with id, expected and status keys
+     * @param now The update time
+     * @return The IDs of the donations that were changed
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE donations d SET status = v.status, next_payment_attempt_at = NULL, updated_at = :now, " +
+                   "completed_at = CASE WHEN v.status = 'COMPLETED' THEN :now END, version = d.version + 1 " +
+                   "FROM jsonb_to_recordset(CAST(:corrections AS jsonb)) AS v(id bigint, expected varchar, status varchar) " +
+                   "WHERE d.id = v.id AND d.status = v.expected RETURNING d.id",
+           nativeQuery = true)
+    List<Long> correctAllStatuses(@Param("corrections") String corrections, @Param("now") LocalDateTime now);
+
+    /**
+     * Streams the donations completed in a period, ordered by donor, so a caller can aggregate
+     * each donor in one pass. Must be consumed inside a read-only transaction: rows come from a
+     * server-side cursor in fetch-size chunks instead of being loaded at once. The order matches
+     * idx_donations_completed_by_donor.
+     *
+     * @param from Start of the period, inclusive
+     * @param to End of the period, exclusive
+     * @return The donations of the period with their donor and orphanage names
+     */
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("SELECT new com.connectinghands.dto.TaxStatementLine(d.donor.id, u.firstName, u.lastName, u.email, " +
+           "d.id, d.completedAt, d.amount, d.currency, o.name) " +
+           "FROM Donation d JOIN d.donor u JOIN d.orphanage o " +
+           "WHERE d.status = com.connectinghands.entity.DonationStatus.COMPLETED " +
+           "AND d.completedAt >= :from AND d.completedAt < :to " +
+           "ORDER BY d.donor.id, d.completedAt, d.id")
+    Stream<TaxStatementLine> streamCompletedByDonor(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
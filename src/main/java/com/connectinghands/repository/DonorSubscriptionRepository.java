@@ -0,0 +1,25 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.DonorSubscription;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing DonorSubscription entities.
+ * Subscriber lookups are served by the in-memory index in DonorSubscriptionServiceImpl;
+ * the table is only scanned to build that index.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface DonorSubscriptionRepository extends JpaRepository<DonorSubscription, Long> {
+    /**
+     * Finds the subscriptions of a donor.
+     *
+     * @param donorId The ID of the donor
+     * @return List of the donor's subscriptions
+     */
+    List<DonorSubscription> findByDonorIdOrderByIdAsc(Long donorId);
+}
@@ -0,0 +1,83 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.IdempotencyRecord;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for stored idempotency keys.
+ * Every lookup is a primary key probe on the fixed-length scope key.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface IdempotencyRecordRepository extends JpaRepository<IdempotencyRecord, String> {
+    /**
+     * Claims a key for a new request. An existing row is taken over only once it has expired,
+     * which also recovers keys left in progress by a crashed instance.
+     *
+     * @param scopeKey The scope key
+     * @param requestHash Hash of the request body
+     * @param now The claim time
+     * @param expiresAt When an unfinished claim may be taken over
+     * @return 1 if the key was claimed, 0 if a live row already holds it
+     */
+    @Modifying
+    @Query(value = "INSERT INTO idempotency_keys (scope_key, request_hash, status, created_at, expires_at) " +
+                   "VALUES (:scopeKey, :requestHash, 'IN_PROGRESS', :now, :expiresAt) " +
+                   "ON CONFLICT (scope_key) DO UPDATE SET request_hash = EXCLUDED.request_hash, " +
+                   "status = 'IN_PROGRESS', response_status = NULL, content_type = NULL, response_body = NULL, " +
+                   "created_at = EXCLUDED.created_at, expires_at = EXCLUDED.expires_at " +
+                   "WHERE idempotency_keys.expires_at < :now",
+           nativeQuery = true)
+    int claim(@Param("scopeKey") String scopeKey, @Param("requestHash") String requestHash,
+              @Param("now") LocalDateTime now, @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Stores the response of a claimed key and extends its retention.
+     *
+     * @param scopeKey The scope key
+     * @param responseStatus HTTP status of the response
+     * @param contentType Content type of the response
+     * @param responseBody Body of the response
+     * @param expiresAt When the stored response may be purged
+     * @return The number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE idempotency_keys SET status = 'COMPLETED', response_status = :responseStatus, " +
+                   "content_type = :contentType, response_body = :responseBody, expires_at = :expiresAt " +
+                   "WHERE scope_key = :scopeKey AND status = 'IN_PROGRESS'",
+           nativeQuery = true)
+    int complete(@Param("scopeKey") String scopeKey, @Param("responseStatus") int responseStatus,
+                 @Param("contentType") String contentType, @Param("responseBody") byte[] responseBody,
+                 @Param("expiresAt") LocalDateTime expiresAt);
+
+    /**
+     * Drops an unfinished claim so the client can retry with the same key.
+     *
+     * @param scopeKey The scope key
+     * @return The number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE scope_key = :scopeKey AND status = 'IN_PROGRESS'",
+           nativeQuery = true)
+    int release(@Param("scopeKey") String scopeKey);
+
+    /**
+     * Deletes a chunk of expired keys.
+     *
+     * @param now The purge time
+     * @param limit Maximum number of rows to delete
+     * @return The number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM idempotency_keys WHERE scope_key IN (" +
+                   "SELECT scope_key FROM idempotency_keys WHERE expires_at < :now LIMIT :limit)",
+           nativeQuery = true)
+    int purgeExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
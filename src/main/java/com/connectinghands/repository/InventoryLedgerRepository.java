@@ -0,0 +1,34 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.InventoryLedgerEntry;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing InventoryLedgerEntry entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface InventoryLedgerRepository extends JpaRepository<InventoryLedgerEntry, Long> {
+    /**
+     * Finds the ledger entries of a resource, newest first.
+     *
+     * @param resourceId The ID of the resource
+     * @param pageable Pagination information
+     * @return A page of ledger entries
+     */
+    Page<InventoryLedgerEntry> findByResourceIdOrderByCreatedAtDescIdDesc(Long resourceId, Pageable pageable);
+
+    /**
+     * Finds both entries of a transfer.
+     *
+     * @param transferReference The transfer reference
+     * @return The ledger entries of the transfer
+     */
+    List<InventoryLedgerEntry> findByTransferReference(String transferReference);
+}
@@ -0,0 +1,66 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.InventoryReservation;
+import com.connectinghands.entity.ReservationStatus;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing InventoryReservation entities.
+ * Reservations are always locked before the resource they hold stock of.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface InventoryReservationRepository extends JpaRepository<InventoryReservation, Long> {
+    /**
+     * Finds the reservations of a resource in a given status, soonest expiry first.
+     *
+     * @param resourceId The ID of the resource
+     * @param status The status to search for
+     * @return List of matching reservations
+     */
+    List<InventoryReservation> findByResourceIdAndStatusOrderByExpiresAtAsc(Long resourceId, ReservationStatus status);
+
+    /**
+     * Finds every reservation in a given status.
+     * Used on startup to repopulate the in-memory expiry queue.
+     *
+     * @param status The status to search for
+     * @return List of matching reservations
+     */
+    List<InventoryReservation> findByStatus(ReservationStatus status);
+
+    /**
+     * Loads a reservation and takes a row-level write lock on it.
+     *
+     * @param id The ID of the reservation
+     * @return An Optional containing the locked reservation if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM InventoryReservation r WHERE r.id = :id")
+    Optional<InventoryReservation> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Locks those of the given reservations that are still active and past their expiry, in ID order.
+     * Reservations consumed or released since they were queued are simply not returned.
+     *
+     * @param ids The IDs of the reservations
+     * @param now The current time
+     * @return The locked, due reservations
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM InventoryReservation r WHERE r.id IN :ids " +
+           "AND r.status = com.connectinghands.entity.ReservationStatus.ACTIVE AND r.expiresAt <= :now " +
+           "ORDER BY r.id")
+    List<InventoryReservation> findDueForUpdate(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,32 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.Notification;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+/**
+ * Repository interface for managing Notification entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface NotificationRepository extends JpaRepository<Notification, Long> {
+    /**
+     * Finds the notifications of a user, newest first.
+     *
+     * @param userId The ID of the user
+     * @param pageable Pagination information
+     * @return A page of notifications
+     */
+    Page<Notification> findByUserIdOrderByIdDesc(Long userId, Pageable pageable);
+
+    /**
+     * Counts the unread notifications of a user.
+     *
+     * @param userId The ID of the user
+     * @return The number of unread notifications
+     */
+    long countByUserIdAndReadFalse(Long userId);
+}
@@ -0,0 +1,89 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.dto.OrphanageNeedDto;
+import com.connectinghands.entity.OrphanageNeedScore;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for orphanage need scores.
+ * Ranking reads walk idx_orphanage_need_scores_rank in (score DESC, orphanage_id) order.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface OrphanageNeedScoreRepository extends JpaRepository<OrphanageNeedScore, Long> {
+    /**
+     * Recomputes the score components of the given orphanages and upserts them.
+     * Each component is read through an index on orphanage_id, so the cost is proportional
+     * to the number of orphanages refreshed rather than to the size of the tables.
+     *
+     * @param ids The IDs of the orphanages
+     * @param donationsSince Start of the recent-donation window
+     * @param now The refresh time
+     * @return The number of rows written
+     */
+    @Modifying
+    @Query(value = "INSERT INTO orphanage_need_scores (orphanage_id, pending_requests, occupancy, recent_donations, updated_at) " +
+                   "SELECT o.id, " +
+                   "(SELECT COUNT(*) FROM resource_requests rr WHERE rr.orphanage_id = o.id AND rr.status = 'PENDING'), " +
+                   "CASE WHEN o.capacity > 0 THEN LEAST(o.current_children::numeric / o.capacity, 99) ELSE 0 END, " +
+                   "(SELECT COALESCE(SUM(d.amount), 0) FROM donations d WHERE d.orphanage_id = o.id " +
+                   "AND d.status = 'COMPLETED' AND d.completed_at >= :since), " +
+                   ":now " +
+                   "FROM orphanages o WHERE o.id IN (:ids) " +
+                   "ON CONFLICT (orphanage_id) DO UPDATE SET pending_requests = EXCLUDED.pending_requests, " +
+                   "occupancy = EXCLUDED.occupancy, recent_donations = EXCLUDED.recent_donations, " +
+                   "updated_at = EXCLUDED.updated_at",
+           nativeQuery = true)
+    int refresh(@Param("ids") Collection<Long> ids, @Param("since") LocalDateTime donationsSince,
+                @Param("now") LocalDateTime now);
+
+    /**
+     * Loads the IDs of every orphanage, for the periodic full refresh.
+     *
+     * @return All orphanage IDs in ascending order
+     */
+    @Query(value = "SELECT id FROM orphanages ORDER BY id", nativeQuery = true)
+    List<Long> findAllOrphanageIds();
+
+    /**
+     * Reads the head of the need ranking.
+     *
+     * @param pageable Limits the number of rows returned
+     * @return Active orphanages, most in need first
+     */
+    @Query("SELECT new com.connectinghands.dto.OrphanageNeedDto(o.id, o.name, o.city, o.state, o.country, " +
+           "s.score, s.pendingRequests, s.occupancy, s.recentDonations) " +
+           "FROM OrphanageNeedScore s JOIN Orphanage o ON o.id = s.orphanageId " +
+           "WHERE o.status = com.connectinghands.entity.OrphanageStatus.ACTIVE " +
+           "ORDER BY s.score DESC, s.orphanageId ASC")
+    List<OrphanageNeedDto> findRankingHead(Pageable pageable);
+
+    /**
+     * Reads the page of the need ranking following a keyset position.
+     *
+     * @param score Score of the last row already returned
+     * @param orphanageId Orphanage ID of the last row already returned
+     * @param pageable Limits the number of rows returned
+     * @return Active orphanages, most in need first
+     */
+    @Query("SELECT new com.connectinghands.dto.OrphanageNeedDto(o.id, o.name, o.city, o.state, o.country, " +
+           "s.score, s.pendingRequests, s.occupancy, s.recentDonations) " +
+           "FROM OrphanageNeedScore s JOIN Orphanage o ON o.id = s.orphanageId " +
+           "WHERE o.status = com.connectinghands.entity.OrphanageStatus.ACTIVE " +
+           "AND (s.score < :score OR (s.score = :score AND s.orphanageId > :orphanageId)) " +
+           "ORDER BY s.score DESC, s.orphanageId ASC")
+    List<OrphanageNeedDto> findRankingAfter(@Param("score") BigDecimal score,
+                                            @Param("orphanageId") Long orphanageId,
+                                            Pageable pageable);
+}
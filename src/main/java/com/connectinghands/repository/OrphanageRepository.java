@@ -1,5 +1,6 @@
 package com.connectinghands.repository;
 
+import com.connectinghands.dto.OrphanageRegionDto;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
 import org.springframework.data.domain.Page;
@@ -27,6 +28,15 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      */
     Optional<Orphanage> findByName(String name);
 
+    /**
+     * Check whether a user is the administrator of an orphanage.
+     *
+     * @param id the ID of the orphanage
+     * @param adminId the ID of the user
+     * @return true if the user administers the orphanage
+     */
+    boolean existsByIdAndAdminId(Long id, Long adminId);
+
     /**
      * Find orphanages by their status.
      *
@@ -118,4 +128,31 @@ public interface OrphanageRepository extends JpaRepository<Orphanage, Long> {
      * @return true if an orphanage exists with the given phone number
      */
     boolean existsByPhone(String phone);
-} 
\ No newline at end of file
+
+    /**
+     * Loads the name and region of every orphanage.
+     *
+     * @return Orphanage regions
+     */
+    @Query("SELECT new com.connectinghands.dto.OrphanageRegionDto(o.id, o.name, o.country, o.state) FROM Orphanage o")
+    List<OrphanageRegionDto> findAllRegions();
+
+    /**
+     * Loads the name and region of one orphanage.
+     *
+     * @param id the orphanage ID
+     * @return the orphanage region if found
+     */
+    @Query("SELECT new com.connectinghands.dto.OrphanageRegionDto(o.id, o.name, o.country, o.state) " +
+           "FROM Orphanage o WHERE o.id = :id")
+    Optional<OrphanageRegionDto> findRegionById(@Param("id") Long id);
+
+    /**
+     * Loads only the name of an orphanage, for callers that attach the orphanage by reference.
+     *
+     * @param id the orphanage ID
+     * @return the orphanage name if found
+     */
+    @Query("SELECT o.name FROM Orphanage o WHERE o.id = :id")
+    Optional<String> findNameById(@Param("id") Long id);
+}
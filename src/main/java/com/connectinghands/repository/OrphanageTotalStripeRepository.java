@@ -0,0 +1,82 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.dto.CurrencyTotalDto;
+import com.connectinghands.entity.OrphanageTotalStripe;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing OrphanageTotalStripe entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface OrphanageTotalStripeRepository extends JpaRepository<OrphanageTotalStripe, Long> {
+    /**
+     * Applies a batch of completed donations entering or leaving orphanage totals in one statement.
+     * Per-donor counts in orphanage_donors are adjusted first; a donor whose count leaves zero is
+     * added to the donor count, and one whose count returns to zero is removed from it. Rows are
+     * locked in key order, so concurrent batches cannot deadlock on each other.
+     *
+     * @param changes JSON array of objects with orphanage_id, donor_id, currency, stripe, amount
+     *                (signed) and donations (1 or -1) keys
+     * @return The number of stripe rows written
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "WITH v AS (" +
+                   "SELECT * FROM jsonb_to_recordset(CAST(:changes AS jsonb)) " +
+                   "AS v(orphanage_id bigint, donor_id bigint, currency varchar, stripe int, amount numeric, donations int)), " +
+                   "per_donor AS (" +
+                   "SELECT orphanage_id, donor_id, SUM(donations) AS donations, MIN(currency) AS currency, " +
+                   "MIN(stripe) AS stripe FROM v GROUP BY orphanage_id, donor_id), " +
+                   "donors AS (" +
+                   "INSERT INTO orphanage_donors (orphanage_id, donor_id, completed_count) " +
+                   "SELECT orphanage_id, donor_id, donations FROM per_donor ORDER BY orphanage_id, donor_id " +
+                   "ON CONFLICT (orphanage_id, donor_id) " +
+                   "DO UPDATE SET completed_count = orphanage_donors.completed_count + EXCLUDED.completed_count " +
+                   "RETURNING orphanage_id, donor_id, completed_count), " +
+                   "crossed AS (" +
+                   "SELECT p.orphanage_id, p.currency, p.stripe, " +
+                   "CASE WHEN d.completed_count > 0 AND d.completed_count - p.donations <= 0 THEN 1 " +
+                   "WHEN d.completed_count <= 0 AND d.completed_count - p.donations > 0 THEN -1 ELSE 0 END AS donors " +
+                   "FROM per_donor p JOIN donors d ON d.orphanage_id = p.orphanage_id AND d.donor_id = p.donor_id), " +
+                   "per_stripe AS (" +
+                   "SELECT orphanage_id, currency, stripe, amount, donations, 0 AS donors FROM v " +
+                   "UNION ALL SELECT orphanage_id, currency, stripe, 0, 0, donors FROM crossed WHERE donors <> 0) " +
+                   "INSERT INTO orphanage_total_stripes (orphanage_id, currency, stripe, total_amount, donation_count, donor_count) " +
+                   "SELECT orphanage_id, currency, stripe, SUM(amount), SUM(donations), SUM(donors) FROM per_stripe " +
+                   "GROUP BY orphanage_id, currency, stripe ORDER BY orphanage_id, currency, stripe " +
+                   "ON CONFLICT (orphanage_id, currency, stripe) DO UPDATE SET " +
+                   "total_amount = orphanage_total_stripes.total_amount + EXCLUDED.total_amount, " +
+                   "donation_count = orphanage_total_stripes.donation_count + EXCLUDED.donation_count, " +
+                   "donor_count = orphanage_total_stripes.donor_count + EXCLUDED.donor_count",
+           nativeQuery = true)
+    int applyChanges(@Param("changes") String changes);
+
+    /**
+     * Sums the stripes of an orphanage per currency.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return One total per currency
+     */
+    @Query("SELECT new com.connectinghands.dto.CurrencyTotalDto(s.currency, SUM(s.totalAmount), " +
+           "SUM(s.donationCount)) " +
+           "FROM OrphanageTotalStripe s WHERE s.orphanageId = :orphanageId " +
+           "GROUP BY s.currency ORDER BY s.currency")
+    List<CurrencyTotalDto> sumByCurrency(@Param("orphanageId") Long orphanageId);
+
+    /**
+     * Sums the donor counts over all stripes of an orphanage. A donor is counted on one stripe
+     * only, so the sum is the number of distinct donors with a completed donation.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return The number of distinct donors
+     */
+    @Query("SELECT COALESCE(SUM(s.donorCount), 0) FROM OrphanageTotalStripe s WHERE s.orphanageId = :orphanageId")
+    long sumDonorCount(@Param("orphanageId") Long orphanageId);
+}
@@ -0,0 +1,81 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.OutboxEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for outbox events.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+    /**
+     * Leases a batch of due events to the calling relay. Rows another relay is claiming are
+     * skipped, and the lease moves available_at forward so the batch is not handed out again
+     * while it is being delivered; it becomes due again only if the relay dies.
+     *
+     * @param now The claim time
+     * @param leaseUntil End of the lease
+     * @param limit Maximum number of events to claim
+     * @return The claimed events
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE outbox_events SET available_at = :leaseUntil WHERE id IN (" +
+                   "SELECT id FROM outbox_events WHERE status = 'PENDING' AND available_at <= :now " +
+                   "ORDER BY available_at, id LIMIT :limit FOR UPDATE SKIP LOCKED) " +
+                   "RETURNING *",
+           nativeQuery = true)
+    List<OutboxEvent> claimDue(@Param("now") LocalDateTime now, @Param("leaseUntil") LocalDateTime leaseUntil,
+                               @Param("limit") int limit);
+
+    /**
+     * Marks delivered events published.
+     *
+     * @param ids The IDs of the events
+     * @param now The delivery time
+     * @return The number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET status = 'PUBLISHED', published_at = :now WHERE id IN (:ids)",
+           nativeQuery = true)
+    int markPublished(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Records a failed delivery attempt, scheduling a retry or giving up after the maximum attempts.
+     *
+     * @param id The ID of the event
+     * @param error Description of the failure
+     * @param retryAt When the event becomes due again
+     * @param maxAttempts Attempts after which the event is marked FAILED
+     * @return The number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE outbox_events SET attempts = attempts + 1, last_error = :error, available_at = :retryAt, " +
+                   "status = CASE WHEN attempts + 1 >= :maxAttempts THEN 'FAILED' ELSE 'PENDING' END " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int markAttemptFailed(@Param("id") Long id, @Param("error") String error,
+                          @Param("retryAt") LocalDateTime retryAt, @Param("maxAttempts") int maxAttempts);
+
+    /**
+     * Deletes a chunk of events published before the cutoff.
+     *
+     * @param cutoff Events published before this time are deleted
+     * @param limit Maximum number of rows to delete
+     * @return The number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM outbox_events WHERE id IN (" +
+                   "SELECT id FROM outbox_events WHERE status = 'PUBLISHED' AND published_at < :cutoff LIMIT :limit)",
+           nativeQuery = true)
+    int purgePublishedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
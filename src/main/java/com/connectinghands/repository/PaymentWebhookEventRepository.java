@@ -0,0 +1,50 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.PaymentWebhookEvent;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Repository interface for managing PaymentWebhookEvent entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface PaymentWebhookEventRepository extends JpaRepository<PaymentWebhookEvent, String> {
+    /**
+     * Inserts a batch of events in one statement and reports which of them were new.
+     * The batch is passed as a JSON array of objects with event_id, donation_id, outcome and
+     * transaction_id keys; events already stored are skipped by the primary key.
+     *
+     * @param events The events as a JSON array
+     * @param receivedAt The receive time stored for new events
+     * @return The event IDs that were inserted
+     */
+    // Not @Modifying: INSERT ... RETURNING yields rows and is executed as a query.
+    @Query(value = "INSERT INTO payment_webhook_events (event_id, donation_id, outcome, transaction_id, received_at) " +
+                   "SELECT e.event_id, e.donation_id, e.outcome, e.transaction_id, :receivedAt " +
+                   "FROM jsonb_to_recordset(CAST(:events AS jsonb)) " +
+                   "AS e(event_id varchar, donation_id bigint, outcome varchar, transaction_id varchar) " +
+                   "ON CONFLICT (event_id) DO NOTHING RETURNING event_id",
+           nativeQuery = true)
+    List<String> insertNew(@Param("events") String events, @Param("receivedAt") LocalDateTime receivedAt);
+
+    /**
+     * Deletes a chunk of events received before the cutoff.
+     *
+     * @param cutoff Events received before this time are deleted
+     * @param limit Maximum number of rows to delete
+     * @return The number of rows deleted
+     */
+    @Modifying
+    @Query(value = "DELETE FROM payment_webhook_events WHERE event_id IN (" +
+                   "SELECT event_id FROM payment_webhook_events WHERE received_at < :cutoff LIMIT :limit)",
+           nativeQuery = true)
+    int purgeReceivedBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+}
@@ -0,0 +1,67 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.RequestPledge;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing RequestPledge entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface RequestPledgeRepository extends JpaRepository<RequestPledge, Long> {
+    /**
+     * Finds the pledges made against a request, oldest first.
+     *
+     * @param requestId The ID of the request
+     * @param pageable Pagination information
+     * @return A page of pledges
+     */
+    Page<RequestPledge> findByRequestIdOrderByIdAsc(Long requestId, Pageable pageable);
+
+    /**
+     * Finds the pledges made by a donor, newest first.
+     *
+     * @param donorId The ID of the donor
+     * @param pageable Pagination information
+     * @return A page of pledges
+     */
+    Page<RequestPledge> findByDonorIdOrderByIdDesc(Long donorId, Pageable pageable);
+
+    /**
+     * Loads a pledge and takes a row-level write lock on it.
+     * Only the pledge row is locked; the shared request row is changed with
+     * single-statement updates so that it is never held across a round trip.
+     *
+     * @param id The ID of the pledge
+     * @return An Optional containing the locked pledge if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT p FROM RequestPledge p WHERE p.id = :id")
+    Optional<RequestPledge> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Moves the pledges of the given requests to request_pledges_archive in a single statement.
+     *
+     * @param requestIds The IDs of the requests being archived
+     * @param now The archive time
+     * @return The number of rows moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM request_pledges WHERE request_id IN (:requestIds) RETURNING *) " +
+                   "INSERT INTO request_pledges_archive SELECT moved.*, :now FROM moved",
+           nativeQuery = true)
+    int archiveByRequestIds(@Param("requestIds") Collection<Long> requestIds, @Param("now") LocalDateTime now);
+}
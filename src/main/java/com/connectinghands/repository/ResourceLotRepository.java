@@ -0,0 +1,79 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.ResourceLot;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Repository interface for managing ResourceLot entities.
+ * Queries on active lots are served by the partial indexes on (resource_id, expires_on)
+ * and (expires_on) restricted to status = 'ACTIVE'.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface ResourceLotRepository extends JpaRepository<ResourceLot, Long> {
+    /**
+     * Finds all lots of a resource, newest expiry last.
+     *
+     * @param resourceId The ID of the resource
+     * @return List of lots of the resource
+     */
+    List<ResourceLot> findByResourceIdOrderByExpiresOnAsc(Long resourceId);
+
+    /**
+     * Finds the active lots of a resource in first-expired-first-out order.
+     * Callers must hold the resource row lock.
+     *
+     * @param resourceId The ID of the resource
+     * @return Active lots ordered by expiry date
+     */
+    @Query("SELECT l FROM ResourceLot l WHERE l.resource.id = :resourceId " +
+           "AND l.status = com.connectinghands.entity.ResourceLotStatus.ACTIVE " +
+           "ORDER BY l.expiresOn ASC, l.id ASC")
+    List<ResourceLot> findActiveLotsInExpiryOrder(@Param("resourceId") Long resourceId);
+
+    /**
+     * Finds active lots expiring before a date, soonest first.
+     *
+     * @param before Exclusive upper bound of the expiry date
+     * @param pageable Pagination information
+     * @return A page of lots expiring before the date
+     */
+    @Query("SELECT l FROM ResourceLot l WHERE l.status = com.connectinghands.entity.ResourceLotStatus.ACTIVE " +
+           "AND l.expiresOn < :before ORDER BY l.expiresOn ASC, l.id ASC")
+    Page<ResourceLot> findActiveLotsExpiringBefore(@Param("before") LocalDate before, Pageable pageable);
+
+    /**
+     * Finds the IDs of resources that have active lots past their expiry date.
+     *
+     * @param today The current date
+     * @param pageable Limits the number of resources returned
+     * @return IDs of resources with expired lots
+     */
+    @Query("SELECT DISTINCT l.resource.id FROM ResourceLot l " +
+           "WHERE l.status = com.connectinghands.entity.ResourceLotStatus.ACTIVE AND l.expiresOn < :today " +
+           "ORDER BY l.resource.id")
+    List<Long> findResourceIdsWithExpiredLots(@Param("today") LocalDate today, Pageable pageable);
+
+    /**
+     * Finds active lots past their expiry date for a set of resources.
+     * Callers must hold the row locks of the resources.
+     *
+     * @param resourceIds The IDs of the resources
+     * @param today The current date
+     * @return Expired active lots of the resources
+     */
+    @Query("SELECT l FROM ResourceLot l WHERE l.resource.id IN :resourceIds " +
+           "AND l.status = com.connectinghands.entity.ResourceLotStatus.ACTIVE AND l.expiresOn < :today")
+    List<ResourceLot> findExpiredLots(@Param("resourceIds") Collection<Long> resourceIds,
+                                      @Param("today") LocalDate today);
+}
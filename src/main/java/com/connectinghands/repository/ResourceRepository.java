@@ -1,12 +1,24 @@
 package com.connectinghands.repository;
 
+import com.connectinghands.dto.AvailableStockDto;
+import com.connectinghands.dto.InventorySummaryDto;
+import com.connectinghands.dto.ResourceTypeTotalDto;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing Resource entities.
@@ -26,4 +38,119 @@ public interface ResourceRepository extends JpaRepository<Resource, Long> {
 
     List<Resource> findByCategory(ResourceCategory category);
     List<Resource> findByStatus(ResourceStatus status);
-} 
\ No newline at end of file
+
+    /**
+     * Loads a resource and takes a row-level write lock on it.
+     * Every quantity change goes through this lock so concurrent consumers serialize per resource.
+     *
+     * @param id The ID of the resource
+     * @return An Optional containing the locked resource if found
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Resource r WHERE r.id = :id")
+    Optional<Resource> findByIdForUpdate(@Param("id") Long id);
+
+    /**
+     * Loads several resources and takes row-level write locks on them in ascending ID order.
+     * Callers that lock more than one resource must use this so that concurrent
+     * transactions always acquire locks in the same order and cannot deadlock.
+     *
+     * @param ids The IDs of the resources
+     * @return The locked resources, ordered by ID
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM Resource r WHERE r.id IN :ids ORDER BY r.id")
+    List<Resource> findAllByIdForUpdate(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks the given resources in ID order, skipping rows already locked by another transaction.
+     * Used by background jobs that must never wait on interactive allocations.
+     *
+     * @param ids The IDs of the resources
+     * @return The resources that were locked
+     */
+    @Query(value = "SELECT * FROM resources WHERE id IN (:ids) ORDER BY id FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Resource> lockAllSkipLocked(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Reserves part of an available resource, provided enough unreserved stock remains.
+     * The check and the increment are one statement, so concurrent reservations cannot
+     * oversubscribe a resource and no lock is held beyond the caller's transaction.
+     *
+     * @param id The ID of the resource
+     * @param quantity The quantity to reserve
+     * @return 1 if the reservation fits, 0 if the resource is missing, unavailable or short of stock
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE resources SET reserved_quantity = reserved_quantity + :quantity " +
+                   "WHERE id = :id AND status = 'AVAILABLE' AND quantity - reserved_quantity >= :quantity",
+           nativeQuery = true)
+    int addReserved(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Returns reserved quantity to a resource's unreserved stock.
+     *
+     * @param id The ID of the resource
+     * @param quantity The quantity released
+     * @return The number of rows updated
+     */
+    @Modifying(flushAutomatically = true)
+    @Query(value = "UPDATE resources SET reserved_quantity = GREATEST(0, reserved_quantity - :quantity) WHERE id = :id",
+           nativeQuery = true)
+    int releaseReserved(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Finds resources whose quantity is below their minimum threshold.
+     * The predicate matches the partial index idx_resources_below_threshold.
+     *
+     * @param orphanageId Optional orphanage to restrict the search to
+     * @param pageable Pagination information
+     * @return A page of resources below their threshold
+     */
+    @Query("SELECT r FROM Resource r WHERE r.quantity < r.minimumQuantity " +
+           "AND (:orphanageId IS NULL OR r.orphanage.id = :orphanageId)")
+    Page<Resource> findBelowThreshold(@Param("orphanageId") Long orphanageId, Pageable pageable);
+
+    /**
+     * Aggregates stock by category, orphanage region and unit.
+     * Units are kept apart because quantities in different units cannot be summed.
+     * Both the stock on hand and the part of it not yet reserved for pledges are totalled,
+     * so the summary does not offer reserved stock as available.
+     *
+     * @param category Optional category to restrict the summary to
+     * @return Inventory totals, one row per category, region and unit
+     */
+    @Query("SELECT new com.connectinghands.dto.InventorySummaryDto(r.category, o.country, o.state, r.unit, " +
+           "SUM(r.quantity), " +
+           "SUM(CASE WHEN r.quantity > r.reservedQuantity THEN r.quantity - r.reservedQuantity ELSE 0 END), " +
+           "COUNT(r), COUNT(DISTINCT o.id)) " +
+           "FROM Resource r JOIN r.orphanage o " +
+           "WHERE r.status = com.connectinghands.entity.ResourceStatus.AVAILABLE " +
+           "AND (:category IS NULL OR r.category = :category) " +
+           "GROUP BY r.category, o.country, o.state, r.unit " +
+           "ORDER BY r.category, o.country, o.state, r.unit")
+    List<InventorySummaryDto> summarizeByCategoryAndRegion(@Param("category") ResourceCategory category);
+
+    /**
+     * Sums the stock of an orphanage per resource catalog entry.
+     * Grouping on the integer catalog key merges name variants such as "Rice" and "rice 5kg".
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return One total per resource type
+     */
+    @Query("SELECT new com.connectinghands.dto.ResourceTypeTotalDto(r.resourceType.id, SUM(r.quantity)) " +
+           "FROM Resource r WHERE r.orphanage.id = :orphanageId GROUP BY r.resourceType.id")
+    List<ResourceTypeTotalDto> sumQuantityByResourceType(@Param("orphanageId") Long orphanageId);
+
+    /**
+     * Loads every available resource with unreserved stock, in the compact form used by the matching index.
+     *
+     * @return Available stock rows
+     */
+    @Query("SELECT new com.connectinghands.dto.AvailableStockDto(r.id, r.resourceType.id, r.orphanage.id, r.unit, " +
+           "r.quantity - r.reservedQuantity) " +
+           "FROM Resource r " +
+           "WHERE r.status = com.connectinghands.entity.ResourceStatus.AVAILABLE AND r.quantity > r.reservedQuantity")
+    List<AvailableStockDto> findAvailableStock();
+}
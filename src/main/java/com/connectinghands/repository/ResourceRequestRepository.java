@@ -1,12 +1,20 @@
 package com.connectinghands.repository;
 
+import com.connectinghands.dto.PendingRequestDto;
+import com.connectinghands.dto.RequestProgressDto;
+import com.connectinghands.dto.ResourceTypeTotalDto;
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for managing ResourceRequest entities.
@@ -32,6 +40,185 @@ public interface ResourceRequestRepository extends JpaRepository<ResourceRequest
      */
     List<ResourceRequest> findByStatus(ResourceRequestStatus status);
 
+    /**
+     * Reads the head of the queue of requests with a status: priority, then urgency score
+     * (highest first), then age (oldest first).
+     * The ORDER BY matches idx_resource_requests_queue column for column, so the
+     * page is read straight off the index without a sort.
+     *
+     * @param status The status name
+     * @param limit Maximum number of rows to return
+     * @return Requests in queue order
+     */
+    @Query(value = "SELECT * FROM resource_requests WHERE status = :status " +
+                   "ORDER BY status, priority, urgency_score DESC, created_at, id LIMIT :limit",
+           nativeQuery = true)
+    List<ResourceRequest> findQueueHead(@Param("status") String status, @Param("limit") int limit);
+
+    /**
+     * Reads the page of the queue of requests with a status following a keyset position.
+     * Urgency sorts descending, so the position cannot be one row comparison; the leading
+     * priority bound instead starts the index range scan at the cursor's priority, and the
+     * remaining columns are compared within it.
+     *
+     * @param status The status name
+     * @param priority Priority ordinal of the last row already returned
+     * @param urgencyScore Urgency score of the last row already returned
+     * @param createdAt Creation time of the last row already returned
+     * @param id ID of the last row already returned
+     * @param limit Maximum number of rows to return
+     * @return Requests in queue order
+     */
+    @Query(value = "SELECT * FROM resource_requests WHERE status = :status AND priority >= :priority AND (" +
+                   "priority > :priority " +
+                   "OR urgency_score < :urgencyScore " +
+                   "OR (urgency_score = :urgencyScore AND (created_at, id) > (:createdAt, :id))) " +
+                   "ORDER BY status, priority, urgency_score DESC, created_at, id LIMIT :limit",
+           nativeQuery = true)
+    List<ResourceRequest> findQueueAfter(@Param("status") String status,
+                                         @Param("priority") int priority,
+                                         @Param("urgencyScore") int urgencyScore,
+                                         @Param("createdAt") LocalDateTime createdAt,
+                                         @Param("id") long id,
+                                         @Param("limit") int limit);
+
+    /**
+     * Marks a request fulfilled only if it is still pending and nobody has pledged towards it.
+     * The status predicate makes concurrent fulfillments mutually exclusive without a row lock
+     * held across requests; the version is bumped so stale optimistic updates also fail.
+     *
+     * @param id The ID of the request
+     * @param donorId The ID of the fulfilling donor
+     * @param now The fulfillment time
+     * @return 1 if the request was fulfilled, 0 if it was missing or no longer pending
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query("UPDATE ResourceRequest rr SET rr.status = com.connectinghands.entity.ResourceRequestStatus.FULFILLED, " +
+           "rr.fulfilledBy = :donorId, rr.fulfilledAt = :now, rr.updatedAt = :now, rr.version = rr.version + 1 " +
+           "WHERE rr.id = :id AND rr.status = com.connectinghands.entity.ResourceRequestStatus.PENDING " +
+           "AND rr.pledgedQuantity = 0")
+    int fulfillIfPending(@Param("id") Long id, @Param("donorId") Long donorId, @Param("now") LocalDateTime now);
+
+    /**
+     * Adds to the pledged total of a pending request, provided the result does not exceed the requested quantity.
+     * The check and the increment are one statement, so a burst of donors can never over-pledge a request
+     * and the row lock is held only for the remainder of the caller's short transaction.
+     *
+     * @param id The ID of the request
+     * @param quantity The quantity being pledged
+     * @return 1 if the pledge fits, 0 if the request is missing, not pending or would be over-pledged
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resource_requests SET pledged_quantity = pledged_quantity + :quantity " +
+                   "WHERE id = :id AND status = 'PENDING' AND pledged_quantity + :quantity <= quantity",
+           nativeQuery = true)
+    int addPledged(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Returns the undelivered remainder of a cancelled pledge to the request.
+     *
+     * @param id The ID of the request
+     * @param quantity The quantity released
+     * @return The number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resource_requests SET pledged_quantity = pledged_quantity - :quantity WHERE id = :id",
+           nativeQuery = true)
+    int releasePledged(@Param("id") Long id, @Param("quantity") int quantity);
+
+    /**
+     * Adds to the delivered total of a request and marks it fulfilled once the full quantity has arrived.
+     * The version is bumped only on that transition so edits made against the pending request fail.
+     *
+     * @param id The ID of the request
+     * @param quantity The quantity received
+     * @param now The delivery time
+     * @return The number of rows updated
+     */
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = "UPDATE resource_requests SET delivered_quantity = delivered_quantity + :quantity, " +
+                   "status = CASE WHEN status = 'PENDING' AND delivered_quantity + :quantity >= quantity " +
+                   "THEN 'FULFILLED' ELSE status END, " +
+                   "fulfilled_at = CASE WHEN status = 'PENDING' AND delivered_quantity + :quantity >= quantity " +
+                   "THEN :now ELSE fulfilled_at END, " +
+                   "version = version + CASE WHEN status = 'PENDING' AND delivered_quantity + :quantity >= quantity " +
+                   "THEN 1 ELSE 0 END, " +
+                   "updated_at = :now " +
+                   "WHERE id = :id",
+           nativeQuery = true)
+    int addDelivered(@Param("id") Long id, @Param("quantity") int quantity, @Param("now") LocalDateTime now);
+
+    /**
+     * Reads the pledge and delivery progress of a request from its running totals.
+     *
+     * @param id The ID of the request
+     * @return The progress, if the request exists
+     */
+    @Query("SELECT new com.connectinghands.dto.RequestProgressDto(rr.id, rr.quantity, rr.pledgedQuantity, " +
+           "rr.deliveredQuantity, rr.status) FROM ResourceRequest rr WHERE rr.id = :id")
+    Optional<RequestProgressDto> findProgressById(@Param("id") Long id);
+
+    /**
+     * Locks a chunk of pending requests created before the cutoff that nobody has pledged towards.
+     * Rows locked by a concurrent fulfillment or edit are skipped and picked up by a later run.
+     *
+     * @param cutoff Requests created before this time are stale
+     * @param limit Maximum number of rows to lock
+     * @return IDs of the locked requests
+     */
+    @Query(value = "SELECT id FROM resource_requests WHERE status = 'PENDING' AND pledged_quantity = 0 " +
+                   "AND created_at < :cutoff ORDER BY created_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockStalePendingIds(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Marks the given requests expired. Callers must hold the row locks.
+     *
+     * @param ids The IDs of the requests
+     * @param now The expiry time
+     * @return The number of rows updated
+     */
+    @Modifying
+    @Query(value = "UPDATE resource_requests SET status = 'EXPIRED', updated_at = :now, version = version + 1 " +
+                   "WHERE id IN (:ids)",
+           nativeQuery = true)
+    int markExpired(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * Finds the distinct orphanages owning the given requests.
+     *
+     * @param ids The IDs of the requests
+     * @return The IDs of their orphanages
+     */
+    @Query("SELECT DISTINCT rr.orphanage.id FROM ResourceRequest rr WHERE rr.id IN :ids")
+    List<Long> findOrphanageIdsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Locks a chunk of closed requests last changed before the cutoff, skipping rows locked elsewhere.
+     *
+     * @param cutoff Requests last changed before this time are archived
+     * @param limit Maximum number of rows to lock
+     * @return IDs of the locked requests
+     */
+    @Query(value = "SELECT id FROM resource_requests WHERE status IN ('FULFILLED', 'CANCELLED', 'EXPIRED') " +
+                   "AND updated_at < :cutoff ORDER BY updated_at, id LIMIT :limit FOR UPDATE SKIP LOCKED",
+           nativeQuery = true)
+    List<Long> lockClosedIdsBefore(@Param("cutoff") LocalDateTime cutoff, @Param("limit") int limit);
+
+    /**
+     * Moves the given requests to resource_requests_archive in a single statement.
+     * Their pledges must be archived first, otherwise the delete cascades to them.
+     *
+     * @param ids The IDs of the requests
+     * @param now The archive time
+     * @return The number of rows moved
+     */
+    @Modifying
+    @Query(value = "WITH moved AS (DELETE FROM resource_requests WHERE id IN (:ids) RETURNING *) " +
+                   "INSERT INTO resource_requests_archive SELECT moved.*, :now FROM moved",
+           nativeQuery = true)
+    int archiveByIds(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
     /**
      * Find all resource requests fulfilled by a specific donor.
      *
@@ -58,4 +245,29 @@ public interface ResourceRequestRepository extends JpaRepository<ResourceRequest
      * @return List of resource requests made by the orphanage within the date range
      */
     List<ResourceRequest> findByOrphanageIdAndCreatedAtBetween(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate);
-} 
\ No newline at end of file
+
+    /**
+     * Counts the requests of an orphanage per resource catalog entry.
+     * Requests created before the catalog existed and never linked to a resource are skipped.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return One request count per resource type
+     */
+    @Query("SELECT new com.connectinghands.dto.ResourceTypeTotalDto(rr.resourceType.id, COUNT(rr)) " +
+           "FROM ResourceRequest rr WHERE rr.orphanage.id = :orphanageId AND rr.resourceType IS NOT NULL " +
+           "GROUP BY rr.resourceType.id")
+    List<ResourceTypeTotalDto> countByResourceType(@Param("orphanageId") Long orphanageId);
+
+    /**
+     * Loads every pending request linked to the catalog, in the compact form used by the matching index.
+     * The quantity is the part not yet covered by pledges.
+     *
+     * @return Pending request rows
+     */
+    @Query("SELECT new com.connectinghands.dto.PendingRequestDto(rr.id, rr.resourceType.id, rr.orphanage.id, rr.unit, " +
+           "rr.quantity - rr.pledgedQuantity) " +
+           "FROM ResourceRequest rr " +
+           "WHERE rr.status = com.connectinghands.entity.ResourceRequestStatus.PENDING AND rr.resourceType IS NOT NULL " +
+           "AND rr.pledgedQuantity < rr.quantity")
+    List<PendingRequestDto> findPendingForMatching();
+}
@@ -0,0 +1,63 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing ResourceType catalog entries.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface ResourceTypeRepository extends JpaRepository<ResourceType, Integer> {
+    /**
+     * Finds a catalog entry by its key: normalized name and category.
+     *
+     * @param normalizedName The normalized name
+     * @param category The category
+     * @return An Optional containing the catalog entry if found
+     */
+    Optional<ResourceType> findByNormalizedNameAndCategory(String normalizedName, ResourceCategory category);
+
+    /**
+     * Finds all catalog entries in a category, ordered by name.
+     *
+     * @param category The category
+     * @return The catalog entries
+     */
+    List<ResourceType> findByCategoryOrderByName(ResourceCategory category);
+
+    /**
+     * Finds all catalog entries ordered by name.
+     *
+     * @return The catalog entries
+     */
+    List<ResourceType> findAllByOrderByName();
+
+    /**
+     * Inserts a catalog entry unless one with the same normalized name and category already exists.
+     * Safe to call concurrently: the loser of a race simply inserts nothing.
+     *
+     * @param name The display name
+     * @param normalizedName The normalized name
+     * @param category The category name
+     * @param defaultUnit The default unit
+     */
+    @Modifying
+    @Query(value = "INSERT INTO resource_types (name, normalized_name, category, default_unit) " +
+                   "VALUES (:name, :normalizedName, :category, :defaultUnit) " +
+                   "ON CONFLICT (normalized_name, category) DO NOTHING",
+           nativeQuery = true)
+    void insertIfAbsent(@Param("name") String name,
+                        @Param("normalizedName") String normalizedName,
+                        @Param("category") String category,
+                        @Param("defaultUnit") String defaultUnit);
+}
@@ -0,0 +1,48 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.SettlementDiscrepancy;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Repository interface for managing SettlementDiscrepancy entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface SettlementDiscrepancyRepository extends JpaRepository<SettlementDiscrepancy, Long> {
+    /**
+     * Inserts the discrepancies of one chunk in a single statement.
+     * The rows are passed as a JSON array whose keys are the column names.
+     *
+     * @param runId The ID of the run
+     * @param discrepancies The discrepancies as a JSON array
+     * @return The number of rows inserted
+     */
+    @Modifying
+    @Query(value = "INSERT INTO settlement_discrepancies (run_id, line_number, type, transaction_id, donation_id, " +
+                   "recorded_status, settled_status, recorded_amount, settled_amount, corrected, detail) " +
+                   "SELECT :runId, d.line_number, d.type, d.transaction_id, d.donation_id, d.recorded_status, " +
+                   "d.settled_status, d.recorded_amount, d.settled_amount, d.corrected, d.detail " +
+                   "FROM jsonb_to_recordset(CAST(:discrepancies AS jsonb)) AS d(line_number bigint, type varchar, " +
+                   "transaction_id varchar, donation_id bigint, recorded_status varchar, settled_status varchar, " +
+                   "recorded_amount numeric, settled_amount numeric, corrected boolean, detail varchar)",
+           nativeQuery = true)
+    int insertAll(@Param("runId") Long runId, @Param("discrepancies") String discrepancies);
+
+    /**
+     * Fetches a page of a run's discrepancies after the given ID, in ID order.
+     *
+     * @param runId The ID of the run
+     * @param afterId ID of the last discrepancy already returned; 0 for the first page
+     * @param pageable Page size
+     * @return The next discrepancies
+     */
+    List<SettlementDiscrepancy> findByRunIdAndIdGreaterThanOrderByIdAsc(Long runId, Long afterId, Pageable pageable);
+}
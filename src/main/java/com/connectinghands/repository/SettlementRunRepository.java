@@ -0,0 +1,34 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.SettlementRun;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing SettlementRun entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface SettlementRunRepository extends JpaRepository<SettlementRun, Long> {
+    Optional<SettlementRun> findByFileName(String fileName);
+
+    /**
+     * Loads a run and locks it, so only one worker can advance its checkpoint at a time.
+     *
+     * @param id The ID of the run
+     * @return The locked run
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT r FROM SettlementRun r WHERE r.id = :id")
+    Optional<SettlementRun> findByIdForUpdate(@Param("id") Long id);
+
+    List<SettlementRun> findTop50ByOrderByIdDesc();
+}
@@ -0,0 +1,53 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.StockAlert;
+import com.connectinghands.entity.StockAlertStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Repository interface for managing StockAlert entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface StockAlertRepository extends JpaRepository<StockAlert, Long> {
+    /**
+     * Finds alerts with a specific status.
+     *
+     * @param status The status to filter by
+     * @param pageable Pagination information
+     * @return A page of alerts with the specified status
+     */
+    Page<StockAlert> findByStatus(StockAlertStatus status, Pageable pageable);
+
+    /**
+     * Finds alerts for an orphanage with a specific status.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @param status The status to filter by
+     * @param pageable Pagination information
+     * @return A page of alerts matching the criteria
+     */
+    Page<StockAlert> findByOrphanageIdAndStatus(Long orphanageId, StockAlertStatus status, Pageable pageable);
+
+    /**
+     * Resolves the open alert of a resource, if one exists.
+     *
+     * @param resourceId The ID of the resource
+     * @param resolvedAt The resolution timestamp
+     * @return The number of alerts resolved
+     */
+    @Modifying
+    @Query("UPDATE StockAlert a SET a.status = com.connectinghands.entity.StockAlertStatus.RESOLVED, " +
+           "a.resolvedAt = :resolvedAt " +
+           "WHERE a.resource.id = :resourceId AND a.status = com.connectinghands.entity.StockAlertStatus.OPEN")
+    int resolveOpenAlert(@Param("resourceId") Long resourceId, @Param("resolvedAt") LocalDateTime resolvedAt);
+}
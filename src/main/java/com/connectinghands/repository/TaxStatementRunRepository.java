@@ -0,0 +1,68 @@
+package com.connectinghands.repository;
+
+import com.connectinghands.entity.TaxStatementRun;
+import com.connectinghands.entity.TaxStatementRunStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Repository interface for managing TaxStatementRun entities.
+ *
+ * @author Ragul Venkatesan
+ */
+@Repository
+public interface TaxStatementRunRepository extends JpaRepository<TaxStatementRun, Long> {
+    /**
+     * Moves the oldest queued run to RUNNING. A run another instance is claiming is skipped,
+     * so each run is executed by exactly one instance. Runs left RUNNING with no heartbeat
+     * since staleBefore belong to an instance that died mid-run and are claimed again.
+     *
+     * @param now The start time
+     * @param staleBefore Running runs whose last heartbeat is older than this are considered abandoned
+     * @return The claimed run, if any was queued
+     */
+    // Not @Modifying: UPDATE ... RETURNING yields rows and is executed as a query.
+    @Query(value = "UPDATE tax_statement_runs SET status = 'RUNNING', started_at = :now, heartbeat_at = :now " +
+                   "WHERE id = (SELECT id FROM tax_statement_runs " +
+                   "WHERE status = 'QUEUED' OR (status = 'RUNNING' AND heartbeat_at < :staleBefore) " +
+                   "ORDER BY id LIMIT 1 FOR UPDATE SKIP LOCKED) RETURNING *",
+           nativeQuery = true)
+    Optional<TaxStatementRun> claimNextQueued(@Param("now") LocalDateTime now,
+                                              @Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * Records that the instance executing a run is still making progress.
+     *
+     * @param id The ID of the run
+     * @param now The heartbeat time
+     * @return 1 if the run is still running, otherwise 0
+     */
+    @Modifying
+    @Query(value = "UPDATE tax_statement_runs SET heartbeat_at = :now WHERE id = :id AND status = 'RUNNING'",
+           nativeQuery = true)
+    int heartbeat(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * Checks whether a year already has a run in one of the given states.
+     *
+     * @param taxYear The tax year
+     * @param statuses The states to look for
+     * @return true if such a run exists
+     */
+    boolean existsByTaxYearAndStatusIn(Integer taxYear, Collection<TaxStatementRunStatus> statuses);
+
+    /**
+     * Finds the most recent runs.
+     *
+     * @return Up to 20 runs, newest first
+     */
+    List<TaxStatementRun> findTop20ByOrderByIdDesc();
+}
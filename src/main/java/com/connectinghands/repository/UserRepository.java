@@ -2,6 +2,8 @@ package com.connectinghands.repository;
 
 import com.connectinghands.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.Optional;
@@ -22,6 +24,15 @@ public interface UserRepository extends JpaRepository<User, Long> {
      */
     Optional<User> findByUsername(String username);
 
+    /**
+     * Find the ID of a user by their username, without loading the user.
+     *
+     * @param username The username to search for
+     * @return An Optional containing the user ID if found, empty otherwise
+     */
+    @Query("SELECT u.id FROM User u WHERE u.username = :username")
+    Optional<Long> findIdByUsername(@Param("username") String username);
+
     /**
      * Check if a username exists.
      *
@@ -0,0 +1,81 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CampaignDto;
+import com.connectinghands.dto.CampaignProgressDto;
+import com.connectinghands.dto.CreateCampaignRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Service interface for fundraising campaigns and their live progress.
+ * Progress is served from an in-memory aggregate per campaign that completed donations update
+ * once they commit and that is reconciled with the database periodically.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface CampaignService {
+    /**
+     * Creates a campaign.
+     *
+     * @param request The campaign details
+     * @return The created campaign
+     */
+    CampaignDto createCampaign(CreateCampaignRequest request);
+
+    /**
+     * Retrieves a campaign by its ID.
+     *
+     * @param id The ID of the campaign
+     * @return The campaign
+     * @throws com.connectinghands.exception.ResourceNotFoundException if the campaign does not exist
+     */
+    CampaignDto getCampaign(Long id);
+
+    /**
+     * Lists campaigns that have not ended yet.
+     *
+     * @return Running and upcoming campaigns, soonest ending first
+     */
+    List<CampaignDto> getCurrentCampaigns();
+
+    /**
+     * Reads the progress of a campaign from memory.
+     *
+     * @param id The ID of the campaign
+     * @return Amount raised and donations counted so far
+     * @throws com.connectinghands.exception.ResourceNotFoundException if the campaign does not exist
+     */
+    CampaignProgressDto getProgress(Long id);
+
+    /**
+     * Checks that a new donation may be attributed to a campaign.
+     *
+     * @param campaignId The ID of the campaign
+     * @param orphanageId The orphanage receiving the donation
+     * @param currency The currency of the donation
+     * @throws com.connectinghands.exception.ValidationException if the campaign is not running or does not
+     *         cover the orphanage or currency
+     */
+    void checkAttribution(Long campaignId, Long orphanageId, String currency);
+
+    /**
+     * Counts a completed donation towards (direction 1) or out of (direction -1) a campaign's
+     * progress once the current transaction commits.
+     *
+     * @param campaignId The ID of the campaign; ignored if null
+     * @param currency The currency of the donation
+     * @param amount The amount of the donation
+     * @param direction 1 when the donation completed, -1 when it stopped counting
+     */
+    void recordChange(Long campaignId, String currency, BigDecimal amount, int direction);
+
+    /**
+     * Replaces the in-memory progress of loaded campaigns with the database totals, picking up
+     * completions recorded by other instances. Campaigns that have not been read for a while are
+     * dropped from memory, and campaigns settled after their end are no longer reconciled.
+     *
+     * @return The number of campaigns reconciled
+     */
+    int reconcile();
+}
@@ -0,0 +1,62 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreateDonationPlanRequest;
+import com.connectinghands.dto.DonationPlanDto;
+
+import java.util.List;
+
+/**
+ * Service interface for recurring donation plans.
+ * Plans do not charge anything themselves: every cycle the scheduler generates a pending
+ * donation per due plan, and the payment pipeline charges it like any other donation.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonationPlanService {
+    /**
+     * Creates a plan for the current donor.
+     *
+     * @param request The plan details
+     * @return The created plan
+     */
+    DonationPlanDto createPlan(CreateDonationPlanRequest request);
+
+    /**
+     * Lists the current donor's plans.
+     *
+     * @return List of plans
+     */
+    List<DonationPlanDto> getMyPlans();
+
+    /**
+     * Pauses one of the current donor's active plans.
+     *
+     * @param id The ID of the plan
+     * @return The updated plan
+     */
+    DonationPlanDto pausePlan(Long id);
+
+    /**
+     * Resumes one of the current donor's paused plans. Occurrences that fell due while the
+     * plan was paused are skipped; the next one is the first still in the future.
+     *
+     * @param id The ID of the plan
+     * @return The updated plan
+     */
+    DonationPlanDto resumePlan(Long id);
+
+    /**
+     * Cancels one of the current donor's plans for good.
+     *
+     * @param id The ID of the plan
+     * @return The updated plan
+     */
+    DonationPlanDto cancelPlan(Long id);
+
+    /**
+     * Generates the donations of all due plans, batch by batch, until none are due.
+     *
+     * @return The number of donations generated
+     */
+    int generateDueDonations();
+}
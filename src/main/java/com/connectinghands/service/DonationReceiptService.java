@@ -0,0 +1,36 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.DonationReceiptFile;
+
+/**
+ * Service interface for donation receipts.
+ * Receipts are generated in the background after a donation completes and stored on local disk.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonationReceiptService {
+    /**
+     * Queues the receipt of a completed donation. Has no effect if the donation is not completed
+     * or its receipt is already queued.
+     *
+     * @param donationId The ID of the donation
+     * @return true if a receipt was queued
+     */
+    boolean enqueue(Long donationId);
+
+    /**
+     * Renders and stores queued receipts in batches until none are due.
+     *
+     * @return The number of receipts generated
+     */
+    int generatePending();
+
+    /**
+     * Looks up the stored receipt of a donation. Donors can only fetch their own receipts;
+     * another donor's receipt, or one whose donation is no longer completed, is not found.
+     *
+     * @param donationId The ID of the donation
+     * @return The stored receipt
+     */
+    DonationReceiptFile getReceiptFile(Long donationId);
+}
@@ -1,11 +1,14 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateDonationRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.DonationDto;
+import com.connectinghands.dto.DonationStatusCorrection;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.DonationStatus;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * Service interface for managing donations.
@@ -31,35 +34,43 @@ public interface DonationService {
     DonationDto getDonation(Long id);
 
     /**
-     * Retrieves all donations.
+     * Retrieves a page of all donations, newest first.
      *
-     * @return A list of all donation DTOs
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs
      */
-    List<DonationDto> getAllDonations();
+    CursorPage<DonationDto> getAllDonations(String cursor, int size);
 
     /**
-     * Retrieves all donations made by a specific donor.
+     * Retrieves a page of the donations made by a specific donor, newest first.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs made by the donor
      */
-    List<DonationDto> getDonationsByDonor(Long donorId);
+    CursorPage<DonationDto> getDonationsByDonor(Long donorId, String cursor, int size);
 
     /**
-     * Retrieves all donations received by a specific orphanage.
+     * Retrieves a page of the donations received by a specific orphanage, newest first.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs received by the orphanage
      */
-    List<DonationDto> getDonationsByOrphanage(Long orphanageId);
+    CursorPage<DonationDto> getDonationsByOrphanage(Long orphanageId, String cursor, int size);
 
     /**
-     * Retrieves all donations with a specific status.
+     * Retrieves a page of the donations with a specific status, newest first.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs with the specified status
      */
-    List<DonationDto> getDonationsByStatus(DonationStatus status);
+    CursorPage<DonationDto> getDonationsByStatus(DonationStatus status, String cursor, int size);
 
     /**
      * Updates an existing donation.
@@ -70,6 +81,60 @@ public interface DonationService {
      */
     DonationDto updateDonation(Long id, UpdateDonationRequest request);
 
+    /**
+     * Marks a pending donation completed after its payment succeeded.
+     * Calling it again, or for a donation that is no longer pending, has no effect.
+     *
+     * @param id The ID of the donation
+     * @param transactionId The payment gateway transaction ID
+     * @return true if the donation moved to COMPLETED
+     */
+    boolean completeDonation(Long id, String transactionId);
+
+    /**
+     * Marks a pending donation failed after its payment was declined or could not be made.
+     * Calling it again, or for a donation that is no longer pending, has no effect.
+     *
+     * @param id The ID of the donation
+     * @param reason Why the payment failed
+     * @return true if the donation moved to FAILED
+     */
+    boolean failDonation(Long id, String reason);
+
+    /**
+     * Completes a batch of pending donations with one UPDATE, for callers that settle payments in bulk.
+     * Donations that are missing or no longer pending are skipped.
+     *
+     * @param transactionIds Payment gateway transaction ID per donation ID
+     * @return The number of donations that moved to COMPLETED
+     */
+    int completeDonations(Map<Long, String> transactionIds);
+
+    /**
+     * Fails a batch of pending donations with one UPDATE.
+     * Donations that are missing or no longer pending are skipped.
+     *
+     * @param reasons Failure reason per donation ID
+     * @return The number of donations that moved to FAILED
+     */
+    int failDonations(Map<Long, String> reasons);
+
+    /**
+     * Applies status corrections in bulk, e.g. from settlement reconciliation. A correction only
+     * takes effect if the donation still has its expected status.
+     *
+     * @param corrections The status changes to apply
+     * @return The IDs of the donations whose status changed
+     */
+    List<Long> correctStatuses(List<DonationStatusCorrection> corrections);
+
+    /**
+     * Records creation events for donations that were inserted in bulk, bypassing createDonation.
+     *
+     * @param donationIds The IDs of the new donations
+     */
+    void publishCreated(List<Long> donationIds);
+
     /**
      * Deletes a donation by its ID.
      *
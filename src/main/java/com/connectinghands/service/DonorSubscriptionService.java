@@ -0,0 +1,56 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreateSubscriptionRequest;
+import com.connectinghands.dto.DonorSubscriptionDto;
+import com.connectinghands.entity.ResourceCategory;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Service interface for donor subscriptions to new resource requests.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface DonorSubscriptionService {
+    /**
+     * Subscribes the current donor to new requests of a category within a region.
+     *
+     * @param request The subscription details
+     * @return The created subscription
+     */
+    DonorSubscriptionDto subscribe(CreateSubscriptionRequest request);
+
+    /**
+     * Removes one of the current donor's subscriptions.
+     *
+     * @param subscriptionId The ID of the subscription
+     */
+    void unsubscribe(Long subscriptionId);
+
+    /**
+     * Retrieves the current donor's subscriptions.
+     *
+     * @return List of subscriptions
+     */
+    List<DonorSubscriptionDto> getMySubscriptions();
+
+    /**
+     * Finds the donors subscribed to a category in the given region,
+     * either for the exact state or for the whole country.
+     *
+     * @param category The request category
+     * @param country The country of the requesting orphanage
+     * @param state The state of the requesting orphanage, may be null
+     * @return IDs of the subscribed donors, without duplicates
+     */
+    Set<Long> findSubscribers(ResourceCategory category, String country, String state);
+
+    /**
+     * Rebuilds the in-memory subscriber index from the subscriptions table; triggered on startup
+     * and periodically by the scheduler.
+     *
+     * @return The number of subscriptions indexed
+     */
+    int rebuildIndex();
+}
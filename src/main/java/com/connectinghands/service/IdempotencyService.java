@@ -0,0 +1,53 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.IdempotencyRecord;
+
+import java.util.Optional;
+
+/**
+ * Service interface for storing Idempotency-Key claims and the responses they produced.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface IdempotencyService {
+    /**
+     * Claims a key for a new request.
+     *
+     * @param scopeKey The scope key
+     * @param requestHash Hash of the request body
+     * @return true if the caller now owns the key, false if a live claim or response already exists
+     */
+    boolean claim(String scopeKey, String requestHash);
+
+    /**
+     * Looks up a key.
+     *
+     * @param scopeKey The scope key
+     * @return The stored key, if any
+     */
+    Optional<IdempotencyRecord> find(String scopeKey);
+
+    /**
+     * Stores the response of a claimed key so that retries can replay it.
+     *
+     * @param scopeKey The scope key
+     * @param responseStatus HTTP status of the response
+     * @param contentType Content type of the response
+     * @param responseBody Body of the response
+     */
+    void complete(String scopeKey, int responseStatus, String contentType, byte[] responseBody);
+
+    /**
+     * Drops a claim whose request failed, so the client can retry with the same key.
+     *
+     * @param scopeKey The scope key
+     */
+    void release(String scopeKey);
+
+    /**
+     * Deletes keys past their retention period.
+     *
+     * @return The number of keys deleted
+     */
+    int purgeExpired();
+}
@@ -0,0 +1,57 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateReservationRequest;
+import com.connectinghands.dto.InventoryReservationDto;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Service interface for time-limited holds on resource stock.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface InventoryReservationService {
+    /**
+     * Holds part of a resource's unreserved stock until the reservation expires.
+     *
+     * @param resourceId The ID of the resource
+     * @param request The reservation details
+     * @return The created reservation
+     */
+    InventoryReservationDto reserve(Long resourceId, CreateReservationRequest request);
+
+    /**
+     * Cancels an active reservation and returns its stock.
+     *
+     * @param reservationId The ID of the reservation
+     * @return The released reservation
+     */
+    InventoryReservationDto release(Long reservationId);
+
+    /**
+     * Allocates the stock held by an active reservation.
+     *
+     * @param reservationId The ID of the reservation
+     * @return A description of which lots served the allocation
+     */
+    AllocationDto consume(Long reservationId);
+
+    /**
+     * Retrieves the active reservations of a resource, soonest expiry first.
+     *
+     * @param resourceId The ID of the resource
+     * @return List of active reservations
+     */
+    List<InventoryReservationDto> getActiveReservations(Long resourceId);
+
+    /**
+     * Expires those of the given reservations that are still active and due, returning their stock.
+     * Called by the expiry queue with each batch of due reservations.
+     *
+     * @param reservationIds The IDs of the due reservations
+     * @return The number of reservations expired
+     */
+    int releaseExpired(Collection<Long> reservationIds);
+}
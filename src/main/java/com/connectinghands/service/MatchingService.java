@@ -0,0 +1,60 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.MatchProposalDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceRequest;
+
+import java.util.List;
+
+/**
+ * Service interface for matching pending resource requests against surplus stock at other orphanages.
+ * Matching runs against in-memory indexes that are kept current as resources and requests change.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface MatchingService {
+    /**
+     * Retrieves the ranked match proposals for a resource request.
+     *
+     * @param requestId The ID of the resource request
+     * @return The proposals, best first; empty if the request is not pending or nothing matches
+     */
+    List<MatchProposalDto> getMatches(Long requestId);
+
+    /**
+     * Records a change to a resource's stock, status or type.
+     * Applied to the index once the surrounding transaction commits.
+     *
+     * @param resource The changed resource
+     */
+    void onResourceChanged(Resource resource);
+
+    /**
+     * Removes a deleted resource from the index once the surrounding transaction commits.
+     *
+     * @param resourceId The ID of the deleted resource
+     */
+    void onResourceRemoved(Long resourceId);
+
+    /**
+     * Matches a new or updated request once the surrounding transaction commits.
+     * Requests that are no longer pending are dropped from the index.
+     *
+     * @param request The changed request
+     */
+    void onRequestChanged(ResourceRequest request);
+
+    /**
+     * Removes a deleted request from the index once the surrounding transaction commits.
+     *
+     * @param requestId The ID of the deleted request
+     */
+    void onRequestRemoved(Long requestId);
+
+    /**
+     * Rebuilds all indexes from the database and rematches every pending request.
+     *
+     * @return The number of pending requests matched
+     */
+    int rebuild();
+}
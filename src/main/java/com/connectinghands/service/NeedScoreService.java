@@ -0,0 +1,43 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.OrphanageNeedDto;
+
+/**
+ * Service interface for the precomputed "most in need" orphanage ranking.
+ * Writers mark an orphanage dirty when its requests, donations or occupancy change;
+ * dirty orphanages are recomputed together in the background so reads never aggregate.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface NeedScoreService {
+    /**
+     * Schedules the need score of an orphanage for recomputation once the current transaction commits.
+     *
+     * @param orphanageId The ID of the orphanage
+     */
+    void markDirty(Long orphanageId);
+
+    /**
+     * Recomputes the scores of every orphanage marked dirty since the last run.
+     *
+     * @return The number of orphanages refreshed
+     */
+    int refreshDirty();
+
+    /**
+     * Recomputes every score, so donations that have aged out of the recent window stop counting.
+     *
+     * @return The number of orphanages refreshed
+     */
+    int refreshAll();
+
+    /**
+     * Reads a page of active orphanages ordered by need score, highest first.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of orphanages to return
+     * @return The page and the cursor of the next one
+     */
+    CursorPage<OrphanageNeedDto> getRanking(String cursor, int size);
+}
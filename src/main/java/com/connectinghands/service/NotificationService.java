@@ -0,0 +1,44 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.NotificationDto;
+import com.connectinghands.event.ResourceRequestCreatedEvent;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for in-app notifications.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface NotificationService {
+    /**
+     * Notifies every donor subscribed to the category and region of a newly created request.
+     * Donors already notified about the request are skipped, so the call can be repeated safely.
+     *
+     * @param event The request creation event
+     */
+    void notifySubscribers(ResourceRequestCreatedEvent event);
+
+    /**
+     * Retrieves the current user's notifications, newest first.
+     *
+     * @param pageable Pagination information
+     * @return A page of notifications
+     */
+    Page<NotificationDto> getMyNotifications(Pageable pageable);
+
+    /**
+     * Counts the current user's unread notifications.
+     *
+     * @return The number of unread notifications
+     */
+    long countMyUnread();
+
+    /**
+     * Marks one of the current user's notifications as read.
+     *
+     * @param notificationId The ID of the notification
+     * @return The updated notification
+     */
+    NotificationDto markRead(Long notificationId);
+}
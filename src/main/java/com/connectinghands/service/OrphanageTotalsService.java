@@ -0,0 +1,32 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.OrphanageTotalsChange;
+import com.connectinghands.dto.OrphanageTotalsDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the running donation totals shown on orphanage profiles.
+ * Totals cover completed donations and are kept up to date by the donation service in the
+ * same transaction as each status change, so profiles never aggregate the donations table.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OrphanageTotalsService {
+    /**
+     * Applies completed donations entering or leaving orphanage totals.
+     * Joins the caller's transaction, so the totals commit or roll back with the donation.
+     *
+     * @param changes The changes to apply
+     */
+    void applyChanges(List<OrphanageTotalsChange> changes);
+
+    /**
+     * Reads the totals of an orphanage.
+     *
+     * @param orphanageId The ID of the orphanage
+     * @return Total raised per currency, completed donations and distinct donors
+     * @throws com.connectinghands.exception.ResourceNotFoundException if the orphanage does not exist
+     */
+    OrphanageTotalsDto getTotals(Long orphanageId);
+}
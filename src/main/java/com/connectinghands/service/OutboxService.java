@@ -0,0 +1,35 @@
+package com.connectinghands.service;
+
+/**
+ * Service interface for the transactional outbox.
+ * Services record domain events inside their own transaction; a background relay then
+ * delivers committed events to the registered OutboxEventConsumer beans.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface OutboxService {
+    /**
+     * Records an event in the caller's transaction, so it is stored if and only if the change commits.
+     *
+     * @param aggregateType Kind of aggregate the event is about; see OutboxEventTypes
+     * @param aggregateId ID of the aggregate
+     * @param eventType Event type; see OutboxEventTypes
+     * @param payload Object serialized to JSON as the event payload
+     * @throws org.springframework.transaction.IllegalTransactionStateException if no transaction is active
+     */
+    void record(String aggregateType, Long aggregateId, String eventType, Object payload);
+
+    /**
+     * Delivers due events to their consumers in batches until none are left.
+     *
+     * @return The number of events delivered
+     */
+    int relayPending();
+
+    /**
+     * Deletes delivered events older than the retention period.
+     *
+     * @return The number of events deleted
+     */
+    int purgePublished();
+}
@@ -0,0 +1,18 @@
+package com.connectinghands.service;
+
+/**
+ * Service interface for the asynchronous payment pipeline.
+ * Pending donations are the pipeline's queue: due donations are claimed, charged through the
+ * configured PaymentGateway and moved to COMPLETED or FAILED, with transient failures retried.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface PaymentProcessingService {
+    /**
+     * Claims as many due donations as there are free gateway slots and starts charging them.
+     * Returns without waiting for the gateway.
+     *
+     * @return The number of payments started
+     */
+    int dispatchDuePayments();
+}
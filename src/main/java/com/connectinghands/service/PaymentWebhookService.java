@@ -0,0 +1,30 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.PaymentWebhookRequest;
+
+/**
+ * Service interface for applying payment provider callbacks.
+ * Callbacks are deduplicated by the provider's event ID and applied in group-committed batches,
+ * so a burst of callbacks costs a few transactions rather than one per callback.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface PaymentWebhookService {
+    /**
+     * Applies a verified callback and returns once it is committed.
+     *
+     * @param event The callback
+     * @return true if the event was new, false if it had already been received
+     * @throws com.connectinghands.exception.ServiceUnavailableException if the callback could not be
+     *         recorded in time; the provider should redeliver it
+     */
+    boolean receive(PaymentWebhookRequest event);
+
+    /**
+     * Deletes received events older than the retention period, which must exceed the
+     * provider's redelivery window.
+     *
+     * @return The number of events deleted
+     */
+    int purgeExpired();
+}
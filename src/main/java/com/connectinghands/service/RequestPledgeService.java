@@ -0,0 +1,68 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreatePledgeRequest;
+import com.connectinghands.dto.RecordDeliveryRequest;
+import com.connectinghands.dto.RequestPledgeDto;
+import com.connectinghands.dto.RequestProgressDto;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for partial pledges against resource requests.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface RequestPledgeService {
+    /**
+     * Pledges part of a pending request on behalf of the current donor.
+     *
+     * @param requestId The ID of the request
+     * @param request The pledge details
+     * @return The created pledge
+     */
+    RequestPledgeDto pledge(Long requestId, CreatePledgeRequest request);
+
+    /**
+     * Records goods received against a pledge.
+     * The request is marked fulfilled once its full quantity has been delivered.
+     * Only an administrator of the requesting orphanage, or an ADMIN, may record deliveries.
+     *
+     * @param pledgeId The ID of the pledge
+     * @param request The delivery details
+     * @return The updated pledge
+     */
+    RequestPledgeDto recordDelivery(Long pledgeId, RecordDeliveryRequest request);
+
+    /**
+     * Cancels the undelivered remainder of one of the current donor's pledges.
+     *
+     * @param pledgeId The ID of the pledge
+     * @return The cancelled pledge
+     */
+    RequestPledgeDto cancelPledge(Long pledgeId);
+
+    /**
+     * Retrieves the pledges made against a request, oldest first.
+     *
+     * @param requestId The ID of the request
+     * @param pageable Pagination information
+     * @return A page of pledges
+     */
+    Page<RequestPledgeDto> getPledges(Long requestId, Pageable pageable);
+
+    /**
+     * Retrieves the current donor's pledges, newest first.
+     *
+     * @param pageable Pagination information
+     * @return A page of pledges
+     */
+    Page<RequestPledgeDto> getMyPledges(Pageable pageable);
+
+    /**
+     * Retrieves the pledge and delivery progress of a request.
+     *
+     * @param requestId The ID of the request
+     * @return The progress of the request
+     */
+    RequestProgressDto getProgress(Long requestId);
+}
@@ -0,0 +1,24 @@
+package com.connectinghands.service;
+
+/**
+ * Service interface for keeping the resource request table small.
+ * Stale pending requests are expired and long-closed requests are moved to archive tables.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface RequestRetentionService {
+    /**
+     * Expires pending requests older than the configured age that nobody has pledged towards.
+     *
+     * @return The number of requests expired
+     */
+    int expireStaleRequests();
+
+    /**
+     * Moves fulfilled, cancelled and expired requests untouched for the configured period,
+     * together with their pledges, to the archive tables.
+     *
+     * @return The number of requests archived
+     */
+    int archiveClosedRequests();
+}
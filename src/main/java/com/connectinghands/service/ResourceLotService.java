@@ -0,0 +1,80 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateResourceLotRequest;
+import com.connectinghands.dto.ResourceLotDto;
+import com.connectinghands.entity.Resource;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Service interface for expiry-dated resource lots.
+ * Allocation always consumes the earliest-expiring lots first.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceLotService {
+    /**
+     * Receives a new lot and adds its quantity to the resource.
+     *
+     * @param resourceId The ID of the resource
+     * @param request The request containing lot details
+     * @return The created lot DTO
+     */
+    ResourceLotDto addLot(Long resourceId, CreateResourceLotRequest request);
+
+    /**
+     * Retrieves all lots of a resource ordered by expiry date.
+     *
+     * @param resourceId The ID of the resource
+     * @return A list of lot DTOs
+     */
+    List<ResourceLotDto> getLots(Long resourceId);
+
+    /**
+     * Retrieves active lots expiring within a number of days, soonest first.
+     *
+     * @param withinDays The look-ahead window in days
+     * @param pageable Pagination information
+     * @return A page of lot DTOs
+     */
+    Page<ResourceLotDto> getExpiringLots(int withinDays, Pageable pageable);
+
+    /**
+     * Allocates stock of a resource, consuming the earliest-expiring lots first.
+     *
+     * @param resourceId The ID of the resource
+     * @param quantity The quantity to allocate
+     * @return A description of which lots served the allocation
+     */
+    AllocationDto allocate(Long resourceId, int quantity);
+
+    /**
+     * Consumes stock of a resource whose row lock is already held by the caller's transaction.
+     * Quantity held by reservations is not available; a caller consuming a reservation releases it first.
+     *
+     * @param resource The locked resource
+     * @param quantity The quantity to consume
+     * @return A description of which lots served the allocation
+     */
+    AllocationDto consumeLocked(Resource resource, int quantity);
+
+    /**
+     * Sets the stock of a resource whose row lock is already held by the caller's transaction,
+     * as when a stock count is corrected. Lots are trimmed in expiry order until they hold no
+     * more than the new quantity. Stock held by reservations cannot be counted away.
+     *
+     * @param resource The locked resource
+     * @param quantity The new quantity
+     */
+    void setQuantityLocked(Resource resource, int quantity);
+
+    /**
+     * Writes off active lots past their expiry date in batches.
+     *
+     * @return The number of lots written off
+     */
+    int sweepExpiredLots();
+}
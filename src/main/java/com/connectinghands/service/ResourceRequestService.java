@@ -1,6 +1,7 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
@@ -46,12 +47,31 @@ public interface ResourceRequestService {
     List<ResourceRequestDto> getResourceRequestsByOrphanage(Long orphanageId);
 
     /**
-     * Get all resource requests with a specific status.
+     * Get a page of the resource requests with a specific status, in queue order.
      *
      * @param status The status to filter by
-     * @return List of resource request DTOs with the specified status
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of requests to return
+     * @return A page of resource request DTOs with the specified status
      */
-    List<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status);
+    CursorPage<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status, String cursor, int size);
+
+    /**
+     * Fulfill a pending resource request on behalf of the current donor.
+     *
+     * @param id The ID of the resource request
+     * @return The fulfilled resource request DTO
+     */
+    ResourceRequestDto fulfillResourceRequest(Long id);
+
+    /**
+     * Get a page of the pending request queue, ordered by priority, urgency score and age.
+     *
+     * @param cursor Cursor returned with the previous page, or null for the head of the queue
+     * @param size Maximum number of requests to return
+     * @return A page of pending request DTOs
+     */
+    CursorPage<ResourceRequestDto> getPendingQueue(String cursor, int size);
 
     /**
      * Update an existing resource request.
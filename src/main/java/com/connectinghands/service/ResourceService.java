@@ -1,6 +1,7 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.InventorySummaryDto;
 import com.connectinghands.dto.ResourceDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceCategory;
@@ -8,6 +9,8 @@ import com.connectinghands.entity.ResourceStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
+import java.util.List;
+
 /**
  * Service interface for managing resources.
  * Defines operations for creating, reading, updating, and deleting resources.
@@ -31,32 +34,53 @@ public interface ResourceService {
      */
     ResourceDto getResource(Long id);
 
+    /**
+     * Retrieves all resources.
+     *
+     * @return A list of all resource DTOs
+     */
+    List<ResourceDto> getAllResources();
+
     /**
      * Retrieves resources by orphanage.
      *
      * @param orphanageId The ID of the orphanage
-     * @param pageable The pageable object
-     * @return A page of resource DTOs
+     * @return A list of resource DTOs
      */
-    Page<ResourceDto> getResourcesByOrphanage(Long orphanageId, Pageable pageable);
+    List<ResourceDto> getResourcesByOrphanage(Long orphanageId);
 
     /**
      * Retrieves resources by category.
      *
      * @param category The category of the resources
-     * @param pageable The pageable object
-     * @return A page of resource DTOs
+     * @return A list of resource DTOs
      */
-    Page<ResourceDto> getResourcesByCategory(ResourceCategory category, Pageable pageable);
+    List<ResourceDto> getResourcesByCategory(ResourceCategory category);
 
     /**
      * Retrieves resources by status.
      *
      * @param status The status of the resources
+     * @return A list of resource DTOs
+     */
+    List<ResourceDto> getResourcesByStatus(ResourceStatus status);
+
+    /**
+     * Retrieves resources whose quantity is below their minimum threshold.
+     *
+     * @param orphanageId Optional orphanage to restrict the search to
      * @param pageable The pageable object
-     * @return A page of resource DTOs
+     * @return A page of resource DTOs below their threshold
+     */
+    Page<ResourceDto> getLowStockResources(Long orphanageId, Pageable pageable);
+
+    /**
+     * Retrieves network-wide available stock grouped by category and orphanage region.
+     *
+     * @param category Optional category to restrict the summary to
+     * @return Inventory totals, one row per category, region and unit
      */
-    Page<ResourceDto> getResourcesByStatus(ResourceStatus status, Pageable pageable);
+    List<InventorySummaryDto> getInventorySummary(ResourceCategory category);
 
     /**
      * Updates an existing resource.
@@ -0,0 +1,42 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.BatchTransferRequest;
+import com.connectinghands.dto.InventoryLedgerEntryDto;
+import com.connectinghands.dto.TransferDto;
+import com.connectinghands.dto.TransferResourceRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.List;
+
+/**
+ * Service interface for moving stock between orphanages.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceTransferService {
+    /**
+     * Moves quantity from one resource to another in a single transaction.
+     *
+     * @param request The transfer details
+     * @return The completed transfer
+     */
+    TransferDto transfer(TransferResourceRequest request);
+
+    /**
+     * Applies several transfers atomically: either all of them succeed or none is applied.
+     *
+     * @param request The transfers to apply
+     * @return The completed transfers, in request order
+     */
+    List<TransferDto> transferBatch(BatchTransferRequest request);
+
+    /**
+     * Retrieves the ledger of a resource, newest entries first.
+     *
+     * @param resourceId The ID of the resource
+     * @param pageable Pagination information
+     * @return A page of ledger entries
+     */
+    Page<InventoryLedgerEntryDto> getLedger(Long resourceId, Pageable pageable);
+}
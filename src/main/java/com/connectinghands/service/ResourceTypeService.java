@@ -0,0 +1,33 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.ResourceTypeDto;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceType;
+
+import java.util.List;
+
+/**
+ * Service interface for the shared resource catalog.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface ResourceTypeService {
+    /**
+     * Resolves a free-text resource name and category to their catalog entry, creating the
+     * entry if needed. The unit only becomes the default unit of a new entry.
+     *
+     * @param name The free-text name
+     * @param category The category of the resource
+     * @param unit The unit of the resource
+     * @return A reference to the catalog entry
+     */
+    ResourceType resolve(String name, ResourceCategory category, String unit);
+
+    /**
+     * Retrieves catalog entries, optionally restricted to a category.
+     *
+     * @param category Optional category filter
+     * @return The catalog entries ordered by name
+     */
+    List<ResourceTypeDto> getResourceTypes(ResourceCategory category);
+}
@@ -17,10 +17,19 @@ public interface SecurityService {
     Long getCurrentUserId();
 
     /**
-     * Check if the current user is associated with a specific orphanage.
+     * Check if the current user belongs to a specific orphanage,
+     * either as its administrator or as a member of its staff.
      *
      * @param orphanageId the ID of the orphanage to check
-     * @return true if the current user is associated with the orphanage
+     * @return true if the current user belongs to the orphanage
+     */
+    boolean isOrphanageUser(Long orphanageId);
+
+    /**
+     * Check if the current user is the administrator of a specific orphanage.
+     *
+     * @param orphanageId the ID of the orphanage to check
+     * @return true if the current user administers the orphanage
      */
     boolean isCurrentUserOrphanageAdmin(Long orphanageId);
 
@@ -32,5 +41,12 @@ public interface SecurityService {
      */
     boolean isCurrentUser(Long userId);
 
+    /**
+     * Check if the current user holds the platform administrator role.
+     *
+     * @return true if the current user is an administrator
+     */
+    boolean isCurrentUserAdmin();
+
     User getCurrentUser();
 } 
\ No newline at end of file
@@ -0,0 +1,50 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.SettlementDiscrepancyDto;
+import com.connectinghands.dto.SettlementRunDto;
+
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Service interface for reconciling payment provider settlement files against donations.
+ * Settlement files are CSV with the columns {@code transaction_id,amount,currency,status}, where
+ * status is SETTLED, REFUNDED or FAILED; a header line is optional.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface SettlementReconciliationService {
+    /**
+     * Reconciles every settlement file in the inbox directory that has not been completed yet,
+     * resuming interrupted files from their last checkpoint.
+     *
+     * @return The number of files completed by this call
+     */
+    int reconcileInbox();
+
+    /**
+     * Reconciles one settlement file, or resumes it from its last checkpoint.
+     *
+     * @param file The settlement file
+     * @return The run after this call
+     */
+    SettlementRunDto reconcile(Path file);
+
+    /**
+     * Lists the most recent reconciliation runs, newest first.
+     *
+     * @return Recent runs
+     */
+    List<SettlementRunDto> getRecentRuns();
+
+    /**
+     * Fetches a page of a run's discrepancy report, in file order.
+     *
+     * @param runId The ID of the run
+     * @param cursor Cursor returned with the previous page, or null for the first page
+     * @param size Maximum number of discrepancies to return
+     * @return A page of discrepancies
+     */
+    CursorPage<SettlementDiscrepancyDto> getDiscrepancies(Long runId, String cursor, int size);
+}
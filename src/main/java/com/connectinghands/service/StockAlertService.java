@@ -0,0 +1,35 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.StockAlertDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.StockAlertStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Service interface for low-stock threshold monitoring.
+ * Thresholds are evaluated incrementally on every quantity change instead of by periodic scans.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface StockAlertService {
+    /**
+     * Evaluates a resource after its quantity or threshold changed.
+     * Opens an alert when the resource crosses below its threshold and resolves
+     * the open alert when it crosses back; does nothing otherwise.
+     *
+     * @param resource The resource after the change
+     * @param wasBelowThreshold Whether the resource was below its threshold before the change
+     */
+    void evaluate(Resource resource, boolean wasBelowThreshold);
+
+    /**
+     * Retrieves alerts, optionally restricted to one orphanage.
+     *
+     * @param orphanageId The ID of the orphanage, or null for the whole network
+     * @param status The status to filter by
+     * @param pageable Pagination information
+     * @return A page of alert DTOs
+     */
+    Page<StockAlertDto> getAlerts(Long orphanageId, StockAlertStatus status, Pageable pageable);
+}
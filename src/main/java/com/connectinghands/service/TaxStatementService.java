@@ -0,0 +1,47 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.TaxStatementRunDto;
+
+import java.util.List;
+
+/**
+ * Service interface for the annual tax statement batch.
+ * A run writes one statement per donor with completed donations in the tax year, plus a manifest.
+ *
+ * @author Ragul Venkatesan
+ */
+public interface TaxStatementService {
+    /**
+     * Queues a run for a tax year.
+     *
+     * @param taxYear The tax year
+     * @return The queued run
+     * @throws com.connectinghands.exception.ConflictException if the year already has a queued or running run
+     */
+    TaxStatementRunDto requestRun(int taxYear);
+
+    /**
+     * Queues the run for the previous calendar year; triggered yearly by the scheduler.
+     */
+    void requestPreviousYear();
+
+    /**
+     * Hands the queued runs to the tax statement run executor, unless this instance is already
+     * executing runs; triggered by the scheduler.
+     */
+    void startQueuedRuns();
+
+    /**
+     * Executes queued runs one after another until none are left.
+     *
+     * @return The number of runs executed
+     */
+    int executeQueuedRuns();
+
+    /**
+     * Lists the most recent runs.
+     *
+     * @return Recent runs, newest first
+     */
+    List<TaxStatementRunDto> getRecentRuns();
+}
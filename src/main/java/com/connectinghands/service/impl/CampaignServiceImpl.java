@@ -0,0 +1,294 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CampaignDto;
+import com.connectinghands.dto.CampaignProgressDto;
+import com.connectinghands.dto.CampaignTotalDto;
+import com.connectinghands.dto.CreateCampaignRequest;
+import com.connectinghands.entity.Campaign;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.CampaignRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.CampaignService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of CampaignService.
+ * <p>
+ * Each campaign that has been read on this instance has a Progress entry holding the totals
+ * last read from the database plus LongAdder deltas. Completions add to the deltas after their
+ * transaction commits, so a viral campaign's completions never contend on a lock, and progress
+ * reads only sum a few fields without touching the database.
+ * <p>
+ * Reconciliation snapshots the deltas, reads the database totals, installs them as the new base
+ * and subtracts the snapshot. Completions recorded on other instances therefore show up within
+ * one reconcile interval, and a completion racing a reconciliation is off by at most one
+ * interval before the next run corrects it.
+ * <p>
+ * Only campaigns that are being read are kept: an entry not read within the idle timeout is
+ * dropped and reloaded on the next read. A campaign whose end lies further back than the
+ * settle period, long enough for late payments of its donations to complete, is reconciled
+ * one last time and then left alone.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+public class CampaignServiceImpl implements CampaignService {
+    private static final int RECONCILE_CHUNK_SIZE = 500;
+
+    private final CampaignRepository campaignRepository;
+    private final OrphanageRepository orphanageRepository;
+    private final Duration idleTimeout;
+    private final Duration settlePeriod;
+    private final Map<Long, Progress> progressByCampaign = new ConcurrentHashMap<>();
+
+    public CampaignServiceImpl(CampaignRepository campaignRepository,
+            OrphanageRepository orphanageRepository,
+            @Value("${connectinghands.campaigns.idle-timeout-minutes:60}") long idleTimeoutMinutes,
+            @Value("${connectinghands.campaigns.settle-hours:24}") long settleHours) {
+        this.campaignRepository = campaignRepository;
+        this.orphanageRepository = orphanageRepository;
+        this.idleTimeout = Duration.ofMinutes(idleTimeoutMinutes);
+        this.settlePeriod = Duration.ofHours(settleHours);
+    }
+
+    @Override
+    @Transactional
+    public CampaignDto createCampaign(CreateCampaignRequest request) {
+        if (!request.getEndsAt().isAfter(request.getStartsAt())) {
+            throw new ValidationException("Campaign must end after it starts");
+        }
+        if (!request.getEndsAt().isAfter(LocalDateTime.now())) {
+            throw new ValidationException("Campaign must end in the future");
+        }
+        if (!orphanageRepository.existsById(request.getOrphanageId())) {
+            throw new ResourceNotFoundException("Orphanage not found");
+        }
+
+        Campaign campaign = new Campaign();
+        campaign.setName(request.getName());
+        campaign.setDescription(request.getDescription());
+        campaign.setGoalAmount(request.getGoalAmount());
+        campaign.setCurrency(request.getCurrency().toUpperCase());
+        campaign.setStartsAt(request.getStartsAt());
+        campaign.setEndsAt(request.getEndsAt());
+        campaign.setOrphanageId(request.getOrphanageId());
+        campaign.setCreatedAt(LocalDateTime.now());
+        Campaign saved = campaignRepository.save(campaign);
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CampaignDto getCampaign(Long id) {
+        return campaignRepository.findById(id)
+                .map(this::mapToDto)
+                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found"));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CampaignDto> getCurrentCampaigns() {
+        return campaignRepository.findByEndsAtAfterOrderByEndsAtAsc(LocalDateTime.now()).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CampaignProgressDto getProgress(Long id) {
+        Progress progress = progress(id);
+        long cents = progress.baseCents + progress.deltaCents.sum();
+        BigDecimal raised = BigDecimal.valueOf(cents, 2);
+
+        CampaignProgressDto dto = new CampaignProgressDto();
+        dto.setCampaignId(id);
+        dto.setGoalAmount(progress.goalAmount);
+        dto.setCurrency(progress.currency);
+        dto.setRaisedAmount(raised);
+        dto.setDonationCount(progress.baseCount + progress.deltaCount.sum());
+        dto.setPercentComplete(raised.multiply(BigDecimal.valueOf(100))
+                .divide(progress.goalAmount, 0, RoundingMode.DOWN).intValue());
+        LocalDateTime now = LocalDateTime.now();
+        dto.setActive(!now.isBefore(progress.startsAt) && now.isBefore(progress.endsAt));
+        dto.setEndsAt(progress.endsAt);
+        dto.setReconciledAt(progress.reconciledAt);
+        return dto;
+    }
+
+    @Override
+    public void checkAttribution(Long campaignId, Long orphanageId, String currency) {
+        Progress progress = progress(campaignId);
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(progress.startsAt) || !now.isBefore(progress.endsAt)) {
+            throw new ValidationException("Campaign is not running");
+        }
+        if (!progress.orphanageId.equals(orphanageId)) {
+            throw new ValidationException("Campaign raises money for another orphanage");
+        }
+        // Case-insensitive like the database totals, which compare UPPER(currency).
+        if (currency == null || !progress.currency.equalsIgnoreCase(currency)) {
+            throw new ValidationException("Campaign donations must be made in " + progress.currency);
+        }
+    }
+
+    @Override
+    public void recordChange(Long campaignId, String currency, BigDecimal amount, int direction) {
+        if (campaignId == null || amount == null || direction == 0) {
+            return;
+        }
+        long cents = toCents(amount) * Integer.signum(direction);
+        afterCommit(() -> {
+            // Campaigns not loaded here pick the donation up when they are first read.
+            Progress progress = progressByCampaign.get(campaignId);
+            if (progress != null && progress.currency.equalsIgnoreCase(currency)) {
+                progress.deltaCents.add(cents);
+                progress.deltaCount.add(Integer.signum(direction));
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.campaigns.reconcile-interval-ms:15000}")
+    public int reconcile() {
+        long idleBefore = System.currentTimeMillis() - idleTimeout.toMillis();
+        List<Progress> due = new ArrayList<>();
+        for (Progress progress : progressByCampaign.values()) {
+            if (progress.lastReadAt < idleBefore) {
+                progressByCampaign.remove(progress.campaignId, progress);
+            } else if (!isSettled(progress)) {
+                due.add(progress);
+            }
+        }
+        for (int from = 0; from < due.size(); from += RECONCILE_CHUNK_SIZE) {
+            reconcile(due.subList(from, Math.min(from + RECONCILE_CHUNK_SIZE, due.size())));
+        }
+        return due.size();
+    }
+
+    /**
+     * A campaign is settled once it has been reconciled after its settle period ran out; its
+     * donations have had time to complete, so the totals read then are final.
+     */
+    private boolean isSettled(Progress progress) {
+        LocalDateTime settledAt = progress.endsAt.plus(settlePeriod);
+        return progress.reconciledAt != null && progress.reconciledAt.isAfter(settledAt);
+    }
+
+    private void reconcile(List<Progress> chunk) {
+        // Snapshot the deltas first: anything added after the snapshot stays in the delta.
+        long[] cents = new long[chunk.size()];
+        long[] counts = new long[chunk.size()];
+        for (int i = 0; i < chunk.size(); i++) {
+            cents[i] = chunk.get(i).deltaCents.sum();
+            counts[i] = chunk.get(i).deltaCount.sum();
+        }
+        Map<Long, CampaignTotalDto> totals = campaignRepository.sumCompleted(chunk.stream()
+                        .map(progress -> progress.campaignId)
+                        .collect(Collectors.toList())).stream()
+                .collect(Collectors.toMap(CampaignTotalDto::getCampaignId, Function.identity()));
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < chunk.size(); i++) {
+            Progress progress = chunk.get(i);
+            CampaignTotalDto total = totals.get(progress.campaignId);
+            progress.baseCents = total != null ? toCents(total.getRaisedAmount()) : 0;
+            progress.baseCount = total != null ? total.getDonationCount() : 0;
+            progress.deltaCents.add(-cents[i]);
+            progress.deltaCount.add(-counts[i]);
+            progress.reconciledAt = now;
+        }
+    }
+
+    /**
+     * Returns the in-memory progress of a campaign, loading it from the database on first use.
+     */
+    private Progress progress(Long id) {
+        Progress progress = progressByCampaign.get(id);
+        if (progress != null) {
+            progress.lastReadAt = System.currentTimeMillis();
+            return progress;
+        }
+        Campaign campaign = campaignRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Campaign not found"));
+        Progress loaded = new Progress(campaign);
+        reconcile(List.of(loaded));
+        Progress existing = progressByCampaign.putIfAbsent(id, loaded);
+        return existing != null ? existing : loaded;
+    }
+
+    private static long toCents(BigDecimal amount) {
+        return amount.setScale(2, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private CampaignDto mapToDto(Campaign campaign) {
+        CampaignDto dto = new CampaignDto();
+        dto.setId(campaign.getId());
+        dto.setName(campaign.getName());
+        dto.setDescription(campaign.getDescription());
+        dto.setGoalAmount(campaign.getGoalAmount());
+        dto.setCurrency(campaign.getCurrency());
+        dto.setStartsAt(campaign.getStartsAt());
+        dto.setEndsAt(campaign.getEndsAt());
+        dto.setOrphanageId(campaign.getOrphanageId());
+        dto.setCreatedAt(campaign.getCreatedAt());
+        return dto;
+    }
+
+    /**
+     * Live totals of one campaign. The campaign fields are fixed once created, so they are
+     * copied here and reads never go back to the database.
+     */
+    private static final class Progress {
+        private final Long campaignId;
+        private final BigDecimal goalAmount;
+        private final String currency;
+        private final LocalDateTime startsAt;
+        private final LocalDateTime endsAt;
+        private final Long orphanageId;
+        private final LongAdder deltaCents = new LongAdder();
+        private final LongAdder deltaCount = new LongAdder();
+        private volatile long baseCents;
+        private volatile long baseCount;
+        private volatile LocalDateTime reconciledAt;
+        private volatile long lastReadAt = System.currentTimeMillis();
+
+        Progress(Campaign campaign) {
+            this.campaignId = campaign.getId();
+            this.goalAmount = campaign.getGoalAmount();
+            this.currency = campaign.getCurrency();
+            this.startsAt = campaign.getStartsAt();
+            this.endsAt = campaign.getEndsAt();
+            this.orphanageId = campaign.getOrphanageId();
+        }
+    }
+}
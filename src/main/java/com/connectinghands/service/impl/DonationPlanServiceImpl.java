@@ -0,0 +1,217 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CreateDonationPlanRequest;
+import com.connectinghands.dto.DonationPlanDto;
+import com.connectinghands.entity.DonationFrequency;
+import com.connectinghands.entity.DonationPlan;
+import com.connectinghands.entity.DonationPlanStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.DonationPlanRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.DonationPlanService;
+import com.connectinghands.service.DonationService;
+import com.connectinghands.service.SecurityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of DonationPlanService.
+ * <p>
+ * The scheduler works in fixed-size batches, one short transaction each: a single statement
+ * claims due plans with SKIP LOCKED, advances them and inserts their donations, and the
+ * creation events are recorded in the same transaction. A short pause between batches keeps
+ * a month-start spike from monopolising the database; with several instances running, each
+ * takes its own batches.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class DonationPlanServiceImpl implements DonationPlanService {
+    private final DonationPlanRepository donationPlanRepository;
+    private final OrphanageRepository orphanageRepository;
+    private final DonationService donationService;
+    private final SecurityService securityService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final long batchPauseMillis;
+
+    public DonationPlanServiceImpl(DonationPlanRepository donationPlanRepository,
+            OrphanageRepository orphanageRepository,
+            DonationService donationService,
+            SecurityService securityService,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.recurring.batch-size:500}") int batchSize,
+            @Value("${connectinghands.recurring.batch-pause-ms:20}") long batchPauseMillis) {
+        this.donationPlanRepository = donationPlanRepository;
+        this.orphanageRepository = orphanageRepository;
+        this.donationService = donationService;
+        this.securityService = securityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.batchPauseMillis = batchPauseMillis;
+    }
+
+    @Override
+    @Transactional
+    public DonationPlanDto createPlan(CreateDonationPlanRequest request) {
+        if (!orphanageRepository.existsById(request.getOrphanageId())) {
+            throw new ResourceNotFoundException("Orphanage not found");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startAt = request.getStartAt() != null ? request.getStartAt() : now;
+        if (startAt.isBefore(now.minusMinutes(1))) {
+            throw new ValidationException("Start date must not be in the past");
+        }
+
+        DonationPlan plan = new DonationPlan();
+        plan.setDonorId(securityService.getCurrentUserId());
+        plan.setOrphanageId(request.getOrphanageId());
+        plan.setAmount(request.getAmount());
+        plan.setCurrency(request.getCurrency().toUpperCase());
+        plan.setPaymentMethod(request.getPaymentMethod());
+        plan.setFrequency(request.getFrequency());
+        plan.setStatus(DonationPlanStatus.ACTIVE);
+        plan.setStartAt(startAt);
+        plan.setNextCycle(0);
+        plan.setNextRunAt(startAt);
+        return mapToDto(donationPlanRepository.save(plan));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DonationPlanDto> getMyPlans() {
+        return donationPlanRepository.findByDonorIdOrderByIdAsc(securityService.getCurrentUserId()).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional
+    public DonationPlanDto pausePlan(Long id) {
+        DonationPlan plan = findOwnPlan(id);
+        if (plan.getStatus() != DonationPlanStatus.ACTIVE) {
+            throw new ConflictException("Only active plans can be paused");
+        }
+        plan.setStatus(DonationPlanStatus.PAUSED);
+        return mapToDto(donationPlanRepository.saveAndFlush(plan));
+    }
+
+    @Override
+    @Transactional
+    public DonationPlanDto resumePlan(Long id) {
+        DonationPlan plan = findOwnPlan(id);
+        if (plan.getStatus() != DonationPlanStatus.PAUSED) {
+            throw new ConflictException("Only paused plans can be resumed");
+        }
+        LocalDateTime now = LocalDateTime.now();
+        int cycle = plan.getNextCycle();
+        while (occurrence(plan.getStartAt(), plan.getFrequency(), cycle).isBefore(now)) {
+            cycle++;
+        }
+        plan.setNextCycle(cycle);
+        plan.setNextRunAt(occurrence(plan.getStartAt(), plan.getFrequency(), cycle));
+        plan.setStatus(DonationPlanStatus.ACTIVE);
+        return mapToDto(donationPlanRepository.saveAndFlush(plan));
+    }
+
+    @Override
+    @Transactional
+    public DonationPlanDto cancelPlan(Long id) {
+        DonationPlan plan = findOwnPlan(id);
+        if (plan.getStatus() == DonationPlanStatus.CANCELLED) {
+            throw new ConflictException("Plan is already cancelled");
+        }
+        plan.setStatus(DonationPlanStatus.CANCELLED);
+        return mapToDto(donationPlanRepository.saveAndFlush(plan));
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.recurring.interval-ms:60000}")
+    public int generateDueDonations() {
+        int total = 0;
+        List<Long> created;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            created = transactionTemplate.execute(status -> {
+                List<Long> ids = donationPlanRepository.generateDueCycles(now, batchSize);
+                donationService.publishCreated(ids);
+                return ids;
+            });
+            if (created == null) {
+                break;
+            }
+            total += created.size();
+            if (created.size() == batchSize && !pause()) {
+                break;
+            }
+        } while (created.size() == batchSize);
+
+        if (total > 0) {
+            log.info("Generated {} recurring donations", total);
+        }
+        return total;
+    }
+
+    private boolean pause() {
+        if (batchPauseMillis <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(batchPauseMillis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private DonationPlan findOwnPlan(Long id) {
+        DonationPlan plan = donationPlanRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Donation plan not found"));
+        if (!plan.getDonorId().equals(securityService.getCurrentUserId())) {
+            throw new ResourceNotFoundException("Donation plan not found");
+        }
+        return plan;
+    }
+
+    /**
+     * Due time of occurrence n. Counting from the start date rather than the previous
+     * occurrence keeps a plan started on the 31st on the last day of shorter months.
+     * Matches the interval arithmetic of DonationPlanRepository.generateDueCycles.
+     */
+    private static LocalDateTime occurrence(LocalDateTime startAt, DonationFrequency frequency, int n) {
+        return switch (frequency) {
+            case WEEKLY -> startAt.plusWeeks(n);
+            case MONTHLY -> startAt.plusMonths(n);
+            case YEARLY -> startAt.plusYears(n);
+        };
+    }
+
+    private DonationPlanDto mapToDto(DonationPlan plan) {
+        DonationPlanDto dto = new DonationPlanDto();
+        dto.setId(plan.getId());
+        dto.setDonorId(plan.getDonorId());
+        dto.setOrphanageId(plan.getOrphanageId());
+        dto.setAmount(plan.getAmount());
+        dto.setCurrency(plan.getCurrency());
+        dto.setPaymentMethod(plan.getPaymentMethod());
+        dto.setFrequency(plan.getFrequency());
+        dto.setStatus(plan.getStatus());
+        dto.setStartAt(plan.getStartAt());
+        dto.setNextRunAt(plan.getNextRunAt());
+        dto.setCreatedAt(plan.getCreatedAt());
+        return dto;
+    }
+}
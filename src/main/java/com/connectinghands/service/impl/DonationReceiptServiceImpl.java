@@ -0,0 +1,255 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.AsyncConfig;
+import com.connectinghands.dto.DonationReceiptFile;
+import com.connectinghands.dto.DonationReceiptView;
+import com.connectinghands.entity.DonationReceipt;
+import com.connectinghands.entity.DonationReceiptStatus;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.receipt.ReceiptTemplate;
+import com.connectinghands.repository.DonationReceiptRepository;
+import com.connectinghands.service.DonationReceiptService;
+import com.connectinghands.service.SecurityService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of DonationReceiptService.
+ * <p>
+ * The outbox consumer only inserts a queue row, so neither donation writes nor the relay wait
+ * for rendering. Workers then lease due receipts in batches with SKIP LOCKED, load their data
+ * with one query, render them in parallel on the receipt pool from a template compiled once at
+ * startup, and record the whole batch with one UPDATE. A year-end peak only lengthens the
+ * queue; it never adds work to the request path.
+ * <p>
+ * Files are written to a temporary name and moved into place, so a download never sees a
+ * partial receipt.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class DonationReceiptServiceImpl implements DonationReceiptService {
+    private static final String TEMPLATE = "receipts/donation-receipt.html";
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d MMMM yyyy", Locale.ENGLISH);
+    private static final DateTimeFormatter DIRECTORY_FORMAT = DateTimeFormatter.ofPattern("yyyy/MM");
+
+    private final DonationReceiptRepository donationReceiptRepository;
+    private final SecurityService securityService;
+    private final ObjectMapper objectMapper;
+    private final Executor receiptExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final ReceiptTemplate template;
+    private final Path directory;
+    private final int batchSize;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private final int retryBaseSeconds;
+
+    public DonationReceiptServiceImpl(DonationReceiptRepository donationReceiptRepository,
+            SecurityService securityService,
+            ObjectMapper objectMapper,
+            @Qualifier(AsyncConfig.RECEIPT_EXECUTOR) Executor receiptExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.receipts.dir:receipts}") String directory,
+            @Value("${connectinghands.receipts.batch-size:200}") int batchSize,
+            @Value("${connectinghands.receipts.lease-seconds:300}") int leaseSeconds,
+            @Value("${connectinghands.receipts.max-attempts:5}") int maxAttempts,
+            @Value("${connectinghands.receipts.retry-base-seconds:30}") int retryBaseSeconds) {
+        this.donationReceiptRepository = donationReceiptRepository;
+        this.securityService = securityService;
+        this.objectMapper = objectMapper;
+        this.receiptExecutor = receiptExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.template = ReceiptTemplate.load(TEMPLATE);
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+    }
+
+    @Override
+    @Transactional
+    public boolean enqueue(Long donationId) {
+        return donationReceiptRepository.enqueue(donationId, LocalDateTime.now()) > 0;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.receipts.poll-interval-ms:2000}")
+    public int generatePending() {
+        int total = 0;
+        List<Long> claimed;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            claimed = transactionTemplate.execute(status ->
+                    donationReceiptRepository.claimDue(now, now.plusSeconds(leaseSeconds), batchSize));
+            if (claimed == null || claimed.isEmpty()) {
+                break;
+            }
+            total += generate(claimed);
+        } while (claimed.size() == batchSize);
+
+        if (total > 0) {
+            log.info("Generated {} donation receipts", total);
+        }
+        return total;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DonationReceiptFile getReceiptFile(Long donationId) {
+        DonationReceipt receipt = donationReceiptRepository.findForCompletedDonation(donationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Receipt not found"));
+        // Another donor's receipt is answered like a missing one, so its existence is not revealed.
+        if (!receipt.getDonorId().equals(securityService.getCurrentUserId()) && !securityService.isCurrentUserAdmin()) {
+            throw new ResourceNotFoundException("Receipt not found");
+        }
+        if (receipt.getStatus() != DonationReceiptStatus.GENERATED) {
+            throw new ResourceNotFoundException("Receipt is not available yet");
+        }
+        Path path = directory.resolve(receipt.getFileName()).normalize();
+        if (!path.startsWith(directory) || !Files.isRegularFile(path)) {
+            throw new ResourceNotFoundException("Receipt file is missing");
+        }
+        return new DonationReceiptFile(receipt.getReceiptNumber(), path, receipt.getSizeBytes());
+    }
+
+    private int generate(List<Long> donationIds) {
+        // Receipts of donations deleted since they were queued were removed with them by cascade.
+        Map<Long, DonationReceiptView> views = donationReceiptRepository.findReceiptViews(donationIds).stream()
+                .collect(Collectors.toMap(DonationReceiptView::getDonationId, Function.identity()));
+        List<Long> notCompleted = donationIds.stream()
+                .filter(donationId -> !views.containsKey(donationId))
+                .collect(Collectors.toList());
+        if (!notCompleted.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status -> donationReceiptRepository.deleteQueued(notCompleted));
+        }
+
+        Map<Long, CompletableFuture<Map<String, Object>>> rendering = new LinkedHashMap<>();
+        for (DonationReceiptView view : views.values()) {
+            rendering.put(view.getDonationId(), CompletableFuture.supplyAsync(() -> store(view), receiptExecutor));
+        }
+
+        List<Map<String, Object>> stored = new ArrayList<>(rendering.size());
+        rendering.forEach((donationId, future) -> {
+            try {
+                stored.add(future.join());
+            } catch (CompletionException e) {
+                recordFailure(donationId, e.getCause() != null ? e.getCause() : e);
+            }
+        });
+
+        if (!stored.isEmpty()) {
+            String json = writeJson(stored);
+            transactionTemplate.executeWithoutResult(status ->
+                    donationReceiptRepository.markAllGenerated(json, LocalDateTime.now()));
+        }
+        return stored.size();
+    }
+
+    /**
+     * Renders one receipt and writes it to disk. Runs on the receipt pool.
+     *
+     * @return The row for markAllGenerated
+     */
+    private Map<String, Object> store(DonationReceiptView view) {
+        LocalDateTime completedAt = view.getCompletedAt() != null ? view.getCompletedAt() : LocalDateTime.now();
+        String receiptNumber = String.format("CH-%d-%08d", completedAt.getYear(), view.getDonationId());
+        String fileName = completedAt.format(DIRECTORY_FORMAT) + "/" + receiptNumber + ".html";
+        byte[] content = template.render(values(view, receiptNumber, completedAt)).getBytes(StandardCharsets.UTF_8);
+
+        Path target = directory.resolve(fileName);
+        try {
+            Files.createDirectories(target.getParent());
+            Path temporary = Files.createTempFile(target.getParent(), receiptNumber, ".tmp");
+            try {
+                Files.write(temporary, content);
+                Files.move(temporary, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } finally {
+                Files.deleteIfExists(temporary);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not store receipt " + receiptNumber, e);
+        }
+
+        Map<String, Object> row = new HashMap<>();
+        row.put("id", view.getDonationId());
+        row.put("number", receiptNumber);
+        row.put("file", fileName);
+        row.put("size", content.length);
+        return row;
+    }
+
+    private static Map<String, String> values(DonationReceiptView view, String receiptNumber, LocalDateTime completedAt) {
+        String donorName = ((view.getDonorFirstName() != null ? view.getDonorFirstName() : "") + " "
+                + (view.getDonorLastName() != null ? view.getDonorLastName() : "")).trim();
+
+        Map<String, String> values = new HashMap<>();
+        values.put("receiptNumber", receiptNumber);
+        values.put("date", completedAt.format(DATE_FORMAT));
+        values.put("donorName", donorName.isEmpty() ? view.getDonorEmail() : donorName);
+        values.put("donorEmail", view.getDonorEmail());
+        values.put("orphanageName", view.getOrphanageName());
+        values.put("amount", view.getAmount() != null ? view.getAmount().setScale(2, RoundingMode.HALF_UP).toPlainString() : null);
+        values.put("currency", view.getCurrency());
+        values.put("paymentMethod", view.getPaymentMethod() != null ? view.getPaymentMethod().name() : null);
+        values.put("transactionId", view.getTransactionId());
+        values.put("donationId", String.valueOf(view.getDonationId()));
+        return values;
+    }
+
+    private void recordFailure(Long donationId, Throwable e) {
+        DonationReceipt receipt = donationReceiptRepository.findById(donationId).orElse(null);
+        int attempt = (receipt != null ? receipt.getAttempts() : 0) + 1;
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, (long) retryBaseSeconds << Math.min(attempt - 1, 20));
+        if (attempt >= maxAttempts) {
+            log.error("Giving up on receipt for donation {} after {} attempts", donationId, attempt, e);
+        } else {
+            log.warn("Receipt for donation {} failed, retrying in {}s", donationId, backoff, e);
+        }
+        String error = String.valueOf(e.getMessage());
+        String lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+        transactionTemplate.executeWithoutResult(status -> donationReceiptRepository.markAttemptFailed(
+                donationId, lastError, LocalDateTime.now().plusSeconds(backoff), maxAttempts));
+    }
+
+    private String writeJson(List<Map<String, Object>> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize receipt batch", e);
+        }
+    }
+}
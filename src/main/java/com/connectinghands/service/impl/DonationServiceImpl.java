@@ -1,23 +1,43 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.dto.CreateDonationRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.DonationDto;
+import com.connectinghands.dto.DonationStatusCorrection;
+import com.connectinghands.dto.OrphanageTotalsChange;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.DonationStatus;
-import com.connectinghands.entity.Orphanage;
-import com.connectinghands.entity.User;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.exception.ValidationException;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.CampaignService;
 import com.connectinghands.service.DonationService;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.service.OrphanageTotalsService;
+import com.connectinghands.service.OutboxService;
+import com.connectinghands.util.CursorCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.IntFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -29,10 +49,16 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class DonationServiceImpl implements DonationService {
+    private static final int MAX_PAGE_SIZE = 100;
 
     private final DonationRepository donationRepository;
     private final UserRepository userRepository;
     private final OrphanageRepository orphanageRepository;
+    private final NeedScoreService needScoreService;
+    private final OrphanageTotalsService orphanageTotalsService;
+    private final CampaignService campaignService;
+    private final OutboxService outboxService;
+    private final ObjectMapper objectMapper;
 
     /**
      * Creates a new donation.
@@ -45,24 +71,32 @@ public class DonationServiceImpl implements DonationService {
     @Override
     @Transactional
     public DonationDto createDonation(CreateDonationRequest request) {
-        Orphanage orphanage = orphanageRepository.findById(request.getOrphanageId())
-                .orElseThrow(() -> new EntityNotFoundException("Orphanage not found"));
-
+        // Both sides are only needed as foreign keys: check existence cheaply and attach references.
+        if (!orphanageRepository.existsById(request.getOrphanageId())) {
+            throw new EntityNotFoundException("Orphanage not found");
+        }
+        if (request.getCampaignId() != null) {
+            campaignService.checkAttribution(request.getCampaignId(), request.getOrphanageId(), request.getCurrency());
+        }
         String username = SecurityContextHolder.getContext().getAuthentication().getName();
-        User donor = userRepository.findByUsername(username)
+        Long donorId = userRepository.findIdByUsername(username)
                 .orElseThrow(() -> new EntityNotFoundException("Donor not found"));
 
         Donation donation = new Donation();
-        donation.setDonor(donor);
-        donation.setOrphanage(orphanage);
+        donation.setDonor(userRepository.getReferenceById(donorId));
+        donation.setOrphanage(orphanageRepository.getReferenceById(request.getOrphanageId()));
         donation.setAmount(request.getAmount());
-        donation.setCurrency(request.getCurrency());
+        donation.setCurrency(upperCase(request.getCurrency()));
         donation.setStatus(DonationStatus.PENDING);
         donation.setPaymentMethod(request.getPaymentMethod());
         donation.setNotes(request.getNotes());
+        donation.setCampaignId(request.getCampaignId());
+        donation.setNextPaymentAttemptAt(LocalDateTime.now());
 
         Donation savedDonation = donationRepository.save(donation);
-        return mapToDto(savedDonation);
+        DonationDto dto = mapToDto(savedDonation);
+        outboxService.record(OutboxEventTypes.DONATION, savedDonation.getId(), OutboxEventTypes.DONATION_CREATED, dto);
+        return dto;
     }
 
     /**
@@ -81,63 +115,70 @@ public class DonationServiceImpl implements DonationService {
     }
 
     /**
-     * Retrieves all donations.
+     * Retrieves a page of all donations, newest first.
      *
-     * @return A list of all donation DTOs
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getAllDonations() {
-        return donationRepository.findAll().stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public CursorPage<DonationDto> getAllDonations(String cursor, int size) {
+        return page(cursor, size, donationRepository::findHistoryHead, donationRepository::findHistoryAfter);
     }
 
     /**
-     * Retrieves all donations made by a specific donor.
+     * Retrieves a page of the donations made by a specific donor, newest first.
      *
      * @param donorId The ID of the donor
-     * @return A list of donation DTOs made by the donor
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs made by the donor
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByDonor(Long donorId) {
-        return donationRepository.findByDonorId(donorId).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public CursorPage<DonationDto> getDonationsByDonor(Long donorId, String cursor, int size) {
+        return page(cursor, size,
+                limit -> donationRepository.findDonorHistoryHead(donorId, limit),
+                (createdAt, id, limit) -> donationRepository.findDonorHistoryAfter(donorId, createdAt, id, limit));
     }
 
     /**
-     * Retrieves all donations received by a specific orphanage.
+     * Retrieves a page of the donations received by a specific orphanage, newest first.
      *
      * @param orphanageId The ID of the orphanage
-     * @return A list of donation DTOs received by the orphanage
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs received by the orphanage
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByOrphanage(Long orphanageId) {
-        return donationRepository.findByOrphanageId(orphanageId).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public CursorPage<DonationDto> getDonationsByOrphanage(Long orphanageId, String cursor, int size) {
+        return page(cursor, size,
+                limit -> donationRepository.findOrphanageHistoryHead(orphanageId, limit),
+                (createdAt, id, limit) -> donationRepository.findOrphanageHistoryAfter(orphanageId, createdAt, id, limit));
     }
 
     /**
-     * Retrieves all donations with a specific status.
+     * Retrieves a page of the donations with a specific status, newest first.
      *
      * @param status The status to search for
-     * @return A list of donation DTOs with the specified status
+     * @param cursor Cursor returned with the previous page, or null for the newest donations
+     * @param size Maximum number of donations to return
+     * @return A page of donation DTOs with the specified status
      */
     @Override
     @Transactional(readOnly = true)
-    public List<DonationDto> getDonationsByStatus(DonationStatus status) {
-        return donationRepository.findByStatus(status).stream()
-                .map(this::mapToDto)
-                .collect(Collectors.toList());
+    public CursorPage<DonationDto> getDonationsByStatus(DonationStatus status, String cursor, int size) {
+        return page(cursor, size,
+                limit -> donationRepository.findStatusHistoryHead(status.name(), limit),
+                (createdAt, id, limit) -> donationRepository.findStatusHistoryAfter(status.name(), createdAt, id, limit));
     }
 
     /**
      * Updates an existing donation.
-     * Logs the update action.
+     * Logs the update action. The donation is versioned, so if a payment settles it between the
+     * read and the commit the whole edit, totals included, rolls back with a 409.
      *
      * @param id The ID of the donation to update
      * @param request The request containing updated donation details
@@ -149,15 +190,19 @@ public class DonationServiceImpl implements DonationService {
     public DonationDto updateDonation(Long id, UpdateDonationRequest request) {
         Donation donation = donationRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
+        DonationStatus previousStatus = donation.getStatus();
+        BigDecimal previousAmount = donation.getAmount();
+        String previousCurrency = donation.getCurrency();
 
         if (request.getAmount() != null) {
             donation.setAmount(request.getAmount());
         }
         if (request.getCurrency() != null) {
-            donation.setCurrency(request.getCurrency());
+            donation.setCurrency(request.getCurrency().toUpperCase());
         }
-        if (request.getStatus() != null) {
+        if (request.getStatus() != null && request.getStatus() != previousStatus) {
             donation.setStatus(request.getStatus());
+            donation.setCompletedAt(request.getStatus() == DonationStatus.COMPLETED ? LocalDateTime.now() : null);
         }
         if (request.getPaymentMethod() != null) {
             donation.setPaymentMethod(request.getPaymentMethod());
@@ -167,7 +212,144 @@ public class DonationServiceImpl implements DonationService {
         }
 
         Donation updatedDonation = donationRepository.save(donation);
-        return mapToDto(updatedDonation);
+        if (request.getStatus() != null || request.getAmount() != null) {
+            // Completed donations lower the recipient's need score.
+            needScoreService.markDirty(updatedDonation.getOrphanage().getId());
+        }
+        if (updatedDonation.getStatus() != previousStatus
+                || !Objects.equals(updatedDonation.getAmount(), previousAmount)
+                || !Objects.equals(updatedDonation.getCurrency(), previousCurrency)) {
+            // Take the old figures out of the totals and put the new ones in.
+            List<OrphanageTotalsChange> changes = new ArrayList<>(2);
+            if (previousStatus == DonationStatus.COMPLETED) {
+                countCompletion(changes, updatedDonation, previousAmount, previousCurrency, -1);
+            }
+            if (updatedDonation.getStatus() == DonationStatus.COMPLETED) {
+                countCompletion(changes, updatedDonation, updatedDonation.getAmount(), updatedDonation.getCurrency(), 1);
+            }
+            orphanageTotalsService.applyChanges(changes);
+        }
+        DonationDto dto = mapToDto(updatedDonation);
+        if (updatedDonation.getStatus() != previousStatus) {
+            recordStatusChange(dto, previousStatus);
+        } else {
+            outboxService.record(OutboxEventTypes.DONATION, id, OutboxEventTypes.DONATION_UPDATED, dto);
+        }
+        return dto;
+    }
+
+    /**
+     * Completes a pending donation with a single conditional UPDATE, so a late gateway reply
+     * and a webhook for the same payment cannot both take effect.
+     *
+     * @param id The ID of the donation
+     * @param transactionId The payment gateway transaction ID
+     * @return true if the donation moved to COMPLETED
+     */
+    @Override
+    @Transactional
+    public boolean completeDonation(Long id, String transactionId) {
+        if (donationRepository.completeIfPending(id, transactionId, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        onPaymentSettled(id);
+        return true;
+    }
+
+    /**
+     * Fails a pending donation with a single conditional UPDATE.
+     *
+     * @param id The ID of the donation
+     * @param reason Why the payment failed
+     * @return true if the donation moved to FAILED
+     */
+    @Override
+    @Transactional
+    public boolean failDonation(Long id, String reason) {
+        String error = reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason;
+        if (donationRepository.failIfPending(id, error, LocalDateTime.now()) == 0) {
+            return false;
+        }
+        onPaymentSettled(id);
+        return true;
+    }
+
+    /**
+     * Completes pending donations in bulk; the conditional UPDATE reports which rows it changed,
+     * and only those get a status change event.
+     *
+     * @param transactionIds Payment gateway transaction ID per donation ID
+     * @return The number of donations that moved to COMPLETED
+     */
+    @Override
+    @Transactional
+    public int completeDonations(Map<Long, String> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return 0;
+        }
+        List<Long> completed = donationRepository.completeAllIfPending(toJson(transactionIds), LocalDateTime.now());
+        onPaymentsSettled(completed);
+        return completed.size();
+    }
+
+    /**
+     * Fails pending donations in bulk.
+     *
+     * @param reasons Failure reason per donation ID
+     * @return The number of donations that moved to FAILED
+     */
+    @Override
+    @Transactional
+    public int failDonations(Map<Long, String> reasons) {
+        if (reasons.isEmpty()) {
+            return 0;
+        }
+        Map<Long, String> errors = new LinkedHashMap<>();
+        reasons.forEach((id, reason) ->
+                errors.put(id, reason != null && reason.length() > 500 ? reason.substring(0, 500) : reason));
+        List<Long> failed = donationRepository.failAllIfPending(toJson(errors), LocalDateTime.now());
+        onPaymentsSettled(failed);
+        return failed.size();
+    }
+
+    /**
+     * Applies status corrections with one conditional UPDATE; corrections whose donation changed
+     * status in the meantime are skipped rather than overwriting the newer status.
+     *
+     * @param corrections The status changes to apply
+     * @return The IDs of the donations whose status changed
+     */
+    @Override
+    @Transactional
+    public List<Long> correctStatuses(List<DonationStatusCorrection> corrections) {
+        if (corrections.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, DonationStatus> expected = new HashMap<>();
+        List<Map<String, Object>> rows = new ArrayList<>(corrections.size());
+        for (DonationStatusCorrection correction : corrections) {
+            expected.put(correction.getDonationId(), correction.getExpectedStatus());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", correction.getDonationId());
+            row.put("expected", correction.getExpectedStatus().name());
+            row.put("status", correction.getNewStatus().name());
+            rows.add(row);
+        }
+        List<Long> changed = donationRepository.correctAllStatuses(writeJson(rows), LocalDateTime.now());
+        onStatusesChanged(changed, expected::get);
+        return changed;
+    }
+
+    @Override
+    @Transactional
+    public void publishCreated(List<Long> donationIds) {
+        if (donationIds.isEmpty()) {
+            return;
+        }
+        for (Donation donation : donationRepository.findAllById(donationIds)) {
+            outboxService.record(OutboxEventTypes.DONATION, donation.getId(), OutboxEventTypes.DONATION_CREATED,
+                    mapToDto(donation));
+        }
     }
 
     /**
@@ -180,10 +362,133 @@ public class DonationServiceImpl implements DonationService {
     @Override
     @Transactional
     public void deleteDonation(Long id) {
-        if (!donationRepository.existsById(id)) {
-            throw new EntityNotFoundException("Donation not found");
+        Donation donation = donationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
+        donationRepository.delete(donation);
+        needScoreService.markDirty(donation.getOrphanage().getId());
+        if (donation.getStatus() == DonationStatus.COMPLETED) {
+            List<OrphanageTotalsChange> changes = new ArrayList<>(1);
+            countCompletion(changes, donation, donation.getAmount(), donation.getCurrency(), -1);
+            orphanageTotalsService.applyChanges(changes);
+        }
+        outboxService.record(OutboxEventTypes.DONATION, id, OutboxEventTypes.DONATION_DELETED, mapToDto(donation));
+    }
+
+    private CursorPage<DonationDto> page(String cursor, int size, IntFunction<List<Donation>> head,
+                                         HistoryAfter after) {
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query.
+        List<Donation> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = head.apply(size + 1);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                rows = after.find(LocalDateTime.parse(position[0]), Long.parseLong(position[1]), size + 1);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new ValidationException("Invalid cursor");
+            }
         }
-        donationRepository.deleteById(id);
+
+        boolean hasMore = rows.size() > size;
+        List<Donation> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            Donation last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(page.stream().map(this::mapToDto).collect(Collectors.toList()), nextCursor, hasMore);
+    }
+
+    /**
+     * Reads the history page that follows a (created_at, id) keyset position.
+     */
+    @FunctionalInterface
+    private interface HistoryAfter {
+        List<Donation> find(LocalDateTime createdAt, long id, int limit);
+    }
+
+    private void onPaymentSettled(Long id) {
+        Donation donation = donationRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("Donation not found"));
+        needScoreService.markDirty(donation.getOrphanage().getId());
+        if (donation.getStatus() == DonationStatus.COMPLETED) {
+            List<OrphanageTotalsChange> changes = new ArrayList<>(1);
+            countCompletion(changes, donation, donation.getAmount(), donation.getCurrency(), 1);
+            orphanageTotalsService.applyChanges(changes);
+        }
+        recordStatusChange(mapToDto(donation), DonationStatus.PENDING);
+    }
+
+    private void onPaymentsSettled(List<Long> ids) {
+        onStatusesChanged(ids, id -> DonationStatus.PENDING);
+    }
+
+    private void onStatusesChanged(List<Long> ids, Function<Long, DonationStatus> previousStatus) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        List<OrphanageTotalsChange> changes = new ArrayList<>();
+        for (Donation donation : donationRepository.findAllById(ids)) {
+            DonationStatus previous = previousStatus.apply(donation.getId());
+            needScoreService.markDirty(donation.getOrphanage().getId());
+            int direction = (donation.getStatus() == DonationStatus.COMPLETED ? 1 : 0)
+                    - (previous == DonationStatus.COMPLETED ? 1 : 0);
+            if (direction != 0) {
+                countCompletion(changes, donation, donation.getAmount(), donation.getCurrency(), direction);
+            }
+            recordStatusChange(mapToDto(donation), previous);
+        }
+        // One statement for the whole batch rather than one per donation.
+        orphanageTotalsService.applyChanges(changes);
+    }
+
+    /**
+     * Queues a completed donation entering or leaving the orphanage totals, and counts it in or
+     * out of its campaign's live progress once the transaction commits.
+     */
+    private void countCompletion(List<OrphanageTotalsChange> changes, Donation donation, BigDecimal amount,
+                                 String currency, int direction) {
+        changes.add(new OrphanageTotalsChange(donation.getId(), donation.getOrphanage().getId(),
+                donation.getDonor().getId(), currency, amount, direction));
+        campaignService.recordChange(donation.getCampaignId(), currency, amount, direction);
+    }
+
+    /**
+     * Currencies are stored upper case, as campaigns and donation plans store theirs, so totals
+     * keyed by currency never split one currency over two spellings.
+     */
+    private static String upperCase(String currency) {
+        return currency != null ? currency.toUpperCase() : null;
+    }
+
+    private String toJson(Map<Long, String> values) {
+        List<Map<String, Object>> rows = new ArrayList<>(values.size());
+        values.forEach((id, value) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("id", id);
+            row.put("value", value);
+            rows.add(row);
+        });
+        return writeJson(rows);
+    }
+
+    private String writeJson(List<Map<String, Object>> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize donation updates", e);
+        }
+    }
+
+    private void recordStatusChange(DonationDto dto, DonationStatus previousStatus) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("previousStatus", previousStatus);
+        payload.put("donation", dto);
+        outboxService.record(OutboxEventTypes.DONATION, dto.getId(), OutboxEventTypes.DONATION_STATUS_CHANGED, payload);
     }
 
     /**
@@ -202,7 +507,11 @@ public class DonationServiceImpl implements DonationService {
         dto.setStatus(donation.getStatus());
         dto.setPaymentMethod(donation.getPaymentMethod());
         dto.setTransactionId(donation.getTransactionId());
+        dto.setPlanId(donation.getPlanId());
+        dto.setCampaignId(donation.getCampaignId());
         dto.setNotes(donation.getNotes());
+        dto.setCreatedAt(donation.getCreatedAt());
+        dto.setUpdatedAt(donation.getUpdatedAt());
         return dto;
     }
 } 
\ No newline at end of file
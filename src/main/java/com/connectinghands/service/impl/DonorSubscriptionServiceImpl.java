@@ -0,0 +1,160 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CreateSubscriptionRequest;
+import com.connectinghands.dto.DonorSubscriptionDto;
+import com.connectinghands.entity.DonorSubscription;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.DonorSubscriptionRepository;
+import com.connectinghands.service.DonorSubscriptionService;
+import com.connectinghands.service.SecurityService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of DonorSubscriptionService.
+ * Subscribers are kept in an in-memory inverted index keyed by (category, country, state),
+ * with a wildcard state for country-wide subscriptions. Finding the audience of a new
+ * request is therefore two hash lookups, independent of the total number of subscriptions.
+ * Index changes are applied after commit. The index only sees changes made on this instance,
+ * so it is rebuilt from the table on startup and periodically thereafter, which bounds how long
+ * a subscription made elsewhere goes unnoticed.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DonorSubscriptionServiceImpl implements DonorSubscriptionService {
+    private static final String ANY_STATE = "*";
+
+    private final DonorSubscriptionRepository donorSubscriptionRepository;
+    private final SecurityService securityService;
+
+    private volatile Map<String, Set<Long>> index = new ConcurrentHashMap<>();
+
+    @Override
+    @Transactional
+    public DonorSubscriptionDto subscribe(CreateSubscriptionRequest request) {
+        DonorSubscription subscription = new DonorSubscription();
+        subscription.setDonorId(securityService.getCurrentUserId());
+        subscription.setCategory(request.getCategory());
+        subscription.setCountry(request.getCountry().trim());
+        subscription.setState(request.getState() == null || request.getState().isBlank()
+                ? null : request.getState().trim());
+
+        DonorSubscription saved;
+        try {
+            saved = donorSubscriptionRepository.saveAndFlush(subscription);
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Already subscribed to this category and region");
+        }
+
+        String key = key(saved.getCategory(), saved.getCountry(), saved.getState());
+        Long donorId = saved.getDonorId();
+        afterCommit(() -> index.computeIfAbsent(key, k -> ConcurrentHashMap.newKeySet()).add(donorId));
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public void unsubscribe(Long subscriptionId) {
+        DonorSubscription subscription = donorSubscriptionRepository.findById(subscriptionId)
+                .orElseThrow(() -> new ResourceNotFoundException("Subscription not found"));
+        // Subscriptions reveal a donor's interests, so another donor's is reported as missing.
+        if (!subscription.getDonorId().equals(securityService.getCurrentUserId())) {
+            throw new ResourceNotFoundException("Subscription not found");
+        }
+        donorSubscriptionRepository.delete(subscription);
+
+        String key = key(subscription.getCategory(), subscription.getCountry(), subscription.getState());
+        Long donorId = subscription.getDonorId();
+        afterCommit(() -> {
+            Set<Long> donors = index.get(key);
+            if (donors != null) {
+                donors.remove(donorId);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<DonorSubscriptionDto> getMySubscriptions() {
+        return donorSubscriptionRepository.findByDonorIdOrderByIdAsc(securityService.getCurrentUserId()).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public Set<Long> findSubscribers(ResourceCategory category, String country, String state) {
+        if (category == null || country == null) {
+            return Set.of();
+        }
+        Map<String, Set<Long>> current = index;
+        Set<Long> countryWide = current.getOrDefault(key(category, country, null), Set.of());
+        Set<Long> exactState = state == null ? Set.of() : current.getOrDefault(key(category, country, state), Set.of());
+
+        Set<Long> subscribers = new HashSet<>(countryWide.size() + exactState.size());
+        subscribers.addAll(countryWide);
+        subscribers.addAll(exactState);
+        return subscribers;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.subscriptions.rebuild-interval-ms:300000}")
+    @Transactional(readOnly = true)
+    public int rebuildIndex() {
+        Map<String, Set<Long>> rebuilt = new ConcurrentHashMap<>();
+        List<DonorSubscription> subscriptions = donorSubscriptionRepository.findAll();
+        for (DonorSubscription subscription : subscriptions) {
+            rebuilt.computeIfAbsent(key(subscription.getCategory(), subscription.getCountry(), subscription.getState()),
+                    k -> ConcurrentHashMap.newKeySet()).add(subscription.getDonorId());
+        }
+        index = rebuilt;
+        log.info("Indexed {} donor subscriptions under {} keys", subscriptions.size(), rebuilt.size());
+        return subscriptions.size();
+    }
+
+    private static String key(ResourceCategory category, String country, String state) {
+        String normalizedState = state == null || state.isBlank() ? ANY_STATE : state.trim().toLowerCase(Locale.ROOT);
+        return category.name() + '|' + country.trim().toLowerCase(Locale.ROOT) + '|' + normalizedState;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private DonorSubscriptionDto mapToDto(DonorSubscription subscription) {
+        DonorSubscriptionDto dto = new DonorSubscriptionDto();
+        dto.setId(subscription.getId());
+        dto.setCategory(subscription.getCategory());
+        dto.setCountry(subscription.getCountry());
+        dto.setState(subscription.getState());
+        dto.setCreatedAt(subscription.getCreatedAt());
+        return dto;
+    }
+}
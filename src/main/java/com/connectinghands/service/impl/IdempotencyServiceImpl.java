@@ -0,0 +1,90 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.entity.IdempotencyRecord;
+import com.connectinghands.repository.IdempotencyRecordRepository;
+import com.connectinghands.service.IdempotencyService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Implementation of IdempotencyService.
+ * Claims expire after a short in-progress timeout so a key held by a crashed instance
+ * becomes usable again; completed responses are kept for the retention period.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class IdempotencyServiceImpl implements IdempotencyService {
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int retentionHours;
+    private final int inProgressTimeoutSeconds;
+    private final int purgeBatchSize;
+
+    public IdempotencyServiceImpl(IdempotencyRecordRepository idempotencyRecordRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.idempotency.retention-hours:24}") int retentionHours,
+            @Value("${connectinghands.idempotency.in-progress-timeout-seconds:60}") int inProgressTimeoutSeconds,
+            @Value("${connectinghands.idempotency.purge-batch-size:1000}") int purgeBatchSize) {
+        this.idempotencyRecordRepository = idempotencyRecordRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.retentionHours = retentionHours;
+        this.inProgressTimeoutSeconds = inProgressTimeoutSeconds;
+        this.purgeBatchSize = purgeBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public boolean claim(String scopeKey, String requestHash) {
+        LocalDateTime now = LocalDateTime.now();
+        return idempotencyRecordRepository.claim(scopeKey, requestHash, now,
+                now.plusSeconds(inProgressTimeoutSeconds)) == 1;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<IdempotencyRecord> find(String scopeKey) {
+        return idempotencyRecordRepository.findById(scopeKey);
+    }
+
+    @Override
+    @Transactional
+    public void complete(String scopeKey, int responseStatus, String contentType, byte[] responseBody) {
+        idempotencyRecordRepository.complete(scopeKey, responseStatus, contentType, responseBody,
+                LocalDateTime.now().plusHours(retentionHours));
+    }
+
+    @Override
+    @Transactional
+    public void release(String scopeKey) {
+        idempotencyRecordRepository.release(scopeKey);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.idempotency.purge-interval-ms:600000}")
+    public int purgeExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int total = 0;
+        int purged;
+        do {
+            Integer count = transactionTemplate.execute(
+                    status -> idempotencyRecordRepository.purgeExpired(now, purgeBatchSize));
+            purged = count != null ? count : 0;
+            total += purged;
+        } while (purged == purgeBatchSize);
+
+        if (total > 0) {
+            log.info("Purged {} expired idempotency keys", total);
+        }
+        return total;
+    }
+}
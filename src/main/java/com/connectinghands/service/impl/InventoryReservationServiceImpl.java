@@ -0,0 +1,294 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.CacheConfig;
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateReservationRequest;
+import com.connectinghands.dto.InventoryReservationDto;
+import com.connectinghands.entity.InventoryReservation;
+import com.connectinghands.entity.ReservationStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.InventoryReservationRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.InventoryReservationService;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.ResourceLotService;
+import com.connectinghands.service.SecurityService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of InventoryReservationService.
+ * Reserved totals live on the resource row and change only through single conditional UPDATEs.
+ * Expiry is driven by an in-memory {@link DelayQueue} rather than by polling the database:
+ * one worker thread sleeps until the earliest reservation is due, then drains every other
+ * reservation that has come due and releases the whole batch in one short transaction.
+ * The queue is repopulated from the table on startup, so no hold outlives a restart.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class InventoryReservationServiceImpl implements InventoryReservationService {
+    private static final long RETRY_DELAY_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    private final InventoryReservationRepository reservationRepository;
+    private final ResourceRepository resourceRepository;
+    private final ResourceRequestRepository resourceRequestRepository;
+    private final ResourceLotService resourceLotService;
+    private final MatchingService matchingService;
+    private final SecurityService securityService;
+    private final TransactionTemplate transactionTemplate;
+    private final int defaultTtlMinutes;
+    private final int expiryBatchSize;
+
+    private final DelayQueue<Expiry> expiryQueue = new DelayQueue<>();
+    private volatile Thread expiryWorker;
+
+    public InventoryReservationServiceImpl(InventoryReservationRepository reservationRepository,
+            ResourceRepository resourceRepository,
+            ResourceRequestRepository resourceRequestRepository,
+            ResourceLotService resourceLotService,
+            MatchingService matchingService,
+            SecurityService securityService,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.reservations.default-ttl-minutes:240}") int defaultTtlMinutes,
+            @Value("${connectinghands.reservations.expiry-batch-size:100}") int expiryBatchSize) {
+        this.reservationRepository = reservationRepository;
+        this.resourceRepository = resourceRepository;
+        this.resourceRequestRepository = resourceRequestRepository;
+        this.resourceLotService = resourceLotService;
+        this.matchingService = matchingService;
+        this.securityService = securityService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.defaultTtlMinutes = defaultTtlMinutes;
+        this.expiryBatchSize = expiryBatchSize;
+    }
+
+    @Override
+    @Transactional
+    public InventoryReservationDto reserve(Long resourceId, CreateReservationRequest request) {
+        if (request.getRequestId() != null && !resourceRequestRepository.existsById(request.getRequestId())) {
+            throw new ResourceNotFoundException("Resource request not found");
+        }
+
+        int quantity = request.getQuantity();
+        if (resourceRepository.addReserved(resourceId, quantity) == 0) {
+            Resource resource = resourceRepository.findById(resourceId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+            if (resource.getStatus() != ResourceStatus.AVAILABLE) {
+                throw new ConflictException("Resource is not available");
+            }
+            throw new ConflictException("Only " + resource.getAvailableQuantity() + " units are available to reserve");
+        }
+        Resource resource = resourceRepository.findById(resourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+
+        int ttlMinutes = request.getTtlMinutes() != null ? request.getTtlMinutes() : defaultTtlMinutes;
+        InventoryReservation reservation = new InventoryReservation();
+        reservation.setResource(resource);
+        reservation.setRequestId(request.getRequestId());
+        reservation.setQuantity(quantity);
+        reservation.setStatus(ReservationStatus.ACTIVE);
+        reservation.setExpiresAt(LocalDateTime.now().plusMinutes(ttlMinutes));
+        reservation.setReservedBy(securityService.getCurrentUserId());
+        InventoryReservation saved = reservationRepository.save(reservation);
+
+        Expiry expiry = Expiry.of(saved);
+        afterCommit(() -> expiryQueue.offer(expiry));
+        matchingService.onResourceChanged(resource);
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public InventoryReservationDto release(Long reservationId) {
+        InventoryReservation reservation = lockActive(reservationId);
+        reservation.setStatus(ReservationStatus.RELEASED);
+        Long resourceId = reservation.getResource().getId();
+        resourceRepository.releaseReserved(resourceId, reservation.getQuantity());
+
+        resourceRepository.findById(resourceId).ifPresent(matchingService::onResourceChanged);
+        return mapToDto(reservation);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public AllocationDto consume(Long reservationId) {
+        InventoryReservation reservation = lockActive(reservationId);
+        if (!reservation.getExpiresAt().isAfter(LocalDateTime.now())) {
+            throw new ConflictException("Reservation has expired");
+        }
+
+        Resource resource = resourceRepository.findByIdForUpdate(reservation.getResource().getId())
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+        resourceRepository.releaseReserved(resource.getId(), reservation.getQuantity());
+        // The entity does not write reserved_quantity back; keep the in-memory copy in step
+        // so the allocation below sees the released stock as available.
+        resource.setReservedQuantity(Math.max(0, resource.getReservedQuantity() - reservation.getQuantity()));
+        reservation.setStatus(ReservationStatus.CONSUMED);
+
+        return resourceLotService.consumeLocked(resource, reservation.getQuantity());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<InventoryReservationDto> getActiveReservations(Long resourceId) {
+        if (!resourceRepository.existsById(resourceId)) {
+            throw new ResourceNotFoundException("Resource not found");
+        }
+        return reservationRepository.findByResourceIdAndStatusOrderByExpiresAtAsc(resourceId, ReservationStatus.ACTIVE)
+                .stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public int releaseExpired(Collection<Long> reservationIds) {
+        Integer expired = transactionTemplate.execute(status -> {
+            List<InventoryReservation> due = reservationRepository.findDueForUpdate(reservationIds, LocalDateTime.now());
+            if (due.isEmpty()) {
+                return 0;
+            }
+
+            // One decrement per resource, in ID order.
+            Map<Long, Integer> releasedByResource = new TreeMap<>();
+            for (InventoryReservation reservation : due) {
+                reservation.setStatus(ReservationStatus.EXPIRED);
+                releasedByResource.merge(reservation.getResource().getId(), reservation.getQuantity(), Integer::sum);
+            }
+            releasedByResource.forEach(resourceRepository::releaseReserved);
+
+            resourceRepository.findAllById(releasedByResource.keySet()).forEach(matchingService::onResourceChanged);
+            return due.size();
+        });
+        return expired != null ? expired : 0;
+    }
+
+    /**
+     * Loads every active reservation into the expiry queue and starts the expiry worker.
+     * Reservations that fell due while the application was down are released straight away.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void startExpiryWorker() {
+        List<InventoryReservation> active = reservationRepository.findByStatus(ReservationStatus.ACTIVE);
+        active.forEach(reservation -> expiryQueue.offer(Expiry.of(reservation)));
+        log.info("Loaded {} active inventory reservations into the expiry queue", active.size());
+
+        Thread worker = new Thread(this::runExpiryLoop, "reservation-expiry");
+        worker.setDaemon(true);
+        expiryWorker = worker;
+        worker.start();
+    }
+
+    @PreDestroy
+    public void stopExpiryWorker() {
+        Thread worker = expiryWorker;
+        if (worker != null) {
+            worker.interrupt();
+        }
+    }
+
+    private void runExpiryLoop() {
+        List<Expiry> batch = new ArrayList<>(expiryBatchSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                batch.add(expiryQueue.take());
+                expiryQueue.drainTo(batch, expiryBatchSize - 1);
+                int expired = releaseExpired(batch.stream().map(Expiry::reservationId).collect(Collectors.toList()));
+                if (expired > 0) {
+                    log.debug("Expired {} inventory reservations", expired);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } catch (RuntimeException e) {
+                log.warn("Failed to release {} expired reservations, retrying shortly", batch.size(), e);
+                long retryAt = System.currentTimeMillis() + RETRY_DELAY_MILLIS;
+                batch.forEach(expiry -> expiryQueue.offer(new Expiry(expiry.reservationId(), retryAt)));
+            } finally {
+                batch.clear();
+            }
+        }
+    }
+
+    private InventoryReservation lockActive(Long reservationId) {
+        InventoryReservation reservation = reservationRepository.findByIdForUpdate(reservationId)
+                .orElseThrow(() -> new ResourceNotFoundException("Reservation not found"));
+        if (reservation.getStatus() != ReservationStatus.ACTIVE) {
+            throw new ConflictException("Reservation is no longer active");
+        }
+        return reservation;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    private InventoryReservationDto mapToDto(InventoryReservation reservation) {
+        InventoryReservationDto dto = new InventoryReservationDto();
+        dto.setId(reservation.getId());
+        dto.setResourceId(reservation.getResource().getId());
+        dto.setRequestId(reservation.getRequestId());
+        dto.setQuantity(reservation.getQuantity());
+        dto.setStatus(reservation.getStatus());
+        dto.setExpiresAt(reservation.getExpiresAt());
+        dto.setReservedBy(reservation.getReservedBy());
+        dto.setCreatedAt(reservation.getCreatedAt());
+        return dto;
+    }
+
+    /**
+     * Expiry queue entry; becomes available to the worker once its reservation is due.
+     */
+    private record Expiry(Long reservationId, long dueAtMillis) implements Delayed {
+        static Expiry of(InventoryReservation reservation) {
+            return new Expiry(reservation.getId(),
+                    reservation.getExpiresAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli());
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(dueAtMillis - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(dueAtMillis, ((Expiry) other).dueAtMillis);
+        }
+    }
+}
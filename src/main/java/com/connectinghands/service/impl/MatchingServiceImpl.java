@@ -0,0 +1,397 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.AsyncConfig;
+import com.connectinghands.dto.AvailableStockDto;
+import com.connectinghands.dto.MatchProposalDto;
+import com.connectinghands.dto.OrphanageRegionDto;
+import com.connectinghands.dto.PendingRequestDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.MatchingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the MatchingService interface.
+ * <p>
+ * Available stock is indexed by resource type and then by region ("country|state"), so matching a
+ * request only looks at stock of the same type. Buckets are visited in ranking tiers, the
+ * requester's own region first, and farther tiers are skipped once enough proposals were found.
+ * <p>
+ * Index updates are handed to the matching executor after commit, so rolled-back changes never
+ * become visible and rematching never runs on the request thread. That single thread applies them
+ * in order; while a rebuild is loading it also records them and replays them onto the new index
+ * before swapping it in, so changes committed during a rebuild are not lost.
+ * A full rebuild loads three compact projections and matches all pending requests in parallel.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class MatchingServiceImpl implements MatchingService {
+    private static final Comparator<MatchProposalDto> RANKING = Comparator
+            .comparing(MatchProposalDto::getRegionMatch)
+            .thenComparing(MatchProposalDto::isCoversRequest, Comparator.reverseOrder())
+            .thenComparing(MatchProposalDto::getAvailableQuantity, Comparator.reverseOrder())
+            .thenComparing(MatchProposalDto::getResourceId);
+
+    private final ResourceRepository resourceRepository;
+    private final ResourceRequestRepository resourceRequestRepository;
+    private final OrphanageRepository orphanageRepository;
+    private final Executor matchingExecutor;
+    private final int maxProposals;
+
+    private volatile Index index = new Index();
+    /** Changes applied while a rebuild is loading; only touched on the matching thread. */
+    private List<Consumer<Index>> replay;
+
+    public MatchingServiceImpl(ResourceRepository resourceRepository,
+            ResourceRequestRepository resourceRequestRepository,
+            OrphanageRepository orphanageRepository,
+            @Qualifier(AsyncConfig.MATCHING_EXECUTOR) Executor matchingExecutor,
+            @Value("${connectinghands.matching.max-proposals:5}") int maxProposals) {
+        this.resourceRepository = resourceRepository;
+        this.resourceRequestRepository = resourceRequestRepository;
+        this.orphanageRepository = orphanageRepository;
+        this.matchingExecutor = matchingExecutor;
+        this.maxProposals = maxProposals;
+    }
+
+    @Override
+    public List<MatchProposalDto> getMatches(Long requestId) {
+        List<MatchProposalDto> proposals = index.proposals.get(requestId);
+        if (proposals != null) {
+            return proposals;
+        }
+
+        ResourceRequest request = resourceRequestRepository.findById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+        PendingRequestDto pending = toPending(request);
+        if (pending == null) {
+            return List.of();
+        }
+        return match(index, pending);
+    }
+
+    @Override
+    public void onResourceChanged(Resource resource) {
+        Long resourceId = resource.getId();
+        AvailableStockDto stock = resource.getStatus() == ResourceStatus.AVAILABLE
+                && resource.getAvailableQuantity() > 0 && resource.getResourceType() != null
+                ? new AvailableStockDto(resourceId, resource.getResourceType().getId(),
+                        resource.getOrphanage().getId(), resource.getUnit(), resource.getAvailableQuantity())
+                : null;
+        apply(current -> {
+            Integer previousType = current.removeStock(resourceId);
+            if (stock != null) {
+                current.addStock(stock, regionKey(current, stock.getOrphanageId()));
+                rematchType(current, stock.getResourceTypeId());
+            }
+            if (previousType != null && (stock == null || !previousType.equals(stock.getResourceTypeId()))) {
+                rematchType(current, previousType);
+            }
+        });
+    }
+
+    @Override
+    public void onResourceRemoved(Long resourceId) {
+        apply(current -> {
+            Integer previousType = current.removeStock(resourceId);
+            if (previousType != null) {
+                rematchType(current, previousType);
+            }
+        });
+    }
+
+    @Override
+    public void onRequestChanged(ResourceRequest request) {
+        Long requestId = request.getId();
+        PendingRequestDto pending = toPending(request);
+        apply(current -> {
+            current.removeRequest(requestId);
+            if (pending != null) {
+                current.addRequest(pending);
+                current.proposals.put(requestId, match(current, pending));
+            }
+        });
+    }
+
+    @Override
+    public void onRequestRemoved(Long requestId) {
+        apply(current -> current.removeRequest(requestId));
+    }
+
+    /**
+     * Rebuilds the indexes from scratch on startup and periodically thereafter,
+     * picking up orphanage region changes and repairing any drift.
+     */
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.matching.rebuild-interval-ms:1800000}")
+    public synchronized int rebuild() {
+        long started = System.currentTimeMillis();
+        Index rebuilt = new Index();
+        // Start recording before loading, so every change the snapshot may miss is replayed.
+        onMatchingThread(() -> replay = new ArrayList<>());
+
+        for (OrphanageRegionDto region : orphanageRepository.findAllRegions()) {
+            rebuilt.regions.put(region.getOrphanageId(), region);
+        }
+        for (AvailableStockDto stock : resourceRepository.findAvailableStock()) {
+            rebuilt.addStock(stock, regionKey(rebuilt, stock.getOrphanageId()));
+        }
+        List<PendingRequestDto> pending = resourceRequestRepository.findPendingForMatching();
+        pending.forEach(rebuilt::addRequest);
+
+        pending.parallelStream()
+                .forEach(request -> rebuilt.proposals.put(request.getRequestId(), match(rebuilt, request)));
+
+        // Changes are idempotent, so replaying one the snapshot already contains is harmless.
+        onMatchingThread(() -> {
+            replay.forEach(change -> change.accept(rebuilt));
+            replay = null;
+            index = rebuilt;
+        });
+        log.info("Matching index rebuilt: {} stock entries, {} pending requests in {} ms",
+                rebuilt.stockLocations.size(), pending.size(), System.currentTimeMillis() - started);
+        return pending.size();
+    }
+
+    /**
+     * Applies a change to the index on the matching thread once the current transaction commits.
+     */
+    private void apply(Consumer<Index> change) {
+        afterCommit(() -> matchingExecutor.execute(() -> {
+            change.accept(index);
+            if (replay != null) {
+                replay.add(change);
+            }
+        }));
+    }
+
+    private void onMatchingThread(Runnable action) {
+        CompletableFuture.runAsync(action, matchingExecutor).join();
+    }
+
+    private void rematchType(Index current, Integer resourceTypeId) {
+        for (Long requestId : current.requestsByType.getOrDefault(resourceTypeId, Set.of())) {
+            PendingRequestDto request = current.pending.get(requestId);
+            if (request != null) {
+                current.proposals.put(requestId, match(current, request));
+            }
+        }
+    }
+
+    /**
+     * Ranks stock of the requested type held by other orphanages: same state first, then same country,
+     * then anywhere; within a tier, stock that covers the full request wins, then larger stock.
+     * A tier is only visited if the nearer ones did not yield enough proposals.
+     */
+    private List<MatchProposalDto> match(Index current, PendingRequestDto request) {
+        Map<String, Map<Long, AvailableStockDto>> byRegion = current.stock.get(request.getResourceTypeId());
+        if (byRegion == null) {
+            return List.of();
+        }
+        OrphanageRegionDto requester = region(current, request.getOrphanageId());
+
+        List<MatchProposalDto> candidates = new ArrayList<>();
+        if (requester == null) {
+            // Without a region every bucket is in the same tier.
+            byRegion.values().forEach(bucket -> collect(current, request, null, bucket, candidates));
+        } else {
+            String ownKey = regionKey(requester);
+            String countryPrefix = requester.getCountry() + "|";
+            collect(current, request, requester, byRegion.get(ownKey), candidates);
+            if (candidates.size() < maxProposals) {
+                byRegion.forEach((key, bucket) -> {
+                    if (!key.equals(ownKey) && key.startsWith(countryPrefix)) {
+                        collect(current, request, requester, bucket, candidates);
+                    }
+                });
+            }
+            if (candidates.size() < maxProposals) {
+                byRegion.forEach((key, bucket) -> {
+                    if (!key.startsWith(countryPrefix)) {
+                        collect(current, request, requester, bucket, candidates);
+                    }
+                });
+            }
+        }
+
+        List<MatchProposalDto> ranked = candidates.stream()
+                .sorted(RANKING)
+                .limit(maxProposals)
+                .collect(Collectors.toList());
+        for (int i = 0; i < ranked.size(); i++) {
+            ranked.get(i).setRank(i + 1);
+        }
+        return List.copyOf(ranked);
+    }
+
+    private void collect(Index current, PendingRequestDto request, OrphanageRegionDto requester,
+            Map<Long, AvailableStockDto> bucket, List<MatchProposalDto> candidates) {
+        if (bucket == null) {
+            return;
+        }
+        for (AvailableStockDto stock : bucket.values()) {
+            if (stock.getOrphanageId().equals(request.getOrphanageId())
+                    || !stock.getUnit().equalsIgnoreCase(request.getUnit())) {
+                continue;
+            }
+            candidates.add(toProposal(current, request, requester, stock));
+        }
+    }
+
+    private MatchProposalDto toProposal(Index current, PendingRequestDto request,
+            OrphanageRegionDto requester, AvailableStockDto stock) {
+        OrphanageRegionDto offering = region(current, stock.getOrphanageId());
+
+        MatchProposalDto proposal = new MatchProposalDto();
+        proposal.setRequestId(request.getRequestId());
+        proposal.setResourceId(stock.getResourceId());
+        proposal.setOrphanageId(stock.getOrphanageId());
+        proposal.setAvailableQuantity(stock.getQuantity());
+        proposal.setUnit(stock.getUnit());
+        proposal.setCoversRequest(stock.getQuantity() >= request.getQuantity());
+        if (offering != null) {
+            proposal.setOrphanageName(offering.getName());
+            proposal.setCountry(offering.getCountry());
+            proposal.setState(offering.getState());
+        }
+        proposal.setRegionMatch(regionMatch(requester, offering));
+        return proposal;
+    }
+
+    private MatchProposalDto.RegionMatch regionMatch(OrphanageRegionDto requester, OrphanageRegionDto offering) {
+        if (requester == null || offering == null
+                || !Objects.equals(requester.getCountry(), offering.getCountry())) {
+            return MatchProposalDto.RegionMatch.OTHER;
+        }
+        return Objects.equals(requester.getState(), offering.getState())
+                ? MatchProposalDto.RegionMatch.SAME_STATE
+                : MatchProposalDto.RegionMatch.SAME_COUNTRY;
+    }
+
+    private OrphanageRegionDto region(Index current, Long orphanageId) {
+        OrphanageRegionDto region = current.regions.get(orphanageId);
+        if (region == null) {
+            region = orphanageRepository.findRegionById(orphanageId).orElse(null);
+            if (region != null) {
+                current.regions.put(orphanageId, region);
+            }
+        }
+        return region;
+    }
+
+    private String regionKey(Index current, Long orphanageId) {
+        return regionKey(region(current, orphanageId));
+    }
+
+    private static String regionKey(OrphanageRegionDto region) {
+        return region == null ? "|" : region.getCountry() + "|" + region.getState();
+    }
+
+    private PendingRequestDto toPending(ResourceRequest request) {
+        if (request.getStatus() != ResourceRequestStatus.PENDING || request.getResourceType() == null) {
+            return null;
+        }
+        // Only the part not yet covered by pledges still needs matching stock.
+        int outstanding = request.getQuantity() - request.getPledgedQuantity();
+        if (outstanding <= 0) {
+            return null;
+        }
+        return new PendingRequestDto(request.getId(), request.getResourceType().getId(),
+                request.getOrphanage().getId(), request.getUnit(), outstanding);
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+
+    /**
+     * One generation of the matching indexes. A rebuild fills a fresh instance and swaps it in whole.
+     */
+    private static final class Index {
+        /** Resource type ID -> region key -> resource ID -> stock. */
+        final Map<Integer, Map<String, Map<Long, AvailableStockDto>>> stock = new ConcurrentHashMap<>();
+        /** Resource ID -> where its stock is filed, for removal. */
+        final Map<Long, StockLocation> stockLocations = new ConcurrentHashMap<>();
+        final Map<Long, OrphanageRegionDto> regions = new ConcurrentHashMap<>();
+        final Map<Long, PendingRequestDto> pending = new ConcurrentHashMap<>();
+        final Map<Integer, Set<Long>> requestsByType = new ConcurrentHashMap<>();
+        final Map<Long, List<MatchProposalDto>> proposals = new ConcurrentHashMap<>();
+
+        void addStock(AvailableStockDto entry, String regionKey) {
+            stock.computeIfAbsent(entry.getResourceTypeId(), k -> new ConcurrentHashMap<>())
+                    .computeIfAbsent(regionKey, k -> new ConcurrentHashMap<>())
+                    .put(entry.getResourceId(), entry);
+            stockLocations.put(entry.getResourceId(), new StockLocation(entry.getResourceTypeId(), regionKey));
+        }
+
+        Integer removeStock(Long resourceId) {
+            StockLocation location = stockLocations.remove(resourceId);
+            if (location == null) {
+                return null;
+            }
+            Map<String, Map<Long, AvailableStockDto>> byRegion = stock.get(location.resourceTypeId());
+            if (byRegion != null) {
+                Map<Long, AvailableStockDto> bucket = byRegion.get(location.regionKey());
+                if (bucket != null) {
+                    bucket.remove(resourceId);
+                }
+            }
+            return location.resourceTypeId();
+        }
+
+        void addRequest(PendingRequestDto request) {
+            pending.put(request.getRequestId(), request);
+            requestsByType.computeIfAbsent(request.getResourceTypeId(), k -> ConcurrentHashMap.newKeySet())
+                    .add(request.getRequestId());
+        }
+
+        void removeRequest(Long requestId) {
+            PendingRequestDto previous = pending.remove(requestId);
+            if (previous != null) {
+                Set<Long> ids = requestsByType.get(previous.getResourceTypeId());
+                if (ids != null) {
+                    ids.remove(requestId);
+                }
+            }
+            proposals.remove(requestId);
+        }
+    }
+
+    private record StockLocation(Integer resourceTypeId, String regionKey) {
+    }
+}
@@ -0,0 +1,144 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.OrphanageNeedDto;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.OrphanageNeedScoreRepository;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.util.CursorCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Implementation of NeedScoreService.
+ * Changes are coalesced in an in-memory dirty set: a burst of writes against one orphanage
+ * costs a single recomputation, and each refresh run upserts all dirty orphanages with one
+ * statement per chunk. The nightly full refresh also repairs anything lost on a restart.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class NeedScoreServiceImpl implements NeedScoreService {
+    private static final int MAX_RANKING_PAGE_SIZE = 100;
+
+    private final OrphanageNeedScoreRepository needScoreRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int donationWindowDays;
+    private final Set<Long> dirty = ConcurrentHashMap.newKeySet();
+
+    public NeedScoreServiceImpl(OrphanageNeedScoreRepository needScoreRepository,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.need-score.batch-size:500}") int batchSize,
+            @Value("${connectinghands.need-score.donation-window-days:30}") int donationWindowDays) {
+        this.needScoreRepository = needScoreRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.donationWindowDays = donationWindowDays;
+    }
+
+    @Override
+    public void markDirty(Long orphanageId) {
+        if (orphanageId != null) {
+            afterCommit(() -> dirty.add(orphanageId));
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.need-score.refresh-interval-ms:10000}")
+    public int refreshDirty() {
+        if (dirty.isEmpty()) {
+            return 0;
+        }
+        List<Long> ids = new ArrayList<>(dirty);
+        // Removed before refreshing: a change committed meanwhile re-marks the orphanage for the next run.
+        dirty.removeAll(ids);
+        try {
+            return refresh(ids);
+        } catch (RuntimeException e) {
+            dirty.addAll(ids);
+            throw e;
+        }
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.need-score.full-refresh-cron:0 15 4 * * *}")
+    public int refreshAll() {
+        int refreshed = refresh(needScoreRepository.findAllOrphanageIds());
+        log.info("Recomputed need scores of {} orphanages", refreshed);
+        return refreshed;
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<OrphanageNeedDto> getRanking(String cursor, int size) {
+        if (size < 1 || size > MAX_RANKING_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_RANKING_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query.
+        PageRequest limit = PageRequest.of(0, size + 1);
+        List<OrphanageNeedDto> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = needScoreRepository.findRankingHead(limit);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 2);
+            try {
+                rows = needScoreRepository.findRankingAfter(
+                        new BigDecimal(position[0]), Long.parseLong(position[1]), limit);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid cursor");
+            }
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<OrphanageNeedDto> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            OrphanageNeedDto last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getScore().toPlainString(), last.getOrphanageId());
+        }
+        return new CursorPage<>(new ArrayList<>(page), nextCursor, hasMore);
+    }
+
+    private int refresh(List<Long> ids) {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime since = now.minusDays(donationWindowDays);
+        int total = 0;
+        for (int from = 0; from < ids.size(); from += batchSize) {
+            List<Long> chunk = ids.subList(from, Math.min(from + batchSize, ids.size()));
+            Integer count = transactionTemplate.execute(status -> needScoreRepository.refresh(chunk, since, now));
+            total += count != null ? count : 0;
+        }
+        return total;
+    }
+
+    private void afterCommit(Runnable action) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    action.run();
+                }
+            });
+        } else {
+            action.run();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.NotificationDto;
+import com.connectinghands.entity.Notification;
+import com.connectinghands.event.ResourceRequestCreatedEvent;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.NotificationRepository;
+import com.connectinghands.service.DonorSubscriptionService;
+import com.connectinghands.service.NotificationService;
+import com.connectinghands.service.SecurityService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Implementation of NotificationService.
+ * Fan-out is triggered by the outbox relay once the creating transaction has committed,
+ * so the request thread only pays for the outbox row. Rows are written with batched JDBC
+ * inserts, each chunk committed on its own, rather than one JPA persist per row; donors
+ * already notified about the request are skipped, so a redelivered event is harmless.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class NotificationServiceImpl implements NotificationService {
+    static final String RESOURCE_REQUEST_CREATED = "RESOURCE_REQUEST_CREATED";
+    private static final String INSERT_NOTIFICATION =
+            "INSERT INTO notifications (user_id, type, reference_id, message, is_read, created_at) " +
+            "VALUES (?, ?, ?, ?, FALSE, ?) ON CONFLICT DO NOTHING";
+
+    private final NotificationRepository notificationRepository;
+    private final DonorSubscriptionService donorSubscriptionService;
+    private final SecurityService securityService;
+    private final JdbcTemplate jdbcTemplate;
+    private final int insertBatchSize;
+
+    public NotificationServiceImpl(NotificationRepository notificationRepository,
+            DonorSubscriptionService donorSubscriptionService,
+            SecurityService securityService,
+            JdbcTemplate jdbcTemplate,
+            @Value("${connectinghands.notifications.insert-batch-size:1000}") int insertBatchSize) {
+        this.notificationRepository = notificationRepository;
+        this.donorSubscriptionService = donorSubscriptionService;
+        this.securityService = securityService;
+        this.jdbcTemplate = jdbcTemplate;
+        this.insertBatchSize = insertBatchSize;
+    }
+
+    @Override
+    public void notifySubscribers(ResourceRequestCreatedEvent event) {
+        Set<Long> subscribers = donorSubscriptionService.findSubscribers(
+                event.getCategory(), event.getCountry(), event.getState());
+        if (subscribers.isEmpty()) {
+            return;
+        }
+
+        String message = String.format("%s needs %d %s of %s", event.getOrphanageName(),
+                event.getQuantity(), event.getUnit(), event.getName());
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        List<Object[]> chunk = new ArrayList<>(Math.min(insertBatchSize, subscribers.size()));
+        for (Long donorId : subscribers) {
+            chunk.add(new Object[] {donorId, RESOURCE_REQUEST_CREATED, event.getRequestId(), message, now});
+            if (chunk.size() == insertBatchSize) {
+                jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, chunk);
+                chunk = new ArrayList<>(insertBatchSize);
+            }
+        }
+        if (!chunk.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_NOTIFICATION, chunk);
+        }
+
+        log.debug("Notified {} subscribers of resource request {}", subscribers.size(), event.getRequestId());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<NotificationDto> getMyNotifications(Pageable pageable) {
+        return notificationRepository.findByUserIdOrderByIdDesc(securityService.getCurrentUserId(), pageable)
+                .map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countMyUnread() {
+        return notificationRepository.countByUserIdAndReadFalse(securityService.getCurrentUserId());
+    }
+
+    @Override
+    @Transactional
+    public NotificationDto markRead(Long notificationId) {
+        Notification notification = notificationRepository.findById(notificationId)
+                .filter(n -> n.getUserId().equals(securityService.getCurrentUserId()))
+                .orElseThrow(() -> new ResourceNotFoundException("Notification not found"));
+        notification.setRead(true);
+        return mapToDto(notification);
+    }
+
+    private NotificationDto mapToDto(Notification notification) {
+        NotificationDto dto = new NotificationDto();
+        dto.setId(notification.getId());
+        dto.setType(notification.getType());
+        dto.setReferenceId(notification.getReferenceId());
+        dto.setMessage(notification.getMessage());
+        dto.setRead(notification.isRead());
+        dto.setCreatedAt(notification.getCreatedAt());
+        return dto;
+    }
+}
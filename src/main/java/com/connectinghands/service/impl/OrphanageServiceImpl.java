@@ -6,10 +6,12 @@ import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
 import com.connectinghands.entity.User;
+import com.connectinghands.exception.ConflictException;
 import com.connectinghands.exception.ResourceNotFoundException;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.AuditLogService;
+import com.connectinghands.service.NeedScoreService;
 import com.connectinghands.service.OrphanageService;
 import com.connectinghands.service.SecurityService;
 import lombok.RequiredArgsConstructor;
@@ -35,6 +37,7 @@ public class OrphanageServiceImpl implements OrphanageService {
     private final UserRepository userRepository;
     private final SecurityService securityService;
     private final AuditLogService auditLogService;
+    private final NeedScoreService needScoreService;
 
     @Override
     @Transactional
@@ -74,6 +77,7 @@ public class OrphanageServiceImpl implements OrphanageService {
         orphanage.setVerificationDocuments(request.getVerificationDocuments());
 
         orphanage = orphanageRepository.save(orphanage);
+        needScoreService.markDirty(orphanage.getId());
 
         // Log the creation
         auditLogService.logAction(
@@ -154,6 +158,9 @@ public class OrphanageServiceImpl implements OrphanageService {
     public OrphanageDto updateOrphanage(Long id, UpdateOrphanageRequest request) {
         Orphanage orphanage = orphanageRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Orphanage not found"));
+        if (request.getVersion() != null && !request.getVersion().equals(orphanage.getVersion())) {
+            throw new ConflictException("Orphanage was modified by someone else. Reload it and try again.");
+        }
 
         // Check if user has permission to update
         if (!securityService.isCurrentUserOrphanageAdmin(id)) {
@@ -209,6 +216,12 @@ public class OrphanageServiceImpl implements OrphanageService {
             }
             orphanage.setCapacity(request.getCapacity());
         }
+        if (request.getCurrentChildren() != null) {
+            if (request.getCurrentChildren() > orphanage.getCapacity()) {
+                throw new IllegalArgumentException("Current number of children cannot exceed capacity");
+            }
+            orphanage.setCurrentChildren(request.getCurrentChildren());
+        }
         if (request.getStatus() != null) {
             orphanage.setStatus(OrphanageStatus.valueOf(request.getStatus()));
         }
@@ -219,7 +232,8 @@ public class OrphanageServiceImpl implements OrphanageService {
             orphanage.setVerificationNotes(request.getVerificationNotes());
         }
 
-        orphanage = orphanageRepository.save(orphanage);
+        orphanage = orphanageRepository.saveAndFlush(orphanage);
+        needScoreService.markDirty(orphanage.getId());
 
         // Log the update
         auditLogService.logAction(
@@ -410,6 +424,7 @@ public class OrphanageServiceImpl implements OrphanageService {
         dto.setVerifiedBy(orphanage.getVerifiedBy());
         dto.setCreatedAt(orphanage.getCreatedAt());
         dto.setUpdatedAt(orphanage.getUpdatedAt());
+        dto.setVersion(orphanage.getVersion());
         return dto;
     }
 } 
\ No newline at end of file
@@ -0,0 +1,91 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CurrencyTotalDto;
+import com.connectinghands.dto.OrphanageTotalsChange;
+import com.connectinghands.dto.OrphanageTotalsDto;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.OrphanageTotalStripeRepository;
+import com.connectinghands.service.OrphanageTotalsService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of OrphanageTotalsService.
+ * <p>
+ * Each orphanage's totals are spread over a fixed number of stripe rows per currency, and a
+ * donation always lands on the stripe picked by its ID. Concurrent completions for the same
+ * orphanage therefore lock different rows instead of queueing on one, which matters during
+ * campaigns; a read sums at most one row per stripe and currency.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+public class OrphanageTotalsServiceImpl implements OrphanageTotalsService {
+    private final OrphanageTotalStripeRepository orphanageTotalStripeRepository;
+    private final OrphanageRepository orphanageRepository;
+    private final ObjectMapper objectMapper;
+    private final int stripes;
+
+    public OrphanageTotalsServiceImpl(OrphanageTotalStripeRepository orphanageTotalStripeRepository,
+            OrphanageRepository orphanageRepository,
+            ObjectMapper objectMapper,
+            @Value("${connectinghands.orphanage-totals.stripes:16}") int stripes) {
+        this.orphanageTotalStripeRepository = orphanageTotalStripeRepository;
+        this.orphanageRepository = orphanageRepository;
+        this.objectMapper = objectMapper;
+        this.stripes = stripes;
+    }
+
+    @Override
+    @Transactional
+    public void applyChanges(List<OrphanageTotalsChange> changes) {
+        List<Map<String, Object>> rows = new ArrayList<>(changes.size());
+        for (OrphanageTotalsChange change : changes) {
+            if (change.getDirection() == 0 || change.getOrphanageId() == null || change.getDonorId() == null
+                    || change.getCurrency() == null || change.getAmount() == null) {
+                continue;
+            }
+            int direction = Integer.signum(change.getDirection());
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("orphanage_id", change.getOrphanageId());
+            row.put("donor_id", change.getDonorId());
+            row.put("currency", change.getCurrency());
+            row.put("stripe", Math.floorMod(change.getDonationId(), stripes));
+            row.put("amount", direction > 0 ? change.getAmount() : change.getAmount().negate());
+            row.put("donations", direction);
+            rows.add(row);
+        }
+        if (rows.isEmpty()) {
+            return;
+        }
+        try {
+            orphanageTotalStripeRepository.applyChanges(objectMapper.writeValueAsString(rows));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize orphanage totals", e);
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public OrphanageTotalsDto getTotals(Long orphanageId) {
+        if (!orphanageRepository.existsById(orphanageId)) {
+            throw new ResourceNotFoundException("Orphanage not found");
+        }
+        List<CurrencyTotalDto> totals = orphanageTotalStripeRepository.sumByCurrency(orphanageId);
+        OrphanageTotalsDto dto = new OrphanageTotalsDto();
+        dto.setOrphanageId(orphanageId);
+        dto.setTotals(totals);
+        dto.setDonationCount(totals.stream().mapToLong(CurrencyTotalDto::getDonationCount).sum());
+        dto.setDonorCount(orphanageTotalStripeRepository.sumDonorCount(orphanageId));
+        return dto;
+    }
+}
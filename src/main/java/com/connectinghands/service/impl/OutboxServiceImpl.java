@@ -0,0 +1,179 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.event.OutboxEventConsumer;
+import com.connectinghands.repository.OutboxEventRepository;
+import com.connectinghands.service.OutboxService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Implementation of OutboxService.
+ * Each relay round leases a batch with FOR UPDATE SKIP LOCKED in a short transaction, so any
+ * number of instances can drain the outbox in parallel without handing out the same event twice.
+ * Consumers then run outside that transaction, one event at a time in ID order; successes are
+ * marked published with one statement per batch and failures are retried with exponential backoff.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class OutboxServiceImpl implements OutboxService {
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectProvider<OutboxEventConsumer> consumers;
+    private volatile Map<String, List<OutboxEventConsumer>> consumersByType;
+    private final int batchSize;
+    private final int leaseSeconds;
+    private final int maxAttempts;
+    private final int retryBaseSeconds;
+    private final int retentionDays;
+
+    public OutboxServiceImpl(OutboxEventRepository outboxEventRepository,
+            ObjectMapper objectMapper,
+            ObjectProvider<OutboxEventConsumer> consumers,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.outbox.batch-size:100}") int batchSize,
+            @Value("${connectinghands.outbox.lease-seconds:60}") int leaseSeconds,
+            @Value("${connectinghands.outbox.max-attempts:10}") int maxAttempts,
+            @Value("${connectinghands.outbox.retry-base-seconds:5}") int retryBaseSeconds,
+            @Value("${connectinghands.outbox.retention-days:7}") int retentionDays) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.leaseSeconds = leaseSeconds;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+        this.retentionDays = retentionDays;
+        this.consumers = consumers;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void record(String aggregateType, Long aggregateId, String eventType, Object payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setAggregateType(aggregateType);
+        event.setAggregateId(aggregateId);
+        event.setEventType(eventType);
+        try {
+            event.setPayload(objectMapper.writeValueAsString(payload));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize " + eventType + " payload", e);
+        }
+        outboxEventRepository.save(event);
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.outbox.relay-interval-ms:1000}")
+    public int relayPending() {
+        int total = 0;
+        List<OutboxEvent> batch;
+        do {
+            LocalDateTime now = LocalDateTime.now();
+            batch = transactionTemplate.execute(status ->
+                    outboxEventRepository.claimDue(now, now.plusSeconds(leaseSeconds), batchSize));
+            if (batch == null || batch.isEmpty()) {
+                break;
+            }
+            total += deliver(batch);
+        } while (batch.size() == batchSize);
+        return total;
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.outbox.purge-cron:0 0 2 * * *}")
+    public int purgePublished() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int total = 0;
+        int purged;
+        do {
+            Integer count = transactionTemplate.execute(
+                    status -> outboxEventRepository.purgePublishedBefore(cutoff, batchSize * 10));
+            purged = count != null ? count : 0;
+            total += purged;
+        } while (purged == batchSize * 10);
+
+        if (total > 0) {
+            log.info("Purged {} published outbox events", total);
+        }
+        return total;
+    }
+
+    private int deliver(List<OutboxEvent> batch) {
+        List<OutboxEvent> ordered = new ArrayList<>(batch);
+        ordered.sort(Comparator.comparing(OutboxEvent::getId));
+
+        List<Long> delivered = new ArrayList<>(ordered.size());
+        for (OutboxEvent event : ordered) {
+            try {
+                for (OutboxEventConsumer consumer : consumersFor(event.getEventType())) {
+                    consumer.consume(event);
+                }
+                delivered.add(event.getId());
+            } catch (RuntimeException e) {
+                recordFailure(event, e);
+            }
+        }
+
+        if (!delivered.isEmpty()) {
+            transactionTemplate.executeWithoutResult(status ->
+                    outboxEventRepository.markPublished(delivered, LocalDateTime.now()));
+        }
+        return delivered.size();
+    }
+
+    /**
+     * Consumers are looked up on first delivery rather than at construction, so consumers
+     * may depend on services that record events without creating a bean cycle.
+     */
+    private List<OutboxEventConsumer> consumersFor(String eventType) {
+        Map<String, List<OutboxEventConsumer>> byType = consumersByType;
+        if (byType == null) {
+            byType = new HashMap<>();
+            for (OutboxEventConsumer consumer : consumers.orderedStream().toList()) {
+                for (String type : consumer.eventTypes()) {
+                    byType.computeIfAbsent(type, key -> new ArrayList<>()).add(consumer);
+                }
+            }
+            consumersByType = byType;
+        }
+        return byType.getOrDefault(eventType, List.of());
+    }
+
+    private void recordFailure(OutboxEvent event, RuntimeException e) {
+        int attempt = event.getAttempts() + 1;
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, (long) retryBaseSeconds << Math.min(attempt - 1, 20));
+        String error = String.valueOf(e.getMessage());
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+        if (attempt >= maxAttempts) {
+            log.error("Giving up on outbox event {} ({}) after {} attempts", event.getId(), event.getEventType(), attempt, e);
+        } else {
+            log.warn("Outbox event {} ({}) failed, retrying in {}s", event.getId(), event.getEventType(), backoff, e);
+        }
+        String lastError = error;
+        transactionTemplate.executeWithoutResult(status -> outboxEventRepository.markAttemptFailed(
+                event.getId(), lastError, LocalDateTime.now().plusSeconds(backoff), maxAttempts));
+    }
+}
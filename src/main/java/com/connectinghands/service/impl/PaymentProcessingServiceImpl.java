@@ -0,0 +1,184 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.AsyncConfig;
+import com.connectinghands.entity.Donation;
+import com.connectinghands.payment.PaymentGateway;
+import com.connectinghands.payment.PaymentRequest;
+import com.connectinghands.payment.PaymentResult;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.service.DonationService;
+import com.connectinghands.service.PaymentProcessingService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Implementation of PaymentProcessingService.
+ * <p>
+ * A semaphore with one permit per gateway thread bounds the payments in flight; the poller only
+ * claims as many donations as there are free permits, so nothing queues up in memory and a crash
+ * loses at most the leases of in-flight payments, which simply become due again.
+ * <p>
+ * Each gateway call gets a deadline. A call that misses it is treated as a transient failure and
+ * retried later with the same idempotency key, but its permit is only returned when the call
+ * really finishes, so a slow provider cannot push the pipeline past its concurrency limit.
+ * A timed-out charge may still have gone through, so it never fails the donation: if the late
+ * answer arrives it is recorded, and otherwise the donation stays pending and keeps being retried
+ * with the same key, at the longest backoff once it is out of attempts, until the gateway answers.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class PaymentProcessingServiceImpl implements PaymentProcessingService {
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final long LEASE_MARGIN_SECONDS = 60;
+
+    private final DonationRepository donationRepository;
+    private final DonationService donationService;
+    private final PaymentGateway paymentGateway;
+    private final Executor paymentExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final long timeoutMillis;
+    private final int maxAttempts;
+    private final int retryBaseSeconds;
+
+    public PaymentProcessingServiceImpl(DonationRepository donationRepository,
+            DonationService donationService,
+            PaymentGateway paymentGateway,
+            @Qualifier(AsyncConfig.PAYMENT_EXECUTOR) Executor paymentExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.payments.max-concurrency:16}") int maxConcurrency,
+            @Value("${connectinghands.payments.timeout-ms:5000}") long timeoutMillis,
+            @Value("${connectinghands.payments.max-attempts:5}") int maxAttempts,
+            @Value("${connectinghands.payments.retry-base-seconds:10}") int retryBaseSeconds) {
+        this.donationRepository = donationRepository;
+        this.donationService = donationService;
+        this.paymentGateway = paymentGateway;
+        this.paymentExecutor = paymentExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.permits = new Semaphore(maxConcurrency);
+        this.timeoutMillis = timeoutMillis;
+        this.maxAttempts = maxAttempts;
+        this.retryBaseSeconds = retryBaseSeconds;
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.payments.poll-interval-ms:1000}")
+    public int dispatchDuePayments() {
+        int free = permits.availablePermits();
+        if (free == 0) {
+            return 0;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime leaseUntil = now.plusSeconds(TimeUnit.MILLISECONDS.toSeconds(timeoutMillis) + LEASE_MARGIN_SECONDS);
+        List<Donation> claimed = transactionTemplate.execute(status ->
+                donationRepository.claimDueForPayment(now, leaseUntil, free));
+        if (claimed == null) {
+            return 0;
+        }
+
+        for (Donation donation : claimed) {
+            // Only this poller takes permits, so the ones counted above are still free.
+            permits.acquireUninterruptibly();
+            charge(toRequest(donation), donation.getPaymentAttempts());
+        }
+        return claimed.size();
+    }
+
+    private void charge(PaymentRequest request, int previousAttempts) {
+        CompletableFuture<PaymentResult> call;
+        try {
+            call = CompletableFuture.supplyAsync(() -> paymentGateway.charge(request), paymentExecutor);
+        } catch (RejectedExecutionException e) {
+            permits.release();
+            settle(request, previousAttempts, null, e);
+            return;
+        }
+        call.whenComplete((result, error) -> permits.release());
+        call.copy()
+                .orTimeout(timeoutMillis, TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> {
+                    if (isTimeout(error)) {
+                        // The conditional status updates ignore the answer if a retry settled it first.
+                        call.thenAccept(late -> settle(request, previousAttempts, late, null));
+                    }
+                    settle(request, previousAttempts, result, error);
+                });
+    }
+
+    private void settle(PaymentRequest request, int previousAttempts, PaymentResult result, Throwable error) {
+        Long donationId = request.getDonationId();
+        try {
+            if (error != null) {
+                retryOrFail(donationId, previousAttempts + 1, error);
+            } else if (result.isApproved()) {
+                donationService.completeDonation(donationId, result.getTransactionId());
+            } else {
+                donationService.failDonation(donationId, result.getMessage());
+            }
+        } catch (RuntimeException e) {
+            // The lease runs out and the donation is picked up again.
+            log.error("Could not record the payment outcome of donation {}", donationId, e);
+        }
+    }
+
+    private void retryOrFail(Long donationId, int attempt, Throwable cause) {
+        String error = describe(cause);
+        long backoff = Math.min(MAX_BACKOFF_SECONDS, (long) retryBaseSeconds << Math.min(attempt - 1, 20));
+        if (attempt >= maxAttempts) {
+            if (!isTimeout(cause)) {
+                log.warn("Payment of donation {} failed after {} attempts: {}", donationId, attempt, error);
+                donationService.failDonation(donationId, "Payment failed after " + attempt + " attempts: " + error);
+                return;
+            }
+            // The charge may have succeeded; only the gateway can tell, so keep asking it.
+            log.warn("Outcome of payment of donation {} is unknown after {} attempts: {}", donationId, attempt, error);
+            backoff = MAX_BACKOFF_SECONDS;
+        } else {
+            log.info("Payment of donation {} failed ({}), retrying in {}s", donationId, error, backoff);
+        }
+        String truncated = error.length() > 500 ? error.substring(0, 500) : error;
+        LocalDateTime retryAt = LocalDateTime.now().plusSeconds(backoff);
+        transactionTemplate.executeWithoutResult(status -> donationRepository.schedulePaymentRetry(
+                donationId, truncated, retryAt));
+    }
+
+    private static boolean isTimeout(Throwable error) {
+        return unwrap(error) instanceof TimeoutException;
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+
+    private String describe(Throwable error) {
+        Throwable cause = unwrap(error);
+        if (cause instanceof TimeoutException) {
+            return "Payment gateway did not answer within " + timeoutMillis + " ms";
+        }
+        return cause.getMessage() != null ? cause.getMessage() : cause.getClass().getSimpleName();
+    }
+
+    private PaymentRequest toRequest(Donation donation) {
+        // The key stays the same across attempts so the gateway can recognise retries.
+        return new PaymentRequest(donation.getId(), "donation-" + donation.getId(), donation.getDonor().getId(),
+                donation.getAmount(), donation.getCurrency(), donation.getPaymentMethod());
+    }
+}
@@ -0,0 +1,252 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.PaymentWebhookRequest;
+import com.connectinghands.entity.PaymentOutcome;
+import com.connectinghands.exception.ServiceUnavailableException;
+import com.connectinghands.repository.PaymentWebhookEventRepository;
+import com.connectinghands.service.DonationService;
+import com.connectinghands.service.PaymentWebhookService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Implementation of PaymentWebhookService.
+ * <p>
+ * Request threads queue their callback and then take turns flushing: whichever thread gets the
+ * flush lock drains up to a batch from the queue and applies it in one transaction, with one
+ * INSERT ... ON CONFLICT DO NOTHING for the event IDs and one UPDATE each for completed and
+ * failed donations. Threads that arrive while a flush is running queue up behind it and are
+ * committed together in the next one, so batches grow with load and cost nothing when idle.
+ * <p>
+ * Event IDs committed recently are also kept in memory, so most redeliveries are answered
+ * without touching the database; the table remains the source of truth across restarts and instances.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class PaymentWebhookServiceImpl implements PaymentWebhookService {
+    private static final long HANDOFF_MILLIS = 5;
+    private static final String DEFAULT_DECLINE_REASON = "Payment declined by provider";
+
+    private final PaymentWebhookEventRepository eventRepository;
+    private final DonationService donationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final BlockingQueue<PendingEvent> queue;
+    private final Map<String, CompletableFuture<Boolean>> inFlight = new ConcurrentHashMap<>();
+    private final Set<String> recentIds;
+    private final ReentrantLock flushLock = new ReentrantLock();
+    private final int batchSize;
+    private final long waitTimeoutMillis;
+    private final int retentionDays;
+
+    public PaymentWebhookServiceImpl(PaymentWebhookEventRepository eventRepository,
+            DonationService donationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.payments.webhook.batch-size:500}") int batchSize,
+            @Value("${connectinghands.payments.webhook.queue-capacity:10000}") int queueCapacity,
+            @Value("${connectinghands.payments.webhook.wait-timeout-ms:5000}") long waitTimeoutMillis,
+            @Value("${connectinghands.payments.webhook.recent-ids:100000}") int recentIdCapacity,
+            @Value("${connectinghands.payments.webhook.retention-days:30}") int retentionDays) {
+        this.eventRepository = eventRepository;
+        this.donationService = donationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.recentIds = Collections.synchronizedSet(Collections.newSetFromMap(new LinkedHashMap<>(16, 0.75f, false) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                return size() > recentIdCapacity;
+            }
+        }));
+        this.batchSize = batchSize;
+        this.waitTimeoutMillis = waitTimeoutMillis;
+        this.retentionDays = retentionDays;
+    }
+
+    @Override
+    public boolean receive(PaymentWebhookRequest event) {
+        String eventId = event.getEventId();
+        if (recentIds.contains(eventId)) {
+            return false;
+        }
+
+        CompletableFuture<Boolean> created = new CompletableFuture<>();
+        CompletableFuture<Boolean> existing = inFlight.putIfAbsent(eventId, created);
+        if (existing != null) {
+            // A redelivery racing the original: answer once the original is committed.
+            await(existing);
+            return false;
+        }
+        if (!queue.offer(new PendingEvent(event, created))) {
+            inFlight.remove(eventId, created);
+            throw new ServiceUnavailableException("Too many payment callbacks are waiting; retry later");
+        }
+        return await(created);
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.payments.webhook.purge-cron:0 30 2 * * *}")
+    public int purgeExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        int limit = batchSize * 10;
+        int total = 0;
+        int purged;
+        do {
+            Integer count = transactionTemplate.execute(status -> eventRepository.purgeReceivedBefore(cutoff, limit));
+            purged = count != null ? count : 0;
+            total += purged;
+        } while (purged == limit);
+
+        if (total > 0) {
+            log.info("Purged {} payment webhook events", total);
+        }
+        return total;
+    }
+
+    /**
+     * Waits for a queued event to be committed, taking a turn at flushing whenever no other thread is.
+     */
+    private boolean await(CompletableFuture<Boolean> result) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(waitTimeoutMillis);
+        while (true) {
+            flushNextBatch();
+            try {
+                return result.get(HANDOFF_MILLIS, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (System.nanoTime() - deadline > 0) {
+                    // The event may still commit; a redelivery is then recognised as a duplicate.
+                    throw new ServiceUnavailableException("Payment callback was not recorded in time; retry later");
+                }
+            } catch (ExecutionException e) {
+                log.error("Could not record payment callback", e.getCause());
+                throw new ServiceUnavailableException("Payment callback could not be recorded; retry later");
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new ServiceUnavailableException("Interrupted while recording payment callback");
+            }
+        }
+    }
+
+    private void flushNextBatch() {
+        if (queue.isEmpty() || !flushLock.tryLock()) {
+            return;
+        }
+        try {
+            List<PendingEvent> batch = new ArrayList<>(Math.min(batchSize, queue.size()));
+            queue.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                flush(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    private void flush(List<PendingEvent> batch) {
+        try {
+            Set<String> inserted = transactionTemplate.execute(status -> apply(batch));
+            batch.forEach(pending -> settle(pending, inserted != null && inserted.contains(pending.eventId())));
+            log.debug("Applied {} payment callbacks in one transaction", batch.size());
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                fail(batch.get(0), e);
+                return;
+            }
+            // One bad callback must not hold back the rest of the batch.
+            log.warn("Batch of {} payment callbacks failed, applying them one at a time", batch.size(), e);
+            for (PendingEvent pending : batch) {
+                try {
+                    Set<String> inserted = transactionTemplate.execute(status -> apply(List.of(pending)));
+                    settle(pending, inserted != null && !inserted.isEmpty());
+                } catch (RuntimeException single) {
+                    fail(pending, single);
+                }
+            }
+        }
+    }
+
+    private Set<String> apply(List<PendingEvent> batch) {
+        Set<String> inserted = new HashSet<>(eventRepository.insertNew(toJson(batch), LocalDateTime.now()));
+
+        Map<Long, String> approved = new LinkedHashMap<>();
+        Map<Long, String> declined = new LinkedHashMap<>();
+        for (PendingEvent pending : batch) {
+            PaymentWebhookRequest event = pending.event();
+            if (!inserted.contains(event.getEventId())) {
+                continue;
+            }
+            if (event.getOutcome() == PaymentOutcome.APPROVED) {
+                approved.putIfAbsent(event.getDonationId(), event.getTransactionId());
+            } else {
+                declined.putIfAbsent(event.getDonationId(),
+                        event.getMessage() != null ? event.getMessage() : DEFAULT_DECLINE_REASON);
+            }
+        }
+        // Completions go first, so an approval and a decline for one donation in the same batch
+        // leave it completed, matching what the provider charged.
+        donationService.completeDonations(approved);
+        donationService.failDonations(declined);
+        return inserted;
+    }
+
+    private void settle(PendingEvent pending, boolean inserted) {
+        recentIds.add(pending.eventId());
+        inFlight.remove(pending.eventId(), pending.result());
+        pending.result().complete(inserted);
+    }
+
+    private void fail(PendingEvent pending, RuntimeException e) {
+        inFlight.remove(pending.eventId(), pending.result());
+        pending.result().completeExceptionally(e);
+    }
+
+    private String toJson(List<PendingEvent> batch) {
+        List<Map<String, Object>> rows = new ArrayList<>(batch.size());
+        for (PendingEvent pending : batch) {
+            PaymentWebhookRequest event = pending.event();
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("event_id", event.getEventId());
+            row.put("donation_id", event.getDonationId());
+            row.put("outcome", event.getOutcome().name());
+            row.put("transaction_id", event.getTransactionId());
+            rows.add(row);
+        }
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize payment callbacks", e);
+        }
+    }
+
+    private record PendingEvent(PaymentWebhookRequest event, CompletableFuture<Boolean> result) {
+        String eventId() {
+            return event.getEventId();
+        }
+    }
+}
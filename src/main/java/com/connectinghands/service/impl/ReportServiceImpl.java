@@ -1,15 +1,16 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.dto.DonationReportDto;
+import com.connectinghands.dto.ResourceTypeTotalDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
 import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.Orphanage;
-import com.connectinghands.entity.Resource;
-import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceType;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.ResourceTypeRepository;
 import com.connectinghands.service.ReportService;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -21,9 +22,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -39,6 +42,7 @@ public class ReportServiceImpl implements ReportService {
     private final ResourceRepository resourceRepository;
     private final ResourceRequestRepository resourceRequestRepository;
     private final OrphanageRepository orphanageRepository;
+    private final ResourceTypeRepository resourceTypeRepository;
 
     @Override
     @Transactional(readOnly = true)
@@ -85,20 +89,25 @@ public class ReportServiceImpl implements ReportService {
 
     @Override
     @Transactional(readOnly = true)
-    public ResourceUtilizationReportDto generateResourceUtilizationReport(Long orphanageId) {
+    public ResourceUtilizationReportDto generateResourceUtilizationReport(Long orphanageId, LocalDateTime startDate,
+            LocalDateTime endDate, String reportType, String timeZone) {
         Orphanage orphanage = orphanageRepository.findById(orphanageId)
                 .orElseThrow(() -> new EntityNotFoundException("Orphanage not found"));
 
-        List<Resource> resources = resourceRepository.findByOrphanageId(orphanageId);
-        Map<String, Long> utilizationMap = new HashMap<>();
+        List<ResourceTypeTotalDto> stock = resourceRepository.sumQuantityByResourceType(orphanageId);
+        List<ResourceTypeTotalDto> requests = resourceRequestRepository.countByResourceType(orphanageId);
 
-        for (Resource resource : resources) {
-            utilizationMap.put(resource.getName(), resource.getQuantity().longValue());
-        }
+        Set<Integer> typeIds = new HashSet<>();
+        stock.forEach(total -> typeIds.add(total.getResourceTypeId()));
+        requests.forEach(total -> typeIds.add(total.getResourceTypeId()));
+        Map<Integer, String> typeNames = resourceTypeRepository.findAllById(typeIds).stream()
+                .collect(Collectors.toMap(ResourceType::getId, ReportServiceImpl::label));
 
         ResourceUtilizationReportDto report = new ResourceUtilizationReportDto();
+        report.setOrphanageId(orphanageId);
         report.setOrphanageName(orphanage.getName());
-        report.setResourceUtilization(utilizationMap);
+        report.setResourceUtilization(toNamedMap(stock, typeNames));
+        report.setResourceRequests(toNamedMap(requests, typeNames));
         return report;
     }
 
@@ -109,12 +118,29 @@ public class ReportServiceImpl implements ReportService {
         Page<Orphanage> orphanages = orphanageRepository.findAll(pageable);
 
         List<ResourceUtilizationReportDto> reports = orphanages.getContent().stream()
-                .map(orphanage -> generateResourceUtilizationReport(orphanage.getId()))
+                .map(orphanage -> generateResourceUtilizationReport(orphanage.getId(), startDate, endDate,
+                        reportType, timeZone))
                 .collect(Collectors.toList());
 
         return new PageImpl<>(reports, pageable, orphanages.getTotalElements());
     }
 
+    /**
+     * Labels per-type totals with catalog names, keeping the query's integer-keyed grouping.
+     * The category is part of the label because the same name may be catalogued under several categories.
+     */
+    private Map<String, Long> toNamedMap(List<ResourceTypeTotalDto> totals, Map<Integer, String> typeNames) {
+        Map<String, Long> named = new LinkedHashMap<>();
+        for (ResourceTypeTotalDto total : totals) {
+            named.put(typeNames.get(total.getResourceTypeId()), total.getTotal());
+        }
+        return named;
+    }
+
+    private static String label(ResourceType type) {
+        return type.getName() + " (" + type.getCategory() + ")";
+    }
+
     @Override
     public byte[] exportDonationReport(Long orphanageId, LocalDateTime startDate, LocalDateTime endDate,
             String reportType, String currency, String timeZone, String format) {
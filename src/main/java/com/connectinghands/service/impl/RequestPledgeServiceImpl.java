@@ -0,0 +1,162 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CreatePledgeRequest;
+import com.connectinghands.dto.RecordDeliveryRequest;
+import com.connectinghands.dto.RequestPledgeDto;
+import com.connectinghands.dto.RequestProgressDto;
+import com.connectinghands.entity.PledgeStatus;
+import com.connectinghands.entity.RequestPledge;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.RequestPledgeRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.service.RequestPledgeService;
+import com.connectinghands.service.SecurityService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of RequestPledgeService.
+ * The pledged and delivered totals live on the request row and are only changed by
+ * single conditional UPDATE statements, so a burst of donors on one popular request
+ * never reads, modifies and writes back a shared value. Pledge rows are per donor and
+ * are locked individually when a delivery or cancellation touches them.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestPledgeServiceImpl implements RequestPledgeService {
+    private final RequestPledgeRepository requestPledgeRepository;
+    private final ResourceRequestRepository resourceRequestRepository;
+    private final SecurityService securityService;
+    private final MatchingService matchingService;
+    private final NeedScoreService needScoreService;
+
+    @Override
+    @Transactional
+    public RequestPledgeDto pledge(Long requestId, CreatePledgeRequest request) {
+        int quantity = request.getQuantity();
+        if (resourceRequestRepository.addPledged(requestId, quantity) == 0) {
+            RequestProgressDto progress = resourceRequestRepository.findProgressById(requestId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+            if (progress.getStatus() != ResourceRequestStatus.PENDING) {
+                throw new ConflictException("Resource request is no longer pending");
+            }
+            throw new ConflictException("Only " + progress.getUnpledgedQuantity() + " units remain unpledged");
+        }
+
+        ResourceRequest resourceRequest = resourceRequestRepository.findById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+
+        RequestPledge pledge = new RequestPledge();
+        pledge.setRequest(resourceRequest);
+        pledge.setDonorId(securityService.getCurrentUserId());
+        pledge.setQuantity(quantity);
+        RequestPledge saved = requestPledgeRepository.save(pledge);
+
+        matchingService.onRequestChanged(resourceRequest);
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public RequestPledgeDto recordDelivery(Long pledgeId, RecordDeliveryRequest request) {
+        RequestPledge pledge = requestPledgeRepository.findByIdForUpdate(pledgeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Pledge not found"));
+        // Pledges to other orphanages are reported as missing rather than revealed.
+        if (!securityService.isCurrentUserAdmin() && !securityService.isCurrentUserOrphanageAdmin(pledge.getRequest().getOrphanage().getId())) {
+            throw new ResourceNotFoundException("Pledge not found");
+        }
+        if (pledge.getStatus() != PledgeStatus.OPEN) {
+            throw new ConflictException("Pledge is no longer open");
+        }
+        int quantity = request.getQuantity();
+        if (quantity > pledge.getOutstandingQuantity()) {
+            throw new ValidationException("Only " + pledge.getOutstandingQuantity() + " units of the pledge are outstanding");
+        }
+
+        pledge.setDeliveredQuantity(pledge.getDeliveredQuantity() + quantity);
+        if (pledge.getOutstandingQuantity() == 0) {
+            pledge.setStatus(PledgeStatus.DELIVERED);
+        }
+        RequestPledge saved = requestPledgeRepository.save(pledge);
+        Long requestId = saved.getRequest().getId();
+        resourceRequestRepository.addDelivered(requestId, quantity, LocalDateTime.now());
+
+        resourceRequestRepository.findById(requestId).ifPresent(resourceRequest -> {
+            matchingService.onRequestChanged(resourceRequest);
+            // The delivery may have closed the request.
+            needScoreService.markDirty(resourceRequest.getOrphanage().getId());
+        });
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional
+    public RequestPledgeDto cancelPledge(Long pledgeId) {
+        RequestPledge pledge = requestPledgeRepository.findByIdForUpdate(pledgeId)
+                .orElseThrow(() -> new ResourceNotFoundException("Pledge not found"));
+        if (!pledge.getDonorId().equals(securityService.getCurrentUserId())) {
+            throw new ValidationException("Only the pledging donor can cancel a pledge");
+        }
+        if (pledge.getStatus() != PledgeStatus.OPEN) {
+            throw new ConflictException("Pledge is no longer open");
+        }
+
+        int released = pledge.getOutstandingQuantity();
+        pledge.setStatus(PledgeStatus.CANCELLED);
+        RequestPledge saved = requestPledgeRepository.save(pledge);
+        Long requestId = saved.getRequest().getId();
+        resourceRequestRepository.releasePledged(requestId, released);
+
+        resourceRequestRepository.findById(requestId).ifPresent(matchingService::onRequestChanged);
+        return mapToDto(saved);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RequestPledgeDto> getPledges(Long requestId, Pageable pageable) {
+        if (!resourceRequestRepository.existsById(requestId)) {
+            throw new ResourceNotFoundException("Resource request not found");
+        }
+        return requestPledgeRepository.findByRequestIdOrderByIdAsc(requestId, pageable).map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<RequestPledgeDto> getMyPledges(Pageable pageable) {
+        return requestPledgeRepository.findByDonorIdOrderByIdDesc(securityService.getCurrentUserId(), pageable)
+                .map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public RequestProgressDto getProgress(Long requestId) {
+        return resourceRequestRepository.findProgressById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+    }
+
+    private RequestPledgeDto mapToDto(RequestPledge pledge) {
+        RequestPledgeDto dto = new RequestPledgeDto();
+        dto.setId(pledge.getId());
+        dto.setRequestId(pledge.getRequest().getId());
+        dto.setDonorId(pledge.getDonorId());
+        dto.setQuantity(pledge.getQuantity());
+        dto.setDeliveredQuantity(pledge.getDeliveredQuantity());
+        dto.setStatus(pledge.getStatus());
+        dto.setCreatedAt(pledge.getCreatedAt());
+        dto.setUpdatedAt(pledge.getUpdatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,116 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.repository.RequestPledgeRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.service.RequestRetentionService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+/**
+ * Implementation of RequestRetentionService.
+ * Both jobs work in chunks of {@code batchSize} rows, each chunk in its own short transaction,
+ * and lock rows with SKIP LOCKED so they never wait on, or block, interactive traffic.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class RequestRetentionServiceImpl implements RequestRetentionService {
+    private final ResourceRequestRepository resourceRequestRepository;
+    private final RequestPledgeRepository requestPledgeRepository;
+    private final MatchingService matchingService;
+    private final NeedScoreService needScoreService;
+    private final TransactionTemplate transactionTemplate;
+    private final int batchSize;
+    private final int pendingMaxAgeDays;
+    private final int archiveAfterDays;
+
+    public RequestRetentionServiceImpl(ResourceRequestRepository resourceRequestRepository,
+            RequestPledgeRepository requestPledgeRepository,
+            MatchingService matchingService,
+            NeedScoreService needScoreService,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.requests.retention.batch-size:200}") int batchSize,
+            @Value("${connectinghands.requests.retention.pending-max-age-days:90}") int pendingMaxAgeDays,
+            @Value("${connectinghands.requests.retention.archive-after-days:180}") int archiveAfterDays) {
+        this.resourceRequestRepository = resourceRequestRepository;
+        this.requestPledgeRepository = requestPledgeRepository;
+        this.matchingService = matchingService;
+        this.needScoreService = needScoreService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.batchSize = batchSize;
+        this.pendingMaxAgeDays = pendingMaxAgeDays;
+        this.archiveAfterDays = archiveAfterDays;
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.requests.retention.expiry-cron:0 45 * * * *}")
+    public int expireStaleRequests() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(pendingMaxAgeDays);
+        int total = 0;
+        int expired;
+        do {
+            expired = inTransaction(() -> expireBatch(cutoff));
+            total += expired;
+        } while (expired == batchSize);
+
+        if (total > 0) {
+            log.info("Expired {} pending resource requests older than {} days", total, pendingMaxAgeDays);
+        }
+        return total;
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.requests.retention.archive-cron:0 30 3 * * *}")
+    public int archiveClosedRequests() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(archiveAfterDays);
+        int total = 0;
+        int archived;
+        do {
+            archived = inTransaction(() -> archiveBatch(cutoff));
+            total += archived;
+        } while (archived == batchSize);
+
+        if (total > 0) {
+            log.info("Archived {} closed resource requests", total);
+        }
+        return total;
+    }
+
+    private int expireBatch(LocalDateTime cutoff) {
+        List<Long> ids = resourceRequestRepository.lockStalePendingIds(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        resourceRequestRepository.markExpired(ids, LocalDateTime.now());
+        ids.forEach(matchingService::onRequestRemoved);
+        resourceRequestRepository.findOrphanageIdsByIds(ids).forEach(needScoreService::markDirty);
+        return ids.size();
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = resourceRequestRepository.lockClosedIdsBefore(cutoff, batchSize);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        requestPledgeRepository.archiveByRequestIds(ids, now);
+        resourceRequestRepository.archiveByIds(ids, now);
+        return ids.size();
+    }
+
+    private int inTransaction(IntSupplier batch) {
+        Integer count = transactionTemplate.execute(status -> batch.getAsInt());
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,271 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.CacheConfig;
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateResourceLotRequest;
+import com.connectinghands.dto.ResourceLotDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceLot;
+import com.connectinghands.entity.ResourceLotStatus;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.ResourceLotRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.ResourceLotService;
+import com.connectinghands.service.StockAlertService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ResourceLotService interface.
+ * Every quantity change takes the resource row lock first and only then touches its lots,
+ * so allocations and the expiry sweep always lock in the same order and cannot deadlock.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class ResourceLotServiceImpl implements ResourceLotService {
+    private final ResourceLotRepository resourceLotRepository;
+    private final ResourceRepository resourceRepository;
+    private final StockAlertService stockAlertService;
+    private final MatchingService matchingService;
+    private final TransactionTemplate transactionTemplate;
+    private final int sweepBatchSize;
+
+    public ResourceLotServiceImpl(ResourceLotRepository resourceLotRepository,
+            ResourceRepository resourceRepository,
+            StockAlertService stockAlertService,
+            MatchingService matchingService,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.inventory.expiry-sweep.batch-size:200}") int sweepBatchSize) {
+        this.resourceLotRepository = resourceLotRepository;
+        this.resourceRepository = resourceRepository;
+        this.stockAlertService = stockAlertService;
+        this.matchingService = matchingService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.sweepBatchSize = sweepBatchSize;
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public ResourceLotDto addLot(Long resourceId, CreateResourceLotRequest request) {
+        if (request.getExpiresOn().isBefore(LocalDate.now())) {
+            throw new ValidationException("Lot is already past its expiry date");
+        }
+
+        Resource resource = resourceRepository.findByIdForUpdate(resourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+        boolean wasBelowThreshold = resource.isBelowThreshold();
+
+        ResourceLot lot = new ResourceLot();
+        lot.setResource(resource);
+        lot.setQuantity(request.getQuantity());
+        lot.setInitialQuantity(request.getQuantity());
+        lot.setExpiresOn(request.getExpiresOn());
+        lot.setBatchNumber(request.getBatchNumber());
+        lot.setStatus(ResourceLotStatus.ACTIVE);
+        ResourceLot savedLot = resourceLotRepository.save(lot);
+
+        resource.setQuantity(resource.getQuantity() + request.getQuantity());
+        stockAlertService.evaluate(resource, wasBelowThreshold);
+        matchingService.onResourceChanged(resource);
+
+        return mapToDto(savedLot);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceLotDto> getLots(Long resourceId) {
+        if (!resourceRepository.existsById(resourceId)) {
+            throw new ResourceNotFoundException("Resource not found");
+        }
+        return resourceLotRepository.findByResourceIdOrderByExpiresOnAsc(resourceId).stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ResourceLotDto> getExpiringLots(int withinDays, Pageable pageable) {
+        LocalDate before = LocalDate.now().plusDays(withinDays + 1L);
+        return resourceLotRepository.findActiveLotsExpiringBefore(before, pageable)
+                .map(this::mapToDto);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public AllocationDto allocate(Long resourceId, int quantity) {
+        Resource resource = resourceRepository.findByIdForUpdate(resourceId)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
+        return consumeLocked(resource, quantity);
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public AllocationDto consumeLocked(Resource resource, int quantity) {
+        if (resource.getAvailableQuantity() < quantity) {
+            throw new ValidationException("Insufficient stock: requested " + quantity
+                    + " but only " + resource.getAvailableQuantity() + " available");
+        }
+        boolean wasBelowThreshold = resource.isBelowThreshold();
+
+        AllocationDto allocation = new AllocationDto();
+        allocation.setResourceId(resource.getId());
+        allocation.setAllocatedQuantity(quantity);
+
+        int outstanding = quantity;
+        for (ResourceLot lot : resourceLotRepository.findActiveLotsInExpiryOrder(resource.getId())) {
+            if (outstanding == 0) {
+                break;
+            }
+            int taken = Math.min(outstanding, lot.getQuantity());
+            lot.setQuantity(lot.getQuantity() - taken);
+            if (lot.getQuantity() == 0) {
+                lot.setStatus(ResourceLotStatus.DEPLETED);
+            }
+            outstanding -= taken;
+
+            AllocationDto.LotConsumption consumption = new AllocationDto.LotConsumption();
+            consumption.setLotId(lot.getId());
+            consumption.setQuantity(taken);
+            consumption.setExpiresOn(lot.getExpiresOn());
+            consumption.setBatchNumber(lot.getBatchNumber());
+            allocation.getLots().add(consumption);
+        }
+        allocation.setUntrackedQuantity(outstanding);
+
+        resource.setQuantity(resource.getQuantity() - quantity);
+        allocation.setRemainingQuantity(resource.getQuantity());
+        stockAlertService.evaluate(resource, wasBelowThreshold);
+        matchingService.onResourceChanged(resource);
+        return allocation;
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void setQuantityLocked(Resource resource, int quantity) {
+        if (quantity < resource.getReservedQuantity()) {
+            throw new ValidationException("Quantity cannot be less than the "
+                    + resource.getReservedQuantity() + " units reserved");
+        }
+        List<ResourceLot> lots = resourceLotRepository.findActiveLotsInExpiryOrder(resource.getId());
+        int excess = lots.stream().mapToInt(ResourceLot::getQuantity).sum() - quantity;
+        for (ResourceLot lot : lots) {
+            if (excess <= 0) {
+                break;
+            }
+            int taken = Math.min(excess, lot.getQuantity());
+            lot.setQuantity(lot.getQuantity() - taken);
+            if (lot.getQuantity() == 0) {
+                lot.setStatus(ResourceLotStatus.DEPLETED);
+            }
+            excess -= taken;
+        }
+        resource.setQuantity(quantity);
+    }
+
+    /**
+     * Writes off expired lots batch by batch, each batch in its own short transaction.
+     * Resources currently locked by an allocation are skipped and picked up on the next run.
+     *
+     * @return The number of lots written off
+     */
+    @Override
+    @Scheduled(cron = "${connectinghands.inventory.expiry-sweep.cron:0 15 * * * *}")
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public int sweepExpiredLots() {
+        LocalDate today = LocalDate.now();
+        int totalExpired = 0;
+        int[] batch;
+        do {
+            batch = transactionTemplate.execute(status -> expireBatch(today));
+            totalExpired += batch[1];
+        } while (batch[0] == sweepBatchSize);
+
+        if (totalExpired > 0) {
+            log.info("Expiry sweep wrote off {} lots", totalExpired);
+        }
+        return totalExpired;
+    }
+
+    /**
+     * Expires lots for one batch of resources.
+     *
+     * @return the number of resources locked and the number of lots expired
+     */
+    private int[] expireBatch(LocalDate today) {
+        List<Long> candidateIds = resourceLotRepository.findResourceIdsWithExpiredLots(
+                today, PageRequest.of(0, sweepBatchSize));
+        if (candidateIds.isEmpty()) {
+            return new int[] {0, 0};
+        }
+
+        List<Resource> resources = resourceRepository.lockAllSkipLocked(candidateIds);
+        if (resources.isEmpty()) {
+            return new int[] {0, 0};
+        }
+
+        Map<Long, List<ResourceLot>> expiredByResource = resourceLotRepository
+                .findExpiredLots(resources.stream().map(Resource::getId).collect(Collectors.toList()), today)
+                .stream()
+                .collect(Collectors.groupingBy(lot -> lot.getResource().getId()));
+
+        int expiredLots = 0;
+        for (Resource resource : resources) {
+            List<ResourceLot> lots = expiredByResource.getOrDefault(resource.getId(), List.of());
+            if (lots.isEmpty()) {
+                continue;
+            }
+            boolean wasBelowThreshold = resource.isBelowThreshold();
+            int writtenOff = 0;
+            for (ResourceLot lot : lots) {
+                writtenOff += lot.getQuantity();
+                lot.setStatus(ResourceLotStatus.EXPIRED);
+            }
+            // Reserved stock stays on the books; its holders are owed it even if the lot it sat in expired.
+            int remaining = resource.getQuantity() - writtenOff;
+            if (remaining < resource.getReservedQuantity()) {
+                log.warn("Expired lots of resource {} left {} units for {} reserved", resource.getId(),
+                        Math.max(0, remaining), resource.getReservedQuantity());
+                remaining = resource.getReservedQuantity();
+            }
+            resource.setQuantity(remaining);
+            stockAlertService.evaluate(resource, wasBelowThreshold);
+            matchingService.onResourceChanged(resource);
+            expiredLots += lots.size();
+        }
+        return new int[] {resources.size(), expiredLots};
+    }
+
+    private ResourceLotDto mapToDto(ResourceLot lot) {
+        ResourceLotDto dto = new ResourceLotDto();
+        dto.setId(lot.getId());
+        dto.setResourceId(lot.getResource().getId());
+        dto.setQuantity(lot.getQuantity());
+        dto.setInitialQuantity(lot.getInitialQuantity());
+        dto.setExpiresOn(lot.getExpiresOn());
+        dto.setBatchNumber(lot.getBatchNumber());
+        dto.setStatus(lot.getStatus());
+        dto.setReceivedAt(lot.getReceivedAt());
+        return dto;
+    }
+}
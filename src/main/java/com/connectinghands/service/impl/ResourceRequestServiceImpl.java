@@ -1,18 +1,27 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.OrphanageRegionDto;
 import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
-import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.exception.ConflictException;
 import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
 import com.connectinghands.service.AuditLogService;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.service.OutboxService;
 import com.connectinghands.service.ResourceRequestService;
+import com.connectinghands.service.ResourceTypeService;
 import com.connectinghands.service.SecurityService;
+import com.connectinghands.util.CursorCodec;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,6 +29,7 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -32,15 +42,23 @@ import java.util.stream.Collectors;
 @Service
 @RequiredArgsConstructor
 public class ResourceRequestServiceImpl implements ResourceRequestService {
+    private static final int MAX_QUEUE_PAGE_SIZE = 100;
+
     private final ResourceRequestRepository resourceRequestRepository;
     private final OrphanageRepository orphanageRepository;
     private final SecurityService securityService;
     private final AuditLogService auditLogService;
+    private final ResourceTypeService resourceTypeService;
+    private final MatchingService matchingService;
+    private final NeedScoreService needScoreService;
+    private final OutboxService outboxService;
 
     @Override
     @Transactional
     public ResourceRequestDto createResourceRequest(CreateResourceRequest request) {
-        Orphanage orphanage = orphanageRepository.findById(request.getOrphanageId())
+        // The region projection doubles as the existence check and carries the orphanage name;
+        // the orphanage itself is attached by reference.
+        OrphanageRegionDto orphanage = orphanageRepository.findRegionById(request.getOrphanageId())
                 .orElseThrow(() -> new ResourceNotFoundException("Orphanage not found"));
 
         ResourceRequest resourceRequest = new ResourceRequest();
@@ -49,10 +67,20 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
         resourceRequest.setCategory(ResourceCategory.valueOf(request.getCategory()));
         resourceRequest.setQuantity(request.getQuantity());
         resourceRequest.setUnit(request.getUnit());
-        resourceRequest.setOrphanage(orphanage);
+        resourceRequest.setResourceType(resourceTypeService.resolve(
+                resourceRequest.getName(), resourceRequest.getCategory(), resourceRequest.getUnit()));
+        resourceRequest.setOrphanage(orphanageRepository.getReferenceById(orphanage.getOrphanageId()));
+        if (request.getPriority() != null) {
+            resourceRequest.setPriority(request.getPriority());
+        }
+        if (request.getUrgencyScore() != null) {
+            resourceRequest.setUrgencyScore(request.getUrgencyScore());
+        }
         resourceRequest.setStatus(ResourceRequestStatus.PENDING);
 
         ResourceRequest savedRequest = resourceRequestRepository.save(resourceRequest);
+        matchingService.onRequestChanged(savedRequest);
+        needScoreService.markDirty(orphanage.getOrphanageId());
         
         auditLogService.logAction(
             "CREATE_RESOURCE_REQUEST",
@@ -60,7 +88,11 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             savedRequest.getId()
         );
 
-        return convertToDto(savedRequest);
+        // The outbox event also drives the subscriber fan-out.
+        ResourceRequestDto dto = convertToDto(savedRequest, orphanage.getName());
+        outboxService.record(OutboxEventTypes.RESOURCE_REQUEST, savedRequest.getId(),
+                OutboxEventTypes.RESOURCE_REQUEST_CREATED, dto);
+        return dto;
     }
 
     @Override
@@ -90,10 +122,51 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
 
     @Override
     @Transactional(readOnly = true)
-    public List<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status) {
-        return resourceRequestRepository.findByStatus(status).stream()
-                .map(this::convertToDto)
-                .collect(Collectors.toList());
+    public CursorPage<ResourceRequestDto> getResourceRequestsByStatus(ResourceRequestStatus status, String cursor,
+                                                                      int size) {
+        return queuePage(status, cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<ResourceRequestDto> getPendingQueue(String cursor, int size) {
+        return queuePage(ResourceRequestStatus.PENDING, cursor, size);
+    }
+
+    private CursorPage<ResourceRequestDto> queuePage(ResourceRequestStatus status, String cursor, int size) {
+        if (size < 1 || size > MAX_QUEUE_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_QUEUE_PAGE_SIZE);
+        }
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query.
+        List<ResourceRequest> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = resourceRequestRepository.findQueueHead(status.name(), size + 1);
+        } else {
+            String[] position = CursorCodec.decode(cursor, 4);
+            try {
+                rows = resourceRequestRepository.findQueueAfter(
+                        status.name(),
+                        Integer.parseInt(position[0]),
+                        Integer.parseInt(position[1]),
+                        LocalDateTime.parse(position[2]),
+                        Long.parseLong(position[3]),
+                        size + 1);
+            } catch (NumberFormatException | DateTimeParseException e) {
+                throw new ValidationException("Invalid cursor");
+            }
+        }
+
+        boolean hasMore = rows.size() > size;
+        List<ResourceRequest> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = null;
+        if (hasMore) {
+            ResourceRequest last = page.get(page.size() - 1);
+            nextCursor = CursorCodec.encode(last.getPriority().ordinal(), last.getUrgencyScore(),
+                    last.getCreatedAt(), last.getId());
+        }
+        return new CursorPage<>(page.stream().map(this::convertToDto).collect(Collectors.toList()),
+                nextCursor, hasMore);
     }
 
     @Override
@@ -101,6 +174,10 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
     public ResourceRequestDto updateResourceRequest(Long id, UpdateResourceRequest request) {
         ResourceRequest resourceRequest = resourceRequestRepository.findById(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+        if (request.getVersion() != null && !request.getVersion().equals(resourceRequest.getVersion())) {
+            throw new ConflictException("Resource request was modified by someone else. Reload it and try again.");
+        }
+        ResourceRequestStatus previousStatus = resourceRequest.getStatus();
 
         if (request.getName() != null) {
             resourceRequest.setName(request.getName());
@@ -112,20 +189,40 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             resourceRequest.setCategory(ResourceCategory.valueOf(request.getCategory()));
         }
         if (request.getQuantity() != null) {
+            if (request.getQuantity() < resourceRequest.getPledgedQuantity()) {
+                throw new ValidationException("Quantity cannot be less than the " +
+                        resourceRequest.getPledgedQuantity() + " units already pledged");
+            }
             resourceRequest.setQuantity(request.getQuantity());
         }
         if (request.getUnit() != null) {
             resourceRequest.setUnit(request.getUnit());
         }
+        if (request.getName() != null || request.getCategory() != null || request.getUnit() != null) {
+            resourceRequest.setResourceType(resourceTypeService.resolve(
+                    resourceRequest.getName(), resourceRequest.getCategory(), resourceRequest.getUnit()));
+        }
+        if (request.getPriority() != null) {
+            resourceRequest.setPriority(request.getPriority());
+        }
+        if (request.getUrgencyScore() != null) {
+            resourceRequest.setUrgencyScore(request.getUrgencyScore());
+        }
         if (request.getStatus() != null) {
+            if (ResourceRequestStatus.FULFILLED.name().equals(request.getStatus())
+                    && resourceRequest.getStatus() != ResourceRequestStatus.PENDING) {
+                throw new ConflictException("Resource request is no longer pending");
+            }
             resourceRequest.setStatus(ResourceRequestStatus.valueOf(request.getStatus()));
-            if (request.getStatus() == ResourceRequestStatus.FULFILLED) {
+            if (ResourceRequestStatus.FULFILLED.name().equals(request.getStatus())) {
                 resourceRequest.setFulfilledBy(securityService.getCurrentUserId());
                 resourceRequest.setFulfilledAt(LocalDateTime.now());
             }
         }
 
-        ResourceRequest updatedRequest = resourceRequestRepository.save(resourceRequest);
+        ResourceRequest updatedRequest = resourceRequestRepository.saveAndFlush(resourceRequest);
+        matchingService.onRequestChanged(updatedRequest);
+        needScoreService.markDirty(updatedRequest.getOrphanage().getId());
         
         auditLogService.logAction(
             "UPDATE_RESOURCE_REQUEST",
@@ -133,17 +230,59 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
             id
         );
 
-        return convertToDto(updatedRequest);
+        ResourceRequestDto dto = convertToDto(updatedRequest);
+        boolean fulfilled = updatedRequest.getStatus() == ResourceRequestStatus.FULFILLED
+                && previousStatus != ResourceRequestStatus.FULFILLED;
+        outboxService.record(OutboxEventTypes.RESOURCE_REQUEST, id, fulfilled
+                ? OutboxEventTypes.RESOURCE_REQUEST_FULFILLED : OutboxEventTypes.RESOURCE_REQUEST_UPDATED, dto);
+        return dto;
     }
 
+    /**
+     * Fulfills a pending request with a single conditional UPDATE.
+     * No row lock is held across the donor's round trip: of two concurrent donors,
+     * exactly one update matches the PENDING row and the other gets a conflict.
+     * Requests that already have pledges are closed by their deliveries instead.
+     */
     @Override
     @Transactional
-    public void deleteResourceRequest(Long id) {
-        if (!resourceRequestRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Resource request not found");
+    public ResourceRequestDto fulfillResourceRequest(Long id) {
+        Long donorId = securityService.getCurrentUserId();
+        int updated = resourceRequestRepository.fulfillIfPending(id, donorId, LocalDateTime.now());
+        if (updated == 0) {
+            if (!resourceRequestRepository.existsById(id)) {
+                throw new ResourceNotFoundException("Resource request not found");
+            }
+            throw new ConflictException("Resource request is no longer pending or is being covered by pledges");
         }
 
-        resourceRequestRepository.deleteById(id);
+        ResourceRequest fulfilled = resourceRequestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+        matchingService.onRequestChanged(fulfilled);
+        needScoreService.markDirty(fulfilled.getOrphanage().getId());
+
+        auditLogService.logAction(
+            "FULFILL_RESOURCE_REQUEST",
+            "Fulfilled resource request: " + id,
+            id
+        );
+
+        ResourceRequestDto dto = convertToDto(fulfilled);
+        outboxService.record(OutboxEventTypes.RESOURCE_REQUEST, id, OutboxEventTypes.RESOURCE_REQUEST_FULFILLED, dto);
+        return dto;
+    }
+
+    @Override
+    @Transactional
+    public void deleteResourceRequest(Long id) {
+        ResourceRequest resourceRequest = resourceRequestRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Resource request not found"));
+
+        ResourceRequestDto dto = convertToDto(resourceRequest);
+        resourceRequestRepository.delete(resourceRequest);
+        matchingService.onRequestRemoved(id);
+        needScoreService.markDirty(resourceRequest.getOrphanage().getId());
+        outboxService.record(OutboxEventTypes.RESOURCE_REQUEST, id, OutboxEventTypes.RESOURCE_REQUEST_DELETED, dto);
         
         auditLogService.logAction(
             "DELETE_RESOURCE_REQUEST",
@@ -153,18 +292,28 @@ public class ResourceRequestServiceImpl implements ResourceRequestService {
     }
 
     private ResourceRequestDto convertToDto(ResourceRequest request) {
+        return convertToDto(request, request.getOrphanage().getName());
+    }
+
+    private ResourceRequestDto convertToDto(ResourceRequest request, String orphanageName) {
         ResourceRequestDto dto = new ResourceRequestDto();
         dto.setId(request.getId());
         dto.setName(request.getName());
         dto.setDescription(request.getDescription());
         dto.setCategory(request.getCategory());
         dto.setQuantity(request.getQuantity());
+        dto.setPledgedQuantity(request.getPledgedQuantity());
+        dto.setDeliveredQuantity(request.getDeliveredQuantity());
         dto.setUnit(request.getUnit());
-        dto.setOrphanageName(request.getOrphanage().getName());
+        dto.setResourceTypeId(request.getResourceType() != null ? request.getResourceType().getId() : null);
+        dto.setOrphanageName(orphanageName);
         dto.setOrphanageId(request.getOrphanage().getId());
+        dto.setPriority(request.getPriority());
+        dto.setUrgencyScore(request.getUrgencyScore());
         dto.setStatus(request.getStatus());
         dto.setFulfilledBy(request.getFulfilledBy());
         dto.setFulfilledAt(request.getFulfilledAt());
+        dto.setVersion(request.getVersion());
         dto.setCreatedAt(request.getCreatedAt());
         dto.setUpdatedAt(request.getUpdatedAt());
         return dto;
@@ -1,16 +1,24 @@
 package com.connectinghands.service.impl;
 
+import com.connectinghands.config.CacheConfig;
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.InventorySummaryDto;
 import com.connectinghands.dto.ResourceDto;
 import com.connectinghands.dto.UpdateResourceRequest;
-import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ConflictException;
 import com.connectinghands.exception.ResourceNotFoundException;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.ResourceLotService;
 import com.connectinghands.service.ResourceService;
+import com.connectinghands.service.ResourceTypeService;
+import com.connectinghands.service.StockAlertService;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
@@ -30,10 +38,20 @@ public class ResourceServiceImpl implements ResourceService {
 
     private final ResourceRepository resourceRepository;
     private final OrphanageRepository orphanageRepository;
+    private final StockAlertService stockAlertService;
+    private final ResourceTypeService resourceTypeService;
+    private final MatchingService matchingService;
+    private final ResourceLotService resourceLotService;
 
-    public ResourceServiceImpl(ResourceRepository resourceRepository, OrphanageRepository orphanageRepository) {
+    public ResourceServiceImpl(ResourceRepository resourceRepository, OrphanageRepository orphanageRepository,
+            StockAlertService stockAlertService, ResourceTypeService resourceTypeService,
+            MatchingService matchingService, ResourceLotService resourceLotService) {
         this.resourceRepository = resourceRepository;
         this.orphanageRepository = orphanageRepository;
+        this.stockAlertService = stockAlertService;
+        this.resourceTypeService = resourceTypeService;
+        this.matchingService = matchingService;
+        this.resourceLotService = resourceLotService;
     }
 
     /**
@@ -46,8 +64,10 @@ public class ResourceServiceImpl implements ResourceService {
      */
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
     public ResourceDto createResource(CreateResourceRequest request) {
-        Orphanage orphanage = orphanageRepository.findById(request.getOrphanageId())
+        // The name doubles as the existence check; the orphanage itself is attached by reference.
+        String orphanageName = orphanageRepository.findNameById(request.getOrphanageId())
                 .orElseThrow(() -> new ResourceNotFoundException("Orphanage not found"));
 
         Resource resource = new Resource();
@@ -56,11 +76,21 @@ public class ResourceServiceImpl implements ResourceService {
         resource.setCategory(ResourceCategory.valueOf(request.getCategory()));
         resource.setQuantity(request.getQuantity());
         resource.setUnit(request.getUnit());
-        resource.setOrphanage(orphanage);
+        resource.setResourceType(resourceTypeService.resolve(
+                resource.getName(), resource.getCategory(), resource.getUnit()));
+        resource.setOrphanage(orphanageRepository.getReferenceById(request.getOrphanageId()));
         resource.setStatus(ResourceStatus.AVAILABLE);
+        if (request.getMinimumQuantity() != null) {
+            resource.setMinimumQuantity(request.getMinimumQuantity());
+        }
+        if (request.getAutoRequest() != null) {
+            resource.setAutoRequest(request.getAutoRequest());
+        }
 
         Resource savedResource = resourceRepository.save(resource);
-        return convertToDto(savedResource);
+        stockAlertService.evaluate(savedResource, false);
+        matchingService.onResourceChanged(savedResource);
+        return convertToDto(savedResource, orphanageName);
     }
 
     /**
@@ -133,9 +163,39 @@ public class ResourceServiceImpl implements ResourceService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Retrieves resources whose quantity is below their minimum threshold.
+     *
+     * @param orphanageId Optional orphanage to restrict the search to
+     * @param pageable Pagination information
+     * @return A page of resource DTOs below their threshold
+     */
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ResourceDto> getLowStockResources(Long orphanageId, Pageable pageable) {
+        return resourceRepository.findBelowThreshold(orphanageId, pageable)
+                .map(this::convertToDto);
+    }
+
+    /**
+     * Retrieves network-wide available stock grouped by category and orphanage region.
+     * Computed with a single SQL aggregation and cached until the next inventory write.
+     *
+     * @param category Optional category to restrict the summary to
+     * @return Inventory totals, one row per category, region and unit
+     */
+    @Override
+    @Transactional(readOnly = true)
+    @Cacheable(value = CacheConfig.INVENTORY_SUMMARY, key = "#category == null ? 'ALL' : #category.name()")
+    public List<InventorySummaryDto> getInventorySummary(ResourceCategory category) {
+        return resourceRepository.summarizeByCategoryAndRegion(category);
+    }
+
     /**
      * Updates an existing resource.
-     * Logs the update action.
+     * Re-evaluates the low-stock threshold when quantity or threshold changes. The resource row
+     * is locked like any other stock change, and a new quantity goes through the lot service so
+     * lots are trimmed to match and reserved stock cannot be counted away.
      *
      * @param id The ID of the resource to update
      * @param request The request containing updated resource details
@@ -144,10 +204,15 @@ public class ResourceServiceImpl implements ResourceService {
      */
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
     public ResourceDto updateResource(Long id, UpdateResourceRequest request) {
-        Resource resource = resourceRepository.findById(id)
+        Resource resource = resourceRepository.findByIdForUpdate(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Resource not found"));
-        
+        if (request.getVersion() != null && !request.getVersion().equals(resource.getVersion())) {
+            throw new ConflictException("Resource was modified by someone else. Reload it and try again.");
+        }
+        boolean wasBelowThreshold = resource.isBelowThreshold();
+
         if (request.getName() != null) {
             resource.setName(request.getName());
         }
@@ -158,16 +223,25 @@ public class ResourceServiceImpl implements ResourceService {
             resource.setCategory(ResourceCategory.valueOf(request.getCategory()));
         }
         if (request.getQuantity() != null) {
-            resource.setQuantity(request.getQuantity());
+            resourceLotService.setQuantityLocked(resource, request.getQuantity());
         }
         if (request.getUnit() != null) {
             resource.setUnit(request.getUnit());
         }
+        if (request.getMinimumQuantity() != null) {
+            resource.setMinimumQuantity(request.getMinimumQuantity());
+        }
         if (request.getStatus() != null) {
             resource.setStatus(ResourceStatus.valueOf(request.getStatus()));
         }
-        
-        Resource updatedResource = resourceRepository.save(resource);
+        if (request.getName() != null || request.getCategory() != null || request.getUnit() != null) {
+            resource.setResourceType(resourceTypeService.resolve(
+                    resource.getName(), resource.getCategory(), resource.getUnit()));
+        }
+
+        Resource updatedResource = resourceRepository.saveAndFlush(resource);
+        stockAlertService.evaluate(updatedResource, wasBelowThreshold);
+        matchingService.onResourceChanged(updatedResource);
         return convertToDto(updatedResource);
     }
 
@@ -180,11 +254,13 @@ public class ResourceServiceImpl implements ResourceService {
      */
     @Override
     @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
     public void deleteResource(Long id) {
         if (!resourceRepository.existsById(id)) {
             throw new ResourceNotFoundException("Resource not found");
         }
         resourceRepository.deleteById(id);
+        matchingService.onResourceRemoved(id);
     }
 
     /**
@@ -194,15 +270,24 @@ public class ResourceServiceImpl implements ResourceService {
      * @return The converted ResourceDto
      */
     private ResourceDto convertToDto(Resource resource) {
+        return convertToDto(resource, resource.getOrphanage().getName());
+    }
+
+    private ResourceDto convertToDto(Resource resource, String orphanageName) {
         ResourceDto dto = new ResourceDto();
         dto.setId(resource.getId());
         dto.setName(resource.getName());
         dto.setDescription(resource.getDescription());
         dto.setCategory(resource.getCategory());
         dto.setQuantity(resource.getQuantity());
+        dto.setReservedQuantity(resource.getReservedQuantity());
+        dto.setAvailableQuantity(resource.getAvailableQuantity());
         dto.setUnit(resource.getUnit());
-        dto.setOrphanageName(resource.getOrphanage().getName());
+        dto.setMinimumQuantity(resource.getMinimumQuantity());
+        dto.setResourceTypeId(resource.getResourceType() != null ? resource.getResourceType().getId() : null);
+        dto.setOrphanageName(orphanageName);
         dto.setStatus(resource.getStatus());
+        dto.setVersion(resource.getVersion());
         dto.setCreatedAt(resource.getCreatedAt());
         dto.setUpdatedAt(resource.getUpdatedAt());
         return dto;
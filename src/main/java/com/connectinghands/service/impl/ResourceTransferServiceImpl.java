@@ -0,0 +1,188 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.CacheConfig;
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.BatchTransferRequest;
+import com.connectinghands.dto.InventoryLedgerEntryDto;
+import com.connectinghands.dto.TransferDto;
+import com.connectinghands.dto.TransferResourceRequest;
+import com.connectinghands.entity.InventoryLedgerEntry;
+import com.connectinghands.entity.LedgerEntryType;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceLot;
+import com.connectinghands.entity.ResourceLotStatus;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.InventoryLedgerRepository;
+import com.connectinghands.repository.ResourceLotRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.ResourceLotService;
+import com.connectinghands.service.ResourceTransferService;
+import com.connectinghands.service.StockAlertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ResourceTransferService interface.
+ * All resources involved in a transfer (or a batch of transfers) are locked up front in
+ * ascending ID order, so two transfers running in opposite directions wait on each other
+ * instead of deadlocking.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceTransferServiceImpl implements ResourceTransferService {
+    private final ResourceRepository resourceRepository;
+    private final ResourceLotRepository resourceLotRepository;
+    private final InventoryLedgerRepository inventoryLedgerRepository;
+    private final ResourceLotService resourceLotService;
+    private final StockAlertService stockAlertService;
+    private final MatchingService matchingService;
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public TransferDto transfer(TransferResourceRequest request) {
+        return applyAll(List.of(request)).get(0);
+    }
+
+    @Override
+    @Transactional
+    @CacheEvict(value = CacheConfig.INVENTORY_SUMMARY, allEntries = true)
+    public List<TransferDto> transferBatch(BatchTransferRequest request) {
+        return applyAll(request.getTransfers());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<InventoryLedgerEntryDto> getLedger(Long resourceId, Pageable pageable) {
+        if (!resourceRepository.existsById(resourceId)) {
+            throw new ResourceNotFoundException("Resource not found");
+        }
+        return inventoryLedgerRepository.findByResourceIdOrderByCreatedAtDescIdDesc(resourceId, pageable)
+                .map(this::mapToDto);
+    }
+
+    private List<TransferDto> applyAll(List<TransferResourceRequest> transfers) {
+        TreeSet<Long> resourceIds = new TreeSet<>();
+        for (TransferResourceRequest transfer : transfers) {
+            if (Objects.equals(transfer.getSourceResourceId(), transfer.getTargetResourceId())) {
+                throw new ValidationException("Source and target resource must be different");
+            }
+            resourceIds.add(transfer.getSourceResourceId());
+            resourceIds.add(transfer.getTargetResourceId());
+        }
+
+        Map<Long, Resource> locked = resourceRepository.findAllByIdForUpdate(resourceIds).stream()
+                .collect(Collectors.toMap(Resource::getId, Function.identity()));
+        for (Long id : resourceIds) {
+            if (!locked.containsKey(id)) {
+                throw new ResourceNotFoundException("Resource not found with id: " + id);
+            }
+        }
+
+        List<TransferDto> results = new ArrayList<>(transfers.size());
+        for (TransferResourceRequest transfer : transfers) {
+            results.add(apply(transfer,
+                    locked.get(transfer.getSourceResourceId()),
+                    locked.get(transfer.getTargetResourceId())));
+        }
+        return results;
+    }
+
+    private TransferDto apply(TransferResourceRequest request, Resource source, Resource target) {
+        if (source.getCategory() != target.getCategory()) {
+            throw new ValidationException("Cannot transfer between resources of different categories");
+        }
+        if (!source.getUnit().equalsIgnoreCase(target.getUnit())) {
+            throw new ValidationException("Cannot transfer between resources measured in different units");
+        }
+        if (!Objects.equals(source.getResourceType().getId(), target.getResourceType().getId())) {
+            throw new ValidationException("Cannot transfer between resources of different types");
+        }
+        if (target.getStatus() != ResourceStatus.AVAILABLE) {
+            throw new ConflictException("Target resource is not available");
+        }
+
+        int quantity = request.getQuantity();
+        AllocationDto allocation = resourceLotService.consumeLocked(source, quantity);
+
+        boolean targetWasBelowThreshold = target.isBelowThreshold();
+        for (AllocationDto.LotConsumption consumed : allocation.getLots()) {
+            ResourceLot lot = new ResourceLot();
+            lot.setResource(target);
+            lot.setQuantity(consumed.getQuantity());
+            lot.setInitialQuantity(consumed.getQuantity());
+            lot.setExpiresOn(consumed.getExpiresOn());
+            lot.setBatchNumber(consumed.getBatchNumber());
+            lot.setStatus(ResourceLotStatus.ACTIVE);
+            resourceLotRepository.save(lot);
+        }
+        target.setQuantity(target.getQuantity() + quantity);
+        stockAlertService.evaluate(target, targetWasBelowThreshold);
+        matchingService.onResourceChanged(target);
+
+        String reference = UUID.randomUUID().toString();
+        inventoryLedgerRepository.save(ledgerEntry(source, target, LedgerEntryType.TRANSFER_OUT,
+                -quantity, reference, request.getNote()));
+        inventoryLedgerRepository.save(ledgerEntry(target, source, LedgerEntryType.TRANSFER_IN,
+                quantity, reference, request.getNote()));
+
+        TransferDto dto = new TransferDto();
+        dto.setTransferReference(reference);
+        dto.setSourceResourceId(source.getId());
+        dto.setSourceOrphanageId(source.getOrphanage().getId());
+        dto.setSourceQuantity(source.getQuantity());
+        dto.setTargetResourceId(target.getId());
+        dto.setTargetOrphanageId(target.getOrphanage().getId());
+        dto.setTargetQuantity(target.getQuantity());
+        dto.setQuantity(quantity);
+        return dto;
+    }
+
+    private InventoryLedgerEntry ledgerEntry(Resource resource, Resource counterpart, LedgerEntryType type,
+            int quantityChange, String reference, String note) {
+        InventoryLedgerEntry entry = new InventoryLedgerEntry();
+        entry.setResourceId(resource.getId());
+        entry.setOrphanageId(resource.getOrphanage().getId());
+        entry.setEntryType(type);
+        entry.setQuantityChange(quantityChange);
+        entry.setBalanceAfter(resource.getQuantity());
+        entry.setCounterpartResourceId(counterpart.getId());
+        entry.setTransferReference(reference);
+        entry.setNote(note);
+        return entry;
+    }
+
+    private InventoryLedgerEntryDto mapToDto(InventoryLedgerEntry entry) {
+        InventoryLedgerEntryDto dto = new InventoryLedgerEntryDto();
+        dto.setId(entry.getId());
+        dto.setResourceId(entry.getResourceId());
+        dto.setOrphanageId(entry.getOrphanageId());
+        dto.setEntryType(entry.getEntryType());
+        dto.setQuantityChange(entry.getQuantityChange());
+        dto.setBalanceAfter(entry.getBalanceAfter());
+        dto.setCounterpartResourceId(entry.getCounterpartResourceId());
+        dto.setTransferReference(entry.getTransferReference());
+        dto.setNote(entry.getNote());
+        dto.setCreatedAt(entry.getCreatedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,103 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.ResourceTypeDto;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceType;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.ResourceTypeRepository;
+import com.connectinghands.service.ResourceTypeService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of the ResourceTypeService interface.
+ * Resolved IDs are cached in memory; catalog entries are never deleted, so the cache cannot go stale.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+@RequiredArgsConstructor
+public class ResourceTypeServiceImpl implements ResourceTypeService {
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /**
+     * Trailing pack size such as "5kg", "500 ml" or "12 pcs".
+     * Must stay in step with the backfill expression in V11__resource_type_catalog.sql.
+     */
+    private static final Pattern QUANTITY_SUFFIX = Pattern.compile(
+            "\\s*[0-9]+(\\.[0-9]+)?\\s*(kg|g|mg|l|ml|lbs?|oz|pcs|pieces|packs?|units?)$");
+
+    private final ResourceTypeRepository resourceTypeRepository;
+    private final Map<String, Integer> idsByKey = new ConcurrentHashMap<>();
+
+    /**
+     * Normalizes a free-text resource name: lower case, single spaces, no trailing pack size.
+     *
+     * @param name The free-text name
+     * @return The normalized name
+     */
+    public static String normalize(String name) {
+        String normalized = WHITESPACE.matcher(name.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
+        String stripped = QUANTITY_SUFFIX.matcher(normalized).replaceFirst("");
+        return stripped.isEmpty() ? normalized : stripped;
+    }
+
+    @Override
+    @Transactional
+    public ResourceType resolve(String name, ResourceCategory category, String unit) {
+        if (name == null || name.isBlank()) {
+            throw new ValidationException("Resource name is required");
+        }
+        if (category == null) {
+            throw new ValidationException("Resource category is required");
+        }
+        String normalizedName = normalize(name);
+        String key = category.name() + "/" + normalizedName;
+
+        Integer cachedId = idsByKey.get(key);
+        if (cachedId != null) {
+            return resourceTypeRepository.getReferenceById(cachedId);
+        }
+
+        Optional<ResourceType> existing = resourceTypeRepository.findByNormalizedNameAndCategory(normalizedName, category);
+        if (existing.isPresent()) {
+            idsByKey.put(key, existing.get().getId());
+            return existing.get();
+        }
+
+        // Not cached here: the new row only becomes visible to others if this transaction commits.
+        resourceTypeRepository.insertIfAbsent(name.trim(), normalizedName, category.name(), unit);
+        return resourceTypeRepository.findByNormalizedNameAndCategory(normalizedName, category)
+                .orElseThrow(() -> new IllegalStateException("Catalog entry missing after insert: " + key));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<ResourceTypeDto> getResourceTypes(ResourceCategory category) {
+        List<ResourceType> types = category == null
+                ? resourceTypeRepository.findAllByOrderByName()
+                : resourceTypeRepository.findByCategoryOrderByName(category);
+        return types.stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    private ResourceTypeDto mapToDto(ResourceType type) {
+        ResourceTypeDto dto = new ResourceTypeDto();
+        dto.setId(type.getId());
+        dto.setName(type.getName());
+        dto.setNormalizedName(type.getNormalizedName());
+        dto.setCategory(type.getCategory());
+        dto.setDefaultUnit(type.getDefaultUnit());
+        return dto;
+    }
+}
@@ -1,8 +1,11 @@
 package com.connectinghands.service.impl;
 
 import com.connectinghands.entity.User;
+import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.SecurityService;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
@@ -17,21 +20,39 @@ import org.springframework.stereotype.Service;
 @Service
 public class SecurityServiceImpl implements SecurityService, UserDetailsService {
     private final UserRepository userRepository;
+    private final OrphanageRepository orphanageRepository;
 
-    public SecurityServiceImpl(UserRepository userRepository) {
+    public SecurityServiceImpl(UserRepository userRepository, OrphanageRepository orphanageRepository) {
         this.userRepository = userRepository;
+        this.orphanageRepository = orphanageRepository;
     }
 
     @Override
     public User getCurrentUser() {
-        // TODO: Implement when Spring Security context is integrated
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof User user) {
+            return user;
+        }
         return null;
     }
 
+    @Override
+    public Long getCurrentUserId() {
+        User user = getCurrentUser();
+        return user != null ? user.getId() : null;
+    }
+
     @Override
     public boolean isCurrentUser(Long userId) {
-        // TODO: Implement when Spring Security context is integrated
-        return false;
+        Long currentUserId = getCurrentUserId();
+        return currentUserId != null && currentUserId.equals(userId);
+    }
+
+    @Override
+    public boolean isCurrentUserAdmin() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.getAuthorities().stream()
+                .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
     }
 
     @Override
@@ -42,13 +63,19 @@ public class SecurityServiceImpl implements SecurityService, UserDetailsService
 
     @Override
     public boolean isOrphanageUser(Long orphanageId) {
-        // Dummy implementation for now
-        return false;
+        User user = getCurrentUser();
+        if (user == null || orphanageId == null) {
+            return false;
+        }
+        if (user.getOrphanage() != null && orphanageId.equals(user.getOrphanage().getId())) {
+            return true;
+        }
+        return orphanageRepository.existsByIdAndAdminId(orphanageId, user.getId());
     }
 
     @Override
     public boolean isCurrentUserOrphanageAdmin(Long orphanageId) {
-        // Dummy implementation for now
-        return false;
+        Long userId = getCurrentUserId();
+        return userId != null && orphanageId != null && orphanageRepository.existsByIdAndAdminId(orphanageId, userId);
     }
 } 
\ No newline at end of file
@@ -0,0 +1,424 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.DonationSettlementView;
+import com.connectinghands.dto.DonationStatusCorrection;
+import com.connectinghands.dto.SettlementDiscrepancyDto;
+import com.connectinghands.dto.SettlementRunDto;
+import com.connectinghands.entity.DiscrepancyType;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.SettlementDiscrepancy;
+import com.connectinghands.entity.SettlementRun;
+import com.connectinghands.entity.SettlementRunStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.payment.SettlementFileReader;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.SettlementDiscrepancyRepository;
+import com.connectinghands.repository.SettlementRunRepository;
+import com.connectinghands.service.DonationService;
+import com.connectinghands.service.SettlementReconciliationService;
+import com.connectinghands.util.CursorCodec;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Implementation of SettlementReconciliationService.
+ * <p>
+ * A file is streamed through {@link SettlementFileReader} and reconciled in chunks. Each chunk is
+ * one transaction: one indexed lookup of its transaction IDs, one conditional UPDATE for the
+ * status corrections, one INSERT for its discrepancies, and the advance of the run's checkpoint.
+ * Because the checkpoint commits with the chunk, a crash resumes at the first unreconciled line
+ * and no line is applied twice. The run row is locked while a chunk commits, and a worker that
+ * finds the checkpoint moved by someone else stops, so two instances cannot reconcile one file twice.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class SettlementReconciliationServiceImpl implements SettlementReconciliationService {
+    private static final int MAX_DISCREPANCY_PAGE_SIZE = 500;
+    private static final String HEADER_PREFIX = "transaction_id";
+    private static final Map<String, DonationStatus> SETTLED_STATUSES = Map.of(
+            "SETTLED", DonationStatus.COMPLETED,
+            "REFUNDED", DonationStatus.REFUNDED,
+            "FAILED", DonationStatus.FAILED);
+
+    private final SettlementRunRepository runRepository;
+    private final SettlementDiscrepancyRepository discrepancyRepository;
+    private final DonationRepository donationRepository;
+    private final DonationService donationService;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Path inbox;
+    private final int chunkSize;
+
+    public SettlementReconciliationServiceImpl(SettlementRunRepository runRepository,
+            SettlementDiscrepancyRepository discrepancyRepository,
+            DonationRepository donationRepository,
+            DonationService donationService,
+            ObjectMapper objectMapper,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.payments.settlement.inbox-dir:settlements/inbox}") String inboxDir,
+            @Value("${connectinghands.payments.settlement.chunk-size:1000}") int chunkSize) {
+        this.runRepository = runRepository;
+        this.discrepancyRepository = discrepancyRepository;
+        this.donationRepository = donationRepository;
+        this.donationService = donationService;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.inbox = Paths.get(inboxDir);
+        this.chunkSize = chunkSize;
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.payments.settlement.cron:0 0 3 * * *}")
+    public int reconcileInbox() {
+        if (!Files.isDirectory(inbox)) {
+            log.debug("Settlement inbox {} does not exist", inbox);
+            return 0;
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(inbox, "*.csv")) {
+            stream.forEach(files::add);
+        } catch (IOException e) {
+            log.error("Could not list settlement inbox {}", inbox, e);
+            return 0;
+        }
+        files.sort(null);
+
+        int completed = 0;
+        for (Path file : files) {
+            try {
+                if (reconcile(file).getStatus() == SettlementRunStatus.COMPLETED) {
+                    completed++;
+                }
+            } catch (RuntimeException e) {
+                log.error("Reconciliation of settlement file {} stopped", file, e);
+            }
+        }
+        return completed;
+    }
+
+    @Override
+    public SettlementRunDto reconcile(Path file) {
+        SettlementRun run = startOrResume(file);
+        if (run.getStatus() == SettlementRunStatus.COMPLETED) {
+            return mapToDto(run);
+        }
+
+        Long runId = run.getId();
+        long checkpoint = run.getByteOffset();
+        log.info("Reconciling settlement file {} from line {}", run.getFileName(), run.getLineNumber() + 1);
+        try (SettlementFileReader reader = new SettlementFileReader(file, checkpoint, run.getLineNumber())) {
+            List<SettlementFileReader.Line> chunk = new ArrayList<>(chunkSize);
+            SettlementFileReader.Line line;
+            while ((line = reader.next()) != null) {
+                chunk.add(line);
+                if (chunk.size() == chunkSize) {
+                    run = reconcileChunk(runId, checkpoint, chunk);
+                    checkpoint = run.getByteOffset();
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                run = reconcileChunk(runId, checkpoint, chunk);
+                checkpoint = run.getByteOffset();
+            }
+        } catch (ConflictException e) {
+            throw e;
+        } catch (IOException | RuntimeException e) {
+            markFailed(runId, e);
+            throw new IllegalStateException("Reconciliation of " + run.getFileName() + " stopped at byte " + checkpoint, e);
+        }
+
+        long finalCheckpoint = checkpoint;
+        run = transactionTemplate.execute(status -> {
+            SettlementRun locked = lockAt(runId, finalCheckpoint);
+            locked.setStatus(SettlementRunStatus.COMPLETED);
+            locked.setCompletedAt(LocalDateTime.now());
+            locked.setLastError(null);
+            return runRepository.save(locked);
+        });
+        log.info("Reconciled settlement file {}: {} lines, {} matched, {} corrected, {} discrepancies",
+                run.getFileName(), run.getLineNumber(), run.getMatchedCount(), run.getCorrectedCount(),
+                run.getDiscrepancyCount());
+        return mapToDto(run);
+    }
+
+    @Override
+    public List<SettlementRunDto> getRecentRuns() {
+        return runRepository.findTop50ByOrderByIdDesc().stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public CursorPage<SettlementDiscrepancyDto> getDiscrepancies(Long runId, String cursor, int size) {
+        if (size < 1 || size > MAX_DISCREPANCY_PAGE_SIZE) {
+            throw new ValidationException("Page size must be between 1 and " + MAX_DISCREPANCY_PAGE_SIZE);
+        }
+        if (!runRepository.existsById(runId)) {
+            throw new ResourceNotFoundException("Settlement run not found");
+        }
+        long afterId = 0;
+        if (cursor != null && !cursor.isBlank()) {
+            try {
+                afterId = Long.parseLong(CursorCodec.decode(cursor, 1)[0]);
+            } catch (NumberFormatException e) {
+                throw new ValidationException("Invalid cursor");
+            }
+        }
+
+        // Fetch one extra row to learn whether another page follows without a COUNT query.
+        List<SettlementDiscrepancy> rows = discrepancyRepository.findByRunIdAndIdGreaterThanOrderByIdAsc(
+                runId, afterId, PageRequest.of(0, size + 1));
+        boolean hasMore = rows.size() > size;
+        List<SettlementDiscrepancy> page = hasMore ? rows.subList(0, size) : rows;
+        String nextCursor = hasMore ? CursorCodec.encode(page.get(page.size() - 1).getId()) : null;
+        return new CursorPage<>(page.stream().map(this::mapToDto).collect(Collectors.toList()), nextCursor, hasMore);
+    }
+
+    private SettlementRun startOrResume(Path file) {
+        String fileName = file.getFileName().toString();
+        long size;
+        try {
+            size = Files.size(file);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read settlement file " + file, e);
+        }
+        try {
+            return transactionTemplate.execute(status -> runRepository.findByFileName(fileName)
+                    .map(existing -> {
+                        if (existing.getStatus() == SettlementRunStatus.FAILED) {
+                            existing.setStatus(SettlementRunStatus.RUNNING);
+                            return runRepository.save(existing);
+                        }
+                        return existing;
+                    })
+                    .orElseGet(() -> {
+                        SettlementRun run = new SettlementRun();
+                        run.setFileName(fileName);
+                        run.setFileSize(size);
+                        run.setStatus(SettlementRunStatus.RUNNING);
+                        run.setStartedAt(LocalDateTime.now());
+                        return runRepository.saveAndFlush(run);
+                    }));
+        } catch (DataIntegrityViolationException e) {
+            throw new ConflictException("Settlement file " + fileName + " is already being reconciled");
+        }
+    }
+
+    private SettlementRun reconcileChunk(Long runId, long checkpoint, List<SettlementFileReader.Line> lines) {
+        return transactionTemplate.execute(status -> {
+            SettlementRun run = lockAt(runId, checkpoint);
+
+            List<Map<String, Object>> discrepancies = new ArrayList<>();
+            Map<String, SettledLine> settled = new LinkedHashMap<>();
+            for (SettlementFileReader.Line line : lines) {
+                if (line.number() == 1 && line.text() != null && line.text().startsWith(HEADER_PREFIX)) {
+                    continue;
+                }
+                if (line.text() != null && line.text().isBlank()) {
+                    continue;
+                }
+                SettledLine parsed = parse(line);
+                if (parsed == null) {
+                    discrepancies.add(discrepancy(line.number(), DiscrepancyType.MALFORMED_LINE, null, null,
+                            false, "Expected transaction_id,amount,currency,status"));
+                } else {
+                    // A transaction listed twice in one chunk is reconciled against its last line.
+                    settled.put(parsed.transactionId(), parsed);
+                }
+            }
+
+            Map<String, DonationSettlementView> donations = settled.isEmpty() ? Map.of()
+                    : donationRepository.findSettlementViews(settled.keySet()).stream()
+                            .collect(Collectors.toMap(DonationSettlementView::getTransactionId, Function.identity()));
+
+            List<StatusMismatch> mismatches = new ArrayList<>();
+            long matched = 0;
+            for (SettledLine line : settled.values()) {
+                DonationSettlementView donation = donations.get(line.transactionId());
+                if (donation == null) {
+                    discrepancies.add(discrepancy(line.number(), DiscrepancyType.UNKNOWN_TRANSACTION, line, null,
+                            false, null));
+                    continue;
+                }
+                matched++;
+                if (!sameAmount(donation, line)) {
+                    discrepancies.add(discrepancy(line.number(), DiscrepancyType.AMOUNT_MISMATCH, line, donation,
+                            false, "Recorded " + donation.getAmount() + " " + donation.getCurrency()
+                                    + ", settled " + line.amount() + " " + line.currency()));
+                }
+                if (donation.getStatus() != line.status()) {
+                    mismatches.add(new StatusMismatch(line, donation));
+                }
+            }
+
+            List<DonationStatusCorrection> corrections = mismatches.stream()
+                    .map(mismatch -> new DonationStatusCorrection(mismatch.donation().getId(),
+                            mismatch.donation().getStatus(), mismatch.line().status()))
+                    .collect(Collectors.toList());
+            Set<Long> corrected = new HashSet<>(donationService.correctStatuses(corrections));
+            for (StatusMismatch mismatch : mismatches) {
+                boolean applied = corrected.contains(mismatch.donation().getId());
+                discrepancies.add(discrepancy(mismatch.line().number(), DiscrepancyType.STATUS_MISMATCH,
+                        mismatch.line(), mismatch.donation(), applied,
+                        applied ? null : "Donation changed status during reconciliation"));
+            }
+
+            if (!discrepancies.isEmpty()) {
+                discrepancyRepository.insertAll(runId, toJson(discrepancies));
+            }
+
+            SettlementFileReader.Line last = lines.get(lines.size() - 1);
+            run.setByteOffset(last.endOffset());
+            run.setLineNumber(last.number());
+            run.setMatchedCount(run.getMatchedCount() + matched);
+            run.setCorrectedCount(run.getCorrectedCount() + corrected.size());
+            run.setDiscrepancyCount(run.getDiscrepancyCount() + discrepancies.size());
+            run.setCheckpointedAt(LocalDateTime.now());
+            return runRepository.save(run);
+        });
+    }
+
+    private SettlementRun lockAt(Long runId, long checkpoint) {
+        SettlementRun run = runRepository.findByIdForUpdate(runId)
+                .orElseThrow(() -> new ResourceNotFoundException("Settlement run not found"));
+        if (run.getByteOffset() != checkpoint || run.getStatus() == SettlementRunStatus.COMPLETED) {
+            throw new ConflictException("Settlement file " + run.getFileName() + " is being reconciled elsewhere");
+        }
+        return run;
+    }
+
+    private void markFailed(Long runId, Exception e) {
+        String error = String.valueOf(e.getMessage());
+        String lastError = error.length() > 1000 ? error.substring(0, 1000) : error;
+        try {
+            transactionTemplate.executeWithoutResult(status -> runRepository.findByIdForUpdate(runId).ifPresent(run -> {
+                run.setStatus(SettlementRunStatus.FAILED);
+                run.setLastError(lastError);
+                runRepository.save(run);
+            }));
+        } catch (RuntimeException markError) {
+            log.warn("Could not mark settlement run {} failed", runId, markError);
+        }
+    }
+
+    private SettledLine parse(SettlementFileReader.Line line) {
+        if (line.text() == null) {
+            return null;
+        }
+        String[] fields = line.text().split(",", -1);
+        if (fields.length != 4) {
+            return null;
+        }
+        String transactionId = fields[0].trim();
+        DonationStatus status = SETTLED_STATUSES.get(fields[3].trim().toUpperCase());
+        if (transactionId.isEmpty() || transactionId.length() > 255 || status == null) {
+            return null;
+        }
+        try {
+            return new SettledLine(line.number(), transactionId, new BigDecimal(fields[1].trim()),
+                    fields[2].trim().toUpperCase(), status);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static boolean sameAmount(DonationSettlementView donation, SettledLine line) {
+        return donation.getAmount() != null && donation.getAmount().compareTo(line.amount()) == 0
+                && line.currency().equalsIgnoreCase(donation.getCurrency());
+    }
+
+    private static Map<String, Object> discrepancy(long lineNumber, DiscrepancyType type, SettledLine line,
+                                                   DonationSettlementView donation, boolean corrected, String detail) {
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("line_number", lineNumber);
+        row.put("type", type.name());
+        row.put("transaction_id", line != null ? line.transactionId() : null);
+        row.put("donation_id", donation != null ? donation.getId() : null);
+        row.put("recorded_status", donation != null ? donation.getStatus().name() : null);
+        row.put("settled_status", line != null ? line.status().name() : null);
+        row.put("recorded_amount", donation != null ? donation.getAmount() : null);
+        row.put("settled_amount", line != null ? line.amount() : null);
+        row.put("corrected", corrected);
+        row.put("detail", detail);
+        return row;
+    }
+
+    private String toJson(List<Map<String, Object>> rows) {
+        try {
+            return objectMapper.writeValueAsString(rows);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Could not serialize settlement discrepancies", e);
+        }
+    }
+
+    private SettlementRunDto mapToDto(SettlementRun run) {
+        SettlementRunDto dto = new SettlementRunDto();
+        dto.setId(run.getId());
+        dto.setFileName(run.getFileName());
+        dto.setStatus(run.getStatus());
+        dto.setFileSize(run.getFileSize());
+        dto.setBytesProcessed(run.getByteOffset());
+        dto.setLinesProcessed(run.getLineNumber());
+        dto.setMatchedCount(run.getMatchedCount());
+        dto.setCorrectedCount(run.getCorrectedCount());
+        dto.setDiscrepancyCount(run.getDiscrepancyCount());
+        dto.setLastError(run.getLastError());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setCheckpointedAt(run.getCheckpointedAt());
+        dto.setCompletedAt(run.getCompletedAt());
+        return dto;
+    }
+
+    private SettlementDiscrepancyDto mapToDto(SettlementDiscrepancy discrepancy) {
+        SettlementDiscrepancyDto dto = new SettlementDiscrepancyDto();
+        dto.setId(discrepancy.getId());
+        dto.setLineNumber(discrepancy.getLineNumber());
+        dto.setType(discrepancy.getType());
+        dto.setTransactionId(discrepancy.getTransactionId());
+        dto.setDonationId(discrepancy.getDonationId());
+        dto.setRecordedStatus(discrepancy.getRecordedStatus());
+        dto.setSettledStatus(discrepancy.getSettledStatus());
+        dto.setRecordedAmount(discrepancy.getRecordedAmount());
+        dto.setSettledAmount(discrepancy.getSettledAmount());
+        dto.setCorrected(discrepancy.isCorrected());
+        dto.setDetail(discrepancy.getDetail());
+        return dto;
+    }
+
+    private record StatusMismatch(SettledLine line, DonationSettlementView donation) {
+    }
+
+    private record SettledLine(long number, String transactionId, BigDecimal amount, String currency,
+                               DonationStatus status) {
+    }
+}
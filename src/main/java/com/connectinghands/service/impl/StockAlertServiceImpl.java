@@ -0,0 +1,112 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.dto.StockAlertDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.StockAlert;
+import com.connectinghands.entity.StockAlertStatus;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.StockAlertRepository;
+import com.connectinghands.service.MatchingService;
+import com.connectinghands.service.NeedScoreService;
+import com.connectinghands.service.StockAlertService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+/**
+ * Implementation of the StockAlertService interface.
+ * Raises and resolves low-stock alerts as part of the transaction that changed the quantity.
+ *
+ * @author Ragul Venkatesan
+ */
+@Service
+@RequiredArgsConstructor
+public class StockAlertServiceImpl implements StockAlertService {
+    private final StockAlertRepository stockAlertRepository;
+    private final ResourceRequestRepository resourceRequestRepository;
+    private final MatchingService matchingService;
+    private final NeedScoreService needScoreService;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void evaluate(Resource resource, boolean wasBelowThreshold) {
+        boolean isBelowThreshold = resource.isBelowThreshold();
+        if (isBelowThreshold == wasBelowThreshold) {
+            return;
+        }
+
+        if (isBelowThreshold) {
+            openAlert(resource);
+        } else {
+            stockAlertRepository.resolveOpenAlert(resource.getId(), LocalDateTime.now());
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<StockAlertDto> getAlerts(Long orphanageId, StockAlertStatus status, Pageable pageable) {
+        Page<StockAlert> alerts = orphanageId == null
+                ? stockAlertRepository.findByStatus(status, pageable)
+                : stockAlertRepository.findByOrphanageIdAndStatus(orphanageId, status, pageable);
+        return alerts.map(this::mapToDto);
+    }
+
+    private void openAlert(Resource resource) {
+        StockAlert alert = new StockAlert();
+        alert.setResource(resource);
+        alert.setOrphanageId(resource.getOrphanage().getId());
+        alert.setQuantity(resource.getQuantity());
+        alert.setThreshold(resource.getMinimumQuantity());
+        alert.setStatus(StockAlertStatus.OPEN);
+
+        if (resource.isAutoRequest()) {
+            alert.setResourceRequestId(draftResourceRequest(resource).getId());
+        }
+
+        stockAlertRepository.save(alert);
+    }
+
+    /**
+     * Drafts a pending request for the shortfall between the current quantity and the threshold.
+     */
+    private ResourceRequest draftResourceRequest(Resource resource) {
+        int shortfall = Math.max(1, resource.getMinimumQuantity() - resource.getQuantity());
+
+        ResourceRequest request = new ResourceRequest();
+        request.setName(resource.getName());
+        request.setDescription("Auto-drafted: stock fell to " + resource.getQuantity()
+                + " " + resource.getUnit() + " (minimum " + resource.getMinimumQuantity() + ")");
+        request.setCategory(resource.getCategory());
+        request.setQuantity(shortfall);
+        request.setUnit(resource.getUnit());
+        request.setResourceType(resource.getResourceType());
+        request.setOrphanage(resource.getOrphanage());
+        request.setStatus(ResourceRequestStatus.PENDING);
+        ResourceRequest saved = resourceRequestRepository.save(request);
+        matchingService.onRequestChanged(saved);
+        needScoreService.markDirty(resource.getOrphanage().getId());
+        return saved;
+    }
+
+    private StockAlertDto mapToDto(StockAlert alert) {
+        StockAlertDto dto = new StockAlertDto();
+        dto.setId(alert.getId());
+        dto.setResourceId(alert.getResource().getId());
+        dto.setResourceName(alert.getResource().getName());
+        dto.setOrphanageId(alert.getOrphanageId());
+        dto.setQuantity(alert.getQuantity());
+        dto.setThreshold(alert.getThreshold());
+        dto.setResourceRequestId(alert.getResourceRequestId());
+        dto.setStatus(alert.getStatus());
+        dto.setCreatedAt(alert.getCreatedAt());
+        dto.setResolvedAt(alert.getResolvedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,374 @@
+package com.connectinghands.service.impl;
+
+import com.connectinghands.config.AsyncConfig;
+import com.connectinghands.dto.TaxStatementLine;
+import com.connectinghands.dto.TaxStatementRunDto;
+import com.connectinghands.entity.TaxStatementRun;
+import com.connectinghands.entity.TaxStatementRunStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.receipt.ReceiptTemplate;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.TaxStatementRunRepository;
+import com.connectinghands.service.TaxStatementService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Implementation of TaxStatementService.
+ * <p>
+ * A run reads the year's completed donations as one stream ordered by donor, so each donor's
+ * year arrives as a contiguous group and is aggregated in a single pass with one query for the
+ * whole batch. Finished groups are rendered and written on the tax statement pool while the
+ * stream moves on; a semaphore caps the statements in flight, so memory stays flat however
+ * many donors there are. The manifest is written under a temporary name and renamed once
+ * every statement is on disk, so a present manifest.csv always describes a complete run.
+ * <p>
+ * Runs execute on their own single-thread executor rather than on the scheduler. While the
+ * stream advances the run's heartbeat is refreshed in its own transaction, so a run is only
+ * reclaimed by another instance once its heartbeat stops, not because it takes long.
+ *
+ * @author Ragul Venkatesan
+ */
+@Slf4j
+@Service
+public class TaxStatementServiceImpl implements TaxStatementService {
+    private static final String STATEMENT_TEMPLATE = "receipts/tax-statement.html";
+    private static final String ROW_TEMPLATE = "receipts/tax-statement-row.html";
+    private static final String MANIFEST = "manifest.csv";
+    private static final String MANIFEST_HEADER = "donor_id,file,donations,totals,bytes";
+    private static final int DIRECTORY_SHARDS = 1000;
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("d MMM yyyy", Locale.ENGLISH);
+    private static final EnumSet<TaxStatementRunStatus> OPEN_STATUSES =
+            EnumSet.of(TaxStatementRunStatus.QUEUED, TaxStatementRunStatus.RUNNING);
+
+    private final TaxStatementRunRepository taxStatementRunRepository;
+    private final DonationRepository donationRepository;
+    private final Executor taxStatementExecutor;
+    private final Executor runExecutor;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate readOnlyTransactionTemplate;
+    private final TransactionTemplate heartbeatTransactionTemplate;
+    private final ReceiptTemplate statementTemplate;
+    private final ReceiptTemplate rowTemplate;
+    private final Path directory;
+    private final int maxInFlight;
+    private final long heartbeatIntervalMillis;
+    private final long staleAfterMinutes;
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    public TaxStatementServiceImpl(TaxStatementRunRepository taxStatementRunRepository,
+            DonationRepository donationRepository,
+            @Qualifier(AsyncConfig.TAX_STATEMENT_EXECUTOR) Executor taxStatementExecutor,
+            @Qualifier(AsyncConfig.TAX_STATEMENT_RUN_EXECUTOR) Executor runExecutor,
+            PlatformTransactionManager transactionManager,
+            @Value("${connectinghands.tax-statements.dir:tax-statements}") String directory,
+            @Value("${connectinghands.tax-statements.pool-size:4}") int poolSize,
+            @Value("${connectinghands.tax-statements.heartbeat-interval-ms:60000}") long heartbeatIntervalMillis,
+            @Value("${connectinghands.tax-statements.stale-after-minutes:10}") long staleAfterMinutes) {
+        this.taxStatementRunRepository = taxStatementRunRepository;
+        this.donationRepository = donationRepository;
+        this.taxStatementExecutor = taxStatementExecutor;
+        this.runExecutor = runExecutor;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.readOnlyTransactionTemplate.setReadOnly(true);
+        // Heartbeats are sent from inside the read-only streaming transaction.
+        this.heartbeatTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.heartbeatTransactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.statementTemplate = ReceiptTemplate.load(STATEMENT_TEMPLATE);
+        this.rowTemplate = ReceiptTemplate.load(ROW_TEMPLATE);
+        this.directory = Paths.get(directory).toAbsolutePath().normalize();
+        // Matches the executor's queue, so submitting never blocks on or overflows the pool.
+        this.maxInFlight = poolSize * 4;
+        this.heartbeatIntervalMillis = heartbeatIntervalMillis;
+        this.staleAfterMinutes = staleAfterMinutes;
+    }
+
+    @Override
+    @Transactional
+    public TaxStatementRunDto requestRun(int taxYear) {
+        if (taxYear < 2000 || taxYear >= Year.now().getValue()) {
+            throw new ValidationException("Tax year must be a completed year");
+        }
+        if (taxStatementRunRepository.existsByTaxYearAndStatusIn(taxYear, OPEN_STATUSES)) {
+            throw new ConflictException("A run for " + taxYear + " is already queued or running");
+        }
+        TaxStatementRun run = new TaxStatementRun();
+        run.setTaxYear(taxYear);
+        run.setStatus(TaxStatementRunStatus.QUEUED);
+        run.setRequestedAt(LocalDateTime.now());
+        return mapToDto(taxStatementRunRepository.save(run));
+    }
+
+    @Override
+    @Scheduled(cron = "${connectinghands.tax-statements.cron:0 0 1 15 1 *}")
+    public void requestPreviousYear() {
+        int taxYear = Year.now().getValue() - 1;
+        try {
+            transactionTemplate.executeWithoutResult(status -> requestRun(taxYear));
+            log.info("Queued tax statement run for {}", taxYear);
+        } catch (ConflictException e) {
+            log.info("Tax statement run for {} is already queued", taxYear);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${connectinghands.tax-statements.poll-interval-ms:60000}")
+    public void startQueuedRuns() {
+        if (!running.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            runExecutor.execute(() -> {
+                try {
+                    executeQueuedRuns();
+                } catch (RuntimeException e) {
+                    log.error("Could not execute queued tax statement runs", e);
+                } finally {
+                    running.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            running.set(false);
+            log.warn("Tax statement run executor is unavailable; queued runs start on the next poll");
+        }
+    }
+
+    @Override
+    public int executeQueuedRuns() {
+        int executed = 0;
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            TaxStatementRun run = transactionTemplate.execute(status -> taxStatementRunRepository
+                    .claimNextQueued(now, now.minusMinutes(staleAfterMinutes)).orElse(null));
+            if (run == null) {
+                return executed;
+            }
+            execute(run);
+            executed++;
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<TaxStatementRunDto> getRecentRuns() {
+        return taxStatementRunRepository.findTop20ByOrderByIdDesc().stream()
+                .map(this::mapToDto)
+                .collect(Collectors.toList());
+    }
+
+    private void execute(TaxStatementRun run) {
+        Path output = directory.resolve(String.valueOf(run.getTaxYear())).resolve("run-" + run.getId());
+        run.setOutputDir(output.toString());
+        log.info("Generating tax statements for {} into {}", run.getTaxYear(), output);
+        try {
+            long[] counts = generate(run.getId(), run.getTaxYear(), output);
+            run.setStatus(TaxStatementRunStatus.COMPLETED);
+            run.setStatementCount(counts[0]);
+            run.setDonationCount(counts[1]);
+            run.setLastError(null);
+            log.info("Generated {} tax statements covering {} donations for {}",
+                    counts[0], counts[1], run.getTaxYear());
+        } catch (RuntimeException e) {
+            log.error("Tax statement run {} for {} failed", run.getId(), run.getTaxYear(), e);
+            String error = String.valueOf(e.getMessage());
+            run.setStatus(TaxStatementRunStatus.FAILED);
+            run.setLastError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        }
+        run.setFinishedAt(LocalDateTime.now());
+        transactionTemplate.executeWithoutResult(status -> taxStatementRunRepository.save(run));
+    }
+
+    /**
+     * Streams the year's donations and writes one statement per donor.
+     *
+     * @return The number of statements and of donations written
+     */
+    private long[] generate(Long runId, int taxYear, Path output) {
+        LocalDateTime from = LocalDate.of(taxYear, 1, 1).atStartOfDay();
+        LocalDateTime to = from.plusYears(1);
+        Path partial = output.resolve(MANIFEST + ".partial");
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        long[] counts = new long[2];
+
+        try {
+            Files.createDirectories(output);
+            try (BufferedWriter manifest = Files.newBufferedWriter(partial, StandardCharsets.UTF_8)) {
+                manifest.write(MANIFEST_HEADER);
+                manifest.newLine();
+
+                readOnlyTransactionTemplate.executeWithoutResult(status -> {
+                    try (Stream<TaxStatementLine> lines = donationRepository.streamCompletedByDonor(from, to)) {
+                        List<TaxStatementLine> group = new ArrayList<>();
+                        Iterator<TaxStatementLine> iterator = lines.iterator();
+                        long nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMillis;
+                        while (iterator.hasNext() && failure.get() == null) {
+                            TaxStatementLine line = iterator.next();
+                            if (System.currentTimeMillis() >= nextHeartbeat) {
+                                heartbeat(runId);
+                                nextHeartbeat = System.currentTimeMillis() + heartbeatIntervalMillis;
+                            }
+                            if (!group.isEmpty() && !group.get(0).getDonorId().equals(line.getDonorId())) {
+                                submit(taxYear, output, group, manifest, inFlight, failure);
+                                counts[0]++;
+                                counts[1] += group.size();
+                                group = new ArrayList<>();
+                            }
+                            group.add(line);
+                        }
+                        if (!group.isEmpty() && failure.get() == null) {
+                            submit(taxYear, output, group, manifest, inFlight, failure);
+                            counts[0]++;
+                            counts[1] += group.size();
+                        }
+                    } finally {
+                        inFlight.acquireUninterruptibly(maxInFlight);
+                    }
+                });
+            }
+
+            Throwable cause = failure.get();
+            if (cause != null) {
+                throw cause instanceof RuntimeException ? (RuntimeException) cause
+                        : new IllegalStateException(cause.getMessage(), cause);
+            }
+            Files.move(partial, output.resolve(MANIFEST), StandardCopyOption.ATOMIC_MOVE,
+                    StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write tax statements to " + output, e);
+        }
+        return counts;
+    }
+
+    private void heartbeat(Long runId) {
+        LocalDateTime now = LocalDateTime.now();
+        heartbeatTransactionTemplate.executeWithoutResult(status -> taxStatementRunRepository.heartbeat(runId, now));
+    }
+
+    /**
+     * Hands one donor's donations to the pool, waiting for a free slot first.
+     */
+    private void submit(int taxYear, Path output, List<TaxStatementLine> lines, BufferedWriter manifest,
+                        Semaphore inFlight, AtomicReference<Throwable> failure) {
+        inFlight.acquireUninterruptibly();
+        try {
+            taxStatementExecutor.execute(() -> {
+                try {
+                    String entry = store(taxYear, output, lines);
+                    synchronized (manifest) {
+                        manifest.write(entry);
+                        manifest.newLine();
+                    }
+                } catch (Throwable e) {
+                    failure.compareAndSet(null, e);
+                } finally {
+                    inFlight.release();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            inFlight.release();
+            throw e;
+        }
+    }
+
+    /**
+     * Renders one donor's statement and writes it to disk. Runs on the tax statement pool.
+     *
+     * @return The manifest line of the statement
+     */
+    private String store(int taxYear, Path output, List<TaxStatementLine> lines) throws IOException {
+        TaxStatementLine first = lines.get(0);
+        Long donorId = first.getDonorId();
+        Map<String, BigDecimal> totals = new TreeMap<>();
+        StringBuilder rows = new StringBuilder(lines.size() * 160);
+        Map<String, String> row = new HashMap<>();
+        for (TaxStatementLine line : lines) {
+            BigDecimal amount = line.getAmount() != null ? line.getAmount() : BigDecimal.ZERO;
+            totals.merge(line.getCurrency(), amount, BigDecimal::add);
+            row.put("date", line.getCompletedAt() != null ? line.getCompletedAt().format(DATE_FORMAT) : null);
+            row.put("donationId", String.valueOf(line.getDonationId()));
+            row.put("orphanageName", line.getOrphanageName());
+            row.put("amount", amount.setScale(2, RoundingMode.HALF_UP).toPlainString());
+            row.put("currency", line.getCurrency());
+            rows.append(rowTemplate.render(row)).append('\n');
+        }
+
+        String donorName = ((first.getDonorFirstName() != null ? first.getDonorFirstName() : "") + " "
+                + (first.getDonorLastName() != null ? first.getDonorLastName() : "")).trim();
+        String total = totals.entrySet().stream()
+                .map(entry -> entry.getValue().setScale(2, RoundingMode.HALF_UP).toPlainString() + " " + entry.getKey())
+                .collect(Collectors.joining(", "));
+
+        Map<String, String> values = new HashMap<>();
+        values.put("taxYear", String.valueOf(taxYear));
+        values.put("donorName", donorName.isEmpty() ? first.getDonorEmail() : donorName);
+        values.put("donorEmail", first.getDonorEmail());
+        values.put("donorId", String.valueOf(donorId));
+        values.put("rows", rows.toString());
+        values.put("totals", total);
+        values.put("donationCount", String.valueOf(lines.size()));
+        byte[] content = statementTemplate.render(values).getBytes(StandardCharsets.UTF_8);
+
+        // Sharded so no single directory holds every donor of a large year.
+        String fileName = String.format("%03d/%d.html", Math.floorMod(donorId, DIRECTORY_SHARDS), donorId);
+        Path target = output.resolve(fileName);
+        Files.createDirectories(target.getParent());
+        Files.write(target, content);
+
+        return donorId + "," + fileName + "," + lines.size() + ",\"" + total + "\"," + content.length;
+    }
+
+    private TaxStatementRunDto mapToDto(TaxStatementRun run) {
+        TaxStatementRunDto dto = new TaxStatementRunDto();
+        dto.setId(run.getId());
+        dto.setTaxYear(run.getTaxYear());
+        dto.setStatus(run.getStatus());
+        dto.setStatementCount(run.getStatementCount());
+        dto.setDonationCount(run.getDonationCount());
+        dto.setOutputDir(run.getOutputDir());
+        dto.setLastError(run.getLastError());
+        dto.setRequestedAt(run.getRequestedAt());
+        dto.setStartedAt(run.getStartedAt());
+        dto.setFinishedAt(run.getFinishedAt());
+        return dto;
+    }
+}
@@ -0,0 +1,15 @@
+CREATE TABLE inventory_ledger (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL REFERENCES resources(id) ON DELETE CASCADE,
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id),
+    entry_type VARCHAR(50) NOT NULL,
+    quantity_change INTEGER NOT NULL,
+    balance_after INTEGER NOT NULL,
+    counterpart_resource_id BIGINT,
+    transfer_reference VARCHAR(36) NOT NULL,
+    note VARCHAR(500),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_inventory_ledger_resource ON inventory_ledger(resource_id, created_at DESC, id DESC);
+CREATE INDEX idx_inventory_ledger_transfer ON inventory_ledger(transfer_reference);
@@ -0,0 +1,51 @@
+CREATE TABLE resource_types (
+    id SERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    normalized_name VARCHAR(255) NOT NULL,
+    category VARCHAR(100) NOT NULL,
+    default_unit VARCHAR(50) NOT NULL,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uk_resource_types_name_category UNIQUE (normalized_name, category)
+);
+
+CREATE INDEX idx_resource_types_category ON resource_types(category);
+
+-- Same rules as ResourceTypeServiceImpl.normalize: lower case, collapse whitespace,
+-- strip a trailing pack size unless that would leave nothing.
+CREATE FUNCTION normalize_resource_name(raw TEXT) RETURNS TEXT AS $$
+    SELECT COALESCE(NULLIF(regexp_replace(n, '\s*[0-9]+(\.[0-9]+)?\s*(kg|g|mg|l|ml|lbs?|oz|pcs|pieces|packs?|units?)$', ''), ''), n)
+    FROM (SELECT regexp_replace(lower(trim(raw)), '\s+', ' ', 'g') AS n) s
+$$ LANGUAGE SQL IMMUTABLE;
+
+-- Catalog entries are keyed by normalized name and category, so "Milk" filed as FOOD and as
+-- MEDICAL are separate types. The oldest resource names each entry.
+INSERT INTO resource_types (name, normalized_name, category, default_unit)
+SELECT DISTINCT ON (normalize_resource_name(name), category)
+       trim(name), normalize_resource_name(name), category, unit
+FROM resources
+ORDER BY normalize_resource_name(name), category, id;
+
+ALTER TABLE resources ADD COLUMN resource_type_id INTEGER REFERENCES resource_types(id);
+
+UPDATE resources r
+SET resource_type_id = t.id
+FROM resource_types t
+WHERE t.normalized_name = normalize_resource_name(r.name)
+  AND t.category = r.category;
+
+ALTER TABLE resources ALTER COLUMN resource_type_id SET NOT NULL;
+
+ALTER TABLE resource_requests ADD COLUMN resource_type_id INTEGER REFERENCES resource_types(id);
+
+UPDATE resource_requests rr
+SET resource_type_id = r.resource_type_id
+FROM resources r
+WHERE rr.resource_id = r.id;
+
+-- Every request points at a resource, so every request now has a type.
+ALTER TABLE resource_requests ALTER COLUMN resource_type_id SET NOT NULL;
+
+DROP FUNCTION normalize_resource_name(TEXT);
+
+CREATE INDEX idx_resources_resource_type ON resources(resource_type_id);
+CREATE INDEX idx_resource_requests_resource_type ON resource_requests(resource_type_id);
@@ -0,0 +1,19 @@
+-- Store priority as its RequestPriority ordinal so that ascending order is queue order.
+DROP INDEX IF EXISTS idx_resource_requests_priority;
+
+ALTER TABLE resource_requests ALTER COLUMN priority DROP DEFAULT;
+ALTER TABLE resource_requests ALTER COLUMN priority TYPE SMALLINT USING
+    CASE priority
+        WHEN 'CRITICAL' THEN 0
+        WHEN 'HIGH' THEN 1
+        WHEN 'LOW' THEN 3
+        ELSE 2
+    END;
+ALTER TABLE resource_requests ALTER COLUMN priority SET DEFAULT 2;
+
+ALTER TABLE resource_requests ADD COLUMN urgency_score INTEGER NOT NULL DEFAULT 0
+    CHECK (urgency_score BETWEEN 0 AND 100);
+
+-- Serves the pending queue and its keyset pages in index order.
+CREATE INDEX idx_resource_requests_queue
+    ON resource_requests(status, priority, urgency_score DESC, created_at, id);
@@ -0,0 +1,3 @@
+ALTER TABLE orphanages ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE resources ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+ALTER TABLE resource_requests ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
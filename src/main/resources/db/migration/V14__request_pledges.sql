@@ -0,0 +1,23 @@
+-- Running totals kept on the request row so progress reads never sum pledges.
+ALTER TABLE resource_requests
+    ADD COLUMN pledged_quantity INTEGER NOT NULL DEFAULT 0,
+    ADD COLUMN delivered_quantity INTEGER NOT NULL DEFAULT 0,
+    ADD CONSTRAINT chk_resource_requests_pledged
+        CHECK (pledged_quantity >= 0 AND pledged_quantity <= quantity),
+    ADD CONSTRAINT chk_resource_requests_delivered
+        CHECK (delivered_quantity >= 0 AND delivered_quantity <= pledged_quantity);
+
+CREATE TABLE request_pledges (
+    id BIGSERIAL PRIMARY KEY,
+    request_id BIGINT NOT NULL REFERENCES resource_requests(id) ON DELETE CASCADE,
+    donor_id BIGINT NOT NULL REFERENCES users(id),
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    delivered_quantity INTEGER NOT NULL DEFAULT 0,
+    status VARCHAR(50) NOT NULL DEFAULT 'OPEN',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CHECK (delivered_quantity >= 0 AND delivered_quantity <= quantity)
+);
+
+CREATE INDEX idx_request_pledges_request ON request_pledges(request_id, id);
+CREATE INDEX idx_request_pledges_donor ON request_pledges(donor_id, id DESC);
@@ -0,0 +1,21 @@
+-- Stock held by active reservations; available = quantity - reserved_quantity.
+ALTER TABLE resources
+    ADD COLUMN reserved_quantity INTEGER NOT NULL DEFAULT 0 CHECK (reserved_quantity >= 0);
+
+CREATE TABLE inventory_reservations (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL REFERENCES resources(id) ON DELETE CASCADE,
+    request_id BIGINT REFERENCES resource_requests(id) ON DELETE SET NULL,
+    quantity INTEGER NOT NULL CHECK (quantity > 0),
+    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
+    expires_at TIMESTAMP NOT NULL,
+    reserved_by BIGINT REFERENCES users(id),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Active holds of one resource, and the startup reload of the expiry queue.
+CREATE INDEX idx_inventory_reservations_active_resource ON inventory_reservations(resource_id, expires_at)
+    WHERE status = 'ACTIVE';
+CREATE INDEX idx_inventory_reservations_active_expiry ON inventory_reservations(expires_at)
+    WHERE status = 'ACTIVE';
@@ -0,0 +1,20 @@
+-- Stale pending requests, oldest first, for the expiry sweep.
+CREATE INDEX idx_resource_requests_pending_created ON resource_requests(created_at)
+    WHERE status = 'PENDING';
+
+-- Closed requests by last change, for archival.
+CREATE INDEX idx_resource_requests_closed_updated ON resource_requests(updated_at)
+    WHERE status IN ('FULFILLED', 'CANCELLED', 'EXPIRED');
+
+-- Archive tables mirror the live column order so rows move with INSERT ... SELECT *.
+-- Any later column added to resource_requests or request_pledges must be added here too.
+CREATE TABLE resource_requests_archive (LIKE resource_requests);
+ALTER TABLE resource_requests_archive ADD COLUMN archived_at TIMESTAMP NOT NULL;
+ALTER TABLE resource_requests_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_resource_requests_archive_orphanage ON resource_requests_archive(orphanage_id);
+
+CREATE TABLE request_pledges_archive (LIKE request_pledges);
+ALTER TABLE request_pledges_archive ADD COLUMN archived_at TIMESTAMP NOT NULL;
+ALTER TABLE request_pledges_archive ADD PRIMARY KEY (id);
+CREATE INDEX idx_request_pledges_archive_request ON request_pledges_archive(request_id);
+CREATE INDEX idx_request_pledges_archive_donor ON request_pledges_archive(donor_id);
@@ -0,0 +1,31 @@
+CREATE TABLE donor_subscriptions (
+    id BIGSERIAL PRIMARY KEY,
+    donor_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    category VARCHAR(50) NOT NULL,
+    country VARCHAR(100) NOT NULL,
+    state VARCHAR(100),
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- One subscription per donor, category and region; a NULL state means the whole country.
+CREATE UNIQUE INDEX uk_donor_subscriptions_region ON donor_subscriptions
+    (donor_id, category, LOWER(country), COALESCE(LOWER(state), ''));
+
+CREATE TABLE notifications (
+    id BIGSERIAL PRIMARY KEY,
+    user_id BIGINT NOT NULL REFERENCES users(id) ON DELETE CASCADE,
+    type VARCHAR(50) NOT NULL,
+    reference_id BIGINT,
+    message VARCHAR(500) NOT NULL,
+    is_read BOOLEAN NOT NULL DEFAULT FALSE,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- A user's inbox, newest first, and the unread badge count.
+CREATE INDEX idx_notifications_user ON notifications(user_id, id DESC);
+CREATE INDEX idx_notifications_user_unread ON notifications(user_id) WHERE is_read = FALSE;
+
+-- Subscriber fan-out is driven by the outbox, which delivers at least once; a redelivered
+-- creation event must not notify the same donor twice about the same request.
+CREATE UNIQUE INDEX uk_notifications_request_created ON notifications(user_id, reference_id)
+    WHERE type = 'RESOURCE_REQUEST_CREATED';
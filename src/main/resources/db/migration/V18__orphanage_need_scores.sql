@@ -0,0 +1,38 @@
+-- Precomputed "most in need" score per orphanage. Components are refreshed per orphanage
+-- when its requests, donations or occupancy change; the weighted score is derived from them:
+--   40 points for pending requests (saturating at 20),
+--   35 points for occupancy (saturating at 150% of capacity),
+--   25 points decaying as recent completed donations grow.
+CREATE TABLE orphanage_need_scores (
+    orphanage_id BIGINT PRIMARY KEY REFERENCES orphanages(id) ON DELETE CASCADE,
+    pending_requests INTEGER NOT NULL DEFAULT 0,
+    occupancy NUMERIC(6,4) NOT NULL DEFAULT 0,
+    recent_donations NUMERIC(14,2) NOT NULL DEFAULT 0,
+    score NUMERIC(7,3) GENERATED ALWAYS AS (
+        40 * LEAST(pending_requests, 20) / 20.0
+        + 35 * LEAST(occupancy, 1.5) / 1.5
+        + 25 / (1 + recent_donations / 10000.0)
+    ) STORED,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE INDEX idx_orphanage_need_scores_rank ON orphanage_need_scores(score DESC, orphanage_id);
+
+-- When a donation was completed. Unlike updated_at it is set only on the transition to COMPLETED,
+-- so later edits cannot pull an old donation back into the recent-donation window.
+ALTER TABLE donations ADD COLUMN completed_at TIMESTAMP;
+
+-- Best available figure for donations completed before the column existed.
+UPDATE donations SET completed_at = updated_at WHERE status = 'COMPLETED';
+
+-- Recent completed donations of one orphanage.
+CREATE INDEX idx_donations_orphanage_completed ON donations(orphanage_id, completed_at)
+    WHERE status = 'COMPLETED';
+
+INSERT INTO orphanage_need_scores (orphanage_id, pending_requests, occupancy, recent_donations)
+SELECT o.id,
+       (SELECT COUNT(*) FROM resource_requests rr WHERE rr.orphanage_id = o.id AND rr.status = 'PENDING'),
+       CASE WHEN o.capacity > 0 THEN LEAST(o.current_children::numeric / o.capacity, 99) ELSE 0 END,
+       (SELECT COALESCE(SUM(d.amount), 0) FROM donations d WHERE d.orphanage_id = o.id
+            AND d.status = 'COMPLETED' AND d.completed_at >= CURRENT_TIMESTAMP - INTERVAL '30 days')
+FROM orphanages o;
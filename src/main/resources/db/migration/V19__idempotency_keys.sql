@@ -0,0 +1,14 @@
+-- Responses of mutating requests sent with an Idempotency-Key header, replayed on retries.
+CREATE TABLE idempotency_keys (
+    scope_key VARCHAR(64) PRIMARY KEY,
+    request_hash VARCHAR(64) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    response_status INTEGER,
+    content_type VARCHAR(255),
+    response_body BYTEA,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    expires_at TIMESTAMP NOT NULL
+);
+
+-- Retention purge.
+CREATE INDEX idx_idempotency_keys_expires_at ON idempotency_keys(expires_at);
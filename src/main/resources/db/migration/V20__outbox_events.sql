@@ -0,0 +1,23 @@
+-- Domain events written in the same transaction as the change, delivered by the outbox relay.
+CREATE TABLE outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    aggregate_type VARCHAR(50) NOT NULL,
+    aggregate_id BIGINT NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    published_at TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Relay claim: only undelivered events, in due order.
+CREATE INDEX idx_outbox_events_due ON outbox_events(available_at, id) WHERE status = 'PENDING';
+
+-- Retention purge of delivered events.
+CREATE INDEX idx_outbox_events_published ON outbox_events(published_at) WHERE status = 'PUBLISHED';
+
+-- Event history of one aggregate.
+CREATE INDEX idx_outbox_events_aggregate ON outbox_events(aggregate_type, aggregate_id);
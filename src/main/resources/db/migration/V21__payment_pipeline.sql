@@ -0,0 +1,16 @@
+-- Payment pipeline state. Pending donations are the pipeline's queue.
+ALTER TABLE donations ADD COLUMN payment_attempts INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE donations ADD COLUMN next_payment_attempt_at TIMESTAMP;
+ALTER TABLE donations ADD COLUMN payment_error VARCHAR(500);
+
+-- Optimistic locking for donations. Entity edits check it, and the pipeline's conditional
+-- status updates bump it, so an edit based on a stale read cannot overwrite a settled payment.
+ALTER TABLE donations ADD COLUMN version BIGINT NOT NULL DEFAULT 0;
+
+UPDATE donations SET next_payment_attempt_at = created_at WHERE status = 'PENDING';
+
+-- Pipeline claim: only pending donations, in due order.
+CREATE INDEX idx_donations_payment_due ON donations(next_payment_attempt_at, id) WHERE status = 'PENDING';
+
+-- Gateway transaction IDs identify a donation in webhooks and reconciliation.
+CREATE UNIQUE INDEX idx_donations_transaction_id ON donations(transaction_id) WHERE transaction_id IS NOT NULL;
@@ -0,0 +1,11 @@
+-- Provider webhook events already applied, keyed by the provider's event ID so redeliveries are ignored.
+CREATE TABLE payment_webhook_events (
+    event_id VARCHAR(255) PRIMARY KEY,
+    donation_id BIGINT NOT NULL,
+    outcome VARCHAR(20) NOT NULL,
+    transaction_id VARCHAR(255),
+    received_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Retention purge.
+CREATE INDEX idx_payment_webhook_events_received ON payment_webhook_events(received_at);
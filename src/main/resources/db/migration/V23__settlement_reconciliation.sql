@@ -0,0 +1,35 @@
+-- One row per settlement file; byte_offset and line_number checkpoint how far it has been reconciled.
+CREATE TABLE settlement_runs (
+    id BIGSERIAL PRIMARY KEY,
+    file_name VARCHAR(255) NOT NULL UNIQUE,
+    file_size BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    byte_offset BIGINT NOT NULL DEFAULT 0,
+    line_number BIGINT NOT NULL DEFAULT 0,
+    matched_count BIGINT NOT NULL DEFAULT 0,
+    corrected_count BIGINT NOT NULL DEFAULT 0,
+    discrepancy_count BIGINT NOT NULL DEFAULT 0,
+    last_error VARCHAR(1000),
+    started_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    checkpointed_at TIMESTAMP,
+    completed_at TIMESTAMP
+);
+
+-- Lines of a settlement file that did not agree with the donations table.
+CREATE TABLE settlement_discrepancies (
+    id BIGSERIAL PRIMARY KEY,
+    run_id BIGINT NOT NULL REFERENCES settlement_runs(id) ON DELETE CASCADE,
+    line_number BIGINT NOT NULL,
+    type VARCHAR(30) NOT NULL,
+    transaction_id VARCHAR(255),
+    donation_id BIGINT,
+    recorded_status VARCHAR(20),
+    settled_status VARCHAR(20),
+    recorded_amount NUMERIC(10,2),
+    settled_amount NUMERIC(10,2),
+    corrected BOOLEAN NOT NULL DEFAULT FALSE,
+    detail VARCHAR(500)
+);
+
+-- Discrepancy report of one run, paged by ID.
+CREATE INDEX idx_settlement_discrepancies_run ON settlement_discrepancies(run_id, id);
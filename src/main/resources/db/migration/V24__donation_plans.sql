@@ -0,0 +1,27 @@
+-- Recurring donation plans. Occurrence n of a plan is due at start_at + n intervals;
+-- next_cycle is the next occurrence to generate and next_run_at its due time.
+CREATE TABLE donation_plans (
+    id BIGSERIAL PRIMARY KEY,
+    donor_id BIGINT NOT NULL REFERENCES users(id),
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id),
+    amount DECIMAL(10,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    payment_method VARCHAR(50) NOT NULL,
+    frequency VARCHAR(20) NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'ACTIVE',
+    start_at TIMESTAMP NOT NULL,
+    next_cycle INTEGER NOT NULL DEFAULT 0,
+    next_run_at TIMESTAMP NOT NULL,
+    version BIGINT NOT NULL DEFAULT 0,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- Scheduler claim: only active plans, in due order.
+CREATE INDEX idx_donation_plans_due ON donation_plans(next_run_at, id) WHERE status = 'ACTIVE';
+CREATE INDEX idx_donation_plans_donor ON donation_plans(donor_id);
+
+-- Donations generated by a plan; one per plan and occurrence, so a cycle is never charged twice.
+ALTER TABLE donations ADD COLUMN plan_id BIGINT REFERENCES donation_plans(id);
+ALTER TABLE donations ADD COLUMN plan_cycle INTEGER;
+ALTER TABLE donations ADD CONSTRAINT uk_donations_plan_cycle UNIQUE (plan_id, plan_cycle);
@@ -0,0 +1,11 @@
+-- Donation history is paged newest first on (created_at, id). Each listing gets an index that
+-- starts with its filter column, so a page is one backward range scan of at most page size rows.
+-- The single-column indexes are prefixes of the new ones and are dropped.
+DROP INDEX IF EXISTS idx_donations_donor_id;
+DROP INDEX IF EXISTS idx_donations_orphanage_id;
+DROP INDEX IF EXISTS idx_donations_status;
+
+CREATE INDEX idx_donations_donor_history ON donations(donor_id, created_at, id);
+CREATE INDEX idx_donations_orphanage_history ON donations(orphanage_id, created_at, id);
+CREATE INDEX idx_donations_status_history ON donations(status, created_at, id);
+CREATE INDEX idx_donations_history ON donations(created_at, id);
@@ -0,0 +1,17 @@
+-- One receipt per completed donation. The row is queued by the outbox consumer and then
+-- claimed by the receipt workers; the rendered HTML lives on local disk under file_name.
+CREATE TABLE donation_receipts (
+    donation_id BIGINT PRIMARY KEY REFERENCES donations(id) ON DELETE CASCADE,
+    donor_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    receipt_number VARCHAR(32) UNIQUE,
+    file_name VARCHAR(255),
+    size_bytes BIGINT,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP NOT NULL,
+    last_error VARCHAR(1000),
+    created_at TIMESTAMP NOT NULL,
+    generated_at TIMESTAMP
+);
+
+CREATE INDEX idx_donation_receipts_due ON donation_receipts(next_attempt_at, donation_id) WHERE status = 'PENDING';
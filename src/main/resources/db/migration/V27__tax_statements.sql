@@ -0,0 +1,24 @@
+-- Runs of the annual tax statement batch. Admins or the yearly schedule queue a run; one
+-- instance claims it and writes the statements and their manifest under output_dir.
+CREATE TABLE tax_statement_runs (
+    id BIGSERIAL PRIMARY KEY,
+    tax_year INTEGER NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    statement_count BIGINT NOT NULL DEFAULT 0,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    output_dir VARCHAR(500),
+    last_error VARCHAR(1000),
+    requested_at TIMESTAMP NOT NULL,
+    started_at TIMESTAMP,
+    -- Running runs report progress here; a run whose heartbeat stops is reclaimed,
+    -- however long it has been running.
+    heartbeat_at TIMESTAMP,
+    finished_at TIMESTAMP
+);
+
+CREATE INDEX idx_tax_statement_runs_open ON tax_statement_runs(id) WHERE status IN ('QUEUED', 'RUNNING');
+
+-- Lets the batch read a year's completed donations already ordered by donor, without a sort.
+-- Statements are dated by completed_at, which unlike updated_at later edits cannot move into
+-- another tax year.
+CREATE INDEX idx_donations_completed_by_donor ON donations(donor_id, completed_at, id) WHERE status = 'COMPLETED';
@@ -0,0 +1,37 @@
+-- Running totals of completed donations per orphanage and currency, spread over striped rows
+-- so concurrent completions for one orphanage update different rows. Reads sum the stripes.
+CREATE TABLE orphanage_total_stripes (
+    id BIGSERIAL PRIMARY KEY,
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id) ON DELETE CASCADE,
+    currency VARCHAR(3) NOT NULL,
+    stripe INTEGER NOT NULL,
+    total_amount NUMERIC(16,2) NOT NULL DEFAULT 0,
+    donation_count BIGINT NOT NULL DEFAULT 0,
+    donor_count BIGINT NOT NULL DEFAULT 0,
+    CONSTRAINT uk_orphanage_total_stripes UNIQUE (orphanage_id, currency, stripe)
+);
+
+-- Completed donations per donor and orphanage. A donor is counted on the stripes when their
+-- count leaves zero and uncounted when it returns to zero.
+CREATE TABLE orphanage_donors (
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id) ON DELETE CASCADE,
+    donor_id BIGINT NOT NULL,
+    completed_count INTEGER NOT NULL DEFAULT 0,
+    PRIMARY KEY (orphanage_id, donor_id)
+);
+
+INSERT INTO orphanage_donors (orphanage_id, donor_id, completed_count)
+SELECT orphanage_id, donor_id, COUNT(*) FROM donations
+WHERE status = 'COMPLETED'
+GROUP BY orphanage_id, donor_id;
+
+INSERT INTO orphanage_total_stripes (orphanage_id, currency, stripe, total_amount, donation_count)
+SELECT orphanage_id, currency, 0, SUM(amount), COUNT(*) FROM donations
+WHERE status = 'COMPLETED'
+GROUP BY orphanage_id, currency;
+
+-- Existing donors all go on one stripe per orphanage; only the sum across stripes matters.
+UPDATE orphanage_total_stripes s SET donor_count = d.donors
+FROM (SELECT orphanage_id, COUNT(*) AS donors FROM orphanage_donors GROUP BY orphanage_id) d
+WHERE s.orphanage_id = d.orphanage_id AND s.stripe = 0
+  AND s.currency = (SELECT MIN(x.currency) FROM orphanage_total_stripes x WHERE x.orphanage_id = s.orphanage_id);
@@ -0,0 +1,22 @@
+-- Fundraising campaigns. A campaign raises money for one orphanage, and donations to that
+-- orphanage made inside its window can be attributed to it.
+CREATE TABLE campaigns (
+    id BIGSERIAL PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    goal_amount DECIMAL(12,2) NOT NULL,
+    currency VARCHAR(3) NOT NULL,
+    starts_at TIMESTAMP NOT NULL,
+    ends_at TIMESTAMP NOT NULL,
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id),
+    created_at TIMESTAMP NOT NULL,
+    CONSTRAINT chk_campaigns_window CHECK (ends_at > starts_at)
+);
+
+CREATE INDEX idx_campaigns_ends_at ON campaigns(ends_at);
+
+ALTER TABLE donations ADD COLUMN campaign_id BIGINT REFERENCES campaigns(id);
+
+-- Lets the periodic reconciliation sum a campaign's completed donations from the index alone.
+CREATE INDEX idx_donations_campaign_completed ON donations(campaign_id, currency) INCLUDE (amount)
+    WHERE status = 'COMPLETED' AND campaign_id IS NOT NULL;
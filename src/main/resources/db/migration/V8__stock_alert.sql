@@ -0,0 +1,22 @@
+ALTER TABLE resources ADD COLUMN minimum_quantity INTEGER NOT NULL DEFAULT 0;
+ALTER TABLE resources ADD COLUMN auto_request BOOLEAN NOT NULL DEFAULT FALSE;
+
+-- Only rows currently under their threshold are indexed, so the network
+-- dashboard's "below threshold" query stays an index scan over a tiny set.
+CREATE INDEX idx_resources_below_threshold ON resources(orphanage_id)
+    WHERE quantity < minimum_quantity;
+
+CREATE TABLE stock_alerts (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL REFERENCES resources(id) ON DELETE CASCADE,
+    orphanage_id BIGINT NOT NULL REFERENCES orphanages(id),
+    quantity INTEGER NOT NULL,
+    threshold INTEGER NOT NULL,
+    resource_request_id BIGINT,
+    status VARCHAR(50) NOT NULL DEFAULT 'OPEN',
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    resolved_at TIMESTAMP
+);
+
+CREATE INDEX idx_stock_alerts_orphanage_status ON stock_alerts(orphanage_id, status);
+CREATE UNIQUE INDEX idx_stock_alerts_open_resource ON stock_alerts(resource_id) WHERE status = 'OPEN';
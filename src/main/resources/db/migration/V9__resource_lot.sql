@@ -0,0 +1,19 @@
+CREATE TABLE resource_lots (
+    id BIGSERIAL PRIMARY KEY,
+    resource_id BIGINT NOT NULL REFERENCES resources(id) ON DELETE CASCADE,
+    quantity INTEGER NOT NULL CHECK (quantity >= 0),
+    initial_quantity INTEGER NOT NULL,
+    expires_on DATE NOT NULL,
+    batch_number VARCHAR(100),
+    status VARCHAR(50) NOT NULL DEFAULT 'ACTIVE',
+    received_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+-- First-expired-first-out allocation within one resource.
+CREATE INDEX idx_resource_lots_active_resource_expiry ON resource_lots(resource_id, expires_on)
+    WHERE status = 'ACTIVE';
+
+-- Expiry sweep and "expiring soon" listing across all inventory.
+CREATE INDEX idx_resource_lots_active_expiry ON resource_lots(expires_on)
+    WHERE status = 'ACTIVE';
@@ -0,0 +1,43 @@
+package com.connectinghands.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class GenerationCheckedCacheTest {
+
+    private final GenerationCheckedCache cache = new GenerationCheckedCache(new ConcurrentMapCache("test"));
+
+    @Test
+    void put_AfterMissWithoutEviction_IsStored() {
+        assertThat(cache.get("ALL")).isNull();
+
+        cache.put("ALL", "fresh");
+
+        assertThat(cache.get("ALL").get()).isEqualTo("fresh");
+    }
+
+    @Test
+    void put_LoadedBeforeEviction_IsDropped() {
+        assertThat(cache.get("ALL")).isNull();
+        // A writer commits and evicts while the reader is still loading.
+        cache.clear();
+
+        cache.put("ALL", "stale");
+
+        assertThat(cache.get("ALL")).isNull();
+    }
+
+    @Test
+    void put_NextMissAfterEviction_IsStored() {
+        cache.get("ALL");
+        cache.evict("ALL");
+        cache.put("ALL", "stale");
+
+        assertThat(cache.get("ALL")).isNull();
+        cache.put("ALL", "fresh");
+
+        assertThat(cache.get("ALL").get()).isEqualTo("fresh");
+    }
+}
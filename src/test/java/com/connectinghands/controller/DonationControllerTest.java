@@ -2,6 +2,7 @@ package com.connectinghands.controller;
 
 import com.connectinghands.controller.DonationController;
 import com.connectinghands.dto.CreateDonationRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.DonationDto;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.DonationStatus;
@@ -110,12 +111,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.PENDING)
         );
 
-        when(donationService.getAllDonations()).thenReturn(donations);
+        when(donationService.getAllDonations(null, 20)).thenReturn(new CursorPage<>(donations, null, false));
 
         mockMvc.perform(get("/donations"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2));
     }
 
     /**
@@ -130,12 +131,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByDonor(1L)).thenReturn(donations);
+        when(donationService.getDonationsByDonor(1L, null, 20)).thenReturn(new CursorPage<>(donations, null, false));
 
         mockMvc.perform(get("/donations/donor/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2));
     }
 
     /**
@@ -150,12 +151,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByOrphanage(1L)).thenReturn(donations);
+        when(donationService.getDonationsByOrphanage(1L, null, 20)).thenReturn(new CursorPage<>(donations, null, false));
 
         mockMvc.perform(get("/donations/orphanage/1"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2));
     }
 
     /**
@@ -170,12 +171,12 @@ class DonationControllerTest {
                 createDonationDto(2L, "200.00", DonationStatus.COMPLETED)
         );
 
-        when(donationService.getDonationsByStatus(DonationStatus.COMPLETED)).thenReturn(donations);
+        when(donationService.getDonationsByStatus(DonationStatus.COMPLETED, null, 20)).thenReturn(new CursorPage<>(donations, null, false));
 
         mockMvc.perform(get("/donations/status/COMPLETED"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2));
     }
 
     /**
@@ -1,10 +1,14 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateOrphanageRequest;
+import com.connectinghands.dto.CurrencyTotalDto;
 import com.connectinghands.dto.OrphanageDto;
+import com.connectinghands.dto.OrphanageTotalsDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.service.NeedScoreService;
 import com.connectinghands.service.OrphanageService;
+import com.connectinghands.service.OrphanageTotalsService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -17,6 +21,7 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.math.BigDecimal;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -38,6 +43,12 @@ class OrphanageControllerTest {
     @MockBean
     private OrphanageService orphanageService;
 
+    @MockBean
+    private NeedScoreService needScoreService;
+
+    @MockBean
+    private OrphanageTotalsService orphanageTotalsService;
+
     @Test
     @WithMockUser(roles = "ORPHANAGE")
     void createOrphanage_ValidRequest_ReturnsCreated() throws Exception {
@@ -88,6 +99,24 @@ class OrphanageControllerTest {
                 .andExpect(jsonPath("$.status").value(OrphanageStatus.ACTIVE.name()));
     }
 
+    @Test
+    @WithMockUser
+    void getTotals_ValidId_ReturnsTotals() throws Exception {
+        OrphanageTotalsDto totals = new OrphanageTotalsDto();
+        totals.setOrphanageId(1L);
+        totals.setTotals(List.of(new CurrencyTotalDto("USD", new BigDecimal("125.50"), 3L)));
+        totals.setDonationCount(3L);
+        totals.setDonorCount(2L);
+
+        when(orphanageTotalsService.getTotals(1L)).thenReturn(totals);
+
+        mockMvc.perform(get("/orphanages/1/totals"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totals[0].currency").value("USD"))
+                .andExpect(jsonPath("$.totals[0].totalAmount").value(125.50))
+                .andExpect(jsonPath("$.donorCount").value(2));
+    }
+
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAllOrphanages_ReturnsPage() throws Exception {
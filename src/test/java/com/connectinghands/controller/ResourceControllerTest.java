@@ -3,12 +3,16 @@ package com.connectinghands.controller;
 import com.connectinghands.dto.CreateResourceRequest;
 import com.connectinghands.dto.ResourceDto;
 import com.connectinghands.dto.UpdateResourceRequest;
+import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.service.ResourceService;
+import com.connectinghands.service.StockAlertService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
@@ -42,6 +46,9 @@ class ResourceControllerTest {
     @MockBean
     private ResourceService resourceService;
 
+    @MockBean
+    private StockAlertService stockAlertService;
+
     /**
      * Tests creating a resource with admin role.
      * Verifies successful creation and response structure.
@@ -53,7 +60,7 @@ class ResourceControllerTest {
         CreateResourceRequest request = new CreateResourceRequest();
         request.setName("Test Resource");
         request.setDescription("Test Description");
-        request.setCategory("Test Category");
+        request.setCategory("FOOD");
         request.setQuantity(10);
         request.setUnit("pieces");
         request.setOrphanageId(1L);
@@ -62,10 +69,9 @@ class ResourceControllerTest {
         response.setId(1L);
         response.setName(request.getName());
         response.setDescription(request.getDescription());
-        response.setCategory(request.getCategory());
+        response.setCategory(ResourceCategory.valueOf(request.getCategory()));
         response.setQuantity(request.getQuantity());
         response.setUnit(request.getUnit());
-        response.setOrphanageId(request.getOrphanageId());
 
         when(resourceService.createResource(any(CreateResourceRequest.class))).thenReturn(response);
 
@@ -80,8 +86,7 @@ class ResourceControllerTest {
                 .andExpect(jsonPath("$.description").value(request.getDescription()))
                 .andExpect(jsonPath("$.category").value(request.getCategory()))
                 .andExpect(jsonPath("$.quantity").value(request.getQuantity()))
-                .andExpect(jsonPath("$.unit").value(request.getUnit()))
-                .andExpect(jsonPath("$.orphanageId").value(request.getOrphanageId()));
+                .andExpect(jsonPath("$.unit").value(request.getUnit()));
 
         verify(resourceService).createResource(any(CreateResourceRequest.class));
     }
@@ -98,10 +103,9 @@ class ResourceControllerTest {
         resource.setId(1L);
         resource.setName("Test Resource");
         resource.setDescription("Test Description");
-        resource.setCategory("Test Category");
+        resource.setCategory(ResourceCategory.FOOD);
         resource.setQuantity(10);
         resource.setUnit("pieces");
-        resource.setOrphanageId(1L);
 
         when(resourceService.getResource(1L)).thenReturn(resource);
 
@@ -111,10 +115,9 @@ class ResourceControllerTest {
                 .andExpect(jsonPath("$.id").value(1))
                 .andExpect(jsonPath("$.name").value(resource.getName()))
                 .andExpect(jsonPath("$.description").value(resource.getDescription()))
-                .andExpect(jsonPath("$.category").value(resource.getCategory()))
+                .andExpect(jsonPath("$.category").value(resource.getCategory().name()))
                 .andExpect(jsonPath("$.quantity").value(resource.getQuantity()))
-                .andExpect(jsonPath("$.unit").value(resource.getUnit()))
-                .andExpect(jsonPath("$.orphanageId").value(resource.getOrphanageId()));
+                .andExpect(jsonPath("$.unit").value(resource.getUnit()));
 
         verify(resourceService).getResource(1L);
     }
@@ -161,7 +164,7 @@ class ResourceControllerTest {
         UpdateResourceRequest request = new UpdateResourceRequest();
         request.setName("Updated Resource");
         request.setDescription("Updated Description");
-        request.setCategory("Updated Category");
+        request.setCategory("CLOTHING");
         request.setQuantity(20);
         request.setUnit("boxes");
 
@@ -169,10 +172,9 @@ class ResourceControllerTest {
         response.setId(1L);
         response.setName(request.getName());
         response.setDescription(request.getDescription());
-        response.setCategory(request.getCategory());
+        response.setCategory(ResourceCategory.valueOf(request.getCategory()));
         response.setQuantity(request.getQuantity());
         response.setUnit(request.getUnit());
-        response.setOrphanageId(1L);
 
         when(resourceService.updateResource(eq(1L), any(UpdateResourceRequest.class))).thenReturn(response);
 
@@ -192,6 +194,45 @@ class ResourceControllerTest {
         verify(resourceService).updateResource(eq(1L), any(UpdateResourceRequest.class));
     }
 
+    /**
+     * Tests retrieving low-stock resources with admin role.
+     * Verifies the optional orphanage filter is passed through.
+     */
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getLowStockResources_ShouldReturnPage() throws Exception {
+        // Arrange
+        ResourceDto resource = new ResourceDto();
+        resource.setId(1L);
+        resource.setQuantity(2);
+        resource.setMinimumQuantity(10);
+
+        when(resourceService.getLowStockResources(eq(1L), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(resource)));
+
+        // Act & Assert
+        mockMvc.perform(get("/resources/low-stock").param("orphanageId", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].id").value(1))
+                .andExpect(jsonPath("$.content[0].minimumQuantity").value(10));
+
+        verify(resourceService).getLowStockResources(eq(1L), any(Pageable.class));
+    }
+
+    /**
+     * Tests retrieving low-stock alerts without a privileged role.
+     * Verifies that the request is forbidden.
+     */
+    @Test
+    @WithMockUser
+    void getStockAlerts_WithoutRole_ShouldReturnForbidden() throws Exception {
+        // Act & Assert
+        mockMvc.perform(get("/resources/alerts"))
+                .andExpect(status().isForbidden());
+
+        verify(stockAlertService, never()).getAlerts(any(), any(), any());
+    }
+
     /**
      * Tests deleting a resource with admin role.
      * Verifies successful deletion.
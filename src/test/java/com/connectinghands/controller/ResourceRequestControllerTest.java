@@ -1,9 +1,11 @@
 package com.connectinghands.controller;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.ResourceRequestDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.service.MatchingService;
 import com.connectinghands.service.ResourceRequestService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.Test;
@@ -43,6 +45,9 @@ class ResourceRequestControllerTest {
     @MockBean
     private ResourceRequestService resourceRequestService;
 
+    @MockBean
+    private MatchingService matchingService;
+
     /**
      * Test creating a new resource request.
      * Verifies that an orphanage user can create a request.
@@ -148,12 +153,13 @@ class ResourceRequestControllerTest {
                 createResourceRequestDto(2L, "Request 2", ResourceRequestStatus.PENDING)
         );
 
-        when(resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING)).thenReturn(requests);
+        when(resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING, null, 20))
+                .thenReturn(new CursorPage<>(requests, null, false));
 
         mockMvc.perform(get("/resource-requests/status/PENDING"))
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$[0].id").value(1))
-                .andExpect(jsonPath("$[1].id").value(2));
+                .andExpect(jsonPath("$.items[0].id").value(1))
+                .andExpect(jsonPath("$.items[1].id").value(2));
     }
 
     /**
@@ -0,0 +1,171 @@
+package com.connectinghands.filter;
+
+import com.connectinghands.entity.IdempotencyRecord;
+import com.connectinghands.entity.IdempotencyStatus;
+import com.connectinghands.service.IdempotencyService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyFilterTest {
+
+    @Mock
+    private IdempotencyService idempotencyService;
+
+    private IdempotencyFilter filter;
+    private final AtomicInteger controllerCalls = new AtomicInteger();
+    private final FilterChain controller = (request, response) -> {
+        controllerCalls.incrementAndGet();
+        String body = new String(request.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+        ((HttpServletResponse) response).setStatus(201);
+        response.setContentType("application/json");
+        response.getWriter().write("{\"echo\":" + body + "}");
+    };
+
+    @BeforeEach
+    void setUp() {
+        filter = new IdempotencyFilter(idempotencyService, new ObjectMapper().findAndRegisterModules());
+    }
+
+    @Test
+    void firstRequest_RunsControllerAndStoresResponse() throws Exception {
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(true);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(donationRequest("key-1", "{\"amount\":10}"), response, controller);
+
+        assertThat(controllerCalls).hasValue(1);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getContentAsString()).isEqualTo("{\"echo\":{\"amount\":10}}");
+        ArgumentCaptor<String> contentType = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<byte[]> stored = ArgumentCaptor.forClass(byte[].class);
+        verify(idempotencyService).complete(anyString(), eq(201), contentType.capture(), stored.capture());
+        assertThat(contentType.getValue()).startsWith("application/json");
+        assertThat(new String(stored.getValue(), StandardCharsets.UTF_8)).isEqualTo("{\"echo\":{\"amount\":10}}");
+    }
+
+    @Test
+    void repeatedKey_ReplaysStoredResponseWithoutRunningController() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRequestHash(sha256("{\"amount\":10}"));
+        record.setStatus(IdempotencyStatus.COMPLETED);
+        record.setResponseStatus(201);
+        record.setContentType("application/json");
+        record.setResponseBody("{\"id\":7}".getBytes(StandardCharsets.UTF_8));
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(false);
+        when(idempotencyService.find(anyString())).thenReturn(Optional.of(record));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(donationRequest("key-1", "{\"amount\":10}"), response, controller);
+
+        assertThat(controllerCalls).hasValue(0);
+        assertThat(response.getStatus()).isEqualTo(201);
+        assertThat(response.getHeader(IdempotencyFilter.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(response.getContentAsString()).isEqualTo("{\"id\":7}");
+    }
+
+    @Test
+    void repeatedKeyWithDifferentBody_IsRejected() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRequestHash("0".repeat(64));
+        record.setStatus(IdempotencyStatus.COMPLETED);
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(false);
+        when(idempotencyService.find(anyString())).thenReturn(Optional.of(record));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(donationRequest("key-1", "{\"amount\":99}"), response, controller);
+
+        assertThat(response.getStatus()).isEqualTo(422);
+        assertThat(controllerCalls).hasValue(0);
+    }
+
+    @Test
+    void keyStillInProgressElsewhere_ReturnsConflict() throws Exception {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRequestHash(sha256("{\"amount\":10}"));
+        record.setStatus(IdempotencyStatus.IN_PROGRESS);
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(false);
+        when(idempotencyService.find(anyString())).thenReturn(Optional.of(record));
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        filter.doFilter(donationRequest("key-1", "{\"amount\":10}"), response, controller);
+
+        assertThat(response.getStatus()).isEqualTo(409);
+        assertThat(controllerCalls).hasValue(0);
+    }
+
+    @Test
+    void sameKeyInFlightHere_ReturnsConflictWhileOtherKeysProceed() throws Exception {
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(true);
+        MockHttpServletResponse duplicate = new MockHttpServletResponse();
+        MockHttpServletResponse other = new MockHttpServletResponse();
+        FilterChain reentrant = (request, response) -> {
+            filter.doFilter(donationRequest("key-1", "{}"), duplicate, controller);
+            filter.doFilter(donationRequest("key-2", "{}"), other, controller);
+            ((HttpServletResponse) response).setStatus(201);
+        };
+
+        filter.doFilter(donationRequest("key-1", "{}"), new MockHttpServletResponse(), reentrant);
+
+        assertThat(duplicate.getStatus()).isEqualTo(409);
+        assertThat(other.getStatus()).isEqualTo(201);
+        assertThat(controllerCalls).hasValue(1);
+        verify(idempotencyService, times(2)).claim(anyString(), anyString());
+    }
+
+    @Test
+    void serverError_ReleasesKeyInsteadOfStoringResponse() throws Exception {
+        when(idempotencyService.claim(anyString(), anyString())).thenReturn(true);
+        FilterChain failing = (request, response) -> ((HttpServletResponse) response).setStatus(500);
+
+        filter.doFilter(donationRequest("key-1", "{}"), new MockHttpServletResponse(), failing);
+
+        verify(idempotencyService).release(anyString());
+        verify(idempotencyService, never()).complete(anyString(), anyInt(), any(), any());
+    }
+
+    @Test
+    void requestWithoutKey_PassesThrough() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/donations");
+        request.setContent("{}".getBytes(StandardCharsets.UTF_8));
+
+        filter.doFilter(request, new MockHttpServletResponse(), controller);
+
+        assertThat(controllerCalls).hasValue(1);
+        verifyNoInteractions(idempotencyService);
+    }
+
+    private MockHttpServletRequest donationRequest(String key, String body) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/donations");
+        request.addHeader(IdempotencyFilter.IDEMPOTENCY_KEY_HEADER, key);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static String sha256(String body) throws Exception {
+        return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body.getBytes(StandardCharsets.UTF_8)));
+    }
+}
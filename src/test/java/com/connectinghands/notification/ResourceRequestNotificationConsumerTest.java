@@ -0,0 +1,72 @@
+package com.connectinghands.notification;
+
+import com.connectinghands.dto.OrphanageRegionDto;
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.event.ResourceRequestCreatedEvent;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.NotificationService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceRequestNotificationConsumerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private OrphanageRepository orphanageRepository;
+
+    private ResourceRequestNotificationConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new ResourceRequestNotificationConsumer(notificationService, orphanageRepository, new ObjectMapper());
+    }
+
+    @Test
+    void consume_CreatedRequest_NotifiesSubscribersOfItsRegion() {
+        when(orphanageRepository.findRegionById(1L))
+                .thenReturn(Optional.of(new OrphanageRegionDto(1L, "Hope Home", "India", "Kerala")));
+
+        consumer.consume(event("{\"id\":42,\"name\":\"Rice\",\"category\":\"FOOD\",\"quantity\":40,"
+                + "\"unit\":\"kg\",\"orphanageId\":1,\"orphanageName\":\"Hope Home\"}"));
+
+        ArgumentCaptor<ResourceRequestCreatedEvent> created = ArgumentCaptor.forClass(ResourceRequestCreatedEvent.class);
+        verify(notificationService).notifySubscribers(created.capture());
+        assertThat(created.getValue().getRequestId()).isEqualTo(42L);
+        assertThat(created.getValue().getCategory()).isEqualTo(ResourceCategory.FOOD);
+        assertThat(created.getValue().getCountry()).isEqualTo("India");
+        assertThat(created.getValue().getState()).isEqualTo("Kerala");
+    }
+
+    @Test
+    void consume_OrphanageGone_IsIgnored() {
+        when(orphanageRepository.findRegionById(1L)).thenReturn(Optional.empty());
+
+        consumer.consume(event("{\"id\":42,\"category\":\"FOOD\",\"orphanageId\":1}"));
+
+        verify(notificationService, never()).notifySubscribers(any());
+    }
+
+    private static OutboxEvent event(String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(1L);
+        event.setAggregateId(42L);
+        event.setPayload(payload);
+        return event;
+    }
+}
@@ -0,0 +1,83 @@
+package com.connectinghands.payment;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SettlementFileReaderTest {
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void next_ReadsLinesWithEndOffsets() throws IOException {
+        Path file = write("a,1\r\nb,2\nc,3");
+
+        List<SettlementFileReader.Line> lines = readAll(file, 0, 0);
+
+        assertThat(lines).extracting(SettlementFileReader.Line::text).containsExactly("a,1", "b,2", "c,3");
+        assertThat(lines).extracting(SettlementFileReader.Line::number).containsExactly(1L, 2L, 3L);
+        assertThat(lines).extracting(SettlementFileReader.Line::endOffset).containsExactly(5L, 9L, 12L);
+    }
+
+    @Test
+    void next_ResumesAfterCheckpoint() throws IOException {
+        Path file = write("a,1\nb,2\nc,3\n");
+
+        List<SettlementFileReader.Line> lines = readAll(file, 4, 1);
+
+        assertThat(lines).extracting(SettlementFileReader.Line::text).containsExactly("b,2", "c,3");
+        assertThat(lines.get(0).number()).isEqualTo(2L);
+    }
+
+    @Test
+    void next_LinesSpanningBufferBoundaries() throws IOException {
+        StringBuilder content = new StringBuilder();
+        for (int i = 0; i < 20_000; i++) {
+            content.append("tx_").append(i).append(",10.00,USD,SETTLED\n");
+        }
+        Path file = write(content.toString());
+
+        List<SettlementFileReader.Line> lines = readAll(file, 0, 0);
+
+        assertThat(lines).hasSize(20_000);
+        assertThat(lines.get(19_999).text()).isEqualTo("tx_19999,10.00,USD,SETTLED");
+        assertThat(lines.get(19_999).endOffset()).isEqualTo(Files.size(file));
+    }
+
+    @Test
+    void next_OverlongLineIsSkippedWithoutText() throws IOException {
+        Path file = write("x".repeat(SettlementFileReader.MAX_LINE_BYTES + 1) + "\nb,2\n");
+
+        List<SettlementFileReader.Line> lines = readAll(file, 0, 0);
+
+        assertThat(lines).hasSize(2);
+        assertThat(lines.get(0).text()).isNull();
+        assertThat(lines.get(1).text()).isEqualTo("b,2");
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = directory.resolve("settlement.csv");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    private List<SettlementFileReader.Line> readAll(Path file, long offset, long lineNumber) throws IOException {
+        List<SettlementFileReader.Line> lines = new ArrayList<>();
+        try (SettlementFileReader reader = new SettlementFileReader(file, offset, lineNumber)) {
+            SettlementFileReader.Line line;
+            while ((line = reader.next()) != null) {
+                lines.add(line);
+            }
+        }
+        return lines;
+    }
+}
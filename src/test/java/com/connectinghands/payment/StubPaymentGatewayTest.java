@@ -0,0 +1,45 @@
+package com.connectinghands.payment;
+
+import com.connectinghands.entity.PaymentMethod;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StubPaymentGatewayTest {
+
+    private final StubPaymentGateway gateway = new StubPaymentGateway(0);
+
+    @Test
+    void charge_IsApprovedWithStableTransactionIdPerKey() {
+        PaymentResult first = gateway.charge(request("donation-1", "25.00"));
+        PaymentResult retry = gateway.charge(request("donation-1", "25.00"));
+
+        assertThat(first.isApproved()).isTrue();
+        assertThat(retry.getTransactionId()).isEqualTo(first.getTransactionId());
+        assertThat(gateway.charge(request("donation-2", "25.00")).getTransactionId())
+                .isNotEqualTo(first.getTransactionId());
+    }
+
+    @Test
+    void charge_AmountEndingIn13IsDeclined() {
+        PaymentResult result = gateway.charge(request("donation-1", "10.13"));
+
+        assertThat(result.isApproved()).isFalse();
+        assertThat(result.getMessage()).isEqualTo("Card declined");
+    }
+
+    @Test
+    void charge_AmountEndingIn42FailsOnceThenSucceeds() {
+        assertThatThrownBy(() -> gateway.charge(request("donation-1", "10.42")))
+                .isInstanceOf(PaymentGatewayException.class);
+
+        assertThat(gateway.charge(request("donation-1", "10.42")).isApproved()).isTrue();
+    }
+
+    private PaymentRequest request(String key, String amount) {
+        return new PaymentRequest(1L, key, 3L, new BigDecimal(amount), "USD", PaymentMethod.values()[0]);
+    }
+}
@@ -0,0 +1,69 @@
+package com.connectinghands.payment;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class WebhookSignatureVerifierTest {
+
+    private static final String SECRET = "whsec-test-0123456789abcdef";
+    private static final byte[] BODY = "{\"eventId\":\"evt-1\"}".getBytes(StandardCharsets.UTF_8);
+
+    private final WebhookSignatureVerifier verifier = new WebhookSignatureVerifier(SECRET, 300);
+
+    @Test
+    void isValid_MatchingSignature_Accepted() {
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+
+        assertThat(verifier.isValid(timestamp, signature(timestamp, BODY), BODY)).isTrue();
+    }
+
+    @Test
+    void isValid_TamperedBody_Rejected() {
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        String signature = signature(timestamp, BODY);
+
+        assertThat(verifier.isValid(timestamp, signature, "{\"eventId\":\"evt-2\"}".getBytes(StandardCharsets.UTF_8)))
+                .isFalse();
+    }
+
+    @Test
+    void isValid_OtherSecret_Rejected() {
+        String timestamp = String.valueOf(Instant.now().getEpochSecond());
+        String signature = HexFormat.of().formatHex(
+                new WebhookSignatureVerifier("another-provider-secret", 300).sign(timestamp, BODY));
+
+        assertThat(verifier.isValid(timestamp, signature, BODY)).isFalse();
+    }
+
+    @Test
+    void isValid_StaleTimestamp_Rejected() {
+        String timestamp = String.valueOf(Instant.now().getEpochSecond() - 600);
+
+        assertThat(verifier.isValid(timestamp, signature(timestamp, BODY), BODY)).isFalse();
+    }
+
+    @Test
+    void isValid_MissingOrMalformedHeaders_Rejected() {
+        assertThat(verifier.isValid(null, "00", BODY)).isFalse();
+        assertThat(verifier.isValid("now", "00", BODY)).isFalse();
+        assertThat(verifier.isValid(String.valueOf(Instant.now().getEpochSecond()), "not-hex", BODY)).isFalse();
+    }
+
+    @Test
+    void constructor_MissingOrPlaceholderSecret_FailsStartup() {
+        assertThatThrownBy(() -> new WebhookSignatureVerifier("", 300)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new WebhookSignatureVerifier("change-me", 300))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new WebhookSignatureVerifier("short", 300)).isInstanceOf(IllegalStateException.class);
+    }
+
+    private String signature(String timestamp, byte[] body) {
+        return HexFormat.of().formatHex(verifier.sign(timestamp, body));
+    }
+}
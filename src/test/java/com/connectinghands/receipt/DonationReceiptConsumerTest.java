@@ -0,0 +1,49 @@
+package com.connectinghands.receipt;
+
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.service.DonationReceiptService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class DonationReceiptConsumerTest {
+
+    @Mock
+    private DonationReceiptService donationReceiptService;
+
+    private DonationReceiptConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        consumer = new DonationReceiptConsumer(donationReceiptService, new ObjectMapper());
+    }
+
+    @Test
+    void consume_CompletedDonation_QueuesReceipt() {
+        consumer.consume(event("{\"previousStatus\":\"PENDING\",\"donation\":{\"id\":42,\"status\":\"COMPLETED\"}}"));
+
+        verify(donationReceiptService).enqueue(42L);
+    }
+
+    @Test
+    void consume_OtherStatus_IsIgnored() {
+        consumer.consume(event("{\"previousStatus\":\"PENDING\",\"donation\":{\"id\":42,\"status\":\"FAILED\"}}"));
+
+        verify(donationReceiptService, never()).enqueue(anyLong());
+    }
+
+    private static OutboxEvent event(String payload) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(1L);
+        event.setPayload(payload);
+        return event;
+    }
+}
@@ -0,0 +1,41 @@
+package com.connectinghands.receipt;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ReceiptTemplateTest {
+
+    @Test
+    void render_SubstitutesPlaceholdersAndKeepsLiterals() {
+        ReceiptTemplate template = ReceiptTemplate.compile("<p>{{ name }} gave {{amount}}</p>");
+
+        assertThat(template.render(Map.of("name", "Asha", "amount", "25.00")))
+                .isEqualTo("<p>Asha gave 25.00</p>");
+    }
+
+    @Test
+    void render_EscapesValuesAndLeavesMissingOnesEmpty() {
+        ReceiptTemplate template = ReceiptTemplate.compile("{{a}}|{{b}}");
+
+        assertThat(template.render(Map.of("a", "<script>\"x\" & 'y'</script>")))
+                .isEqualTo("&lt;script&gt;&quot;x&quot; &amp; &#39;y&#39;&lt;/script&gt;|");
+    }
+
+    @Test
+    void render_RawPlaceholder_InsertsFragmentUnescaped() {
+        ReceiptTemplate template = ReceiptTemplate.compile("<table>{{& rows}}</table>");
+
+        assertThat(template.render(Map.of("rows", "<tr><td>1</td></tr>")))
+                .isEqualTo("<table><tr><td>1</td></tr></table>");
+    }
+
+    @Test
+    void compile_UnclosedPlaceholder_Throws() {
+        assertThatThrownBy(() -> ReceiptTemplate.compile("Hello {{name"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
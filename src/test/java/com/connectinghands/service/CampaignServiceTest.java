@@ -0,0 +1,166 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CampaignProgressDto;
+import com.connectinghands.dto.CampaignTotalDto;
+import com.connectinghands.dto.CreateCampaignRequest;
+import com.connectinghands.entity.Campaign;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.CampaignRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.impl.CampaignServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CampaignServiceTest {
+
+    @Mock
+    private CampaignRepository campaignRepository;
+    @Mock
+    private OrphanageRepository orphanageRepository;
+
+    private CampaignServiceImpl campaignService;
+
+    private Campaign campaign;
+
+    @BeforeEach
+    void setUp() {
+        campaignService = new CampaignServiceImpl(campaignRepository, orphanageRepository, 60, 24);
+        campaign = new Campaign();
+        campaign.setId(5L);
+        campaign.setName("Winter coats");
+        campaign.setGoalAmount(new BigDecimal("1000.00"));
+        campaign.setCurrency("USD");
+        campaign.setStartsAt(LocalDateTime.now().minusDays(1));
+        campaign.setEndsAt(LocalDateTime.now().plusDays(6));
+        campaign.setOrphanageId(1L);
+    }
+
+    @Test
+    void getProgress_LoadsOnceThenServesFromMemory() {
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L)))
+                .thenReturn(List.of(new CampaignTotalDto(5L, new BigDecimal("250.00"), 4L)));
+
+        campaignService.getProgress(5L);
+        CampaignProgressDto progress = campaignService.getProgress(5L);
+
+        assertThat(progress.getRaisedAmount()).isEqualByComparingTo("250.00");
+        assertThat(progress.getDonationCount()).isEqualTo(4L);
+        assertThat(progress.getPercentComplete()).isEqualTo(25);
+        assertThat(progress.isActive()).isTrue();
+        verify(campaignRepository, times(1)).findById(5L);
+        verify(campaignRepository, times(1)).sumCompleted(any());
+    }
+
+    @Test
+    void recordChange_AddsCompletionsWithoutQuerying() {
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L))).thenReturn(List.of());
+        campaignService.getProgress(5L);
+
+        campaignService.recordChange(5L, "USD", new BigDecimal("40.00"), 1);
+        campaignService.recordChange(5L, "USD", new BigDecimal("15.50"), 1);
+        campaignService.recordChange(5L, "USD", new BigDecimal("40.00"), -1);
+        campaignService.recordChange(5L, "EUR", new BigDecimal("99.00"), 1);
+
+        CampaignProgressDto progress = campaignService.getProgress(5L);
+        assertThat(progress.getRaisedAmount()).isEqualByComparingTo("15.50");
+        assertThat(progress.getDonationCount()).isEqualTo(1L);
+        verify(campaignRepository, times(1)).sumCompleted(any());
+    }
+
+    @Test
+    void reconcile_ReplacesMemoryWithDatabaseTotals() {
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L))).thenReturn(List.of(),
+                List.of(new CampaignTotalDto(5L, new BigDecimal("300.00"), 6L)));
+        campaignService.getProgress(5L);
+        // Counted here, but the database also holds completions made on other instances.
+        campaignService.recordChange(5L, "USD", new BigDecimal("100.00"), 1);
+
+        assertThat(campaignService.reconcile()).isEqualTo(1);
+
+        CampaignProgressDto progress = campaignService.getProgress(5L);
+        assertThat(progress.getRaisedAmount()).isEqualByComparingTo("300.00");
+        assertThat(progress.getDonationCount()).isEqualTo(6L);
+        assertThat(progress.getReconciledAt()).isNotNull();
+    }
+
+    @Test
+    void reconcile_IdleCampaign_IsDroppedAndReloadedOnNextRead() {
+        campaignService = new CampaignServiceImpl(campaignRepository, orphanageRepository, -1, 24);
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L))).thenReturn(List.of());
+        campaignService.getProgress(5L);
+
+        assertThat(campaignService.reconcile()).isZero();
+
+        campaignService.getProgress(5L);
+        verify(campaignRepository, times(2)).findById(5L);
+    }
+
+    @Test
+    void reconcile_SettledCampaign_IsNoLongerReconciled() {
+        campaign.setStartsAt(LocalDateTime.now().minusDays(30));
+        campaign.setEndsAt(LocalDateTime.now().minusDays(2));
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L)))
+                .thenReturn(List.of(new CampaignTotalDto(5L, new BigDecimal("900.00"), 12L)));
+        campaignService.getProgress(5L);
+
+        assertThat(campaignService.reconcile()).isZero();
+
+        assertThat(campaignService.getProgress(5L).getRaisedAmount()).isEqualByComparingTo("900.00");
+        verify(campaignRepository, times(1)).sumCompleted(any());
+    }
+
+    @Test
+    void checkAttribution_OtherOrphanage_ThrowsValidation() {
+        when(campaignRepository.findById(5L)).thenReturn(Optional.of(campaign));
+        when(campaignRepository.sumCompleted(List.of(5L))).thenReturn(List.of());
+
+        assertThatThrownBy(() -> campaignService.checkAttribution(5L, 2L, "USD"))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> campaignService.checkAttribution(5L, 1L, "EUR"))
+                .isInstanceOf(ValidationException.class);
+        campaignService.checkAttribution(5L, 1L, "usd");
+    }
+
+    @Test
+    void getProgress_UnknownCampaign_ThrowsNotFound() {
+        when(campaignRepository.findById(9L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> campaignService.getProgress(9L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void createCampaign_UnknownOrphanage_ThrowsNotFound() {
+        CreateCampaignRequest request = new CreateCampaignRequest();
+        request.setName("Books");
+        request.setGoalAmount(new BigDecimal("500"));
+        request.setCurrency("usd");
+        request.setStartsAt(LocalDateTime.now());
+        request.setEndsAt(LocalDateTime.now().plusDays(30));
+        request.setOrphanageId(7L);
+        when(orphanageRepository.existsById(7L)).thenReturn(false);
+
+        assertThatThrownBy(() -> campaignService.createCampaign(request))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(campaignRepository, never()).save(any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreateDonationPlanRequest;
+import com.connectinghands.dto.DonationPlanDto;
+import com.connectinghands.entity.DonationFrequency;
+import com.connectinghands.entity.DonationPlan;
+import com.connectinghands.entity.DonationPlanStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.DonationPlanRepository;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.service.impl.DonationPlanServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DonationPlanServiceTest {
+
+    @Mock
+    private DonationPlanRepository donationPlanRepository;
+    @Mock
+    private OrphanageRepository orphanageRepository;
+    @Mock
+    private DonationService donationService;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private DonationPlanServiceImpl service;
+    private DonationPlan plan;
+
+    @BeforeEach
+    void setUp() {
+        service = new DonationPlanServiceImpl(donationPlanRepository, orphanageRepository, donationService,
+                securityService, transactionManager, 2, 0);
+        plan = new DonationPlan();
+        plan.setId(1L);
+        plan.setDonorId(3L);
+        plan.setOrphanageId(4L);
+        plan.setFrequency(DonationFrequency.MONTHLY);
+        plan.setStatus(DonationPlanStatus.ACTIVE);
+        plan.setNextCycle(0);
+    }
+
+    @Test
+    void createPlan_FirstRunIsStartDate() {
+        CreateDonationPlanRequest request = new CreateDonationPlanRequest();
+        request.setOrphanageId(4L);
+        request.setAmount(new BigDecimal("25.00"));
+        request.setCurrency("usd");
+        request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
+        request.setFrequency(DonationFrequency.MONTHLY);
+        LocalDateTime start = LocalDateTime.now().plusDays(3);
+        request.setStartAt(start);
+        when(orphanageRepository.existsById(4L)).thenReturn(true);
+        when(securityService.getCurrentUserId()).thenReturn(3L);
+        when(donationPlanRepository.save(any(DonationPlan.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DonationPlanDto dto = service.createPlan(request);
+
+        assertThat(dto.getNextRunAt()).isEqualTo(start);
+        assertThat(dto.getCurrency()).isEqualTo("USD");
+        assertThat(dto.getDonorId()).isEqualTo(3L);
+        assertThat(dto.getStatus()).isEqualTo(DonationPlanStatus.ACTIVE);
+    }
+
+    @Test
+    void createPlan_UnknownOrphanage_Throws() {
+        CreateDonationPlanRequest request = new CreateDonationPlanRequest();
+        request.setOrphanageId(9L);
+        when(orphanageRepository.existsById(9L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.createPlan(request)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void resumePlan_SkipsOccurrencesMissedWhilePaused() {
+        LocalDateTime start = LocalDateTime.now().minusMonths(3).minusDays(1);
+        plan.setStartAt(start);
+        plan.setNextCycle(1);
+        plan.setStatus(DonationPlanStatus.PAUSED);
+        when(donationPlanRepository.findById(1L)).thenReturn(Optional.of(plan));
+        when(securityService.getCurrentUserId()).thenReturn(3L);
+        when(donationPlanRepository.saveAndFlush(plan)).thenReturn(plan);
+
+        DonationPlanDto dto = service.resumePlan(1L);
+
+        assertThat(plan.getNextCycle()).isEqualTo(4);
+        assertThat(dto.getNextRunAt()).isEqualTo(start.plusMonths(4));
+        assertThat(dto.getStatus()).isEqualTo(DonationPlanStatus.ACTIVE);
+    }
+
+    @Test
+    void pausePlan_OtherDonorsPlan_ThrowsNotFound() {
+        when(donationPlanRepository.findById(1L)).thenReturn(Optional.of(plan));
+        when(securityService.getCurrentUserId()).thenReturn(99L);
+
+        assertThatThrownBy(() -> service.pausePlan(1L)).isInstanceOf(ResourceNotFoundException.class);
+        verify(donationPlanRepository, never()).saveAndFlush(any());
+    }
+
+    @Test
+    void cancelPlan_AlreadyCancelled_Conflicts() {
+        plan.setStatus(DonationPlanStatus.CANCELLED);
+        when(donationPlanRepository.findById(1L)).thenReturn(Optional.of(plan));
+        when(securityService.getCurrentUserId()).thenReturn(3L);
+
+        assertThatThrownBy(() -> service.cancelPlan(1L)).isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void generateDueDonations_DrainsFullBatchesAndPublishesEvents() {
+        when(donationPlanRepository.generateDueCycles(any(), eq(2)))
+                .thenReturn(List.of(10L, 11L), List.of(12L));
+
+        int generated = service.generateDueDonations();
+
+        assertThat(generated).isEqualTo(3);
+        verify(donationService).publishCreated(List.of(10L, 11L));
+        verify(donationService).publishCreated(List.of(12L));
+        verify(donationPlanRepository, times(2)).generateDueCycles(any(), eq(2));
+    }
+}
@@ -0,0 +1,158 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.DonationReceiptFile;
+import com.connectinghands.dto.DonationReceiptView;
+import com.connectinghands.entity.DonationReceipt;
+import com.connectinghands.entity.DonationReceiptStatus;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.DonationReceiptRepository;
+import com.connectinghands.service.impl.DonationReceiptServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DonationReceiptServiceTest {
+
+    @Mock
+    private DonationReceiptRepository donationReceiptRepository;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private DonationReceiptServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new DonationReceiptServiceImpl(donationReceiptRepository, securityService, new ObjectMapper(),
+                Runnable::run, transactionManager, directory.toString(), 2, 300, 5, 30);
+    }
+
+    @Test
+    void generatePending_RendersStoresAndRecordsTheBatch() throws IOException {
+        when(donationReceiptRepository.claimDue(any(), any(), eq(2))).thenReturn(List.of(7L));
+        when(donationReceiptRepository.findReceiptViews(List.of(7L))).thenReturn(List.of(new DonationReceiptView(
+                7L, new BigDecimal("25"), "USD", PaymentMethod.CREDIT_CARD, "txn-7",
+                LocalDateTime.of(2024, 12, 31, 18, 0), "Asha", "<Rao>", "asha@example.com", "Hope Home")));
+
+        int generated = service.generatePending();
+
+        assertThat(generated).isEqualTo(1);
+        Path file = directory.resolve("2024/12/CH-2024-00000007.html");
+        String html = Files.readString(file);
+        assertThat(html).contains("Asha &lt;Rao&gt;", "25.00 USD", "Hope Home", "CH-2024-00000007", "31 December 2024");
+
+        ArgumentCaptor<String> rows = ArgumentCaptor.forClass(String.class);
+        verify(donationReceiptRepository).markAllGenerated(rows.capture(), any());
+        assertThat(rows.getValue()).contains("\"file\":\"2024/12/CH-2024-00000007.html\"",
+                "\"size\":" + Files.size(file));
+        verify(donationReceiptRepository, times(1)).claimDue(any(), any(), anyInt());
+    }
+
+    @Test
+    void generatePending_RenderFailure_SchedulesRetry() throws IOException {
+        when(donationReceiptRepository.claimDue(any(), any(), eq(2))).thenReturn(List.of(8L));
+        DonationReceiptView view = new DonationReceiptView();
+        view.setDonationId(8L);
+        view.setCompletedAt(LocalDateTime.of(2024, 1, 1, 0, 0));
+        when(donationReceiptRepository.findReceiptViews(List.of(8L))).thenReturn(List.of(view));
+        DonationReceipt receipt = receipt(8L, 3L, DonationReceiptStatus.PENDING);
+        when(donationReceiptRepository.findById(8L)).thenReturn(Optional.of(receipt));
+
+        // The year directory is taken by a plain file, so the receipt cannot be written.
+        Files.writeString(directory.resolve("2024"), "not a directory");
+
+        assertThat(service.generatePending()).isZero();
+        verify(donationReceiptRepository).markAttemptFailed(eq(8L), anyString(), any(), eq(5));
+        verify(donationReceiptRepository, never()).markAllGenerated(anyString(), any());
+    }
+
+    @Test
+    void getReceiptFile_OwnGeneratedReceipt_ReturnsFile() throws IOException {
+        DonationReceipt receipt = receipt(7L, 3L, DonationReceiptStatus.GENERATED);
+        Files.createDirectories(directory.resolve("2024/12"));
+        Files.writeString(directory.resolve(receipt.getFileName()), "<html></html>");
+        when(donationReceiptRepository.findForCompletedDonation(7L)).thenReturn(Optional.of(receipt));
+        when(securityService.getCurrentUserId()).thenReturn(3L);
+
+        DonationReceiptFile file = service.getReceiptFile(7L);
+
+        assertThat(file.getPath()).isEqualTo(directory.resolve(receipt.getFileName()).toAbsolutePath().normalize());
+        assertThat(file.getReceiptNumber()).isEqualTo("CH-2024-00000007");
+    }
+
+    @Test
+    void getReceiptFile_AnotherDonorsReceipt_ThrowsNotFound() {
+        when(donationReceiptRepository.findForCompletedDonation(7L))
+                .thenReturn(Optional.of(receipt(7L, 3L, DonationReceiptStatus.GENERATED)));
+        when(securityService.getCurrentUserId()).thenReturn(9L);
+
+        assertThatThrownBy(() -> service.getReceiptFile(7L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void getReceiptFile_DonationNoLongerCompleted_ThrowsNotFound() {
+        when(donationReceiptRepository.findForCompletedDonation(7L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> service.getReceiptFile(7L)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(securityService);
+    }
+
+    @Test
+    void getReceiptFile_NotGeneratedYet_Throws() {
+        when(donationReceiptRepository.findForCompletedDonation(7L))
+                .thenReturn(Optional.of(receipt(7L, 3L, DonationReceiptStatus.PENDING)));
+        when(securityService.getCurrentUserId()).thenReturn(3L);
+
+        assertThatThrownBy(() -> service.getReceiptFile(7L)).isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void generatePending_DonationNoLongerCompleted_DropsQueuedReceipt() {
+        when(donationReceiptRepository.claimDue(any(), any(), eq(2))).thenReturn(List.of(9L));
+        when(donationReceiptRepository.findReceiptViews(List.of(9L))).thenReturn(List.of());
+
+        assertThat(service.generatePending()).isZero();
+        verify(donationReceiptRepository).deleteQueued(List.of(9L));
+        verify(donationReceiptRepository, never()).markAllGenerated(anyString(), any());
+    }
+
+    private static DonationReceipt receipt(Long donationId, Long donorId, DonationReceiptStatus status) {
+        DonationReceipt receipt = new DonationReceipt();
+        receipt.setDonationId(donationId);
+        receipt.setDonorId(donorId);
+        receipt.setStatus(status);
+        receipt.setReceiptNumber("CH-2024-0000000" + donationId);
+        receipt.setFileName("2024/12/CH-2024-0000000" + donationId + ".html");
+        receipt.setSizeBytes(13L);
+        receipt.setAttempts(0);
+        return receipt;
+    }
+}
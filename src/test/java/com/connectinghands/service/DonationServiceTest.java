@@ -1,35 +1,49 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateDonationRequest;
+import com.connectinghands.dto.CursorPage;
 import com.connectinghands.dto.DonationDto;
+import com.connectinghands.dto.DonationStatusCorrection;
+import com.connectinghands.dto.OrphanageTotalsChange;
 import com.connectinghands.dto.UpdateDonationRequest;
 import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.DonationStatus;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.PaymentMethod;
 import com.connectinghands.entity.User;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.exception.ValidationException;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.impl.DonationServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import jakarta.persistence.EntityNotFoundException;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
 
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -41,6 +55,16 @@ class DonationServiceTest {
     private UserRepository userRepository;
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private NeedScoreService needScoreService;
+    @Mock
+    private OutboxService outboxService;
+    @Mock
+    private OrphanageTotalsService orphanageTotalsService;
+    @Mock
+    private CampaignService campaignService;
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
     @InjectMocks
     private DonationServiceImpl donationService;
 
@@ -65,6 +89,11 @@ class DonationServiceTest {
         donation.setPaymentMethod(PaymentMethod.CREDIT_CARD);
     }
 
+    @AfterEach
+    void clearSecurityContext() {
+        SecurityContextHolder.clearContext();
+    }
+
     @Test
     void createDonation_ValidRequest_ReturnsDonationDto() {
         CreateDonationRequest request = new CreateDonationRequest();
@@ -74,8 +103,11 @@ class DonationServiceTest {
         request.setPaymentMethod(PaymentMethod.CREDIT_CARD);
         request.setNotes("Test");
 
-        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("donor", null));
+        when(orphanageRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findIdByUsername("donor")).thenReturn(Optional.of(1L));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(orphanageRepository.getReferenceById(1L)).thenReturn(orphanage);
         when(donationRepository.save(any(Donation.class))).thenReturn(donation);
 
         DonationDto dto = donationService.createDonation(request);
@@ -85,11 +117,47 @@ class DonationServiceTest {
         assertThat(dto.getStatus()).isEqualTo(DonationStatus.PENDING);
     }
 
+    @Test
+    void createDonation_ForCampaign_ChecksAndRecordsAttribution() {
+        CreateDonationRequest request = new CreateDonationRequest();
+        request.setOrphanageId(1L);
+        request.setAmount(new BigDecimal("100.00"));
+        request.setCurrency("USD");
+        request.setCampaignId(5L);
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("donor", null));
+        when(orphanageRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findIdByUsername("donor")).thenReturn(Optional.of(1L));
+        when(userRepository.getReferenceById(1L)).thenReturn(user);
+        when(orphanageRepository.getReferenceById(1L)).thenReturn(orphanage);
+        when(donationRepository.save(any(Donation.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DonationDto dto = donationService.createDonation(request);
+
+        verify(campaignService).checkAttribution(5L, 1L, "USD");
+        assertThat(dto.getCampaignId()).isEqualTo(5L);
+    }
+
+    @Test
+    void createDonation_CampaignNotRunning_SavesNothing() {
+        CreateDonationRequest request = new CreateDonationRequest();
+        request.setOrphanageId(1L);
+        request.setCurrency("USD");
+        request.setCampaignId(5L);
+
+        when(orphanageRepository.existsById(1L)).thenReturn(true);
+        doThrow(new ValidationException("Campaign is not running"))
+                .when(campaignService).checkAttribution(5L, 1L, "USD");
+
+        assertThatThrownBy(() -> donationService.createDonation(request)).isInstanceOf(ValidationException.class);
+        verify(donationRepository, never()).save(any());
+    }
+
     @Test
     void createDonation_OrphanageNotFound_ThrowsException() {
         CreateDonationRequest request = new CreateDonationRequest();
         request.setOrphanageId(2L);
-        when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
+        when(orphanageRepository.existsById(2L)).thenReturn(false);
         assertThatThrownBy(() -> donationService.createDonation(request))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
@@ -112,35 +180,58 @@ class DonationServiceTest {
     }
 
     @Test
-    void getAllDonations_ReturnsList() {
-        when(donationRepository.findAll()).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getAllDonations();
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getId()).isEqualTo(1L);
+    void getAllDonations_ReturnsFirstPage() {
+        when(donationRepository.findHistoryHead(21)).thenReturn(Collections.singletonList(donation));
+        CursorPage<DonationDto> page = donationService.getAllDonations(null, 20);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getId()).isEqualTo(1L);
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
     }
 
     @Test
-    void getDonationsByDonor_ReturnsList() {
-        when(donationRepository.findByDonorId(1L)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByDonor(1L);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getDonorId()).isEqualTo(1L);
+    void getDonationsByDonor_MorePagesAvailable_ContinuesAfterLastRow() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 5, 1, 9, 30, 15, 123456000);
+        donation.setCreatedAt(createdAt);
+        Donation older = new Donation();
+        older.setId(7L);
+        older.setDonor(user);
+        older.setOrphanage(orphanage);
+        when(donationRepository.findDonorHistoryHead(1L, 2)).thenReturn(List.of(donation, older));
+
+        CursorPage<DonationDto> page = donationService.getDonationsByDonor(1L, null, 1);
+        assertThat(page.getItems()).extracting(DonationDto::getDonorId).containsExactly(1L);
+        assertThat(page.isHasMore()).isTrue();
+
+        when(donationRepository.findDonorHistoryAfter(1L, createdAt, 1L, 2)).thenReturn(List.of(older));
+        CursorPage<DonationDto> next = donationService.getDonationsByDonor(1L, page.getNextCursor(), 1);
+        assertThat(next.getItems()).extracting(DonationDto::getId).containsExactly(7L);
+        assertThat(next.isHasMore()).isFalse();
     }
 
     @Test
-    void getDonationsByOrphanage_ReturnsList() {
-        when(donationRepository.findByOrphanageId(1L)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByOrphanage(1L);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getOrphanageId()).isEqualTo(1L);
+    void getDonationsByOrphanage_ReturnsPage() {
+        when(donationRepository.findOrphanageHistoryHead(1L, 11)).thenReturn(Collections.singletonList(donation));
+        CursorPage<DonationDto> page = donationService.getDonationsByOrphanage(1L, null, 10);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getOrphanageId()).isEqualTo(1L);
     }
 
     @Test
-    void getDonationsByStatus_ReturnsList() {
-        when(donationRepository.findByStatus(DonationStatus.PENDING)).thenReturn(Collections.singletonList(donation));
-        List<DonationDto> list = donationService.getDonationsByStatus(DonationStatus.PENDING);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(DonationStatus.PENDING);
+    void getDonationsByStatus_ReturnsPage() {
+        when(donationRepository.findStatusHistoryHead("PENDING", 11)).thenReturn(Collections.singletonList(donation));
+        CursorPage<DonationDto> page = donationService.getDonationsByStatus(DonationStatus.PENDING, null, 10);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getStatus()).isEqualTo(DonationStatus.PENDING);
+    }
+
+    @Test
+    void getAllDonations_InvalidPageSizeOrCursor_ThrowsValidationException() {
+        assertThatThrownBy(() -> donationService.getAllDonations(null, 101))
+                .isInstanceOf(ValidationException.class);
+        assertThatThrownBy(() -> donationService.getAllDonations("not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(donationRepository);
     }
 
     @Test
@@ -153,6 +244,23 @@ class DonationServiceTest {
         DonationDto dto = donationService.updateDonation(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
+        verify(orphanageTotalsService).applyChanges(List.of(
+                new OrphanageTotalsChange(1L, 1L, 1L, "USD", new BigDecimal("200.00"), 1)));
+    }
+
+    @Test
+    void updateDonation_CompletedAmountChanged_MovesTotals() {
+        donation.setStatus(DonationStatus.COMPLETED);
+        UpdateDonationRequest request = new UpdateDonationRequest();
+        request.setAmount(new BigDecimal("150.00"));
+        when(donationRepository.findById(1L)).thenReturn(Optional.of(donation));
+        when(donationRepository.save(any(Donation.class))).thenReturn(donation);
+
+        donationService.updateDonation(1L, request);
+
+        verify(orphanageTotalsService).applyChanges(List.of(
+                new OrphanageTotalsChange(1L, 1L, 1L, "USD", new BigDecimal("100.00"), -1),
+                new OrphanageTotalsChange(1L, 1L, 1L, "USD", new BigDecimal("150.00"), 1)));
     }
 
     @Test
@@ -166,17 +274,90 @@ class DonationServiceTest {
 
     @Test
     void deleteDonation_ValidId_DeletesDonation() {
-        when(donationRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(donationRepository).deleteById(1L);
+        when(donationRepository.findById(1L)).thenReturn(Optional.of(donation));
         donationService.deleteDonation(1L);
-        verify(donationRepository, times(1)).deleteById(1L);
+        verify(donationRepository, times(1)).delete(donation);
+        verify(needScoreService).markDirty(donation.getOrphanage().getId());
     }
 
     @Test
     void deleteDonation_NotFound_ThrowsException() {
-        when(donationRepository.existsById(2L)).thenReturn(false);
+        when(donationRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> donationService.deleteDonation(2L))
                 .isInstanceOf(EntityNotFoundException.class)
                 .hasMessageContaining("Donation not found");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void completeDonation_PendingDonation_RecordsStatusChange() {
+        donation.setStatus(DonationStatus.COMPLETED);
+        when(donationRepository.completeIfPending(eq(1L), eq("tx-1"), any())).thenReturn(1);
+        when(donationRepository.findById(1L)).thenReturn(Optional.of(donation));
+
+        assertThat(donationService.completeDonation(1L, "tx-1")).isTrue();
+
+        verify(needScoreService).markDirty(1L);
+        verify(orphanageTotalsService).applyChanges(List.of(
+                new OrphanageTotalsChange(1L, 1L, 1L, "USD", new BigDecimal("100.00"), 1)));
+        verify(campaignService).recordChange(null, "USD", new BigDecimal("100.00"), 1);
+        verify(outboxService).record(eq(OutboxEventTypes.DONATION), eq(1L),
+                eq(OutboxEventTypes.DONATION_STATUS_CHANGED), any());
+    }
+
+    @Test
+    void completeDonation_AlreadySettled_DoesNothing() {
+        when(donationRepository.completeIfPending(eq(1L), eq("tx-1"), any())).thenReturn(0);
+
+        assertThat(donationService.completeDonation(1L, "tx-1")).isFalse();
+
+        verify(donationRepository, never()).findById(anyLong());
+        verifyNoInteractions(outboxService);
+    }
+
+    @Test
+    void failDonation_TruncatesLongReason() {
+        when(donationRepository.failIfPending(eq(1L), any(), any())).thenReturn(0);
+
+        donationService.failDonation(1L, "x".repeat(800));
+
+        verify(donationRepository).failIfPending(eq(1L), eq("x".repeat(500)), any());
+    }
+
+    @Test
+    void completeDonations_RecordsEventsOnlyForChangedRows() {
+        donation.setStatus(DonationStatus.COMPLETED);
+        when(donationRepository.completeAllIfPending(anyString(), any())).thenReturn(List.of(1L));
+        when(donationRepository.findAllById(List.of(1L))).thenReturn(List.of(donation));
+
+        int completed = donationService.completeDonations(Map.of(1L, "tx-1", 2L, "tx-2"));
+
+        assertThat(completed).isEqualTo(1);
+        verify(needScoreService).markDirty(1L);
+        verify(outboxService, times(1)).record(eq(OutboxEventTypes.DONATION), eq(1L),
+                eq(OutboxEventTypes.DONATION_STATUS_CHANGED), any());
+    }
+
+    @Test
+    void failDonations_EmptyBatch_SkipsDatabase() {
+        assertThat(donationService.failDonations(Map.of())).isZero();
+
+        verifyNoInteractions(donationRepository);
+    }
+
+    @Test
+    void correctStatuses_RecordsPreviousStatusOfChangedDonations() {
+        donation.setStatus(DonationStatus.REFUNDED);
+        when(donationRepository.correctAllStatuses(anyString(), any())).thenReturn(List.of(1L));
+        when(donationRepository.findAllById(List.of(1L))).thenReturn(List.of(donation));
+
+        List<Long> changed = donationService.correctStatuses(List.of(
+                new DonationStatusCorrection(1L, DonationStatus.COMPLETED, DonationStatus.REFUNDED)));
+
+        assertThat(changed).containsExactly(1L);
+        verify(orphanageTotalsService).applyChanges(List.of(
+                new OrphanageTotalsChange(1L, 1L, 1L, "USD", new BigDecimal("100.00"), -1)));
+        verify(outboxService).record(eq(OutboxEventTypes.DONATION), eq(1L),
+                eq(OutboxEventTypes.DONATION_STATUS_CHANGED),
+                argThat(payload -> ((Map<?, ?>) payload).get("previousStatus") == DonationStatus.COMPLETED));
+    }
+}
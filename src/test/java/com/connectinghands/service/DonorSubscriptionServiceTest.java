@@ -0,0 +1,100 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreateSubscriptionRequest;
+import com.connectinghands.entity.DonorSubscription;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.DonorSubscriptionRepository;
+import com.connectinghands.service.impl.DonorSubscriptionServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DonorSubscriptionServiceTest {
+
+    @Mock
+    private DonorSubscriptionRepository donorSubscriptionRepository;
+    @Mock
+    private SecurityService securityService;
+    @InjectMocks
+    private DonorSubscriptionServiceImpl donorSubscriptionService;
+
+    @Test
+    void findSubscribers_UnionsStateAndCountryWideSubscriptionsWithoutDuplicates() {
+        when(donorSubscriptionRepository.findAll()).thenReturn(List.of(
+                subscription(1L, ResourceCategory.FOOD, "India", "Tamil Nadu"),
+                subscription(2L, ResourceCategory.FOOD, "india", null),
+                subscription(1L, ResourceCategory.FOOD, "India", null),
+                subscription(3L, ResourceCategory.FOOD, "India", "Kerala"),
+                subscription(4L, ResourceCategory.CLOTHING, "India", "Tamil Nadu")));
+        donorSubscriptionService.rebuildIndex();
+
+        assertThat(donorSubscriptionService.findSubscribers(ResourceCategory.FOOD, "India", " tamil nadu "))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(donorSubscriptionService.findSubscribers(ResourceCategory.FOOD, "India", null))
+                .containsExactlyInAnyOrder(1L, 2L);
+        assertThat(donorSubscriptionService.findSubscribers(ResourceCategory.MEDICAL, "India", "Kerala")).isEmpty();
+    }
+
+    @Test
+    void subscribe_CountryWide_IsFoundForAnyStateOfThatCountry() {
+        when(securityService.getCurrentUserId()).thenReturn(9L);
+        when(donorSubscriptionRepository.saveAndFlush(any(DonorSubscription.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        donorSubscriptionService.subscribe(request(ResourceCategory.EDUCATION, "India", " "));
+
+        assertThat(donorSubscriptionService.findSubscribers(ResourceCategory.EDUCATION, "INDIA", "Goa"))
+                .containsExactly(9L);
+    }
+
+    @Test
+    void subscribe_Duplicate_ThrowsConflict() {
+        when(securityService.getCurrentUserId()).thenReturn(9L);
+        when(donorSubscriptionRepository.saveAndFlush(any(DonorSubscription.class)))
+                .thenThrow(new DataIntegrityViolationException("uk_donor_subscriptions_region"));
+
+        assertThatThrownBy(() -> donorSubscriptionService.subscribe(request(ResourceCategory.FOOD, "India", null)))
+                .isInstanceOf(ConflictException.class);
+    }
+
+    @Test
+    void unsubscribe_OtherDonorsSubscription_ThrowsNotFound() {
+        DonorSubscription subscription = subscription(1L, ResourceCategory.FOOD, "India", null);
+        when(donorSubscriptionRepository.findById(5L)).thenReturn(Optional.of(subscription));
+        when(securityService.getCurrentUserId()).thenReturn(2L);
+
+        assertThatThrownBy(() -> donorSubscriptionService.unsubscribe(5L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(donorSubscriptionRepository, never()).delete(any());
+    }
+
+    private static DonorSubscription subscription(Long donorId, ResourceCategory category, String country, String state) {
+        DonorSubscription subscription = new DonorSubscription();
+        subscription.setDonorId(donorId);
+        subscription.setCategory(category);
+        subscription.setCountry(country);
+        subscription.setState(state);
+        return subscription;
+    }
+
+    private static CreateSubscriptionRequest request(ResourceCategory category, String country, String state) {
+        CreateSubscriptionRequest request = new CreateSubscriptionRequest();
+        request.setCategory(category);
+        request.setCountry(country);
+        request.setState(state);
+        return request;
+    }
+}
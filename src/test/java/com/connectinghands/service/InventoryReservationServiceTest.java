@@ -0,0 +1,166 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateReservationRequest;
+import com.connectinghands.dto.InventoryReservationDto;
+import com.connectinghands.entity.InventoryReservation;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.ReservationStatus;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.repository.InventoryReservationRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.impl.InventoryReservationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class InventoryReservationServiceTest {
+
+    @Mock
+    private InventoryReservationRepository reservationRepository;
+    @Mock
+    private ResourceRepository resourceRepository;
+    @Mock
+    private ResourceRequestRepository resourceRequestRepository;
+    @Mock
+    private ResourceLotService resourceLotService;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private InventoryReservationServiceImpl reservationService;
+    private Resource resource;
+
+    @BeforeEach
+    void setUp() {
+        reservationService = new InventoryReservationServiceImpl(reservationRepository, resourceRepository,
+                resourceRequestRepository, resourceLotService, matchingService, securityService,
+                transactionManager, 240, 100);
+
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(1L);
+        resource = resource(1L, 20, 5);
+        resource.setOrphanage(orphanage);
+    }
+
+    @Test
+    void reserve_FitsUnreservedStock_SavesActiveReservationWithDefaultTtl() {
+        when(resourceRepository.addReserved(1L, 10)).thenReturn(1);
+        when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
+        when(reservationRepository.save(any(InventoryReservation.class))).thenAnswer(inv -> {
+            InventoryReservation saved = inv.getArgument(0);
+            saved.setId(50L);
+            return saved;
+        });
+
+        InventoryReservationDto dto = reservationService.reserve(1L, reservationOf(10));
+
+        assertThat(dto.getId()).isEqualTo(50L);
+        assertThat(dto.getStatus()).isEqualTo(ReservationStatus.ACTIVE);
+        assertThat(dto.getExpiresAt()).isAfter(LocalDateTime.now().plusMinutes(239));
+        verify(matchingService).onResourceChanged(resource);
+    }
+
+    @Test
+    void reserve_ShortOfUnreservedStock_ThrowsConflict() {
+        when(resourceRepository.addReserved(1L, 16)).thenReturn(0);
+        when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
+
+        assertThatThrownBy(() -> reservationService.reserve(1L, reservationOf(16)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("Only 15 units");
+        verify(reservationRepository, never()).save(any());
+    }
+
+    @Test
+    void consume_ReleasesHoldBeforeAllocatingUnderResourceLock() {
+        InventoryReservation reservation = reservation(50L, resource, 5, LocalDateTime.now().plusHours(1));
+        when(reservationRepository.findByIdForUpdate(50L)).thenReturn(Optional.of(reservation));
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        when(resourceLotService.consumeLocked(resource, 5)).thenReturn(new AllocationDto());
+
+        reservationService.consume(50L);
+
+        InOrder order = inOrder(resourceRepository, resourceLotService);
+        order.verify(resourceRepository).releaseReserved(1L, 5);
+        order.verify(resourceLotService).consumeLocked(resource, 5);
+        assertThat(resource.getReservedQuantity()).isZero();
+        assertThat(reservation.getStatus()).isEqualTo(ReservationStatus.CONSUMED);
+    }
+
+    @Test
+    void consume_ExpiredReservation_ThrowsConflict() {
+        InventoryReservation reservation = reservation(50L, resource, 5, LocalDateTime.now().minusMinutes(1));
+        when(reservationRepository.findByIdForUpdate(50L)).thenReturn(Optional.of(reservation));
+
+        assertThatThrownBy(() -> reservationService.consume(50L))
+                .isInstanceOf(ConflictException.class);
+        verify(resourceLotService, never()).consumeLocked(any(), anyInt());
+    }
+
+    @Test
+    void releaseExpired_ReleasesOneDecrementPerResourceAndMarksExpired() {
+        Resource other = resource(2L, 10, 4);
+        LocalDateTime past = LocalDateTime.now().minusMinutes(5);
+        InventoryReservation first = reservation(50L, resource, 3, past);
+        InventoryReservation second = reservation(51L, resource, 2, past);
+        InventoryReservation third = reservation(52L, other, 4, past);
+        when(reservationRepository.findDueForUpdate(eq(List.of(50L, 51L, 52L)), any()))
+                .thenReturn(List.of(first, second, third));
+        when(resourceRepository.findAllById(any())).thenReturn(List.of(resource, other));
+
+        int expired = reservationService.releaseExpired(List.of(50L, 51L, 52L));
+
+        assertThat(expired).isEqualTo(3);
+        verify(resourceRepository).releaseReserved(1L, 5);
+        verify(resourceRepository).releaseReserved(2L, 4);
+        assertThat(List.of(first, second, third)).extracting(InventoryReservation::getStatus)
+                .containsOnly(ReservationStatus.EXPIRED);
+        verify(matchingService, times(2)).onResourceChanged(any(Resource.class));
+    }
+
+    private static Resource resource(Long id, int quantity, int reserved) {
+        Resource resource = new Resource();
+        resource.setId(id);
+        resource.setQuantity(quantity);
+        resource.setReservedQuantity(reserved);
+        resource.setStatus(ResourceStatus.AVAILABLE);
+        return resource;
+    }
+
+    private static InventoryReservation reservation(Long id, Resource resource, int quantity, LocalDateTime expiresAt) {
+        InventoryReservation reservation = new InventoryReservation();
+        reservation.setId(id);
+        reservation.setResource(resource);
+        reservation.setQuantity(quantity);
+        reservation.setStatus(ReservationStatus.ACTIVE);
+        reservation.setExpiresAt(expiresAt);
+        return reservation;
+    }
+
+    private static CreateReservationRequest reservationOf(int quantity) {
+        CreateReservationRequest request = new CreateReservationRequest();
+        request.setQuantity(quantity);
+        return request;
+    }
+}
@@ -0,0 +1,133 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AvailableStockDto;
+import com.connectinghands.dto.MatchProposalDto;
+import com.connectinghands.dto.OrphanageRegionDto;
+import com.connectinghands.dto.PendingRequestDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.ResourceType;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.impl.MatchingServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MatchingServiceTest {
+
+    @Mock
+    private ResourceRepository resourceRepository;
+    @Mock
+    private ResourceRequestRepository resourceRequestRepository;
+    @Mock
+    private OrphanageRepository orphanageRepository;
+
+    private MatchingServiceImpl matchingService;
+
+    @BeforeEach
+    void setUp() {
+        matchingService = new MatchingServiceImpl(resourceRepository, resourceRequestRepository,
+                orphanageRepository, Runnable::run, 5);
+
+        when(orphanageRepository.findAllRegions()).thenReturn(List.of(
+                new OrphanageRegionDto(1L, "Requester", "India", "Tamil Nadu"),
+                new OrphanageRegionDto(2L, "Same State", "India", "Tamil Nadu"),
+                new OrphanageRegionDto(3L, "Same Country", "India", "Kerala"),
+                new OrphanageRegionDto(4L, "Abroad", "Sri Lanka", "Western")));
+        when(resourceRequestRepository.findPendingForMatching()).thenReturn(List.of(
+                new PendingRequestDto(100L, 7, 1L, "kg", 20)));
+    }
+
+    @Test
+    void rebuild_RanksNearbyStockFirstAndSkipsOwnStock() {
+        when(resourceRepository.findAvailableStock()).thenReturn(List.of(
+                new AvailableStockDto(10L, 7, 4L, "kg", 500),
+                new AvailableStockDto(11L, 7, 3L, "kg", 50),
+                new AvailableStockDto(12L, 7, 2L, "kg", 5),
+                new AvailableStockDto(13L, 7, 1L, "kg", 100),
+                new AvailableStockDto(14L, 7, 2L, "litres", 100),
+                new AvailableStockDto(15L, 8, 2L, "kg", 100)));
+
+        assertThat(matchingService.rebuild()).isEqualTo(1);
+
+        List<MatchProposalDto> matches = matchingService.getMatches(100L);
+        assertThat(matches).extracting(MatchProposalDto::getResourceId).containsExactly(12L, 11L, 10L);
+        assertThat(matches).extracting(MatchProposalDto::getRegionMatch).containsExactly(
+                MatchProposalDto.RegionMatch.SAME_STATE,
+                MatchProposalDto.RegionMatch.SAME_COUNTRY,
+                MatchProposalDto.RegionMatch.OTHER);
+        assertThat(matches.get(0).isCoversRequest()).isFalse();
+        assertThat(matches.get(1).isCoversRequest()).isTrue();
+        assertThat(matches).extracting(MatchProposalDto::getRank).containsExactly(1, 2, 3);
+        verifyNoMoreInteractions(resourceRequestRepository);
+    }
+
+    @Test
+    void onResourceChanged_RematchesPendingRequestsOfThatType() {
+        when(resourceRepository.findAvailableStock()).thenReturn(List.of());
+        matchingService.rebuild();
+        assertThat(matchingService.getMatches(100L)).isEmpty();
+
+        matchingService.onResourceChanged(resource(20L, 7, 2L, 30));
+        assertThat(matchingService.getMatches(100L))
+                .extracting(MatchProposalDto::getResourceId).containsExactly(20L);
+
+        matchingService.onResourceChanged(resource(20L, 7, 2L, 0));
+        assertThat(matchingService.getMatches(100L)).isEmpty();
+    }
+
+    @Test
+    void rebuild_ReplaysChangesCommittedWhileLoading() {
+        when(resourceRepository.findAvailableStock()).thenAnswer(invocation -> {
+            // Committed after the snapshot was read, so only the replay can carry it over.
+            matchingService.onResourceChanged(resource(20L, 7, 2L, 30));
+            return List.of();
+        });
+
+        matchingService.rebuild();
+
+        assertThat(matchingService.getMatches(100L))
+                .extracting(MatchProposalDto::getResourceId).containsExactly(20L);
+    }
+
+    @Test
+    void match_EnoughNearbyStock_SkipsFartherRegions() {
+        matchingService = new MatchingServiceImpl(resourceRepository, resourceRequestRepository,
+                orphanageRepository, Runnable::run, 1);
+        when(resourceRepository.findAvailableStock()).thenReturn(List.of(
+                new AvailableStockDto(10L, 7, 4L, "kg", 500),
+                new AvailableStockDto(12L, 7, 2L, "kg", 5)));
+
+        matchingService.rebuild();
+
+        assertThat(matchingService.getMatches(100L))
+                .extracting(MatchProposalDto::getResourceId).containsExactly(12L);
+    }
+
+    private Resource resource(Long id, Integer typeId, Long orphanageId, int quantity) {
+        ResourceType type = new ResourceType();
+        type.setId(typeId);
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(orphanageId);
+
+        Resource resource = new Resource();
+        resource.setId(id);
+        resource.setResourceType(type);
+        resource.setOrphanage(orphanage);
+        resource.setUnit("kg");
+        resource.setQuantity(quantity);
+        resource.setStatus(ResourceStatus.AVAILABLE);
+        return resource;
+    }
+}
@@ -0,0 +1,104 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.OrphanageNeedDto;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.OrphanageNeedScoreRepository;
+import com.connectinghands.service.impl.NeedScoreServiceImpl;
+import com.connectinghands.util.CursorCodec;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NeedScoreServiceTest {
+
+    @Mock
+    private OrphanageNeedScoreRepository needScoreRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private NeedScoreServiceImpl needScoreService;
+
+    @BeforeEach
+    void setUp() {
+        needScoreService = new NeedScoreServiceImpl(needScoreRepository, transactionManager, 2, 30);
+    }
+
+    @Test
+    void refreshDirty_CoalescesRepeatedChangesIntoOneRefresh() {
+        when(needScoreRepository.refresh(anyList(), any(LocalDateTime.class), any(LocalDateTime.class)))
+                .thenAnswer(invocation -> ((List<?>) invocation.getArgument(0)).size());
+
+        needScoreService.markDirty(1L);
+        needScoreService.markDirty(1L);
+        needScoreService.markDirty(2L);
+        needScoreService.markDirty(3L);
+
+        assertThat(needScoreService.refreshDirty()).isEqualTo(3);
+        assertThat(needScoreService.refreshDirty()).isZero();
+        verify(needScoreRepository, times(2)).refresh(anyList(), any(), any());
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void refreshDirty_FailedRefreshIsRetriedOnNextRun() {
+        when(needScoreRepository.refresh(eq(List.of(5L)), any(), any()))
+                .thenThrow(new IllegalStateException("database unavailable"))
+                .thenReturn(1);
+
+        needScoreService.markDirty(5L);
+
+        assertThatThrownBy(() -> needScoreService.refreshDirty()).isInstanceOf(IllegalStateException.class);
+        assertThat(needScoreService.refreshDirty()).isEqualTo(1);
+    }
+
+    @Test
+    void getRanking_ExtraRowProducesCursorForNextPage() {
+        OrphanageNeedDto first = new OrphanageNeedDto(4L, "Hope House", "Chennai", "Tamil Nadu", "India",
+                new BigDecimal("81.250"), 12, new BigDecimal("1.1000"), BigDecimal.ZERO);
+        OrphanageNeedDto second = new OrphanageNeedDto(9L, "Little Stars", "Madurai", "Tamil Nadu", "India",
+                new BigDecimal("64.000"), 5, new BigDecimal("0.9000"), new BigDecimal("2500.00"));
+        when(needScoreRepository.findRankingHead(PageRequest.of(0, 2))).thenReturn(List.of(first, second));
+
+        CursorPage<OrphanageNeedDto> page = needScoreService.getRanking(null, 1);
+
+        assertThat(page.getItems()).containsExactly(first);
+        assertThat(page.isHasMore()).isTrue();
+        assertThat(CursorCodec.decode(page.getNextCursor(), 2)).containsExactly("81.250", "4");
+    }
+
+    @Test
+    void getRanking_CursorContinuesAfterLastRow() {
+        when(needScoreRepository.findRankingAfter(new BigDecimal("81.250"), 4L, PageRequest.of(0, 11)))
+                .thenReturn(List.of());
+
+        CursorPage<OrphanageNeedDto> page = needScoreService.getRanking(CursorCodec.encode("81.250", 4L), 10);
+
+        assertThat(page.getItems()).isEmpty();
+        assertThat(page.isHasMore()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getRanking_InvalidPageSize_ThrowsValidation() {
+        assertThatThrownBy(() -> needScoreService.getRanking(null, 0))
+                .isInstanceOf(ValidationException.class);
+        verifyNoInteractions(needScoreRepository);
+    }
+}
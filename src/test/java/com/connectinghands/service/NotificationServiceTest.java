@@ -0,0 +1,87 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.Notification;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.event.ResourceRequestCreatedEvent;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.NotificationRepository;
+import com.connectinghands.service.impl.NotificationServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationServiceTest {
+
+    @Mock
+    private NotificationRepository notificationRepository;
+    @Mock
+    private DonorSubscriptionService donorSubscriptionService;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    private NotificationServiceImpl notificationService;
+
+    @BeforeEach
+    void setUp() {
+        notificationService = new NotificationServiceImpl(notificationRepository, donorSubscriptionService,
+                securityService, jdbcTemplate, 2);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void notifySubscribers_InsertsInFixedSizeBatches() {
+        when(donorSubscriptionService.findSubscribers(ResourceCategory.FOOD, "India", "Kerala"))
+                .thenReturn(Set.of(1L, 2L, 3L, 4L, 5L));
+
+        notificationService.notifySubscribers(event());
+
+        ArgumentCaptor<List<Object[]>> batches = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(3)).batchUpdate(anyString(), batches.capture());
+        assertThat(batches.getAllValues()).extracting(List::size).containsExactly(2, 2, 1);
+        assertThat((String) batches.getAllValues().get(0).get(0)[3]).isEqualTo("Hope Home needs 40 kg of Rice");
+    }
+
+    @Test
+    void notifySubscribers_NoSubscribers_WritesNothing() {
+        when(donorSubscriptionService.findSubscribers(ResourceCategory.FOOD, "India", "Kerala")).thenReturn(Set.of());
+
+        notificationService.notifySubscribers(event());
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    void markRead_OtherUsersNotification_ThrowsNotFound() {
+        Notification notification = new Notification();
+        notification.setId(3L);
+        notification.setUserId(7L);
+        when(notificationRepository.findById(3L)).thenReturn(Optional.of(notification));
+        when(securityService.getCurrentUserId()).thenReturn(8L);
+
+        assertThatThrownBy(() -> notificationService.markRead(3L))
+                .isInstanceOf(ResourceNotFoundException.class);
+        assertThat(notification.isRead()).isFalse();
+    }
+
+    private static ResourceRequestCreatedEvent event() {
+        return new ResourceRequestCreatedEvent(10L, "Rice", ResourceCategory.FOOD, 40, "kg",
+                1L, "Hope Home", "India", "Kerala");
+    }
+}
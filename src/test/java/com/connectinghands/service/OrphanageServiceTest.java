@@ -5,17 +5,22 @@ import com.connectinghands.dto.OrphanageDto;
 import com.connectinghands.dto.UpdateOrphanageRequest;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.OrphanageStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.exception.ResourceNotFoundException;
 import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.impl.OrphanageServiceImpl;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 
-import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 
@@ -23,6 +28,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -30,13 +36,27 @@ class OrphanageServiceTest {
 
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private UserRepository userRepository;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AuditLogService auditLogService;
+    @Mock
+    private NeedScoreService needScoreService;
     @InjectMocks
     private OrphanageServiceImpl orphanageService;
 
     private Orphanage orphanage;
+    private User admin;
 
     @BeforeEach
     void setUp() {
+        admin = new User();
+        admin.setId(1L);
+        admin.setFirstName("Test");
+        admin.setLastName("Admin");
+
         orphanage = new Orphanage();
         orphanage.setId(1L);
         orphanage.setName("Test Orphanage");
@@ -45,6 +65,7 @@ class OrphanageServiceTest {
         orphanage.setPhone("1234567890");
         orphanage.setEmail("test@example.com");
         orphanage.setStatus(OrphanageStatus.ACTIVE);
+        orphanage.setAdmin(admin);
     }
 
     @Test
@@ -56,6 +77,8 @@ class OrphanageServiceTest {
         request.setPhone("9876543210");
         request.setEmail("new@example.com");
 
+        when(securityService.getCurrentUserId()).thenReturn(1L);
+        when(userRepository.findById(1L)).thenReturn(Optional.of(admin));
         when(orphanageRepository.save(any(Orphanage.class))).thenReturn(orphanage);
 
         OrphanageDto dto = orphanageService.createOrphanage(request);
@@ -76,25 +99,25 @@ class OrphanageServiceTest {
     void getOrphanage_NotFound_ThrowsException() {
         when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> orphanageService.getOrphanage(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
     }
 
     @Test
     void getAllOrphanages_ReturnsList() {
-        when(orphanageRepository.findAll()).thenReturn(Collections.singletonList(orphanage));
-        List<OrphanageDto> list = orphanageService.getAllOrphanages();
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getId()).isEqualTo(1L);
+        when(orphanageRepository.findAll(any(Pageable.class))).thenReturn(new PageImpl<>(List.of(orphanage)));
+        Page<OrphanageDto> page = orphanageService.getAllOrphanages(PageRequest.of(0, 20));
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getId()).isEqualTo(1L);
     }
 
     @Test
     void getOrphanagesByStatus_ReturnsList() {
-        when(orphanageRepository.findByStatus(OrphanageStatus.ACTIVE))
-                .thenReturn(Collections.singletonList(orphanage));
-        List<OrphanageDto> list = orphanageService.getOrphanagesByStatus(OrphanageStatus.ACTIVE);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(OrphanageStatus.ACTIVE);
+        when(orphanageRepository.findByStatus(eq(OrphanageStatus.ACTIVE), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(orphanage)));
+        Page<OrphanageDto> page = orphanageService.getOrphanagesByStatus(OrphanageStatus.ACTIVE, PageRequest.of(0, 20));
+        assertThat(page.getContent()).hasSize(1);
+        assertThat(page.getContent().get(0).getStatus()).isEqualTo(OrphanageStatus.ACTIVE);
     }
 
     @Test
@@ -102,9 +125,10 @@ class OrphanageServiceTest {
         UpdateOrphanageRequest request = new UpdateOrphanageRequest();
         request.setName("Updated Orphanage");
         request.setDescription("Updated Description");
-        request.setStatus(OrphanageStatus.INACTIVE);
+        request.setStatus(OrphanageStatus.SUSPENDED.name());
         when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
-        when(orphanageRepository.save(any(Orphanage.class))).thenReturn(orphanage);
+        when(securityService.isCurrentUserOrphanageAdmin(1L)).thenReturn(true);
+        when(orphanageRepository.saveAndFlush(any(Orphanage.class))).thenReturn(orphanage);
         OrphanageDto dto = orphanageService.updateOrphanage(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
@@ -115,23 +139,23 @@ class OrphanageServiceTest {
         UpdateOrphanageRequest request = new UpdateOrphanageRequest();
         when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> orphanageService.updateOrphanage(2L, request))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
     }
 
     @Test
     void deleteOrphanage_ValidId_DeletesOrphanage() {
-        when(orphanageRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(orphanageRepository).deleteById(1L);
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(securityService.isCurrentUserOrphanageAdmin(1L)).thenReturn(true);
         orphanageService.deleteOrphanage(1L);
-        verify(orphanageRepository, times(1)).deleteById(1L);
+        verify(orphanageRepository, times(1)).delete(orphanage);
     }
 
     @Test
     void deleteOrphanage_NotFound_ThrowsException() {
-        when(orphanageRepository.existsById(2L)).thenReturn(false);
+        when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> orphanageService.deleteOrphanage(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
     }
 } 
\ No newline at end of file
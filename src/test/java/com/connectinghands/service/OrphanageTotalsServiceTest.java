@@ -0,0 +1,83 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CurrencyTotalDto;
+import com.connectinghands.dto.OrphanageTotalsChange;
+import com.connectinghands.dto.OrphanageTotalsDto;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.OrphanageTotalStripeRepository;
+import com.connectinghands.service.impl.OrphanageTotalsServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OrphanageTotalsServiceTest {
+
+    @Mock
+    private OrphanageTotalStripeRepository orphanageTotalStripeRepository;
+    @Mock
+    private OrphanageRepository orphanageRepository;
+
+    private OrphanageTotalsServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new OrphanageTotalsServiceImpl(orphanageTotalStripeRepository, orphanageRepository,
+                new ObjectMapper(), 4);
+    }
+
+    @Test
+    void applyChanges_SpreadsDonationsOverStripesInOneStatement() {
+        service.applyChanges(List.of(
+                new OrphanageTotalsChange(9L, 1L, 3L, "USD", new BigDecimal("25.00"), 1),
+                new OrphanageTotalsChange(10L, 1L, 4L, "USD", new BigDecimal("40.00"), -1)));
+
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(orphanageTotalStripeRepository, times(1)).applyChanges(json.capture());
+        assertThat(json.getValue()).isEqualTo(
+                "[{\"orphanage_id\":1,\"donor_id\":3,\"currency\":\"USD\",\"stripe\":1,\"amount\":25.00,\"donations\":1},"
+                + "{\"orphanage_id\":1,\"donor_id\":4,\"currency\":\"USD\",\"stripe\":2,\"amount\":-40.00,\"donations\":-1}]");
+    }
+
+    @Test
+    void applyChanges_NothingToApply_SkipsDatabase() {
+        service.applyChanges(List.of(new OrphanageTotalsChange(9L, 1L, 3L, "USD", BigDecimal.TEN, 0)));
+
+        verifyNoInteractions(orphanageTotalStripeRepository);
+    }
+
+    @Test
+    void getTotals_SumsStripes() {
+        when(orphanageRepository.existsById(1L)).thenReturn(true);
+        when(orphanageTotalStripeRepository.sumByCurrency(1L)).thenReturn(List.of(
+                new CurrencyTotalDto("EUR", new BigDecimal("80.00"), 2L),
+                new CurrencyTotalDto("USD", new BigDecimal("125.50"), 3L)));
+        when(orphanageTotalStripeRepository.sumDonorCount(1L)).thenReturn(4L);
+
+        OrphanageTotalsDto totals = service.getTotals(1L);
+
+        assertThat(totals.getTotals()).hasSize(2);
+        assertThat(totals.getDonationCount()).isEqualTo(5L);
+        assertThat(totals.getDonorCount()).isEqualTo(4L);
+    }
+
+    @Test
+    void getTotals_UnknownOrphanage_ThrowsNotFound() {
+        when(orphanageRepository.existsById(2L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.getTotals(2L)).isInstanceOf(ResourceNotFoundException.class);
+        verifyNoInteractions(orphanageTotalStripeRepository);
+    }
+}
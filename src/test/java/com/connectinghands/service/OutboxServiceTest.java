@@ -0,0 +1,124 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.OutboxEvent;
+import com.connectinghands.event.OutboxEventConsumer;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.repository.OutboxEventRepository;
+import com.connectinghands.service.impl.OutboxServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private ObjectProvider<OutboxEventConsumer> consumers;
+    @Mock
+    private OutboxEventConsumer donationConsumer;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private OutboxServiceImpl outboxService;
+
+    @BeforeEach
+    void setUp() {
+        outboxService = new OutboxServiceImpl(outboxEventRepository, new ObjectMapper().findAndRegisterModules(),
+                consumers, transactionManager, 2, 60, 3, 5, 7);
+    }
+
+    @Test
+    void record_StoresPendingEventWithJsonPayload() {
+        outboxService.record(OutboxEventTypes.DONATION, 7L, OutboxEventTypes.DONATION_CREATED, Map.of("amount", 25));
+
+        ArgumentCaptor<OutboxEvent> saved = ArgumentCaptor.forClass(OutboxEvent.class);
+        verify(outboxEventRepository).save(saved.capture());
+        assertThat(saved.getValue().getAggregateId()).isEqualTo(7L);
+        assertThat(saved.getValue().getEventType()).isEqualTo(OutboxEventTypes.DONATION_CREATED);
+        assertThat(saved.getValue().getPayload()).isEqualTo("{\"amount\":25}");
+    }
+
+    @Test
+    void relayPending_DeliversInIdOrderAndMarksBatchPublished() {
+        when(consumers.orderedStream()).thenReturn(Stream.of(donationConsumer));
+        when(donationConsumer.eventTypes()).thenReturn(Set.of(OutboxEventTypes.DONATION_CREATED));
+        OutboxEvent second = event(12L, OutboxEventTypes.DONATION_CREATED);
+        OutboxEvent first = event(11L, OutboxEventTypes.DONATION_CREATED);
+        when(outboxEventRepository.claimDue(any(LocalDateTime.class), any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(second, first), List.of());
+
+        int delivered = outboxService.relayPending();
+
+        assertThat(delivered).isEqualTo(2);
+        InOrder inOrder = inOrder(donationConsumer);
+        inOrder.verify(donationConsumer).consume(first);
+        inOrder.verify(donationConsumer).consume(second);
+        verify(outboxEventRepository).markPublished(eq(List.of(11L, 12L)), any(LocalDateTime.class));
+    }
+
+    @Test
+    void relayPending_EventsWithoutConsumersArePublished() {
+        when(consumers.orderedStream()).thenReturn(Stream.empty());
+        when(outboxEventRepository.claimDue(any(), any(), eq(2)))
+                .thenReturn(List.of(event(5L, OutboxEventTypes.RESOURCE_REQUEST_DELETED)));
+
+        assertThat(outboxService.relayPending()).isEqualTo(1);
+        verify(outboxEventRepository).markPublished(eq(List.of(5L)), any());
+    }
+
+    @Test
+    void relayPending_FailedConsumerSchedulesRetryWithoutBlockingOthers() {
+        when(consumers.orderedStream()).thenReturn(Stream.of(donationConsumer));
+        when(donationConsumer.eventTypes()).thenReturn(Set.of(OutboxEventTypes.DONATION_CREATED));
+        OutboxEvent failing = event(1L, OutboxEventTypes.DONATION_CREATED);
+        OutboxEvent fine = event(2L, OutboxEventTypes.DONATION_CREATED);
+        doThrow(new IllegalStateException("gateway down")).when(donationConsumer).consume(failing);
+        when(outboxEventRepository.claimDue(any(), any(), eq(2))).thenReturn(List.of(failing, fine), List.of());
+
+        assertThat(outboxService.relayPending()).isEqualTo(1);
+
+        verify(outboxEventRepository).markAttemptFailed(eq(1L), eq("gateway down"), any(LocalDateTime.class), eq(3));
+        verify(outboxEventRepository).markPublished(eq(List.of(2L)), any());
+    }
+
+    @Test
+    void relayPending_NothingDue_DoesNothing() {
+        when(outboxEventRepository.claimDue(any(), any(), anyInt())).thenReturn(List.of());
+
+        assertThat(outboxService.relayPending()).isZero();
+        verify(outboxEventRepository, never()).markPublished(any(), any());
+        verify(outboxEventRepository, never()).markAttemptFailed(any(), anyString(), any(), anyInt());
+    }
+
+    private OutboxEvent event(Long id, String type) {
+        OutboxEvent event = new OutboxEvent();
+        event.setId(id);
+        event.setEventType(type);
+        event.setAggregateType(OutboxEventTypes.DONATION);
+        event.setAggregateId(id);
+        event.setPayload("{}");
+        return event;
+    }
+}
@@ -0,0 +1,152 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.Donation;
+import com.connectinghands.entity.PaymentMethod;
+import com.connectinghands.entity.User;
+import com.connectinghands.payment.PaymentGateway;
+import com.connectinghands.payment.PaymentGatewayException;
+import com.connectinghands.payment.PaymentRequest;
+import com.connectinghands.payment.PaymentResult;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.service.impl.PaymentProcessingServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentProcessingServiceTest {
+
+    @Mock
+    private DonationRepository donationRepository;
+    @Mock
+    private DonationService donationService;
+    @Mock
+    private PaymentGateway paymentGateway;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @Test
+    void dispatch_ApprovedPaymentCompletesDonation() {
+        PaymentProcessingServiceImpl service = service(Runnable::run, 5000);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 0)));
+        when(paymentGateway.charge(any())).thenReturn(PaymentResult.approved("tx-1"));
+
+        assertThat(service.dispatchDuePayments()).isEqualTo(1);
+
+        verify(donationService).completeDonation(1L, "tx-1");
+        ArgumentCaptor<PaymentRequest> request = ArgumentCaptor.forClass(PaymentRequest.class);
+        verify(paymentGateway).charge(request.capture());
+        assertThat(request.getValue().getIdempotencyKey()).isEqualTo("donation-1");
+        assertThat(request.getValue().getDonorId()).isEqualTo(3L);
+    }
+
+    @Test
+    void dispatch_DeclinedPaymentFailsDonation() {
+        PaymentProcessingServiceImpl service = service(Runnable::run, 5000);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 0)));
+        when(paymentGateway.charge(any())).thenReturn(PaymentResult.declined("Card declined"));
+
+        service.dispatchDuePayments();
+
+        verify(donationService).failDonation(1L, "Card declined");
+        verify(donationService, never()).completeDonation(any(), any());
+    }
+
+    @Test
+    void dispatch_TransientFailureSchedulesRetry() {
+        PaymentProcessingServiceImpl service = service(Runnable::run, 5000);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 0)));
+        when(paymentGateway.charge(any())).thenThrow(new PaymentGatewayException("gateway unavailable"));
+
+        service.dispatchDuePayments();
+
+        verify(donationRepository).schedulePaymentRetry(eq(1L), eq("gateway unavailable"), any(LocalDateTime.class));
+        verify(donationService, never()).failDonation(any(), any());
+    }
+
+    @Test
+    void dispatch_LastAttemptFailsDonation() {
+        PaymentProcessingServiceImpl service = service(Runnable::run, 5000);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 2)));
+        when(paymentGateway.charge(any())).thenThrow(new PaymentGatewayException("gateway unavailable"));
+
+        service.dispatchDuePayments();
+
+        verify(donationService).failDonation(eq(1L), contains("after 3 attempts"));
+        verify(donationRepository, never()).schedulePaymentRetry(any(), anyString(), any());
+    }
+
+    @Test
+    void dispatch_HungGatewayTimesOutButKeepsItsSlot() {
+        Executor neverRuns = task -> { };
+        PaymentProcessingServiceImpl service = service(neverRuns, 20);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 0)));
+        when(donationRepository.claimDueForPayment(any(), any(), eq(1))).thenReturn(List.of());
+
+        service.dispatchDuePayments();
+
+        verify(donationRepository, timeout(1000)).schedulePaymentRetry(eq(1L), contains("did not answer"), any());
+        service.dispatchDuePayments();
+        verify(donationRepository).claimDueForPayment(any(), any(), eq(1));
+    }
+
+    @Test
+    void dispatch_LastAttemptTimingOut_KeepsDonationPending() {
+        Executor neverRuns = task -> { };
+        PaymentProcessingServiceImpl service = service(neverRuns, 20);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 2)));
+
+        service.dispatchDuePayments();
+
+        verify(donationRepository, timeout(1000)).schedulePaymentRetry(eq(1L), contains("did not answer"), any());
+        verify(donationService, never()).failDonation(any(), any());
+    }
+
+    @Test
+    void dispatch_LateAnswerAfterTimeout_IsRecorded() {
+        List<Runnable> calls = new ArrayList<>();
+        PaymentProcessingServiceImpl service = service(calls::add, 20);
+        when(donationRepository.claimDueForPayment(any(), any(), eq(2))).thenReturn(List.of(donation(1L, 0)));
+        when(paymentGateway.charge(any())).thenReturn(PaymentResult.approved("tx-1"));
+
+        service.dispatchDuePayments();
+        verify(donationRepository, timeout(1000)).schedulePaymentRetry(eq(1L), contains("did not answer"), any());
+        calls.get(0).run();
+
+        verify(donationService, timeout(1000)).completeDonation(1L, "tx-1");
+    }
+
+    private PaymentProcessingServiceImpl service(Executor executor, long timeoutMillis) {
+        return new PaymentProcessingServiceImpl(donationRepository, donationService, paymentGateway, executor,
+                transactionManager, 2, timeoutMillis, 3, 10);
+    }
+
+    private Donation donation(Long id, int attempts) {
+        User donor = new User();
+        donor.setId(3L);
+        Donation donation = new Donation();
+        donation.setId(id);
+        donation.setDonor(donor);
+        donation.setAmount(new BigDecimal("25.00"));
+        donation.setCurrency("USD");
+        donation.setPaymentMethod(PaymentMethod.values()[0]);
+        donation.setPaymentAttempts(attempts);
+        return donation;
+    }
+}
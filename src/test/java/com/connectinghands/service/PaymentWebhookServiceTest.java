@@ -0,0 +1,116 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.PaymentWebhookRequest;
+import com.connectinghands.entity.PaymentOutcome;
+import com.connectinghands.exception.ServiceUnavailableException;
+import com.connectinghands.repository.PaymentWebhookEventRepository;
+import com.connectinghands.service.impl.PaymentWebhookServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PaymentWebhookServiceTest {
+
+    @Mock
+    private PaymentWebhookEventRepository eventRepository;
+    @Mock
+    private DonationService donationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private PaymentWebhookServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new PaymentWebhookServiceImpl(eventRepository, donationService, new ObjectMapper(),
+                transactionManager, 100, 1000, 1000, 1000, 30);
+    }
+
+    @Test
+    void receive_NewApproval_CompletesDonation() {
+        when(eventRepository.insertNew(anyString(), any())).thenReturn(List.of("evt-1"));
+
+        boolean applied = service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5"));
+
+        assertThat(applied).isTrue();
+        verify(donationService).completeDonations(Map.of(5L, "tx-5"));
+        verify(donationService).failDonations(Map.of());
+    }
+
+    @Test
+    void receive_NewDecline_FailsDonationWithProviderMessage() {
+        when(eventRepository.insertNew(anyString(), any())).thenReturn(List.of("evt-1"));
+        PaymentWebhookRequest event = event("evt-1", 5L, PaymentOutcome.DECLINED, null);
+        event.setMessage("Insufficient funds");
+
+        service.receive(event);
+
+        verify(donationService).failDonations(Map.of(5L, "Insufficient funds"));
+        verify(donationService).completeDonations(Map.of());
+    }
+
+    @Test
+    void receive_EventAlreadyStored_IsNotAppliedAgain() {
+        when(eventRepository.insertNew(anyString(), any())).thenReturn(List.of());
+
+        boolean applied = service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5"));
+
+        assertThat(applied).isFalse();
+        verify(donationService).completeDonations(Map.of());
+    }
+
+    @Test
+    void receive_RecentRedelivery_IsAnsweredFromMemory() {
+        when(eventRepository.insertNew(anyString(), any())).thenReturn(List.of("evt-1"));
+        service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5"));
+
+        boolean applied = service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5"));
+
+        assertThat(applied).isFalse();
+        verify(eventRepository, times(1)).insertNew(anyString(), any());
+    }
+
+    @Test
+    void receive_StoreFails_AsksProviderToRedeliver() {
+        when(eventRepository.insertNew(anyString(), any()))
+                .thenThrow(new DataIntegrityViolationException("boom"))
+                .thenReturn(List.of("evt-1"));
+
+        assertThatThrownBy(() -> service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5")))
+                .isInstanceOf(ServiceUnavailableException.class);
+
+        // A failed event is not remembered as received, so the redelivery is applied.
+        assertThat(service.receive(event("evt-1", 5L, PaymentOutcome.APPROVED, "tx-5"))).isTrue();
+    }
+
+    @Test
+    void purgeExpired_DeletesInChunks() {
+        when(eventRepository.purgeReceivedBefore(any(), eq(1000))).thenReturn(1000, 3);
+
+        assertThat(service.purgeExpired()).isEqualTo(1003);
+    }
+
+    private PaymentWebhookRequest event(String eventId, Long donationId, PaymentOutcome outcome, String transactionId) {
+        PaymentWebhookRequest event = new PaymentWebhookRequest();
+        event.setEventId(eventId);
+        event.setDonationId(donationId);
+        event.setOutcome(outcome);
+        event.setTransactionId(transactionId);
+        return event;
+    }
+}
@@ -1,15 +1,17 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.DonationReportDto;
+import com.connectinghands.dto.ResourceTypeTotalDto;
 import com.connectinghands.dto.ResourceUtilizationReportDto;
 import com.connectinghands.entity.Donation;
 import com.connectinghands.entity.Orphanage;
-import com.connectinghands.entity.Resource;
-import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceType;
 import com.connectinghands.repository.DonationRepository;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.ResourceTypeRepository;
 import com.connectinghands.service.impl.ReportServiceImpl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -50,6 +52,9 @@ class ReportServiceTest {
     @Mock
     private OrphanageRepository orphanageRepository;
 
+    @Mock
+    private ResourceTypeRepository resourceTypeRepository;
+
     @InjectMocks
     private ReportServiceImpl reportService;
 
@@ -101,6 +106,7 @@ class ReportServiceTest {
         Page<Orphanage> orphanagePage = new PageImpl<>(orphanages);
 
         when(orphanageRepository.findAll(any(Pageable.class))).thenReturn(orphanagePage);
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
         when(donationRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
                 .thenReturn(Collections.emptyList());
 
@@ -118,26 +124,22 @@ class ReportServiceTest {
     @Test
     void generateResourceUtilizationReport_ValidData_ReturnsReport() {
         // Arrange
-        Resource resource1 = new Resource();
-        resource1.setName("Food");
-        resource1.setQuantity(100);
-        resource1.setOrphanage(orphanage);
+        ResourceType foodRice = new ResourceType();
+        foodRice.setId(1);
+        foodRice.setName("Rice");
+        foodRice.setCategory(ResourceCategory.FOOD);
 
-        Resource resource2 = new Resource();
-        resource2.setName("Clothing");
-        resource2.setQuantity(50);
-        resource2.setOrphanage(orphanage);
-
-        ResourceRequest request = new ResourceRequest();
-        request.setName("Food Request");
-        request.setQuantity(20);
-        request.setOrphanage(orphanage);
+        ResourceType otherRice = new ResourceType();
+        otherRice.setId(2);
+        otherRice.setName("Rice");
+        otherRice.setCategory(ResourceCategory.OTHER);
 
         when(orphanageRepository.findById(anyLong())).thenReturn(Optional.of(orphanage));
-        when(resourceRepository.findByOrphanageId(anyLong()))
-                .thenReturn(Arrays.asList(resource1, resource2));
-        when(resourceRequestRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.singletonList(request));
+        when(resourceRepository.sumQuantityByResourceType(anyLong()))
+                .thenReturn(Arrays.asList(new ResourceTypeTotalDto(1, 100L), new ResourceTypeTotalDto(2, 50L)));
+        when(resourceRequestRepository.countByResourceType(anyLong()))
+                .thenReturn(Collections.singletonList(new ResourceTypeTotalDto(1, 1L)));
+        when(resourceTypeRepository.findAllById(any())).thenReturn(Arrays.asList(foodRice, otherRice));
 
         // Act
         ResourceUtilizationReportDto report = reportService.generateResourceUtilizationReport(
@@ -147,9 +149,9 @@ class ReportServiceTest {
         assertThat(report).isNotNull();
         assertThat(report.getOrphanageId()).isEqualTo(1L);
         assertThat(report.getOrphanageName()).isEqualTo("Test Orphanage");
-        assertThat(report.getResourceUtilization()).containsEntry("Food", 100L);
-        assertThat(report.getResourceUtilization()).containsEntry("Clothing", 50L);
-        assertThat(report.getResourceRequests()).hasSize(1);
+        assertThat(report.getResourceUtilization()).containsEntry("Rice (FOOD)", 100L);
+        assertThat(report.getResourceUtilization()).containsEntry("Rice (OTHER)", 50L);
+        assertThat(report.getResourceRequests()).containsEntry("Rice (FOOD)", 1L);
     }
 
     @Test
@@ -159,9 +161,9 @@ class ReportServiceTest {
         Page<Orphanage> orphanagePage = new PageImpl<>(orphanages);
 
         when(orphanageRepository.findAll(any(Pageable.class))).thenReturn(orphanagePage);
-        when(resourceRepository.findByOrphanageId(anyLong())).thenReturn(Collections.emptyList());
-        when(resourceRequestRepository.findByOrphanageIdAndCreatedAtBetween(anyLong(), any(), any()))
-                .thenReturn(Collections.emptyList());
+        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(resourceRepository.sumQuantityByResourceType(anyLong())).thenReturn(Collections.emptyList());
+        when(resourceRequestRepository.countByResourceType(anyLong())).thenReturn(Collections.emptyList());
 
         // Act
         Page<ResourceUtilizationReportDto> reports = reportService.generateResourceUtilizationReports(
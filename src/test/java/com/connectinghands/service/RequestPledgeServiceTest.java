@@ -0,0 +1,233 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.CreatePledgeRequest;
+import com.connectinghands.dto.RecordDeliveryRequest;
+import com.connectinghands.dto.RequestPledgeDto;
+import com.connectinghands.dto.RequestProgressDto;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.PledgeStatus;
+import com.connectinghands.entity.RequestPledge;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.OrphanageRepository;
+import com.connectinghands.repository.RequestPledgeRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.UserRepository;
+import com.connectinghands.service.impl.RequestPledgeServiceImpl;
+import com.connectinghands.service.impl.SecurityServiceImpl;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestPledgeServiceTest {
+
+    @Mock
+    private RequestPledgeRepository requestPledgeRepository;
+    @Mock
+    private ResourceRequestRepository resourceRequestRepository;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private NeedScoreService needScoreService;
+    @InjectMocks
+    private RequestPledgeServiceImpl requestPledgeService;
+
+    private ResourceRequest resourceRequest;
+
+    @BeforeEach
+    void setUp() {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(1L);
+
+        resourceRequest = new ResourceRequest();
+        resourceRequest.setId(10L);
+        resourceRequest.setQuantity(2000);
+        resourceRequest.setOrphanage(orphanage);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void pledge_FitsRemainder_IncrementsTotalAndSavesPledge() {
+        when(resourceRequestRepository.addPledged(10L, 300)).thenReturn(1);
+        when(resourceRequestRepository.findById(10L)).thenReturn(Optional.of(resourceRequest));
+        when(securityService.getCurrentUserId()).thenReturn(5L);
+        when(requestPledgeRepository.save(any(RequestPledge.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        RequestPledgeDto dto = requestPledgeService.pledge(10L, pledgeOf(300));
+
+        assertThat(dto.getRequestId()).isEqualTo(10L);
+        assertThat(dto.getDonorId()).isEqualTo(5L);
+        assertThat(dto.getQuantity()).isEqualTo(300);
+        assertThat(dto.getStatus()).isEqualTo(PledgeStatus.OPEN);
+        verify(matchingService).onRequestChanged(resourceRequest);
+    }
+
+    @Test
+    void pledge_ExceedsRemainder_ThrowsConflictWithoutSaving() {
+        when(resourceRequestRepository.addPledged(10L, 500)).thenReturn(0);
+        when(resourceRequestRepository.findProgressById(10L)).thenReturn(Optional.of(
+                new RequestProgressDto(10L, 2000, 1800, 0, ResourceRequestStatus.PENDING)));
+
+        assertThatThrownBy(() -> requestPledgeService.pledge(10L, pledgeOf(500)))
+                .isInstanceOf(ConflictException.class)
+                .hasMessageContaining("Only 200 units remain unpledged");
+        verify(requestPledgeRepository, never()).save(any());
+    }
+
+    @Test
+    void pledge_RequestMissing_ThrowsNotFound() {
+        when(resourceRequestRepository.addPledged(99L, 1)).thenReturn(0);
+        when(resourceRequestRepository.findProgressById(99L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> requestPledgeService.pledge(99L, pledgeOf(1)))
+                .isInstanceOf(ResourceNotFoundException.class);
+    }
+
+    @Test
+    void recordDelivery_FullRemainder_MarksPledgeDeliveredAndAddsToRequest() {
+        RequestPledge pledge = pledge(5L, 300, 100);
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge));
+        when(securityService.isCurrentUserOrphanageAdmin(1L)).thenReturn(true);
+        when(requestPledgeRepository.save(pledge)).thenReturn(pledge);
+
+        RequestPledgeDto dto = requestPledgeService.recordDelivery(1L, deliveryOf(200));
+
+        assertThat(dto.getDeliveredQuantity()).isEqualTo(300);
+        assertThat(dto.getStatus()).isEqualTo(PledgeStatus.DELIVERED);
+        verify(resourceRequestRepository).addDelivered(eq(10L), eq(200), any());
+    }
+
+    @Test
+    void recordDelivery_MoreThanOutstanding_ThrowsValidation() {
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge(5L, 300, 250)));
+        when(securityService.isCurrentUserOrphanageAdmin(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> requestPledgeService.recordDelivery(1L, deliveryOf(100)))
+                .isInstanceOf(ValidationException.class);
+        verify(resourceRequestRepository, never()).addDelivered(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void recordDelivery_OtherOrphanage_ThrowsNotFound() {
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge(5L, 300, 0)));
+        when(securityService.isCurrentUserOrphanageAdmin(1L)).thenReturn(false);
+
+        assertThatThrownBy(() -> requestPledgeService.recordDelivery(1L, deliveryOf(100)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(requestPledgeRepository, never()).save(any());
+        verify(resourceRequestRepository, never()).addDelivered(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void recordDelivery_OrphanageAdminPassesRealOwnershipCheck() {
+        OrphanageRepository orphanageRepository = mock(OrphanageRepository.class);
+        SecurityService realSecurityService = new SecurityServiceImpl(mock(UserRepository.class), orphanageRepository);
+        RequestPledgeService service = new RequestPledgeServiceImpl(requestPledgeRepository,
+                resourceRequestRepository, realSecurityService, matchingService, needScoreService);
+        authenticateAs(7L, UserRole.ROLE_ORPHANAGE_ADMIN);
+        RequestPledge pledge = pledge(5L, 300, 0);
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge));
+        when(orphanageRepository.existsByIdAndAdminId(1L, 7L)).thenReturn(true);
+        when(requestPledgeRepository.save(pledge)).thenReturn(pledge);
+
+        RequestPledgeDto dto = service.recordDelivery(1L, deliveryOf(100));
+
+        assertThat(dto.getDeliveredQuantity()).isEqualTo(100);
+        verify(resourceRequestRepository).addDelivered(eq(10L), eq(100), any());
+    }
+
+    @Test
+    void recordDelivery_AdminOfAnotherOrphanageFailsRealOwnershipCheck() {
+        OrphanageRepository orphanageRepository = mock(OrphanageRepository.class);
+        SecurityService realSecurityService = new SecurityServiceImpl(mock(UserRepository.class), orphanageRepository);
+        RequestPledgeService service = new RequestPledgeServiceImpl(requestPledgeRepository,
+                resourceRequestRepository, realSecurityService, matchingService, needScoreService);
+        authenticateAs(8L, UserRole.ROLE_ORPHANAGE_ADMIN);
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge(5L, 300, 0)));
+        when(orphanageRepository.existsByIdAndAdminId(1L, 8L)).thenReturn(false);
+
+        assertThatThrownBy(() -> service.recordDelivery(1L, deliveryOf(100)))
+                .isInstanceOf(ResourceNotFoundException.class);
+        verify(resourceRequestRepository, never()).addDelivered(anyLong(), anyInt(), any());
+    }
+
+    @Test
+    void cancelPledge_ReleasesOnlyUndeliveredRemainder() {
+        RequestPledge pledge = pledge(5L, 300, 120);
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge));
+        when(securityService.getCurrentUserId()).thenReturn(5L);
+        when(requestPledgeRepository.save(pledge)).thenReturn(pledge);
+
+        RequestPledgeDto dto = requestPledgeService.cancelPledge(1L);
+
+        assertThat(dto.getStatus()).isEqualTo(PledgeStatus.CANCELLED);
+        verify(resourceRequestRepository).releasePledged(10L, 180);
+    }
+
+    @Test
+    void cancelPledge_OtherDonor_ThrowsValidation() {
+        when(requestPledgeRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(pledge(5L, 300, 0)));
+        when(securityService.getCurrentUserId()).thenReturn(6L);
+
+        assertThatThrownBy(() -> requestPledgeService.cancelPledge(1L))
+                .isInstanceOf(ValidationException.class);
+        verify(resourceRequestRepository, never()).releasePledged(anyLong(), anyInt());
+    }
+
+    private RequestPledge pledge(Long donorId, int quantity, int delivered) {
+        RequestPledge pledge = new RequestPledge();
+        pledge.setId(1L);
+        pledge.setRequest(resourceRequest);
+        pledge.setDonorId(donorId);
+        pledge.setQuantity(quantity);
+        pledge.setDeliveredQuantity(delivered);
+        return pledge;
+    }
+
+    private static void authenticateAs(Long userId, UserRole role) {
+        User user = new User();
+        user.setId(userId);
+        user.setRole(role);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
+    }
+
+    private static CreatePledgeRequest pledgeOf(int quantity) {
+        CreatePledgeRequest request = new CreatePledgeRequest();
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private static RecordDeliveryRequest deliveryOf(int quantity) {
+        RecordDeliveryRequest request = new RecordDeliveryRequest();
+        request.setQuantity(quantity);
+        return request;
+    }
+}
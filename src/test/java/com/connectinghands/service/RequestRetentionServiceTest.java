@@ -0,0 +1,80 @@
+package com.connectinghands.service;
+
+import com.connectinghands.repository.RequestPledgeRepository;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.service.impl.RequestRetentionServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class RequestRetentionServiceTest {
+
+    @Mock
+    private ResourceRequestRepository resourceRequestRepository;
+    @Mock
+    private RequestPledgeRepository requestPledgeRepository;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private NeedScoreService needScoreService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private RequestRetentionServiceImpl retentionService;
+
+    @BeforeEach
+    void setUp() {
+        retentionService = new RequestRetentionServiceImpl(resourceRequestRepository, requestPledgeRepository,
+                matchingService, needScoreService, transactionManager, 2, 90, 180);
+    }
+
+    @Test
+    void expireStaleRequests_WorksInChunksUntilShortBatch() {
+        when(resourceRequestRepository.lockStalePendingIds(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(1L, 2L), List.of(3L));
+
+        int expired = retentionService.expireStaleRequests();
+
+        assertThat(expired).isEqualTo(3);
+        verify(resourceRequestRepository).markExpired(eq(List.of(1L, 2L)), any());
+        verify(resourceRequestRepository).markExpired(eq(List.of(3L)), any());
+        verify(matchingService).onRequestRemoved(1L);
+        verify(matchingService).onRequestRemoved(3L);
+        verify(transactionManager, times(2)).commit(any());
+    }
+
+    @Test
+    void expireStaleRequests_NothingStale_DoesNotUpdate() {
+        when(resourceRequestRepository.lockStalePendingIds(any(LocalDateTime.class), anyInt())).thenReturn(List.of());
+
+        assertThat(retentionService.expireStaleRequests()).isZero();
+        verify(resourceRequestRepository, never()).markExpired(any(), any());
+    }
+
+    @Test
+    void archiveClosedRequests_MovesPledgesBeforeRequests() {
+        when(resourceRequestRepository.lockClosedIdsBefore(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(7L));
+
+        int archived = retentionService.archiveClosedRequests();
+
+        assertThat(archived).isEqualTo(1);
+        InOrder order = inOrder(requestPledgeRepository, resourceRequestRepository);
+        order.verify(requestPledgeRepository).archiveByRequestIds(eq(List.of(7L)), any());
+        order.verify(resourceRequestRepository).archiveByIds(eq(List.of(7L)), any());
+    }
+}
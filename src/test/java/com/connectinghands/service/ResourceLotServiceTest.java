@@ -0,0 +1,191 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.CreateResourceLotRequest;
+import com.connectinghands.dto.ResourceLotDto;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceLot;
+import com.connectinghands.entity.ResourceLotStatus;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.ResourceLotRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.service.impl.ResourceLotServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceLotServiceTest {
+
+    @Mock
+    private ResourceLotRepository resourceLotRepository;
+    @Mock
+    private ResourceRepository resourceRepository;
+    @Mock
+    private StockAlertService stockAlertService;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ResourceLotServiceImpl resourceLotService;
+    private Resource resource;
+
+    @BeforeEach
+    void setUp() {
+        resourceLotService = new ResourceLotServiceImpl(resourceLotRepository, resourceRepository,
+                stockAlertService, matchingService, transactionManager, 200);
+
+        resource = new Resource();
+        resource.setId(1L);
+        resource.setName("Milk Powder");
+        resource.setCategory(ResourceCategory.FOOD);
+        resource.setUnit("kg");
+        resource.setQuantity(15);
+        resource.setMinimumQuantity(0);
+    }
+
+    @Test
+    void allocate_ConsumesEarliestExpiringLotsFirst() {
+        ResourceLot soon = lot(10L, 4, LocalDate.now().plusDays(2));
+        ResourceLot later = lot(11L, 8, LocalDate.now().plusDays(30));
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        when(resourceLotRepository.findActiveLotsInExpiryOrder(1L)).thenReturn(List.of(soon, later));
+
+        AllocationDto result = resourceLotService.allocate(1L, 6);
+
+        assertThat(result.getLots()).extracting(AllocationDto.LotConsumption::getLotId).containsExactly(10L, 11L);
+        assertThat(result.getLots()).extracting(AllocationDto.LotConsumption::getQuantity).containsExactly(4, 2);
+        assertThat(soon.getStatus()).isEqualTo(ResourceLotStatus.DEPLETED);
+        assertThat(later.getQuantity()).isEqualTo(6);
+        assertThat(result.getRemainingQuantity()).isEqualTo(9);
+        assertThat(result.getUntrackedQuantity()).isZero();
+        verify(stockAlertService).evaluate(resource, false);
+    }
+
+    @Test
+    void allocate_BeyondTrackedLots_DrawsFromUntrackedStock() {
+        ResourceLot only = lot(10L, 3, LocalDate.now().plusDays(5));
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        when(resourceLotRepository.findActiveLotsInExpiryOrder(1L)).thenReturn(List.of(only));
+
+        AllocationDto result = resourceLotService.allocate(1L, 5);
+
+        assertThat(result.getUntrackedQuantity()).isEqualTo(2);
+        assertThat(resource.getQuantity()).isEqualTo(10);
+    }
+
+    @Test
+    void allocate_InsufficientStock_ThrowsValidationException() {
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+
+        assertThatThrownBy(() -> resourceLotService.allocate(1L, 20))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(resourceLotRepository, stockAlertService);
+    }
+
+    @Test
+    void allocate_ReservedStockIsNotAvailable() {
+        resource.setReservedQuantity(10);
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+
+        assertThatThrownBy(() -> resourceLotService.allocate(1L, 6))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("only 5 available");
+
+        verifyNoInteractions(resourceLotRepository);
+    }
+
+    @Test
+    void addLot_IncreasesResourceQuantity() {
+        CreateResourceLotRequest request = new CreateResourceLotRequest();
+        request.setQuantity(5);
+        request.setExpiresOn(LocalDate.now().plusDays(60));
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        when(resourceLotRepository.save(any(ResourceLot.class))).thenAnswer(inv -> inv.getArgument(0));
+
+        ResourceLotDto result = resourceLotService.addLot(1L, request);
+
+        assertThat(result.getQuantity()).isEqualTo(5);
+        assertThat(result.getStatus()).isEqualTo(ResourceLotStatus.ACTIVE);
+        assertThat(resource.getQuantity()).isEqualTo(20);
+        verify(stockAlertService).evaluate(eq(resource), eq(false));
+    }
+
+    @Test
+    void addLot_AlreadyExpired_ThrowsValidationException() {
+        CreateResourceLotRequest request = new CreateResourceLotRequest();
+        request.setQuantity(5);
+        request.setExpiresOn(LocalDate.now().minusDays(1));
+
+        assertThatThrownBy(() -> resourceLotService.addLot(1L, request))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(resourceRepository, resourceLotRepository);
+    }
+
+    @Test
+    void setQuantityLocked_BelowTrackedLots_TrimsEarliestExpiringFirst() {
+        ResourceLot soon = lot(10L, 4, LocalDate.now().plusDays(2));
+        ResourceLot later = lot(11L, 8, LocalDate.now().plusDays(30));
+        when(resourceLotRepository.findActiveLotsInExpiryOrder(1L)).thenReturn(List.of(soon, later));
+
+        resourceLotService.setQuantityLocked(resource, 7);
+
+        assertThat(soon.getStatus()).isEqualTo(ResourceLotStatus.DEPLETED);
+        assertThat(later.getQuantity()).isEqualTo(7);
+        assertThat(resource.getQuantity()).isEqualTo(7);
+    }
+
+    @Test
+    void setQuantityLocked_BelowReserved_ThrowsValidationException() {
+        resource.setReservedQuantity(10);
+
+        assertThatThrownBy(() -> resourceLotService.setQuantityLocked(resource, 9))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("10 units reserved");
+
+        assertThat(resource.getQuantity()).isEqualTo(15);
+        verifyNoInteractions(resourceLotRepository);
+    }
+
+    @Test
+    void sweepExpiredLots_KeepsReservedStock() {
+        resource.setReservedQuantity(10);
+        ResourceLot expired = lot(10L, 12, LocalDate.now().minusDays(1));
+        when(resourceLotRepository.findResourceIdsWithExpiredLots(any(), any())).thenReturn(List.of(1L));
+        when(resourceRepository.lockAllSkipLocked(List.of(1L))).thenReturn(List.of(resource));
+        when(resourceLotRepository.findExpiredLots(eq(List.of(1L)), any())).thenReturn(List.of(expired));
+
+        assertThat(resourceLotService.sweepExpiredLots()).isEqualTo(1);
+
+        assertThat(expired.getStatus()).isEqualTo(ResourceLotStatus.EXPIRED);
+        assertThat(resource.getQuantity()).isEqualTo(10);
+    }
+
+    private ResourceLot lot(Long id, int quantity, LocalDate expiresOn) {
+        ResourceLot lot = new ResourceLot();
+        lot.setId(id);
+        lot.setResource(resource);
+        lot.setQuantity(quantity);
+        lot.setInitialQuantity(quantity);
+        lot.setExpiresOn(expiresOn);
+        lot.setStatus(ResourceLotStatus.ACTIVE);
+        return lot;
+    }
+}
@@ -1,16 +1,22 @@
 package com.connectinghands.service;
 
-import com.connectinghands.dto.CreateResourceRequestRequest;
+import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.CursorPage;
+import com.connectinghands.dto.OrphanageRegionDto;
 import com.connectinghands.dto.ResourceRequestDto;
-import com.connectinghands.dto.UpdateResourceRequestRequest;
+import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.RequestPriority;
 import com.connectinghands.entity.ResourceCategory;
 import com.connectinghands.entity.ResourceRequest;
 import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.event.OutboxEventTypes;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRequestRepository;
 import com.connectinghands.service.impl.ResourceRequestServiceImpl;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -18,6 +24,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -26,6 +33,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -35,6 +43,18 @@ class ResourceRequestServiceTest {
     private ResourceRequestRepository resourceRequestRepository;
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private SecurityService securityService;
+    @Mock
+    private AuditLogService auditLogService;
+    @Mock
+    private ResourceTypeService resourceTypeService;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private NeedScoreService needScoreService;
+    @Mock
+    private OutboxService outboxService;
     @InjectMocks
     private ResourceRequestServiceImpl resourceRequestService;
 
@@ -60,31 +80,35 @@ class ResourceRequestServiceTest {
 
     @Test
     void createResourceRequest_ValidRequest_ReturnsResourceRequestDto() {
-        CreateResourceRequestRequest request = new CreateResourceRequestRequest();
+        CreateResourceRequest request = new CreateResourceRequest();
         request.setOrphanageId(1L);
         request.setName("New Request");
         request.setDescription("New Description");
-        request.setCategory(ResourceCategory.FOOD);
+        request.setCategory(ResourceCategory.FOOD.name());
         request.setQuantity(5);
         request.setUnit("kg");
 
-        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(orphanageRepository.findRegionById(1L))
+                .thenReturn(Optional.of(new OrphanageRegionDto(1L, "Test Orphanage", "India", "Kerala")));
+        when(orphanageRepository.getReferenceById(1L)).thenReturn(orphanage);
         when(resourceRequestRepository.save(any(ResourceRequest.class))).thenReturn(resourceRequest);
 
         ResourceRequestDto dto = resourceRequestService.createResourceRequest(request);
         assertThat(dto).isNotNull();
-        assertThat(dto.getOrphanageId()).isEqualTo(1L);
+        assertThat(dto.getOrphanageName()).isEqualTo("Test Orphanage");
         assertThat(dto.getName()).isEqualTo("Test Request");
         assertThat(dto.getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
+        verify(outboxService).record(eq(OutboxEventTypes.RESOURCE_REQUEST), eq(1L),
+                eq(OutboxEventTypes.RESOURCE_REQUEST_CREATED), any());
     }
 
     @Test
     void createResourceRequest_OrphanageNotFound_ThrowsException() {
-        CreateResourceRequestRequest request = new CreateResourceRequestRequest();
+        CreateResourceRequest request = new CreateResourceRequest();
         request.setOrphanageId(2L);
-        when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
+        when(orphanageRepository.findRegionById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceRequestService.createResourceRequest(request))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
     }
 
@@ -100,7 +124,7 @@ class ResourceRequestServiceTest {
     void getResourceRequest_NotFound_ThrowsException() {
         when(resourceRequestRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceRequestService.getResourceRequest(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource request not found");
     }
 
@@ -117,26 +141,28 @@ class ResourceRequestServiceTest {
         when(resourceRequestRepository.findByOrphanageId(1L)).thenReturn(Collections.singletonList(resourceRequest));
         List<ResourceRequestDto> list = resourceRequestService.getResourceRequestsByOrphanage(1L);
         assertThat(list).hasSize(1);
-        assertThat(list.get(0).getOrphanageId()).isEqualTo(1L);
+        assertThat(list.get(0).getOrphanageName()).isEqualTo("Test Orphanage");
     }
 
     @Test
-    void getResourceRequestsByStatus_ReturnsList() {
-        when(resourceRequestRepository.findByStatus(ResourceRequestStatus.PENDING))
+    void getResourceRequestsByStatus_ReturnsPage() {
+        when(resourceRequestRepository.findQueueHead("PENDING", 11))
                 .thenReturn(Collections.singletonList(resourceRequest));
-        List<ResourceRequestDto> list = resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING);
-        assertThat(list).hasSize(1);
-        assertThat(list.get(0).getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
+        CursorPage<ResourceRequestDto> page =
+                resourceRequestService.getResourceRequestsByStatus(ResourceRequestStatus.PENDING, null, 10);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.getItems().get(0).getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
+        assertThat(page.isHasMore()).isFalse();
     }
 
     @Test
     void updateResourceRequest_ValidRequest_ReturnsUpdatedDto() {
-        UpdateResourceRequestRequest request = new UpdateResourceRequestRequest();
+        UpdateResourceRequest request = new UpdateResourceRequest();
         request.setName("Updated Request");
         request.setQuantity(15);
         request.setStatus(ResourceRequestStatus.FULFILLED);
         when(resourceRequestRepository.findById(1L)).thenReturn(Optional.of(resourceRequest));
-        when(resourceRequestRepository.save(any(ResourceRequest.class))).thenReturn(resourceRequest);
+        when(resourceRequestRepository.saveAndFlush(any(ResourceRequest.class))).thenReturn(resourceRequest);
         ResourceRequestDto dto = resourceRequestService.updateResourceRequest(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
@@ -144,26 +170,93 @@ class ResourceRequestServiceTest {
 
     @Test
     void updateResourceRequest_NotFound_ThrowsException() {
-        UpdateResourceRequestRequest request = new UpdateResourceRequestRequest();
+        UpdateResourceRequest request = new UpdateResourceRequest();
         when(resourceRequestRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceRequestService.updateResourceRequest(2L, request))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource request not found");
     }
 
     @Test
     void deleteResourceRequest_ValidId_DeletesResourceRequest() {
-        when(resourceRequestRepository.existsById(1L)).thenReturn(true);
-        doNothing().when(resourceRequestRepository).deleteById(1L);
+        when(resourceRequestRepository.findById(1L)).thenReturn(Optional.of(resourceRequest));
         resourceRequestService.deleteResourceRequest(1L);
-        verify(resourceRequestRepository, times(1)).deleteById(1L);
+        verify(resourceRequestRepository, times(1)).delete(resourceRequest);
+        verify(needScoreService).markDirty(resourceRequest.getOrphanage().getId());
     }
 
     @Test
     void deleteResourceRequest_NotFound_ThrowsException() {
-        when(resourceRequestRepository.existsById(2L)).thenReturn(false);
+        when(resourceRequestRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceRequestService.deleteResourceRequest(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource request not found");
     }
-} 
\ No newline at end of file
+
+    @Test
+    void getPendingQueue_MorePagesAvailable_ReturnsCursorForLastRow() {
+        resourceRequest.setPriority(RequestPriority.HIGH);
+        resourceRequest.setUrgencyScore(40);
+        resourceRequest.setCreatedAt(LocalDateTime.of(2024, 3, 1, 10, 0));
+        ResourceRequest next = new ResourceRequest();
+        next.setId(2L);
+        next.setOrphanage(orphanage);
+        when(resourceRequestRepository.findQueueHead("PENDING", 2)).thenReturn(List.of(resourceRequest, next));
+
+        CursorPage<ResourceRequestDto> page = resourceRequestService.getPendingQueue(null, 1);
+        assertThat(page.getItems()).hasSize(1);
+        assertThat(page.isHasMore()).isTrue();
+
+        when(resourceRequestRepository.findQueueAfter(eq("PENDING"), eq(1), eq(40),
+                eq(LocalDateTime.of(2024, 3, 1, 10, 0)), eq(1L), eq(2)))
+                .thenReturn(List.of(next));
+        CursorPage<ResourceRequestDto> second = resourceRequestService.getPendingQueue(page.getNextCursor(), 1);
+        assertThat(second.getItems()).extracting(ResourceRequestDto::getId).containsExactly(2L);
+        assertThat(second.isHasMore()).isFalse();
+        assertThat(second.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getPendingQueue_MalformedCursor_ThrowsValidationException() {
+        assertThatThrownBy(() -> resourceRequestService.getPendingQueue("not-a-cursor", 10))
+                .isInstanceOf(ValidationException.class);
+    }
+
+    @Test
+    void fulfillResourceRequest_StillPending_FulfillsConditionally() {
+        when(securityService.getCurrentUserId()).thenReturn(9L);
+        when(resourceRequestRepository.fulfillIfPending(eq(1L), eq(9L), any(LocalDateTime.class))).thenReturn(1);
+        resourceRequest.setStatus(ResourceRequestStatus.FULFILLED);
+        when(resourceRequestRepository.findById(1L)).thenReturn(Optional.of(resourceRequest));
+
+        ResourceRequestDto dto = resourceRequestService.fulfillResourceRequest(1L);
+
+        assertThat(dto.getStatus()).isEqualTo(ResourceRequestStatus.FULFILLED);
+        verify(matchingService).onRequestChanged(resourceRequest);
+    }
+
+    @Test
+    void fulfillResourceRequest_AlreadyFulfilled_ThrowsConflict() {
+        when(securityService.getCurrentUserId()).thenReturn(9L);
+        when(resourceRequestRepository.fulfillIfPending(eq(1L), eq(9L), any(LocalDateTime.class))).thenReturn(0);
+        when(resourceRequestRepository.existsById(1L)).thenReturn(true);
+
+        assertThatThrownBy(() -> resourceRequestService.fulfillResourceRequest(1L))
+                .isInstanceOf(ConflictException.class);
+
+        verify(resourceRequestRepository, never()).findById(any());
+    }
+
+    @Test
+    void updateResourceRequest_StaleVersion_ThrowsConflict() {
+        resourceRequest.setVersion(3L);
+        UpdateResourceRequest request = new UpdateResourceRequest();
+        request.setVersion(2L);
+        when(resourceRequestRepository.findById(1L)).thenReturn(Optional.of(resourceRequest));
+
+        assertThatThrownBy(() -> resourceRequestService.updateResourceRequest(1L, request))
+                .isInstanceOf(ConflictException.class);
+
+        verify(resourceRequestRepository, never()).saveAndFlush(any());
+    }
+}
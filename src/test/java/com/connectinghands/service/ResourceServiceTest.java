@@ -1,16 +1,18 @@
 package com.connectinghands.service;
 
 import com.connectinghands.dto.CreateResourceRequest;
+import com.connectinghands.dto.InventorySummaryDto;
 import com.connectinghands.dto.ResourceDto;
 import com.connectinghands.dto.UpdateResourceRequest;
 import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.Resource;
 import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceRequestStatus;
 import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.exception.ResourceNotFoundException;
 import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.ResourceRepository;
 import com.connectinghands.service.impl.ResourceServiceImpl;
-import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -36,6 +38,14 @@ class ResourceServiceTest {
     private ResourceRepository resourceRepository;
     @Mock
     private OrphanageRepository orphanageRepository;
+    @Mock
+    private StockAlertService stockAlertService;
+    @Mock
+    private ResourceTypeService resourceTypeService;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private ResourceLotService resourceLotService;
     @InjectMocks
     private ResourceServiceImpl resourceService;
 
@@ -65,16 +75,17 @@ class ResourceServiceTest {
         request.setOrphanageId(1L);
         request.setName("New Resource");
         request.setDescription("New Description");
-        request.setCategory(ResourceCategory.FOOD);
+        request.setCategory(ResourceCategory.FOOD.name());
         request.setQuantity(5);
         request.setUnit("kg");
 
-        when(orphanageRepository.findById(1L)).thenReturn(Optional.of(orphanage));
+        when(orphanageRepository.findNameById(1L)).thenReturn(Optional.of("Test Orphanage"));
+        when(orphanageRepository.getReferenceById(1L)).thenReturn(orphanage);
         when(resourceRepository.save(any(Resource.class))).thenReturn(resource);
 
         ResourceDto dto = resourceService.createResource(request);
         assertThat(dto).isNotNull();
-        assertThat(dto.getOrphanageId()).isEqualTo(1L);
+        assertThat(dto.getOrphanageName()).isEqualTo("Test Orphanage");
         assertThat(dto.getName()).isEqualTo("Test Resource");
         assertThat(dto.getStatus()).isEqualTo(ResourceStatus.AVAILABLE);
     }
@@ -83,9 +94,9 @@ class ResourceServiceTest {
     void createResource_OrphanageNotFound_ThrowsException() {
         CreateResourceRequest request = new CreateResourceRequest();
         request.setOrphanageId(2L);
-        when(orphanageRepository.findById(2L)).thenReturn(Optional.empty());
+        when(orphanageRepository.findNameById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceService.createResource(request))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Orphanage not found");
     }
 
@@ -101,7 +112,7 @@ class ResourceServiceTest {
     void getResource_NotFound_ThrowsException() {
         when(resourceRepository.findById(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceService.getResource(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource not found");
     }
 
@@ -118,7 +129,7 @@ class ResourceServiceTest {
         when(resourceRepository.findByOrphanageId(1L)).thenReturn(Collections.singletonList(resource));
         List<ResourceDto> list = resourceService.getResourcesByOrphanage(1L);
         assertThat(list).hasSize(1);
-        assertThat(list.get(0).getOrphanageId()).isEqualTo(1L);
+        assertThat(list.get(0).getOrphanageName()).isEqualTo("Test Orphanage");
     }
 
     @Test
@@ -137,25 +148,57 @@ class ResourceServiceTest {
         assertThat(list.get(0).getStatus()).isEqualTo(ResourceStatus.AVAILABLE);
     }
 
+    @Test
+    void getInventorySummary_ReturnsAggregatedRows() {
+        InventorySummaryDto row = new InventorySummaryDto(ResourceCategory.FOOD, "India", "Tamil Nadu", "kg", 120L, 90L, 4L, 3L);
+        when(resourceRepository.summarizeByCategoryAndRegion(ResourceCategory.FOOD)).thenReturn(List.of(row));
+
+        List<InventorySummaryDto> summary = resourceService.getInventorySummary(ResourceCategory.FOOD);
+
+        assertThat(summary).hasSize(1);
+        assertThat(summary.get(0).getTotalQuantity()).isEqualTo(120L);
+        assertThat(summary.get(0).getAvailableQuantity()).isEqualTo(90L);
+        assertThat(summary.get(0).getOrphanageCount()).isEqualTo(3L);
+    }
+
     @Test
     void updateResource_ValidRequest_ReturnsUpdatedDto() {
         UpdateResourceRequest request = new UpdateResourceRequest();
         request.setName("Updated Resource");
         request.setQuantity(15);
-        request.setStatus(ResourceStatus.UNAVAILABLE);
-        when(resourceRepository.findById(1L)).thenReturn(Optional.of(resource));
-        when(resourceRepository.save(any(Resource.class))).thenReturn(resource);
+        request.setStatus(ResourceRequestStatus.PENDING);
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        when(resourceRepository.saveAndFlush(any(Resource.class))).thenReturn(resource);
         ResourceDto dto = resourceService.updateResource(1L, request);
         assertThat(dto).isNotNull();
         assertThat(dto.getId()).isEqualTo(1L);
     }
 
+    @Test
+    void updateResource_QuantityDropsBelowThreshold_EvaluatesWithPreviousState() {
+        resource.setMinimumQuantity(5);
+        UpdateResourceRequest request = new UpdateResourceRequest();
+        request.setQuantity(2);
+        when(resourceRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(resource));
+        doAnswer(invocation -> {
+            resource.setQuantity(2);
+            return null;
+        }).when(resourceLotService).setQuantityLocked(resource, 2);
+        when(resourceRepository.saveAndFlush(any(Resource.class))).thenReturn(resource);
+
+        resourceService.updateResource(1L, request);
+
+        verify(resourceLotService).setQuantityLocked(resource, 2);
+        verify(stockAlertService).evaluate(resource, false);
+        assertThat(resource.isBelowThreshold()).isTrue();
+    }
+
     @Test
     void updateResource_NotFound_ThrowsException() {
         UpdateResourceRequest request = new UpdateResourceRequest();
-        when(resourceRepository.findById(2L)).thenReturn(Optional.empty());
+        when(resourceRepository.findByIdForUpdate(2L)).thenReturn(Optional.empty());
         assertThatThrownBy(() -> resourceService.updateResource(2L, request))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource not found");
     }
 
@@ -171,7 +214,7 @@ class ResourceServiceTest {
     void deleteResource_NotFound_ThrowsException() {
         when(resourceRepository.existsById(2L)).thenReturn(false);
         assertThatThrownBy(() -> resourceService.deleteResource(2L))
-                .isInstanceOf(EntityNotFoundException.class)
+                .isInstanceOf(ResourceNotFoundException.class)
                 .hasMessageContaining("Resource not found");
     }
 } 
\ No newline at end of file
@@ -0,0 +1,186 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.AllocationDto;
+import com.connectinghands.dto.BatchTransferRequest;
+import com.connectinghands.dto.TransferDto;
+import com.connectinghands.dto.TransferResourceRequest;
+import com.connectinghands.entity.InventoryLedgerEntry;
+import com.connectinghands.entity.LedgerEntryType;
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceLot;
+import com.connectinghands.entity.ResourceStatus;
+import com.connectinghands.entity.ResourceType;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.exception.ResourceNotFoundException;
+import com.connectinghands.exception.ValidationException;
+import com.connectinghands.repository.InventoryLedgerRepository;
+import com.connectinghands.repository.ResourceLotRepository;
+import com.connectinghands.repository.ResourceRepository;
+import com.connectinghands.service.impl.ResourceTransferServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceTransferServiceTest {
+
+    @Mock
+    private ResourceRepository resourceRepository;
+    @Mock
+    private ResourceLotRepository resourceLotRepository;
+    @Mock
+    private InventoryLedgerRepository inventoryLedgerRepository;
+    @Mock
+    private ResourceLotService resourceLotService;
+    @Mock
+    private StockAlertService stockAlertService;
+    @Mock
+    private MatchingService matchingService;
+    @InjectMocks
+    private ResourceTransferServiceImpl resourceTransferService;
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void transfer_LocksBothResourcesInIdOrderAndWritesLedgerPair() {
+        Resource source = resource(7L, 100L, 20);
+        Resource target = resource(3L, 200L, 5);
+        when(resourceRepository.findAllByIdForUpdate(any())).thenReturn(List.of(target, source));
+        when(resourceLotService.consumeLocked(source, 8)).thenAnswer(inv -> {
+            source.setQuantity(12);
+            AllocationDto allocation = new AllocationDto();
+            AllocationDto.LotConsumption lot = new AllocationDto.LotConsumption();
+            lot.setLotId(1L);
+            lot.setQuantity(8);
+            lot.setExpiresOn(LocalDate.now().plusDays(10));
+            allocation.getLots().add(lot);
+            return allocation;
+        });
+
+        TransferDto result = resourceTransferService.transfer(request(7L, 3L, 8));
+
+        ArgumentCaptor<Collection<Long>> ids = ArgumentCaptor.forClass(Collection.class);
+        verify(resourceRepository).findAllByIdForUpdate(ids.capture());
+        assertThat(ids.getValue()).containsExactly(3L, 7L);
+
+        assertThat(result.getSourceQuantity()).isEqualTo(12);
+        assertThat(result.getTargetQuantity()).isEqualTo(13);
+        verify(resourceLotRepository).save(any(ResourceLot.class));
+
+        ArgumentCaptor<InventoryLedgerEntry> entries = ArgumentCaptor.forClass(InventoryLedgerEntry.class);
+        verify(inventoryLedgerRepository, times(2)).save(entries.capture());
+        assertThat(entries.getAllValues()).extracting(InventoryLedgerEntry::getEntryType)
+                .containsExactly(LedgerEntryType.TRANSFER_OUT, LedgerEntryType.TRANSFER_IN);
+        assertThat(entries.getAllValues()).extracting(InventoryLedgerEntry::getQuantityChange)
+                .containsExactly(-8, 8);
+        assertThat(entries.getAllValues()).extracting(InventoryLedgerEntry::getTransferReference)
+                .containsOnly(result.getTransferReference());
+    }
+
+    @Test
+    void transfer_SameSourceAndTarget_ThrowsValidationException() {
+        assertThatThrownBy(() -> resourceTransferService.transfer(request(1L, 1L, 2)))
+                .isInstanceOf(ValidationException.class);
+
+        verifyNoInteractions(resourceRepository);
+    }
+
+    @Test
+    void transfer_DifferentUnits_ThrowsValidationException() {
+        Resource source = resource(1L, 100L, 20);
+        Resource target = resource(2L, 200L, 5);
+        target.setUnit("boxes");
+        when(resourceRepository.findAllByIdForUpdate(any())).thenReturn(List.of(source, target));
+
+        assertThatThrownBy(() -> resourceTransferService.transfer(request(1L, 2L, 2)))
+                .isInstanceOf(ValidationException.class);
+
+        verify(resourceLotService, never()).consumeLocked(any(), anyInt());
+    }
+
+    @Test
+    void transfer_DifferentResourceTypes_ThrowsValidationException() {
+        Resource source = resource(1L, 100L, 20);
+        Resource target = resource(2L, 200L, 5);
+        target.setResourceType(resourceType(11));
+        when(resourceRepository.findAllByIdForUpdate(any())).thenReturn(List.of(source, target));
+
+        assertThatThrownBy(() -> resourceTransferService.transfer(request(1L, 2L, 2)))
+                .isInstanceOf(ValidationException.class)
+                .hasMessageContaining("different types");
+
+        verify(resourceLotService, never()).consumeLocked(any(), anyInt());
+    }
+
+    @Test
+    void transfer_TargetNotAvailable_ThrowsConflictException() {
+        Resource source = resource(1L, 100L, 20);
+        Resource target = resource(2L, 200L, 5);
+        target.setStatus(ResourceStatus.UNAVAILABLE);
+        when(resourceRepository.findAllByIdForUpdate(any())).thenReturn(List.of(source, target));
+
+        assertThatThrownBy(() -> resourceTransferService.transfer(request(1L, 2L, 2)))
+                .isInstanceOf(ConflictException.class);
+
+        verify(resourceLotService, never()).consumeLocked(any(), anyInt());
+    }
+
+    @Test
+    void transferBatch_MissingResource_ThrowsResourceNotFoundException() {
+        Resource source = resource(1L, 100L, 20);
+        when(resourceRepository.findAllByIdForUpdate(any())).thenReturn(List.of(source));
+
+        BatchTransferRequest batch = new BatchTransferRequest();
+        batch.setTransfers(List.of(request(1L, 2L, 2)));
+
+        assertThatThrownBy(() -> resourceTransferService.transferBatch(batch))
+                .isInstanceOf(ResourceNotFoundException.class);
+
+        verifyNoInteractions(resourceLotService, inventoryLedgerRepository);
+    }
+
+    private TransferResourceRequest request(Long sourceId, Long targetId, int quantity) {
+        TransferResourceRequest request = new TransferResourceRequest();
+        request.setSourceResourceId(sourceId);
+        request.setTargetResourceId(targetId);
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    private Resource resource(Long id, Long orphanageId, int quantity) {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(orphanageId);
+
+        Resource resource = new Resource();
+        resource.setId(id);
+        resource.setName("Blankets");
+        resource.setCategory(ResourceCategory.CLOTHING);
+        resource.setUnit("pieces");
+        resource.setQuantity(quantity);
+        resource.setMinimumQuantity(0);
+        resource.setResourceType(resourceType(10));
+        resource.setStatus(ResourceStatus.AVAILABLE);
+        resource.setOrphanage(orphanage);
+        return resource;
+    }
+
+    private ResourceType resourceType(Integer id) {
+        ResourceType type = new ResourceType();
+        type.setId(id);
+        return type;
+    }
+}
@@ -0,0 +1,83 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceType;
+import com.connectinghands.repository.ResourceTypeRepository;
+import com.connectinghands.service.impl.ResourceTypeServiceImpl;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ResourceTypeServiceTest {
+
+    @Mock
+    private ResourceTypeRepository resourceTypeRepository;
+    @InjectMocks
+    private ResourceTypeServiceImpl resourceTypeService;
+
+    @Test
+    void normalize_MergesCaseWhitespaceAndPackSize() {
+        assertThat(ResourceTypeServiceImpl.normalize("Rice")).isEqualTo("rice");
+        assertThat(ResourceTypeServiceImpl.normalize("  rice ")).isEqualTo("rice");
+        assertThat(ResourceTypeServiceImpl.normalize("Rice 5kg")).isEqualTo("rice");
+        assertThat(ResourceTypeServiceImpl.normalize("Basmati   Rice 2.5 kg")).isEqualTo("basmati rice");
+        assertThat(ResourceTypeServiceImpl.normalize("5kg")).isEqualTo("5kg");
+    }
+
+    @Test
+    void resolve_ExistingType_IsCachedAfterFirstLookup() {
+        ResourceType rice = type(3, "rice");
+        when(resourceTypeRepository.findByNormalizedNameAndCategory("rice", ResourceCategory.FOOD))
+                .thenReturn(Optional.of(rice));
+        when(resourceTypeRepository.getReferenceById(3)).thenReturn(rice);
+
+        assertThat(resourceTypeService.resolve("Rice", ResourceCategory.FOOD, "kg")).isSameAs(rice);
+        assertThat(resourceTypeService.resolve("rice 10kg", ResourceCategory.FOOD, "kg")).isSameAs(rice);
+
+        verify(resourceTypeRepository, times(1)).findByNormalizedNameAndCategory("rice", ResourceCategory.FOOD);
+        verify(resourceTypeRepository, never()).insertIfAbsent(anyString(), anyString(), anyString(), anyString());
+    }
+
+    @Test
+    void resolve_NewType_InsertsCatalogEntry() {
+        ResourceType blankets = type(4, "blankets");
+        when(resourceTypeRepository.findByNormalizedNameAndCategory("blankets", ResourceCategory.CLOTHING))
+                .thenReturn(Optional.empty())
+                .thenReturn(Optional.of(blankets));
+
+        ResourceType result = resourceTypeService.resolve("Blankets", ResourceCategory.CLOTHING, "pieces");
+
+        assertThat(result).isSameAs(blankets);
+        verify(resourceTypeRepository).insertIfAbsent("Blankets", "blankets", "CLOTHING", "pieces");
+    }
+
+    @Test
+    void resolve_SameNameInAnotherCategory_IsSeparateType() {
+        ResourceType milk = type(5, "milk");
+        ResourceType formula = type(6, "milk");
+        when(resourceTypeRepository.findByNormalizedNameAndCategory("milk", ResourceCategory.FOOD))
+                .thenReturn(Optional.of(milk));
+        when(resourceTypeRepository.findByNormalizedNameAndCategory("milk", ResourceCategory.MEDICAL))
+                .thenReturn(Optional.of(formula));
+
+        assertThat(resourceTypeService.resolve("Milk", ResourceCategory.FOOD, "l")).isSameAs(milk);
+        assertThat(resourceTypeService.resolve("Milk", ResourceCategory.MEDICAL, "l")).isSameAs(formula);
+    }
+
+    private ResourceType type(Integer id, String normalizedName) {
+        ResourceType type = new ResourceType();
+        type.setId(id);
+        type.setName(normalizedName);
+        type.setNormalizedName(normalizedName);
+        return type;
+    }
+}
@@ -1,22 +1,25 @@
 package com.connectinghands.service;
 
+import com.connectinghands.entity.Orphanage;
 import com.connectinghands.entity.User;
+import com.connectinghands.entity.UserRole;
+import com.connectinghands.repository.OrphanageRepository;
 import com.connectinghands.repository.UserRepository;
 import com.connectinghands.service.impl.SecurityServiceImpl;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.core.Authentication;
-import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.context.SecurityContextHolder;
 
-import java.util.Optional;
+import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,9 +28,7 @@ class SecurityServiceTest {
     @Mock
     private UserRepository userRepository;
     @Mock
-    private SecurityContext securityContext;
-    @Mock
-    private Authentication authentication;
+    private OrphanageRepository orphanageRepository;
     @InjectMocks
     private SecurityServiceImpl securityService;
 
@@ -38,67 +39,98 @@ class SecurityServiceTest {
         user = new User();
         user.setId(1L);
         user.setEmail("test@example.com");
+        user.setRole(UserRole.ROLE_ORPHANAGE_ADMIN);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
     }
 
     @Test
     void getCurrentUserId_AuthenticatedUser_ReturnsUserId() {
-        when(authentication.getName()).thenReturn("1");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
+        authenticate(user);
+
+        assertThat(securityService.getCurrentUserId()).isEqualTo(1L);
+    }
+
+    @Test
+    void getCurrentUserId_NoAuthentication_ReturnsNull() {
+        assertThat(securityService.getCurrentUserId()).isNull();
+    }
+
+    @Test
+    void isCurrentUserOrphanageAdmin_AdministeredOrphanage_ReturnsTrue() {
+        authenticate(user);
+        when(orphanageRepository.existsByIdAndAdminId(1L, 1L)).thenReturn(true);
 
-        Long userId = securityService.getCurrentUserId();
-        assertThat(userId).isEqualTo(1L);
+        assertThat(securityService.isCurrentUserOrphanageAdmin(1L)).isTrue();
     }
 
     @Test
-    void getCurrentUserId_NoAuthentication_ThrowsException() {
-        when(securityContext.getAuthentication()).thenReturn(null);
-        SecurityContextHolder.setContext(securityContext);
+    void isCurrentUserOrphanageAdmin_OtherOrphanage_ReturnsFalse() {
+        authenticate(user);
+        when(orphanageRepository.existsByIdAndAdminId(2L, 1L)).thenReturn(false);
+
+        assertThat(securityService.isCurrentUserOrphanageAdmin(2L)).isFalse();
+    }
 
-        assertThatThrownBy(() -> securityService.getCurrentUserId())
-                .isInstanceOf(IllegalStateException.class)
-                .hasMessageContaining("No authenticated user found");
+    @Test
+    void isCurrentUserOrphanageAdmin_NoAuthentication_ReturnsFalse() {
+        assertThat(securityService.isCurrentUserOrphanageAdmin(1L)).isFalse();
+        verifyNoInteractions(orphanageRepository);
     }
 
     @Test
-    void isCurrentUserOrphanageAdmin_ValidOrphanage_ReturnsTrue() {
-        when(authentication.getName()).thenReturn("1");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-
-        boolean isAdmin = securityService.isCurrentUserOrphanageAdmin(1L);
-        assertThat(isAdmin).isTrue();
+    void isOrphanageUser_StaffOfOrphanage_ReturnsTrue() {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(3L);
+        user.setOrphanage(orphanage);
+        authenticate(user);
+
+        assertThat(securityService.isOrphanageUser(3L)).isTrue();
+        verifyNoInteractions(orphanageRepository);
     }
 
     @Test
-    void isCurrentUserOrphanageAdmin_InvalidOrphanage_ReturnsFalse() {
-        when(authentication.getName()).thenReturn("1");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-
-        boolean isAdmin = securityService.isCurrentUserOrphanageAdmin(2L);
-        assertThat(isAdmin).isFalse();
+    void isOrphanageUser_AdminOfOrphanage_ReturnsTrue() {
+        authenticate(user);
+        when(orphanageRepository.existsByIdAndAdminId(3L, 1L)).thenReturn(true);
+
+        assertThat(securityService.isOrphanageUser(3L)).isTrue();
     }
 
     @Test
     void isCurrentUser_ValidUserId_ReturnsTrue() {
-        when(authentication.getName()).thenReturn("1");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
+        authenticate(user);
 
-        boolean isCurrentUser = securityService.isCurrentUser(1L);
-        assertThat(isCurrentUser).isTrue();
+        assertThat(securityService.isCurrentUser(1L)).isTrue();
     }
 
     @Test
     void isCurrentUser_InvalidUserId_ReturnsFalse() {
-        when(authentication.getName()).thenReturn("1");
-        when(securityContext.getAuthentication()).thenReturn(authentication);
-        SecurityContextHolder.setContext(securityContext);
+        authenticate(user);
+
+        assertThat(securityService.isCurrentUser(2L)).isFalse();
+    }
+
+    @Test
+    void isCurrentUserAdmin_AdminAuthority_ReturnsTrue() {
+        SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+                user, null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+
+        assertThat(securityService.isCurrentUserAdmin()).isTrue();
+    }
+
+    @Test
+    void isCurrentUserAdmin_OtherAuthority_ReturnsFalse() {
+        authenticate(user);
+
+        assertThat(securityService.isCurrentUserAdmin()).isFalse();
+    }
 
-        boolean isCurrentUser = securityService.isCurrentUser(2L);
-        assertThat(isCurrentUser).isFalse();
+    private static void authenticate(User user) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(user, null, user.getAuthorities()));
     }
-} 
\ No newline at end of file
+}
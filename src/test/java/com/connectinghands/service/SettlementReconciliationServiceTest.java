@@ -0,0 +1,162 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.DonationSettlementView;
+import com.connectinghands.dto.DonationStatusCorrection;
+import com.connectinghands.dto.SettlementRunDto;
+import com.connectinghands.entity.DonationStatus;
+import com.connectinghands.entity.SettlementRun;
+import com.connectinghands.entity.SettlementRunStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.SettlementDiscrepancyRepository;
+import com.connectinghands.repository.SettlementRunRepository;
+import com.connectinghands.service.impl.SettlementReconciliationServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SettlementReconciliationServiceTest {
+
+    @Mock
+    private SettlementRunRepository runRepository;
+    @Mock
+    private SettlementDiscrepancyRepository discrepancyRepository;
+    @Mock
+    private DonationRepository donationRepository;
+    @Mock
+    private DonationService donationService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path inbox;
+
+    private SettlementReconciliationServiceImpl service;
+    private SettlementRun run;
+
+    @BeforeEach
+    void setUp() {
+        service = new SettlementReconciliationServiceImpl(runRepository, discrepancyRepository, donationRepository,
+                donationService, new ObjectMapper(), transactionManager, inbox.toString(), 2);
+        run = new SettlementRun();
+        run.setId(7L);
+        run.setFileName("settlement.csv");
+        run.setStatus(SettlementRunStatus.RUNNING);
+        lenient().when(runRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(run));
+        lenient().when(runRepository.save(any(SettlementRun.class))).thenAnswer(invocation -> invocation.getArgument(0));
+    }
+
+    @Test
+    void reconcile_CorrectsStatusesAndRecordsDiscrepancies() throws IOException {
+        Path file = write("transaction_id,amount,currency,status\n"
+                + "tx_1,10.00,USD,SETTLED\n"
+                + "tx_2,20.00,USD,REFUNDED\n"
+                + "tx_3,5.00,USD,SETTLED\n"
+                + "garbage\n");
+        when(runRepository.findByFileName("settlement.csv")).thenReturn(Optional.empty());
+        when(runRepository.saveAndFlush(any(SettlementRun.class))).thenReturn(run);
+        when(donationRepository.findSettlementViews(any())).thenAnswer(invocation -> {
+            Collection<String> ids = invocation.getArgument(0);
+            return ids.stream()
+                    .filter(id -> !id.equals("tx_3"))
+                    .map(id -> id.equals("tx_1")
+                            ? new DonationSettlementView(1L, id, DonationStatus.COMPLETED, new BigDecimal("10.00"), "USD")
+                            : new DonationSettlementView(2L, id, DonationStatus.COMPLETED, new BigDecimal("25.00"), "USD"))
+                    .toList();
+        });
+        when(donationService.correctStatuses(any())).thenAnswer(invocation -> {
+            List<DonationStatusCorrection> corrections = invocation.getArgument(0);
+            return corrections.stream().map(DonationStatusCorrection::getDonationId).toList();
+        });
+
+        SettlementRunDto result = service.reconcile(file);
+
+        assertThat(result.getStatus()).isEqualTo(SettlementRunStatus.COMPLETED);
+        assertThat(result.getLinesProcessed()).isEqualTo(5L);
+        assertThat(result.getBytesProcessed()).isEqualTo(Files.size(file));
+        assertThat(result.getMatchedCount()).isEqualTo(2L);
+        assertThat(result.getCorrectedCount()).isEqualTo(1L);
+        // tx_2 amount and status, tx_3 unknown, line 5 malformed.
+        assertThat(result.getDiscrepancyCount()).isEqualTo(4L);
+
+        verify(donationService).correctStatuses(List.of(
+                new DonationStatusCorrection(2L, DonationStatus.COMPLETED, DonationStatus.REFUNDED)));
+        ArgumentCaptor<String> json = ArgumentCaptor.forClass(String.class);
+        verify(discrepancyRepository, times(2)).insertAll(eq(7L), json.capture());
+        assertThat(String.join("", json.getAllValues()))
+                .contains("AMOUNT_MISMATCH", "STATUS_MISMATCH", "UNKNOWN_TRANSACTION", "MALFORMED_LINE");
+    }
+
+    @Test
+    void reconcile_ResumesFromCheckpoint() throws IOException {
+        String head = "tx_1,10.00,USD,SETTLED\n";
+        Path file = write(head + "tx_2,20.00,USD,SETTLED\n");
+        run.setByteOffset((long) head.length());
+        run.setLineNumber(1L);
+        run.setStatus(SettlementRunStatus.FAILED);
+        when(runRepository.findByFileName("settlement.csv")).thenReturn(Optional.of(run));
+        when(donationRepository.findSettlementViews(any())).thenReturn(List.of(
+                new DonationSettlementView(2L, "tx_2", DonationStatus.COMPLETED, new BigDecimal("20.00"), "USD")));
+        when(donationService.correctStatuses(List.of())).thenReturn(List.of());
+
+        SettlementRunDto result = service.reconcile(file);
+
+        verify(donationRepository).findSettlementViews(argThat(ids -> ids.size() == 1 && ids.contains("tx_2")));
+        assertThat(result.getStatus()).isEqualTo(SettlementRunStatus.COMPLETED);
+        assertThat(result.getLinesProcessed()).isEqualTo(2L);
+        verify(discrepancyRepository, never()).insertAll(any(), anyString());
+    }
+
+    @Test
+    void reconcile_CompletedFileIsSkipped() throws IOException {
+        Path file = write("tx_1,10.00,USD,SETTLED\n");
+        run.setStatus(SettlementRunStatus.COMPLETED);
+        when(runRepository.findByFileName("settlement.csv")).thenReturn(Optional.of(run));
+
+        service.reconcile(file);
+
+        verifyNoInteractions(donationRepository, donationService);
+    }
+
+    @Test
+    void reconcile_CheckpointMovedElsewhere_Stops() throws IOException {
+        Path file = write("tx_1,10.00,USD,SETTLED\n");
+        SettlementRun advanced = new SettlementRun();
+        advanced.setId(7L);
+        advanced.setFileName("settlement.csv");
+        advanced.setStatus(SettlementRunStatus.RUNNING);
+        advanced.setByteOffset(23L);
+        when(runRepository.findByFileName("settlement.csv")).thenReturn(Optional.of(run));
+        when(runRepository.findByIdForUpdate(7L)).thenReturn(Optional.of(advanced));
+
+        assertThatThrownBy(() -> service.reconcile(file)).isInstanceOf(ConflictException.class);
+        verifyNoInteractions(donationService);
+    }
+
+    private Path write(String content) throws IOException {
+        Path file = inbox.resolve("settlement.csv");
+        Files.writeString(file, content);
+        return file;
+    }
+}
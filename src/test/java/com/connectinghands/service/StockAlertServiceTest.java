@@ -0,0 +1,119 @@
+package com.connectinghands.service;
+
+import com.connectinghands.entity.Orphanage;
+import com.connectinghands.entity.Resource;
+import com.connectinghands.entity.ResourceCategory;
+import com.connectinghands.entity.ResourceRequest;
+import com.connectinghands.entity.ResourceRequestStatus;
+import com.connectinghands.entity.StockAlert;
+import com.connectinghands.entity.StockAlertStatus;
+import com.connectinghands.repository.ResourceRequestRepository;
+import com.connectinghands.repository.StockAlertRepository;
+import com.connectinghands.service.impl.StockAlertServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StockAlertServiceTest {
+
+    @Mock
+    private StockAlertRepository stockAlertRepository;
+    @Mock
+    private ResourceRequestRepository resourceRequestRepository;
+    @Mock
+    private MatchingService matchingService;
+    @Mock
+    private NeedScoreService needScoreService;
+    @InjectMocks
+    private StockAlertServiceImpl stockAlertService;
+
+    private Resource resource;
+
+    @BeforeEach
+    void setUp() {
+        Orphanage orphanage = new Orphanage();
+        orphanage.setId(1L);
+        orphanage.setName("Test Orphanage");
+
+        resource = new Resource();
+        resource.setId(1L);
+        resource.setName("Rice");
+        resource.setCategory(ResourceCategory.FOOD);
+        resource.setUnit("kg");
+        resource.setOrphanage(orphanage);
+        resource.setMinimumQuantity(10);
+    }
+
+    @Test
+    void evaluate_CrossesBelowThreshold_OpensAlert() {
+        resource.setQuantity(4);
+
+        stockAlertService.evaluate(resource, false);
+
+        ArgumentCaptor<StockAlert> captor = ArgumentCaptor.forClass(StockAlert.class);
+        verify(stockAlertRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(StockAlertStatus.OPEN);
+        assertThat(captor.getValue().getQuantity()).isEqualTo(4);
+        assertThat(captor.getValue().getThreshold()).isEqualTo(10);
+        verifyNoInteractions(resourceRequestRepository);
+    }
+
+    @Test
+    void evaluate_StillBelowThreshold_DoesNothing() {
+        resource.setQuantity(3);
+
+        stockAlertService.evaluate(resource, true);
+
+        verifyNoInteractions(stockAlertRepository, resourceRequestRepository);
+    }
+
+    @Test
+    void evaluate_CrossesAboveThreshold_ResolvesAlert() {
+        resource.setQuantity(12);
+
+        stockAlertService.evaluate(resource, true);
+
+        verify(stockAlertRepository).resolveOpenAlert(eq(1L), any());
+        verify(stockAlertRepository, never()).save(any());
+    }
+
+    @Test
+    void evaluate_AutoRequestEnabled_DraftsShortfallRequest() {
+        resource.setQuantity(4);
+        resource.setAutoRequest(true);
+        ResourceRequest draft = new ResourceRequest();
+        draft.setId(5L);
+        when(resourceRequestRepository.save(any(ResourceRequest.class))).thenReturn(draft);
+
+        stockAlertService.evaluate(resource, false);
+
+        ArgumentCaptor<ResourceRequest> requestCaptor = ArgumentCaptor.forClass(ResourceRequest.class);
+        verify(resourceRequestRepository).save(requestCaptor.capture());
+        assertThat(requestCaptor.getValue().getQuantity()).isEqualTo(6);
+        assertThat(requestCaptor.getValue().getStatus()).isEqualTo(ResourceRequestStatus.PENDING);
+
+        ArgumentCaptor<StockAlert> alertCaptor = ArgumentCaptor.forClass(StockAlert.class);
+        verify(stockAlertRepository).save(alertCaptor.capture());
+        assertThat(alertCaptor.getValue().getResourceRequestId()).isEqualTo(5L);
+    }
+
+    @Test
+    void evaluate_ThresholdDisabled_DoesNothing() {
+        resource.setMinimumQuantity(0);
+        resource.setQuantity(0);
+
+        stockAlertService.evaluate(resource, false);
+
+        verifyNoInteractions(stockAlertRepository, resourceRequestRepository);
+    }
+}
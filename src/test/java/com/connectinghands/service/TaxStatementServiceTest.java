@@ -0,0 +1,177 @@
+package com.connectinghands.service;
+
+import com.connectinghands.dto.TaxStatementLine;
+import com.connectinghands.dto.TaxStatementRunDto;
+import com.connectinghands.entity.TaxStatementRun;
+import com.connectinghands.entity.TaxStatementRunStatus;
+import com.connectinghands.exception.ConflictException;
+import com.connectinghands.repository.DonationRepository;
+import com.connectinghands.repository.TaxStatementRunRepository;
+import com.connectinghands.service.impl.TaxStatementServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Year;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TaxStatementServiceTest {
+
+    @Mock
+    private TaxStatementRunRepository taxStatementRunRepository;
+    @Mock
+    private DonationRepository donationRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @TempDir
+    Path directory;
+
+    private TaxStatementServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TaxStatementServiceImpl(taxStatementRunRepository, donationRepository, Runnable::run,
+                Runnable::run, transactionManager, directory.toString(), 1, 60000, 10);
+    }
+
+    @Test
+    void executeQueuedRuns_WritesOneStatementPerDonorAndManifest() throws IOException {
+        TaxStatementRun run = run(5L, 2024);
+        when(taxStatementRunRepository.claimNextQueued(any(), any()))
+                .thenReturn(Optional.of(run), Optional.empty());
+        when(donationRepository.streamCompletedByDonor(LocalDateTime.of(2024, 1, 1, 0, 0),
+                LocalDateTime.of(2025, 1, 1, 0, 0))).thenReturn(Stream.of(
+                line(3L, 10L, "10", "USD"),
+                line(3L, 11L, "15.5", "USD"),
+                line(3L, 12L, "100", "INR"),
+                line(1004L, 13L, "40", "EUR")));
+
+        assertThat(service.executeQueuedRuns()).isEqualTo(1);
+
+        Path output = directory.resolve("2024/run-5");
+        String first = Files.readString(output.resolve("003/3.html"));
+        assertThat(first).contains("Asha &lt;Rao&gt;", "#10", "#12", "25.50 USD", "100.00 INR", "3 completed donations");
+        assertThat(output.resolve("004/1004.html")).exists();
+        assertThat(output.resolve("manifest.csv.partial")).doesNotExist();
+        assertThat(Files.readAllLines(output.resolve("manifest.csv"))).containsExactly(
+                "donor_id,file,donations,totals,bytes",
+                "3,003/3.html,3,\"100.00 INR, 25.50 USD\"," + Files.size(output.resolve("003/3.html")),
+                "1004,004/1004.html,1,\"40.00 EUR\"," + Files.size(output.resolve("004/1004.html")));
+
+        ArgumentCaptor<TaxStatementRun> saved = ArgumentCaptor.forClass(TaxStatementRun.class);
+        verify(taxStatementRunRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(TaxStatementRunStatus.COMPLETED);
+        assertThat(saved.getValue().getStatementCount()).isEqualTo(2L);
+        assertThat(saved.getValue().getDonationCount()).isEqualTo(4L);
+        assertThat(saved.getValue().getFinishedAt()).isNotNull();
+    }
+
+    @Test
+    void executeQueuedRuns_WriteFailure_MarksRunFailedWithoutManifest() throws IOException {
+        TaxStatementRun run = run(6L, 2024);
+        when(taxStatementRunRepository.claimNextQueued(any(), any()))
+                .thenReturn(Optional.of(run), Optional.empty());
+        when(donationRepository.streamCompletedByDonor(any(), any()))
+                .thenReturn(Stream.of(line(3L, 10L, "10", "USD")));
+
+        // The shard directory is taken by a plain file, so the statement cannot be written.
+        Files.createDirectories(directory.resolve("2024/run-6"));
+        Files.writeString(directory.resolve("2024/run-6/003"), "not a directory");
+
+        service.executeQueuedRuns();
+
+        assertThat(directory.resolve("2024/run-6/manifest.csv")).doesNotExist();
+        ArgumentCaptor<TaxStatementRun> saved = ArgumentCaptor.forClass(TaxStatementRun.class);
+        verify(taxStatementRunRepository).save(saved.capture());
+        assertThat(saved.getValue().getStatus()).isEqualTo(TaxStatementRunStatus.FAILED);
+        assertThat(saved.getValue().getLastError()).isNotBlank();
+    }
+
+    @Test
+    void executeQueuedRuns_LongStream_SendsHeartbeats() {
+        service = new TaxStatementServiceImpl(taxStatementRunRepository, donationRepository, Runnable::run,
+                Runnable::run, transactionManager, directory.toString(), 1, 0, 10);
+        when(taxStatementRunRepository.claimNextQueued(any(), any()))
+                .thenReturn(Optional.of(run(7L, 2024)), Optional.empty());
+        when(donationRepository.streamCompletedByDonor(any(), any())).thenReturn(Stream.of(
+                line(3L, 10L, "10", "USD"),
+                line(4L, 11L, "20", "USD")));
+
+        service.executeQueuedRuns();
+
+        verify(taxStatementRunRepository, times(2)).heartbeat(eq(7L), any());
+    }
+
+    @Test
+    void startQueuedRuns_ExecutesOnRunExecutor() {
+        List<Runnable> tasks = new ArrayList<>();
+        service = new TaxStatementServiceImpl(taxStatementRunRepository, donationRepository, Runnable::run,
+                tasks::add, transactionManager, directory.toString(), 1, 60000, 10);
+
+        service.startQueuedRuns();
+        service.startQueuedRuns();
+
+        assertThat(tasks).hasSize(1);
+        verifyNoInteractions(taxStatementRunRepository);
+    }
+
+    @Test
+    void requestRun_YearAlreadyOpen_ThrowsConflict() {
+        when(taxStatementRunRepository.existsByTaxYearAndStatusIn(eq(2024), anyCollection())).thenReturn(true);
+
+        assertThatThrownBy(() -> service.requestRun(2024)).isInstanceOf(ConflictException.class);
+        verify(taxStatementRunRepository, never()).save(any());
+    }
+
+    @Test
+    void requestRun_QueuesRun() {
+        int year = Year.now().getValue() - 1;
+        when(taxStatementRunRepository.save(any(TaxStatementRun.class))).thenAnswer(invocation -> {
+            TaxStatementRun run = invocation.getArgument(0);
+            run.setId(9L);
+            return run;
+        });
+
+        TaxStatementRunDto dto = service.requestRun(year);
+
+        assertThat(dto.getId()).isEqualTo(9L);
+        assertThat(dto.getTaxYear()).isEqualTo(year);
+        assertThat(dto.getStatus()).isEqualTo(TaxStatementRunStatus.QUEUED);
+    }
+
+    private static TaxStatementRun run(Long id, int taxYear) {
+        TaxStatementRun run = new TaxStatementRun();
+        run.setId(id);
+        run.setTaxYear(taxYear);
+        run.setStatus(TaxStatementRunStatus.RUNNING);
+        run.setRequestedAt(LocalDateTime.now());
+        return run;
+    }
+
+    private static TaxStatementLine line(Long donorId, Long donationId, String amount, String currency) {
+        return new TaxStatementLine(donorId, "Asha", "<Rao>", "asha@example.com", donationId,
+                LocalDateTime.of(2024, 6, 1, 12, 0), new BigDecimal(amount), currency, "Hope Home");
+    }
+}